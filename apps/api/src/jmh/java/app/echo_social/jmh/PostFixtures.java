@@ -0,0 +1,70 @@
+package app.echo_social.jmh;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.dto.response.PostEntitiesDTO;
+import app.echo_social.modules.post.dto.response.PostEntityDTO;
+import app.echo_social.modules.post.dto.response.PostMetricsDTO;
+import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
+import app.echo_social.modules.profile.dto.response.ProfileRelationshipDTO;
+import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
+
+/**
+ * Seeded, fully hydrated {@link PostDTO}s, as the feed endpoints return them.
+ */
+public final class PostFixtures {
+
+    private PostFixtures() {}
+
+    /**
+     * Creates a page of posts, every third a reply and every other carrying a
+     * hashtag, a mention and a URL.
+     *
+     * @param random the source of ids and metrics
+     * @param size   the number of posts
+     * @return the posts, newest first
+     */
+    public static List<PostDTO> posts(Random random, int size) {
+        List<PostDTO> posts = new ArrayList<>(size);
+        Instant createdAt = Instant.ofEpochSecond(1_700_000_000L);
+
+        for (int i = 0; i < size; i++) {
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            String parentId = i % 3 == 0 ? new UUID(random.nextLong(), random.nextLong()).toString() : null;
+
+            SimplifiedProfileDTO author = new SimplifiedProfileDTO(
+                new UUID(random.nextLong(), random.nextLong()).toString(),
+                "user_" + i,
+                "User " + i,
+                "Building things on the internet, one commit at a time.",
+                "https://img.clerk.com/" + i,
+                new ProfileRelationshipDTO(random.nextBoolean(), random.nextBoolean()));
+
+            PostEntitiesDTO entities = i % 2 == 0
+                ? new PostEntitiesDTO(
+                    List.of(new PostEntityDTO(48, 59, "SpringBoot")),
+                    List.of(new PostEntityDTO(63, 72, "john_doe")),
+                    List.of(new PostEntityDTO(73, 97, "github.com/nednella/echo")))
+                : new PostEntitiesDTO(List.of(), List.of(), List.of());
+
+            posts.add(new PostDTO(
+                id,
+                parentId,
+                parentId != null ? parentId : id,
+                author,
+                "just shipped the new release today and it feels great #SpringBoot cc @john_doe "
+                    + "github.com/nednella/echo",
+                createdAt.minusSeconds(60L * i).toString(),
+                new PostMetricsDTO(random.nextInt(1_000), random.nextInt(100)),
+                new PostRelationshipDTO(random.nextBoolean()),
+                entities));
+        }
+        return posts;
+    }
+
+}
@@ -0,0 +1,73 @@
+package app.echo_social.jmh;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A {@link ResultSet} positioned on a single row, backed by a map of column
+ * labels to values, for benchmarking row mappers without a database.
+ *
+ * <p>
+ * Only the getters the row mappers use are supported: {@code getString},
+ * {@code getObject} by label and type, {@code getInt}, {@code getLong},
+ * {@code getTimestamp} and {@code wasNull}. A dynamic proxy is used rather
+ * than a mocking library, whose bookkeeping on each call would outweigh the
+ * mapping being measured.
+ */
+public final class StubResultSet {
+
+    private StubResultSet() {}
+
+    /**
+     * Creates a result set positioned on the specified row.
+     *
+     * @param row the values of the row, by column label (values may be null)
+     * @return the result set
+     */
+    public static ResultSet of(Map<String, Object> row) {
+        boolean[] lastWasNull = { false };
+
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] { ResultSet.class },
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("wasNull")) {
+                    return lastWasNull[0];
+                }
+                if (args == null || args.length == 0 || !(args[0] instanceof String column)) {
+                    throw new UnsupportedOperationException(name);
+                }
+                if (!row.containsKey(column)) {
+                    throw new SQLException("Unknown column: " + column);
+                }
+
+                Object value = row.get(column);
+                lastWasNull[0] = value == null;
+
+                return switch (name) {
+                    case "getString" -> value != null ? value.toString() : null;
+                    case "getObject" -> convert(value, (Class<?>) args[1]);
+                    case "getInt" -> value != null ? ((Number) value).intValue() : 0;
+                    case "getLong" -> value != null ? ((Number) value).longValue() : 0L;
+                    case "getTimestamp" -> (Timestamp) value;
+                    default -> throw new UnsupportedOperationException(name);
+                };
+            });
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        if (type == UUID.class) {
+            return UUID.fromString(value.toString());
+        }
+        throw new ClassCastException("Cannot convert " + value.getClass() + " to " + type);
+    }
+
+}
@@ -0,0 +1,109 @@
+package app.echo_social.modules.clerk.dto.webhook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Benchmarks {@link ClerkWebhookDeserializer} on the bodies of the events the
+ * webhook handles, read from bytes as the request body is.
+ *
+ * <p>
+ * The {@code user.created} body carries the many fields Clerk sends that are
+ * not mapped, all of which the deserializer still reads into its tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClerkWebhookDeserializerBenchmark {
+
+    private static final String USER_CREATED = """
+        {
+          "data": {
+            "birthday": "",
+            "created_at": 1654012591514,
+            "email_addresses": [
+              {
+                "email_address": "example@example.org",
+                "id": "idn_29w83yL7CwVlJXylYLxcslromF1",
+                "linked_to": [],
+                "object": "email_address",
+                "verification": { "status": "verified", "strategy": "ticket" }
+              }
+            ],
+            "external_accounts": [],
+            "first_name": "Example",
+            "id": "user_29w83sxmDNGwOuEthce5gg56FcC",
+            "image_url": "https://img.clerk.com/xxxxxx",
+            "last_name": "Example",
+            "last_sign_in_at": 1654012591514,
+            "object": "user",
+            "password_enabled": true,
+            "phone_numbers": [],
+            "private_metadata": {},
+            "public_metadata": {},
+            "two_factor_enabled": false,
+            "unsafe_metadata": {},
+            "updated_at": 1654012591835,
+            "username": "test_user",
+            "web3_wallets": []
+          },
+          "event_attributes": {
+            "http_request": { "client_ip": "0.0.0.0", "user_agent": "Mozilla/5.0" }
+          },
+          "object": "event",
+          "timestamp": 1654012591835,
+          "type": "user.created"
+        }
+        """;
+
+    private static final String USER_DELETED = """
+        {
+          "data": {
+            "deleted": true,
+            "id": "user_29w83sxmDNGwOuEthce5gg56FcC",
+            "object": "user"
+          },
+          "object": "event",
+          "timestamp": 1661861640000,
+          "type": "user.deleted"
+        }
+        """;
+
+    @Param({ "user.created", "user.deleted" })
+    public String type;
+
+    private ObjectReader reader;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        reader = new ObjectMapper().readerFor(ClerkWebhook.class);
+        body = (type.equals("user.created") ? USER_CREATED : USER_DELETED).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ClerkWebhook deserialize() throws IOException {
+        return reader.readValue(body);
+    }
+
+}
@@ -0,0 +1,99 @@
+package app.echo_social.modules.post.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.echo_social.jmh.StubResultSet;
+
+/**
+ * Benchmarks {@link PostHydrator.PostContentRowMapper} over a page of rows of
+ * {@code posts_with_context_v1}, the cost paid per post on a cache miss.
+ *
+ * <p>
+ * With {@code none}, every row carries the empty entities object the view
+ * returns for a post without entities; with {@code some}, each carries a
+ * hashtag, a mention and a URL, so the JSON parse of {@code post_entities} is
+ * measured at a realistic upper size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostContentRowMapperBenchmark {
+
+    private static final int ROWS = 20;
+
+    private static final String NO_ENTITIES = """
+        {"hashtags":[],"mentions":[],"urls":[]}""";
+    private static final String SOME_ENTITIES = """
+        {"hashtags":[{"start":48,"end":59,"text":"SpringBoot"}],\
+        "mentions":[{"start":63,"end":72,"text":"john_doe"}],\
+        "urls":[{"start":73,"end":97,"text":"github.com/nednella/echo"}]}""";
+
+    @Param({ "none", "some" })
+    public String entities;
+
+    private final PostHydrator.PostContentRowMapper mapper = new PostHydrator.PostContentRowMapper();
+    private ResultSet[] rows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        rows = new ResultSet[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            UUID authorId = new UUID(random.nextLong(), random.nextLong());
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", id);
+            row.put("parent_id", i % 3 == 0 ? new UUID(random.nextLong(), random.nextLong()) : null);
+            row.put("conversation_id", id);
+            row.put("author_id", authorId);
+            row.put("author_username", "user_" + i);
+            row.put("author_name", "User " + i);
+            row.put("author_bio", "Building things on the internet, one commit at a time.");
+            row.put("author_image_url", "https://img.clerk.com/" + authorId);
+            row.put("text", "just shipped the new release today and it feels great #SpringBoot cc @john_doe "
+                + "github.com/nednella/echo");
+            row.put("created_at", Timestamp.from(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(86_400))));
+            row.put("post_like_count", random.nextInt(1_000));
+            row.put("post_reply_count", random.nextInt(100));
+            row.put("post_entities", entities.equals("some") ? SOME_ENTITIES : NO_ENTITIES);
+            rows[i] = StubResultSet.of(row);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapRow(Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(mapper.mapRow(rows[i], i));
+        }
+    }
+
+}
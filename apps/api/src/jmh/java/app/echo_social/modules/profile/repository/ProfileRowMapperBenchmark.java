@@ -0,0 +1,90 @@
+package app.echo_social.modules.profile.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.echo_social.jmh.StubResultSet;
+
+/**
+ * Benchmarks the profile row mappers of {@link CustomProfileRepositoryImpl}
+ * over a page of rows, the full mapping of a profile page against the
+ * simplified one of follower and following lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfileRowMapperBenchmark {
+
+    private static final int ROWS = 20;
+
+    private final CustomProfileRepositoryImpl.ProfileDtoRowMapper profileMapper =
+        new CustomProfileRepositoryImpl.ProfileDtoRowMapper();
+    private final CustomProfileRepositoryImpl.SimplifiedProfileDtoRowMapper simplifiedMapper =
+        new CustomProfileRepositoryImpl.SimplifiedProfileDtoRowMapper();
+
+    private ResultSet[] rows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        rows = new ResultSet[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", id);
+            row.put("username", "user_" + i);
+            row.put("name", "User " + i);
+            row.put("bio", "Building things on the internet, one commit at a time.");
+            row.put("location", i % 2 == 0 ? "London" : null);
+            row.put("image_url", "https://img.clerk.com/" + id);
+            row.put("created_at", Timestamp.from(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(86_400))));
+            row.put("follower_count", random.nextInt(10_000));
+            row.put("following_count", random.nextInt(1_000));
+            row.put("post_count", random.nextInt(5_000));
+            rows[i] = StubResultSet.of(row);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapProfile(Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(profileMapper.mapRow(rows[i], i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapSimplifiedProfile(Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(simplifiedMapper.mapRow(rows[i], i));
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package app.echo_social.shared.pagination;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import app.echo_social.jmh.PostFixtures;
+import app.echo_social.modules.post.dto.response.PostDTO;
+
+/**
+ * Benchmarks {@link PageMapper#toDTO(Page, String)} on a page in the middle of
+ * a feed, with both a previous and a next link to build, for offset and cursor
+ * pages alike.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageMapperBenchmark {
+
+    private static final int LIMIT = 20;
+    private static final String URI = "http://localhost:8080/v1/feed/homepage?offset=40&limit=20";
+
+    private Page<PostDTO> offsetPage;
+    private Page<PostDTO> cursorPage;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        List<PostDTO> posts = PostFixtures.posts(random, LIMIT);
+        Instant createdAt = Instant.ofEpochSecond(1_700_000_000L);
+
+        offsetPage = new PageImpl<>(posts, OffsetLimitRequest.of(40, LIMIT), 1_000);
+        cursorPage = new CursorPage<>(
+            posts,
+            CursorRequest.of(PageCursor.next(createdAt, new UUID(random.nextLong(), random.nextLong())), LIMIT),
+            1_000,
+            PageCursor.previous(createdAt, new UUID(random.nextLong(), random.nextLong())),
+            PageCursor.next(createdAt.minusSeconds(3_600), new UUID(random.nextLong(), random.nextLong())));
+    }
+
+    @Benchmark
+    public Paged<PostDTO> offsetPage() {
+        return PageMapper.toDTO(offsetPage, URI);
+    }
+
+    @Benchmark
+    public Paged<PostDTO> cursorPage() {
+        return PageMapper.toDTO(cursorPage, URI);
+    }
+
+}
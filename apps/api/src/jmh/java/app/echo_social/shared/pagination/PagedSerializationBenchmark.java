@@ -0,0 +1,59 @@
+package app.echo_social.shared.pagination;
+
+import java.net.URI;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import app.echo_social.jmh.PostFixtures;
+import app.echo_social.modules.post.dto.response.PostDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks the serialization of a full {@link Paged} feed response of posts,
+ * with an {@link ObjectMapper} configured as Spring MVC configures its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagedSerializationBenchmark {
+
+    private static final int LIMIT = 20;
+
+    private ObjectMapper mapper;
+    private Paged<PostDTO> page;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        page = new Paged<>(
+            URI.create("http://localhost:8080/v1/feed/homepage?offset=20&limit=20"),
+            URI.create("http://localhost:8080/v1/feed/homepage?offset=60&limit=20"),
+            40,
+            LIMIT,
+            1_000,
+            PostFixtures.posts(new Random(42), LIMIT));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+}
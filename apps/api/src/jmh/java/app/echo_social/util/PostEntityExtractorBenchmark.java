@@ -0,0 +1,172 @@
+package app.echo_social.util;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.entity.PostEntityType;
+import com.twitter.twittertext.Extractor;
+
+/**
+ * Benchmarks {@link PostEntityExtractor} against the extraction it replaced,
+ * which ran every TwitterText pattern on every post and converted entity types
+ * by name, over a seeded mix of post texts.
+ *
+ * <p>
+ * The {@code realistic} mix is mostly plain sentences, some ending in a
+ * period and so still taking the slow path, with a hashtag, mention or URL in
+ * about a quarter of the posts. The {@code plain} mix has no trigger character
+ * at all, the best case of the fast path, and {@code entities} has an entity in
+ * every post, its worst case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostEntityExtractorBenchmark {
+
+    private static final int POSTS = 10_000;
+
+    private static final String[] WORDS = {
+        "just", "shipped", "the", "new", "release", "today", "and", "it", "feels", "great", "coffee", "first",
+        "then", "code", "anyone", "else", "watching", "the", "game", "tonight", "loving", "this", "weather" };
+
+    private static final Extractor LEGACY_EXTRACTOR = new Extractor();
+    private static final Set<Extractor.Entity.Type> LEGACY_TYPES = EnumSet.of(
+        Extractor.Entity.Type.MENTION, Extractor.Entity.Type.HASHTAG, Extractor.Entity.Type.URL);
+
+    @Param({ "realistic", "plain", "entities" })
+    public String mix;
+
+    private UUID[] ids;
+    private String[] texts;
+    private Map<UUID, String> textsByPostId;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        ids = new UUID[POSTS];
+        texts = new String[POSTS];
+        textsByPostId = LinkedHashMap.newLinkedHashMap(POSTS);
+
+        for (int i = 0; i < POSTS; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+            texts[i] = text(random);
+            textsByPostId.put(ids[i], texts[i]);
+        }
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private String text(Random random) {
+        StringBuilder text = new StringBuilder();
+        int words = 5 + random.nextInt(25);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        double roll = random.nextDouble();
+        switch (mix) {
+            case "plain" -> text.append('!');
+            case "entities" -> entity(text, random.nextInt(3));
+            default -> {
+                if (roll < 0.10) {
+                    entity(text, 0);
+                } else if (roll < 0.20) {
+                    entity(text, 1);
+                } else if (roll < 0.25) {
+                    entity(text, 2);
+                } else if (roll < 0.55) {
+                    text.append('.');
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static void entity(StringBuilder text, int kind) {
+        switch (kind) {
+            case 0 -> text.append(" #SpringBoot");
+            case 1 -> text.append(" cc @john_doe");
+            default -> text.append(" github.com/nednella/echo");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS)
+    public void extract(Blackhole blackhole) {
+        for (int i = 0; i < POSTS; i++) {
+            blackhole.consume(PostEntityExtractor.extract(ids[i], texts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS)
+    public void extractLegacy(Blackhole blackhole) {
+        for (int i = 0; i < POSTS; i++) {
+            blackhole.consume(legacyExtract(ids[i], texts[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS)
+    public Map<UUID, List<PostEntity>> extractAll() {
+        return PostEntityExtractor.extractAll(textsByPostId);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSTS)
+    public Map<UUID, List<PostEntity>> extractAllOnPool() {
+        return PostEntityExtractor.extractAll(textsByPostId, pool);
+    }
+
+    /**
+     * The extraction as it was before the fast path.
+     */
+    private static List<PostEntity> legacyExtract(UUID postId, String text) {
+        return LEGACY_EXTRACTOR.extractEntitiesWithIndices(text)
+            .stream()
+            .filter(e -> LEGACY_TYPES.contains(e.getType()))
+            .map(e -> new PostEntity(
+                postId,
+                PostEntityType.valueOf(e.getType().name()),
+                e.getStart(),
+                e.getEnd(),
+                e.getValue()))
+            .toList();
+    }
+
+}
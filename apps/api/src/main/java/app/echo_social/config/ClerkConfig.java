@@ -13,7 +13,7 @@ import lombok.RequiredArgsConstructor;
  * Config class for Clerk authentication integration.
  * 
  * <ul>
- * <li>Clerk JWT claim constants
+ * <li>Clerk JWT claim constants, incl. the role granting admin access
  * <li>Clerk user public metadata onboarding status K/V pair
  * <li>Clerk SDK instance configuration
  * </ul>
@@ -24,6 +24,8 @@ public class ClerkConfig {
 
     public static final String JWT_ECHO_ID_CLAIM = "echo_id";
     public static final String JWT_ONBOARDED_CLAIM = "onboarded";
+    public static final String JWT_ROLE_CLAIM = "role";
+    public static final String ADMIN_ROLE = "admin";
 
     public static final String ONBOARDING_COMPLETE_METADATA_KEY = "onboardingComplete";
     public static final boolean ONBOARDING_COMPLETE_METADATA_VALUE = true;
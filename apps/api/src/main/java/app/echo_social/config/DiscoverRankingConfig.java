@@ -0,0 +1,35 @@
+package app.echo_social.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import app.echo_social.config.properties.FeedProperties;
+import app.echo_social.modules.feed.repository.DiscoverRankingRepository;
+import app.echo_social.modules.feed.service.DiscoverRanking;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the in-process snapshot of the ranked discover feed.
+ */
+@Configuration
+@EnableConfigurationProperties(FeedProperties.class)
+@RequiredArgsConstructor
+public class DiscoverRankingConfig {
+
+    private final FeedProperties props;
+
+    /**
+     * Create the {@link DiscoverRanking} read by the feed service, refreshed on a
+     * schedule.
+     * 
+     * @param repository the repository to read the ranking from
+     * @return discover ranking instance
+     */
+    @Bean
+    DiscoverRanking discoverRanking(DiscoverRankingRepository repository) {
+        return new DiscoverRanking(repository, props.getDiscoverRankingCapacity());
+    }
+
+}
@@ -0,0 +1,53 @@
+package app.echo_social.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.config.properties.PostProperties;
+import app.echo_social.modules.post.repository.PostLikeRepository;
+import app.echo_social.modules.post.service.LikeBuffer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the optional write-behind buffer of likes, enabled by
+ * {@code post.like-buffer-enabled}.
+ */
+@Configuration
+@EnableConfigurationProperties(PostProperties.class)
+@RequiredArgsConstructor
+public class LikeBufferConfig {
+
+    private final PostProperties props;
+
+    /**
+     * Create the {@link LikeBuffer} written to by the post interaction service
+     * and read by the post hydrator, flushed on a schedule and drained when the
+     * application stops.
+     * 
+     * @param repository         the repository to write likes with
+     * @param transactionManager the transaction manager to write batches within
+     * @param eventPublisher     the publisher of the events of written likes
+     * @return like buffer instance
+     */
+    @Bean(destroyMethod = "drain")
+    @ConditionalOnProperty(prefix = "post", name = "like-buffer-enabled", havingValue = "true")
+    LikeBuffer likeBuffer(
+        PostLikeRepository repository,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher) {
+        return new LikeBuffer(
+            repository,
+            new TransactionTemplate(transactionManager),
+            eventPublisher,
+            props.getLikeBufferBatchSize(),
+            props.getLikeBufferCapacity(),
+            props.getLikeBufferStripes());
+    }
+
+}
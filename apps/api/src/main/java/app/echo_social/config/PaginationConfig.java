@@ -0,0 +1,55 @@
+package app.echo_social.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.config.properties.PaginationProperties;
+import app.echo_social.shared.pagination.PageQueryExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the execution of paginated repository queries.
+ */
+@Configuration
+@EnableConfigurationProperties(PaginationProperties.class)
+@RequiredArgsConstructor
+public class PaginationConfig {
+
+    private final PaginationProperties props;
+
+    /**
+     * Create the {@link PageQueryExecutor} shared by the custom repositories,
+     * backed by a virtual thread per count query when
+     * {@code pagination.concurrent-count} is enabled. Concurrent counts run in a
+     * read-only transaction of their own, cancelled by the database after
+     * {@code pagination.count-timeout}.
+     * 
+     * @param transactionManager the transaction manager to run counts within
+     * @param jdbcTemplate       the template to set the count statement timeout
+     *                           with
+     * @return page query executor instance
+     */
+    @Bean
+    PageQueryExecutor pageQueryExecutor(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+        if (!props.isConcurrentCount()) {
+            return PageQueryExecutor.sequential();
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return PageQueryExecutor.concurrent(
+            Executors.newVirtualThreadPerTaskExecutor(),
+            props.getCountTimeout(),
+            transactionTemplate,
+            jdbcTemplate);
+    }
+
+}
@@ -0,0 +1,58 @@
+package app.echo_social.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import app.echo_social.config.properties.PostProperties;
+import app.echo_social.modules.post.repository.PendingLikes;
+import app.echo_social.modules.post.repository.PostHydrator;
+import app.echo_social.modules.post.repository.PostStreamer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the hydration of posts from their IDs, one page or
+ * one stream at a time.
+ */
+@Configuration
+@EnableConfigurationProperties(PostProperties.class)
+@RequiredArgsConstructor
+public class PostHydrationConfig {
+
+    private final PostProperties props;
+
+    /**
+     * Create the {@link PostHydrator} shared by the post repository and the
+     * listeners evicting its cache, overlaying the likes of the like buffer when
+     * it is enabled.
+     * 
+     * @param template     the template to load posts with
+     * @param pendingLikes the likes not yet written, if buffered
+     * @return post hydrator instance
+     */
+    @Bean
+    PostHydrator postHydrator(NamedParameterJdbcTemplate template, ObjectProvider<PendingLikes> pendingLikes) {
+        return new PostHydrator(
+            template,
+            props.getHydrationCacheSize(),
+            props.getHydrationCacheTtl(),
+            pendingLikes.getIfAvailable(() -> PendingLikes.NONE));
+    }
+
+    /**
+     * Create the {@link PostStreamer} used by the post repository to stream
+     * posts, in chunks of the configured size.
+     * 
+     * @param template     the template to select posts with
+     * @param postHydrator the hydrator to hydrate streamed posts with
+     * @return post streamer instance
+     */
+    @Bean
+    PostStreamer postStreamer(NamedParameterJdbcTemplate template, PostHydrator postHydrator) {
+        return new PostStreamer(template, postHydrator, props.getStreamChunkSize());
+    }
+
+}
@@ -0,0 +1,82 @@
+package app.echo_social.config;
+
+import java.time.Clock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.config.properties.PostProperties;
+import app.echo_social.modules.post.repository.PostProcessingRepository;
+import app.echo_social.modules.post.service.PostProcessor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the background processing of created posts, and the
+ * metrics of its queue.
+ */
+@Configuration
+@EnableConfigurationProperties(PostProperties.class)
+@RequiredArgsConstructor
+public class PostProcessingConfig {
+
+    private final PostProperties props;
+
+    /**
+     * Create the {@link PostProcessor} submitted to by the post management
+     * service, started with the application and drained when it stops.
+     *
+     * <p>
+     * Batches are written in a new transaction, as a post submitted with a full
+     * queue is processed right after the transaction creating it commits, while
+     * that transaction is still bound to the thread.
+     * 
+     * @param repository         the repository to record processed posts with
+     * @param transactionManager the transaction manager to write batches within
+     * @param eventPublisher     the publisher of the events of processed posts
+     * @param meterRegistry      the registry to expose the queue metrics to
+     * @return post processor instance
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    PostProcessor postProcessor(
+        PostProcessingRepository repository,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        PostProcessor postProcessor = new PostProcessor(
+            repository,
+            transactionTemplate,
+            eventPublisher,
+            props.getProcessingQueueCapacity(),
+            props.getProcessingBatchSize(),
+            props.getProcessingSweepDelay(),
+            Clock.systemUTC());
+
+        Gauge.builder("post.processing.queue.depth", postProcessor, PostProcessor::depth)
+            .description("Created posts waiting to be processed")
+            .register(meterRegistry);
+        Gauge.builder("post.processing.queue.remaining", postProcessor, PostProcessor::remainingCapacity)
+            .description("Created posts the processing queue has room for")
+            .register(meterRegistry);
+        FunctionCounter.builder("post.processing.processed", postProcessor, PostProcessor::processedCount)
+            .description("Created posts processed")
+            .register(meterRegistry);
+        FunctionCounter.builder("post.processing.failed", postProcessor, PostProcessor::failedCount)
+            .description("Created posts whose processing batch failed")
+            .register(meterRegistry);
+
+        return postProcessor;
+    }
+
+}
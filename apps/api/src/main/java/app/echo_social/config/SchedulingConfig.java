@@ -0,0 +1,14 @@
+package app.echo_social.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling {@code @Scheduled} tasks, e.g. the recompute of
+ * trending hashtags and the refresh of the ranked discover feed.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
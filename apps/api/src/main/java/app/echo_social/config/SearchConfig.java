@@ -0,0 +1,33 @@
+package app.echo_social.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import app.echo_social.config.properties.SearchProperties;
+import app.echo_social.modules.search.service.ProfilePrefixIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the in-process profile typeahead index.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+@RequiredArgsConstructor
+public class SearchConfig {
+
+    private final SearchProperties props;
+
+    /**
+     * Create the {@link ProfilePrefixIndex} read and kept current by the
+     * typeahead service.
+     * 
+     * @return profile prefix index instance
+     */
+    @Bean
+    ProfilePrefixIndex profilePrefixIndex() {
+        return new ProfilePrefixIndex(props.getTypeaheadScanLimit());
+    }
+
+}
@@ -12,6 +12,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
+import app.echo_social.security.AdminAuthorizationManager;
 import app.echo_social.security.ClerkOnboardingFilter;
 import app.echo_social.security.JwtAccessDeniedHandler;
 import app.echo_social.security.JwtAuthenticationEntryPoint;
@@ -39,6 +40,7 @@ public class SecurityConfig {
                 .requestMatchers("/openapi/**", "/swagger-ui/**").permitAll()
                 .requestMatchers(EndpointRequest.to("health")).permitAll()
                 .requestMatchers(HttpMethod.POST, ApiRoutes.CLERK.WEBHOOK).permitAll()
+                .requestMatchers(ApiRoutes.ADMIN.ALL).access(new AdminAuthorizationManager())
                 .anyRequest().authenticated())
             .oauth2ResourceServer(oauth -> oauth
                 .jwt(Customizer.withDefaults())
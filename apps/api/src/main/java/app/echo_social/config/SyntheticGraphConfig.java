@@ -0,0 +1,36 @@
+package app.echo_social.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import app.echo_social.config.properties.SyntheticGraphProperties;
+import app.echo_social.loader.SyntheticGraphGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the synthetic graph loaded under the {@code perf}
+ * profile.
+ */
+@Profile("perf")
+@Configuration
+@EnableConfigurationProperties(SyntheticGraphProperties.class)
+@RequiredArgsConstructor
+public class SyntheticGraphConfig {
+
+    private final SyntheticGraphProperties props;
+
+    /**
+     * Create the {@link SyntheticGraphGenerator} of the graph described by the
+     * {@code synthetic-graph} settings.
+     * 
+     * @return synthetic graph generator instance
+     */
+    @Bean
+    SyntheticGraphGenerator syntheticGraphGenerator() {
+        return new SyntheticGraphGenerator(props);
+    }
+
+}
@@ -0,0 +1,40 @@
+package app.echo_social.config;
+
+import java.time.Clock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import app.echo_social.config.properties.TrendingProperties;
+import app.echo_social.modules.trending.service.TrendingHashtags;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the in-process trending hashtags.
+ */
+@Configuration
+@EnableConfigurationProperties(TrendingProperties.class)
+@RequiredArgsConstructor
+public class TrendingConfig {
+
+    private final TrendingProperties props;
+
+    /**
+     * Create the {@link TrendingHashtags} shared by the trending service and the
+     * listener counting tagged posts.
+     * 
+     * @return trending hashtags instance
+     */
+    @Bean
+    TrendingHashtags trendingHashtags() {
+        return new TrendingHashtags(
+            Clock.systemUTC(),
+            props.getBucketWidth(),
+            props.getBucketCount(),
+            props.getHalfLife(),
+            props.getCapacity());
+    }
+
+}
@@ -0,0 +1,57 @@
+package app.echo_social.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Validated
+@ConfigurationProperties("feed")
+public class FeedProperties {
+
+    /**
+     * Maximum number of entries read from each viewer's materialised home
+     * timeline. A timeline may grow past it by a quarter before it is queued and
+     * trimmed back to it.
+     */
+    @Min(value = 1, message = "feed.home-timeline-capacity must be greater than 0")
+    int homeTimelineCapacity = 800;
+
+    /**
+     * Delay between trims of the home timelines queued as over capacity.
+     */
+    @NotNull(message = "feed.home-timeline-trim-interval must not be null")
+    Duration homeTimelineTrimInterval = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of queued home timelines trimmed per statement.
+     */
+    @Min(value = 1, message = "feed.home-timeline-trim-batch-size must be greater than 0")
+    int homeTimelineTrimBatchSize = 500;
+
+    /**
+     * Follower count from which an author's posts are no longer pushed onto their
+     * followers' home timelines, and are pulled at read time instead.
+     */
+    @Min(value = 1, message = "feed.celebrity-follower-threshold must be greater than 0")
+    long celebrityFollowerThreshold = 10_000;
+
+    /**
+     * Number of top ranked posts snapshotted for the ranked discover feed. Pages
+     * beyond the snapshot are empty.
+     */
+    @Min(value = 1, message = "feed.discover-ranking-capacity must be greater than 0")
+    int discoverRankingCapacity = 1_000;
+
+    /**
+     * Delay between refreshes of the ranked discover feed snapshot.
+     */
+    @NotNull(message = "feed.discover-ranking-refresh-interval must not be null")
+    Duration discoverRankingRefreshInterval = Duration.ofSeconds(60);
+
+}
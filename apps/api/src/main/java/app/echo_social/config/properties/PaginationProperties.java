@@ -0,0 +1,31 @@
+package app.echo_social.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Validated
+@ConfigurationProperties("pagination")
+public class PaginationProperties {
+
+    /**
+     * Whether paginated queries run their count query on a virtual thread,
+     * concurrently with the page query, rather than one after the other. Each
+     * concurrent count holds a separate pooled connection while it runs.
+     */
+    boolean concurrentCount = false;
+
+    /**
+     * Maximum time to wait for a concurrent exact count before falling back to
+     * an estimate, after which the database cancels the count. Only applies when
+     * {@code pagination.concurrent-count} is enabled.
+     */
+    @NotNull(message = "pagination.count-timeout must not be null")
+    Duration countTimeout = Duration.ofMillis(500);
+
+}
@@ -0,0 +1,102 @@
+package app.echo_social.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Validated
+@ConfigurationProperties("post")
+public class PostProperties {
+
+    /**
+     * Maximum number of posts whose viewer-independent content is cached by the
+     * hydrator. A size of 0 disables the cache.
+     */
+    @Min(value = 0, message = "post.hydration-cache-size must not be negative")
+    long hydrationCacheSize = 10_000;
+
+    /**
+     * Maximum time a post is cached for by the hydrator, bounding how long a
+     * cached post may be stale when its eviction is missed, e.g. after a write on
+     * another instance.
+     */
+    @NotNull(message = "post.hydration-cache-ttl must not be null")
+    Duration hydrationCacheTtl = Duration.ofSeconds(60);
+
+    /**
+     * Number of streamed posts read, hydrated and written together, bounding the
+     * posts held in memory by a stream.
+     */
+    @Min(value = 1, message = "post.stream-chunk-size must be greater than 0")
+    int streamChunkSize = 100;
+
+    /**
+     * Whether likes and unlikes are buffered in memory and written behind in
+     * batches, rather than written by the request accepting them. Buffered writes
+     * not yet flushed are lost if the instance stops abruptly.
+     */
+    boolean likeBufferEnabled = false;
+
+    /**
+     * Maximum number of buffered likes and unlikes written per transaction. A
+     * flush writes batches until fewer than this remain.
+     */
+    @Min(value = 1, message = "post.like-buffer-batch-size must be greater than 0")
+    int likeBufferBatchSize = 500;
+
+    /**
+     * Maximum number of likes and unlikes buffered. Once full, likes and unlikes
+     * are written by the request accepting them.
+     */
+    @Min(value = 1, message = "post.like-buffer-capacity must be greater than 0")
+    int likeBufferCapacity = 50_000;
+
+    /**
+     * Delay between the end of a flush of the like buffer and the start of the
+     * next.
+     */
+    @NotNull(message = "post.like-buffer-flush-interval must not be null")
+    Duration likeBufferFlushInterval = Duration.ofMillis(200);
+
+    /**
+     * Number of independently locked stripes of the like buffer, reducing
+     * contention between requests liking different posts.
+     */
+    @Min(value = 1, message = "post.like-buffer-stripes must be greater than 0")
+    int likeBufferStripes = 16;
+
+    /**
+     * Maximum number of created posts waiting to be processed. Once full, posts
+     * are processed by the request creating them.
+     */
+    @Min(value = 1, message = "post.processing-queue-capacity must be greater than 0")
+    int processingQueueCapacity = 10_000;
+
+    /**
+     * Maximum number of created posts processed together, their entities,
+     * mentions and hashtags being written in a single transaction.
+     */
+    @Min(value = 1, message = "post.processing-batch-size must be greater than 0")
+    int processingBatchSize = 100;
+
+    /**
+     * Delay between sweeps for posts left unprocessed, e.g. by a failed batch or
+     * a restart.
+     */
+    @NotNull(message = "post.processing-sweep-interval must not be null")
+    Duration processingSweepInterval = Duration.ofSeconds(60);
+
+    /**
+     * Minimum age of an unprocessed post before it is picked up by a sweep, so
+     * that posts still queued are not swept.
+     */
+    @NotNull(message = "post.processing-sweep-delay must not be null")
+    Duration processingSweepDelay = Duration.ofSeconds(60);
+
+}
@@ -0,0 +1,59 @@
+package app.echo_social.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Validated
+@ConfigurationProperties("search")
+public class SearchProperties {
+
+    /**
+     * Maximum number of matching posts ranked per search, newest first. Bounds
+     * the cost of searching for common terms; older matches are not returned.
+     */
+    @Min(value = 1, message = "search.candidate-limit must be greater than 0")
+    int candidateLimit = 1_000;
+
+    /**
+     * Maximum number of distinct profiles matched per typeahead lookup, before
+     * ranking. Followed profiles are always matched in addition.
+     */
+    @Min(value = 1, message = "search.typeahead-scan-limit must be greater than 0")
+    int typeaheadScanLimit = 200;
+
+    /**
+     * Maximum number of viewers whose followed profile ids are cached for the
+     * typeahead, 0 to disable caching.
+     */
+    @Min(value = 0, message = "search.following-cache-size must not be negative")
+    long followingCacheSize = 10_000;
+
+    /**
+     * Maximum time the followed profile ids of a viewer are cached for.
+     */
+    @NotNull(message = "search.following-cache-ttl must not be null")
+    Duration followingCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Interval between incremental refreshes of the typeahead, which index the
+     * profiles updated since the previous refresh, including by other instances.
+     */
+    @NotNull(message = "search.typeahead-refresh-interval must not be null")
+    Duration typeaheadRefreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * How far each typeahead refresh reaches back before the latest update seen
+     * by the previous one, to pick up updates committed late or stamped by an
+     * instance with a lagging clock.
+     */
+    @NotNull(message = "search.typeahead-refresh-lag must not be null")
+    Duration typeaheadRefreshLag = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,106 @@
+package app.echo_social.config.properties;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Validated
+@ConfigurationProperties("synthetic-graph")
+public class SyntheticGraphProperties {
+
+    /**
+     * Seed of the generated graph. The same seed and settings always generate the
+     * same users, follows, posts and likes, down to their ids.
+     */
+    long seed = 42;
+
+    /**
+     * Number of users to generate.
+     */
+    @Min(value = 2, message = "synthetic-graph.users must be greater than 1")
+    int users = 100_000;
+
+    /**
+     * Number of posts to generate, replies included.
+     */
+    @Min(value = 1, message = "synthetic-graph.posts must be greater than 0")
+    int posts = 10_000_000;
+
+    /**
+     * Mean number of profiles each user follows. The number followed is
+     * heavy-tailed, and followed profiles are drawn from a Zipf distribution, so
+     * follower counts follow a power law.
+     */
+    @DecimalMin(value = "0.0", message = "synthetic-graph.follows-per-user must not be negative")
+    double followsPerUser = 80;
+
+    /**
+     * Exponent of the Zipf distributions of follower counts and of post and like
+     * activity across users. Around 1 for a social graph.
+     */
+    @DecimalMin(value = "0.1", message = "synthetic-graph.zipf-exponent must be at least 0.1")
+    double zipfExponent = 1.0;
+
+    /**
+     * Share of posts that are replies.
+     */
+    @DecimalMin(value = "0.0", message = "synthetic-graph.reply-rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "synthetic-graph.reply-rate must be between 0 and 1")
+    double replyRate = 0.35;
+
+    /**
+     * Mean number of likes per post. Like counts are heavy-tailed.
+     */
+    @DecimalMin(value = "0.0", message = "synthetic-graph.likes-per-post must not be negative")
+    double likesPerPost = 4;
+
+    /**
+     * Share of posts with a hashtag.
+     */
+    @DecimalMin(value = "0.0", message = "synthetic-graph.hashtag-rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "synthetic-graph.hashtag-rate must be between 0 and 1")
+    double hashtagRate = 0.12;
+
+    /**
+     * Share of posts with a mention.
+     */
+    @DecimalMin(value = "0.0", message = "synthetic-graph.mention-rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "synthetic-graph.mention-rate must be between 0 and 1")
+    double mentionRate = 0.15;
+
+    /**
+     * Share of posts with a URL.
+     */
+    @DecimalMin(value = "0.0", message = "synthetic-graph.url-rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "synthetic-graph.url-rate must be between 0 and 1")
+    double urlRate = 0.08;
+
+    /**
+     * Number of distinct hashtags, used with Zipf-distributed popularity.
+     */
+    @Min(value = 1, message = "synthetic-graph.hashtags must be greater than 0")
+    int hashtags = 5_000;
+
+    /**
+     * Creation time of the first post. Fixed rather than relative to now, so
+     * generated timestamps are reproducible too.
+     */
+    @NotNull(message = "synthetic-graph.start must not be null")
+    Instant start = Instant.parse("2025-01-01T00:00:00Z");
+
+    /**
+     * Period over which posts are spread, evenly, from {@code start}.
+     */
+    @NotNull(message = "synthetic-graph.span must not be null")
+    Duration span = Duration.ofDays(365);
+
+}
@@ -0,0 +1,50 @@
+package app.echo_social.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Validated
+@ConfigurationProperties("trending")
+public class TrendingProperties {
+
+    /**
+     * Width of each bucket of the trending window. Uses are counted per bucket,
+     * and the window slides by one bucket at a time.
+     */
+    @NotNull(message = "trending.bucket-width must not be null")
+    Duration bucketWidth = Duration.ofMinutes(5);
+
+    /**
+     * Number of buckets in the trending window, e.g. 12 buckets of 5 minutes for
+     * a window of an hour.
+     */
+    @Min(value = 1, message = "trending.bucket-count must be greater than 0")
+    int bucketCount = 12;
+
+    /**
+     * Age at which a use of a hashtag counts for half as much towards its score
+     * as a use now.
+     */
+    @NotNull(message = "trending.half-life must not be null")
+    Duration halfLife = Duration.ofMinutes(30);
+
+    /**
+     * Maximum number of trending hashtags kept on each recompute.
+     */
+    @Min(value = 1, message = "trending.capacity must be greater than 0")
+    int capacity = 50;
+
+    /**
+     * Delay between recomputes of the trending hashtags.
+     */
+    @NotNull(message = "trending.recompute-interval must not be null")
+    Duration recomputeInterval = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,33 @@
+package app.echo_social.exception.handler;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import app.echo_social.shared.conditional.NotModifiedException;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+@ControllerAdvice
+public class ConditionalRequestExceptionHandler {
+
+    /**
+     * Handle thrown {@link NotModifiedException} by responding with status
+     * {@link HttpStatus#NOT_MODIFIED} and the matched ETag, without a body.
+     */
+    @ExceptionHandler(NotModifiedException.class)
+    ResponseEntity<Void> handleNotModifiedException(NotModifiedException ex) {
+        log.debug("Handling exception: {}", ex.getMessage());
+
+        return ResponseEntity
+            .status(HttpStatus.NOT_MODIFIED)
+            .eTag(ex.getETag())
+            .build();
+    }
+
+}
@@ -0,0 +1,423 @@
+package app.echo_social.loader;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import app.echo_social.config.properties.SyntheticGraphProperties;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.profile.constant.ProfileConstraints;
+import app.echo_social.shared.streaming.ItemSource;
+import app.echo_social.util.PostEntityExtractor;
+
+/**
+ * Generates a synthetic social graph of users, follows, posts and likes, shaped
+ * like a real one, for loading a database at a scale that reproduces
+ * production query plans.
+ *
+ * <ul>
+ * <li>Profiles are followed with a Zipf-distributed popularity, and follow a
+ * heavy-tailed number of profiles, so follower counts follow a power law.
+ * <li>Posts are spread evenly over time and authored with a Zipf-distributed
+ * activity, unrelated to popularity. Replies answer a recent post, most often
+ * one of the last few, so threads grow into trees.
+ * <li>Posts carry hashtags, mentions and URLs at the configured rates, with
+ * Zipf-distributed hashtags and mentions of popular profiles.
+ * <li>Posts receive a heavy-tailed number of likes, from active users.
+ * </ul>
+ *
+ * <p>
+ * Each kind of row is generated as an {@link ItemSource}, produced on demand
+ * rather than held in memory, from a random stream of its own derived from the
+ * seed. Ids are derived from the seed and the index of the row, so a source
+ * produces the same rows each time, and rows of one kind can refer to rows of
+ * another without either being stored.
+ */
+public class SyntheticGraphGenerator {
+
+    /**
+     * A generated user, and its profile, which shares its id.
+     */
+    // @formatter:off
+    public record UserRow(
+        UUID id,
+        String externalId,
+        String username,
+        String name,
+        String bio,
+        Instant createdAt
+    ) {}
+
+    /**
+     * A generated follow.
+     */
+    public record FollowRow(
+        UUID followerId,
+        UUID followedId,
+        Instant createdAt
+    ) {}
+
+    /**
+     * A generated post, with its conversation resolved, as it is otherwise set
+     * on insert by a trigger.
+     */
+    public record PostRow(
+        UUID id,
+        UUID parentId,
+        UUID conversationId,
+        UUID authorId,
+        String text,
+        Instant createdAt
+    ) {}
+
+    /**
+     * A generated like.
+     */
+    public record LikeRow(
+        UUID postId,
+        UUID authorId,
+        Instant createdAt
+    ) {}
+    // @formatter:on
+
+    // salts of the random streams and ids of each kind of row
+    private static final long USERS = 0x5EED_0001L;
+    private static final long FOLLOWS = 0x5EED_0002L;
+    private static final long POSTS = 0x5EED_0003L;
+    private static final long LIKES = 0x5EED_0004L;
+    private static final long ACTIVITY = 0x5EED_0005L;
+
+    private static final int REPLY_WINDOW = 100_000; // replies answer one of the last 100k posts
+    private static final double REPLY_DISTANCE_EXPONENT = 0.8;
+    private static final int MAX_SAMPLING_ATTEMPTS = 4;
+    private static final int MAX_LIKE_DELAY_SECONDS = 2 * 24 * 60 * 60;
+
+    // leaves room for a hashtag, a mention and a URL within the text limit
+    private static final int MAX_BODY_LENGTH = ProfileConstraints.TEXT_MAX_LENGTH - 100;
+
+    private static final String[] WORDS = {
+        "just", "shipped", "the", "new", "release", "today", "and", "it", "feels", "great", "coffee", "first",
+        "then", "code", "anyone", "else", "watching", "game", "tonight", "loving", "this", "weather", "finally",
+        "finished", "reading", "book", "honestly", "best", "thing", "all", "week", "can't", "believe", "how",
+        "fast", "time", "goes", "working", "from", "home", "again", "need", "more", "sleep", "what", "do", "you",
+        "think", "about", "that", "new", "album", "is", "out", "now", "going", "for", "a", "run", "later" };
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn", "Charlie",
+        "Robin", "Drew", "Skyler", "Rowan", "Emery" };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Jones", "Taylor", "Brown", "Williams", "Wilson", "Johnson", "Davies", "Patel", "Wright",
+        "Walker", "White", "Green", "Hall", "Wood", "Clarke" };
+
+    private static final String[] BIOS = {
+        "Building things on the internet, one commit at a time.",
+        "Coffee first, questions later.",
+        "Runner, reader, occasional baker.",
+        "Opinions are my own.",
+        "Here for the memes and the match threads.",
+        "Designer by day, gamer by night." };
+
+    private static final String[] HASHTAG_WORDS = {
+        "SpringBoot", "Java", "Football", "Music", "Coffee", "Travel", "Photography", "Gaming", "Books", "Running",
+        "Cooking", "Design", "Startups", "Movies", "Science", "Art", "Weather", "Fitness", "News", "Tech" };
+
+    private final SyntheticGraphProperties props;
+    private final Zipf userRanks;
+    private final Zipf hashtagRanks;
+    private final long activityMultiplier;
+    private final long activityOffset;
+
+    /**
+     * Creates a generator of the graph described by the specified settings.
+     *
+     * @param props the settings of the graph, which must not change once the
+     *              generator is created
+     */
+    public SyntheticGraphGenerator(SyntheticGraphProperties props) {
+        this.props = props;
+        this.userRanks = new Zipf(props.getUsers(), props.getZipfExponent());
+        this.hashtagRanks = new Zipf(props.getHashtags(), props.getZipfExponent());
+
+        // an affine permutation of the users, mapping activity ranks apart from popularity ranks
+        long multiplier = 1 + Math.floorMod(mix(props.getSeed() ^ ACTIVITY), props.getUsers());
+        while (gcd(multiplier, props.getUsers()) != 1) {
+            multiplier++;
+        }
+        this.activityMultiplier = multiplier;
+        this.activityOffset = Math.floorMod(mix(props.getSeed() ^ ~ACTIVITY), props.getUsers());
+    }
+
+    /**
+     * Generates the users, signed up a second apart, up to the start of the
+     * posts.
+     *
+     * @return the users, in index order
+     */
+    public ItemSource<UserRow> users() {
+        return sink -> {
+            SplittableRandom random = random(USERS);
+            Instant firstSignUp = props.getStart().minusSeconds(props.getUsers());
+
+            for (int i = 0; i < props.getUsers(); i++) {
+                String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+                String bio = random.nextDouble() < 0.6 ? pick(random, BIOS) : null;
+
+                sink.accept(new UserRow(
+                    userId(i),
+                    "user_synthetic_" + i,
+                    username(i),
+                    name,
+                    bio,
+                    firstSignUp.plusSeconds(i)));
+            }
+        };
+    }
+
+    /**
+     * Generates the follows, none of a user by itself nor repeated.
+     *
+     * @return the follows, grouped by follower
+     */
+    public ItemSource<FollowRow> follows() {
+        return sink -> {
+            SplittableRandom random = random(FOLLOWS);
+            Set<Integer> followed = new HashSet<>();
+
+            for (int follower = 0; follower < props.getUsers(); follower++) {
+                int count = (int) Math.min(props.getUsers() - 1, lomax(random, props.getFollowsPerUser()));
+
+                followed.clear();
+                for (int attempt = 0; followed.size() < count && attempt < count * MAX_SAMPLING_ATTEMPTS; attempt++) {
+                    int target = userRanks.sample(random); // the user of popularity rank n is user n
+                    if (target != follower && followed.add(target)) {
+                        sink.accept(new FollowRow(userId(follower), userId(target), pointInSpan(random.nextDouble())));
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Generates the posts. A reply always follows its parent, and belongs to the
+     * conversation of its parent.
+     *
+     * @return the posts, oldest first
+     */
+    public ItemSource<PostRow> posts() {
+        return sink -> {
+            SplittableRandom random = random(POSTS);
+            int window = Math.min(REPLY_WINDOW, props.getPosts());
+            int[] roots = new int[window]; // the root of each of the last posts, by index modulo the window
+
+            for (int i = 0; i < props.getPosts(); i++) {
+                int author = activeUser(random);
+
+                int parent = -1;
+                int root = i;
+                if (i > 0 && random.nextDouble() < props.getReplyRate()) {
+                    parent = i - replyDistance(random, Math.min(i, window));
+                    root = roots[parent % window]; // read before overwritten by the post a window later
+                }
+                roots[i % window] = root;
+
+                sink.accept(new PostRow(
+                    postId(i),
+                    parent >= 0 ? postId(parent) : null,
+                    postId(root),
+                    userId(author),
+                    text(random),
+                    postCreatedAt(i)));
+            }
+        };
+    }
+
+    /**
+     * Generates the entities of the posts, as extracted from their text on
+     * creation.
+     *
+     * @return the entities, in the order of their posts
+     */
+    public ItemSource<PostEntity> entities() {
+        ItemSource<PostRow> posts = posts();
+        return sink -> posts.forEach(post -> PostEntityExtractor.extract(post.id(), post.text()).forEach(sink));
+    }
+
+    /**
+     * Generates the likes, none repeated, each within two days of its post.
+     *
+     * @return the likes, grouped by post
+     */
+    public ItemSource<LikeRow> likes() {
+        return sink -> {
+            SplittableRandom random = random(LIKES);
+            Set<Integer> likers = new HashSet<>();
+
+            for (int i = 0; i < props.getPosts(); i++) {
+                int count = (int) Math.min(props.getUsers(), lomax(random, props.getLikesPerPost()));
+                Instant postedAt = postCreatedAt(i);
+
+                likers.clear();
+                for (int attempt = 0; likers.size() < count && attempt < count * MAX_SAMPLING_ATTEMPTS; attempt++) {
+                    int liker = activeUser(random);
+                    if (likers.add(liker)) {
+                        sink.accept(new LikeRow(
+                            postId(i),
+                            userId(liker),
+                            postedAt.plusSeconds(random.nextInt(MAX_LIKE_DELAY_SECONDS))));
+                    }
+                }
+            }
+        };
+    }
+
+    private String text(SplittableRandom random) {
+        StringBuilder text = new StringBuilder(ProfileConstraints.TEXT_MAX_LENGTH);
+        int words = 3 + random.nextInt(30);
+        for (int i = 0; i < words && text.length() < MAX_BODY_LENGTH; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(random, WORDS));
+        }
+        if (random.nextDouble() < 0.5) {
+            text.append(random.nextDouble() < 0.7 ? '.' : '!');
+        }
+
+        if (random.nextDouble() < props.getHashtagRate()) {
+            text.append(" #").append(hashtag(hashtagRanks.sample(random)));
+        }
+        if (random.nextDouble() < props.getMentionRate()) {
+            text.append(" @").append(username(userRanks.sample(random)));
+        }
+        if (random.nextDouble() < props.getUrlRate()) {
+            text.append(" https://example.com/").append(Long.toString(random.nextLong() >>> 1, 36));
+        }
+        return text.toString();
+    }
+
+    private int activeUser(SplittableRandom random) {
+        long rank = userRanks.sample(random);
+        return (int) ((rank * activityMultiplier + activityOffset) % props.getUsers());
+    }
+
+    /**
+     * How many posts back the parent of a reply is, from a power law, so most
+     * replies answer one of the last few posts and a few answer a much older one.
+     */
+    private static int replyDistance(SplittableRandom random, int max) {
+        double distance = Math.ceil(Math.pow(1 - random.nextDouble(), -1 / REPLY_DISTANCE_EXPONENT));
+        return (int) Math.min(max, distance);
+    }
+
+    /**
+     * A count drawn from a Lomax distribution of shape 2 and the given mean, a
+     * power law with most counts below the mean and a long tail above it.
+     */
+    private static long lomax(SplittableRandom random, double mean) {
+        return Math.round(mean * (1 / Math.sqrt(1 - random.nextDouble()) - 1));
+    }
+
+    private Instant postCreatedAt(int index) {
+        return pointInSpan((double) index / props.getPosts());
+    }
+
+    private Instant pointInSpan(double fraction) {
+        long spanMicros = props.getSpan().dividedBy(Duration.of(1, ChronoUnit.MICROS));
+        return props.getStart().plus((long) (spanMicros * fraction), ChronoUnit.MICROS);
+    }
+
+    private UUID userId(int index) {
+        return uuid(USERS, index);
+    }
+
+    private UUID postId(int index) {
+        return uuid(POSTS, index);
+    }
+
+    private static String username(int index) {
+        return "user" + index;
+    }
+
+    private static String hashtag(int rank) {
+        String word = HASHTAG_WORDS[rank % HASHTAG_WORDS.length];
+        int round = rank / HASHTAG_WORDS.length;
+        return round == 0 ? word : word + round;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private SplittableRandom random(long salt) {
+        return new SplittableRandom(mix(props.getSeed() ^ salt));
+    }
+
+    /**
+     * Derives a version 4 UUID from the seed, the kind of row and its index.
+     */
+    private UUID uuid(long salt, long index) {
+        long msb = mix(props.getSeed() ^ salt ^ mix(index));
+        long lsb = mix(msb ^ salt ^ index);
+        msb = (msb & ~0xF000L) | 0x4000L; // version 4
+        lsb = (lsb & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L; // IETF variant
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * The SplitMix64 finalizer, a bijective mix of all 64 bits.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Samples ranks {@code 0..n-1} with a probability proportional to
+     * {@code 1 / (rank + 1)^exponent}, by a binary search of the cumulative
+     * distribution.
+     */
+    private static final class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cumulative[rank] /= sum;
+            }
+            cumulative[n - 1] = 1.0; // guards against rounding, as samples are below 1
+        }
+
+        int sample(SplittableRandom random) {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] <= u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+    }
+
+}
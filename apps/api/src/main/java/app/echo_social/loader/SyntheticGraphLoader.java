@@ -0,0 +1,74 @@
+package app.echo_social.loader;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.echo_social.config.properties.FeedProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads a synthetic graph into an empty database on startup under the
+ * {@code perf} profile, so the API can be load tested against a reproducible
+ * dataset of production scale. A database already holding profiles is left
+ * as is, so a loaded dataset is reused across restarts.
+ *
+ * <p>
+ * The graph is loaded in a single transaction, with triggers disabled: rows
+ * are copied in bulk, and the tables the triggers and the application would
+ * otherwise have kept up to date are rebuilt once every row is in.
+ */
+@Slf4j
+@Profile("perf")
+@Component
+@RequiredArgsConstructor
+public class SyntheticGraphLoader implements CommandLineRunner {
+
+    private final SyntheticGraphGenerator generator;
+    private final SyntheticGraphRepository repository;
+    private final FeedProperties feedProps;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        if (!repository.isEmpty()) {
+            log.info("Skipping the synthetic graph, as the database already holds profiles");
+            return;
+        }
+
+        long start = System.nanoTime();
+        repository.disableTriggers();
+
+        step("users", () -> repository.copyUsers(generator.users()));
+        step("profiles", () -> repository.copyProfiles(generator.users()));
+        step("follows", () -> repository.copyFollows(generator.follows()));
+        step("posts", () -> repository.copyPosts(generator.posts()));
+        step("likes", () -> repository.copyLikes(generator.likes()));
+        step("post entities", () -> repository.copyEntities(generator.entities()));
+
+        step("post mentions", repository::rebuildMentions);
+        step("post hashtags", repository::rebuildHashtags);
+        step("post stats", repository::rebuildPostStats);
+        step("profile stats", repository::rebuildProfileStats);
+        step("reply rankings", repository::rebuildReplyRankings);
+        step("discover rankings", repository::rebuildDiscoverRankings);
+        step("home timeline entries", () -> repository.rebuildHomeTimelines(
+            feedProps.getHomeTimelineCapacity(),
+            feedProps.getCelebrityFollowerThreshold()));
+
+        repository.analyze();
+        log.info("Loaded the synthetic graph in {}s", (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private static void step(String rows, LongSupplier step) {
+        long start = System.nanoTime();
+        long count = step.getAsLong();
+        log.info("Loaded {} {} in {}ms", count, rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+}
@@ -0,0 +1,154 @@
+package app.echo_social.loader;
+
+import org.springframework.lang.NonNull;
+
+import app.echo_social.loader.SyntheticGraphGenerator.FollowRow;
+import app.echo_social.loader.SyntheticGraphGenerator.LikeRow;
+import app.echo_social.loader.SyntheticGraphGenerator.PostRow;
+import app.echo_social.loader.SyntheticGraphGenerator.UserRow;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.shared.streaming.ItemSource;
+
+/**
+ * Repository for loading a synthetic graph: rows are streamed with
+ * {@code COPY} straight into the live tables, then the tables otherwise kept
+ * up to date by triggers and by the application are rebuilt from them by a few
+ * set-based statements.
+ *
+ * <p>
+ * Every method must be called within the transaction of the load, after
+ * {@link #disableTriggers()}, and the rebuilds after every copy.
+ */
+public interface SyntheticGraphRepository {
+
+    /**
+     * Checks whether the database holds no profiles, so a graph can be loaded
+     * into it.
+     *
+     * @return {@code true} if there are no profiles, else {@code false}
+     */
+    boolean isEmpty();
+
+    /**
+     * Disables triggers and foreign key checks for the rest of the transaction,
+     * by switching the session to the {@code replica} replication role. Rows
+     * copied after must be consistent by construction. Requires a superuser, as
+     * on a local or disposable database.
+     */
+    void disableTriggers();
+
+    /**
+     * Copies the specified users into {@code users}.
+     *
+     * @param users the users to copy
+     * @return the number of users copied
+     */
+    long copyUsers(@NonNull ItemSource<UserRow> users);
+
+    /**
+     * Copies the profiles of the specified users into {@code profiles}.
+     *
+     * @param users the users whose profiles to copy
+     * @return the number of profiles copied
+     */
+    long copyProfiles(@NonNull ItemSource<UserRow> users);
+
+    /**
+     * Copies the specified follows into {@code profile_follows}.
+     *
+     * @param follows the follows to copy
+     * @return the number of follows copied
+     */
+    long copyFollows(@NonNull ItemSource<FollowRow> follows);
+
+    /**
+     * Copies the specified posts into {@code posts}, as processed.
+     *
+     * @param posts the posts to copy, parents first
+     * @return the number of posts copied
+     */
+    long copyPosts(@NonNull ItemSource<PostRow> posts);
+
+    /**
+     * Copies the specified likes into {@code post_likes}.
+     *
+     * @param likes the likes to copy
+     * @return the number of likes copied
+     */
+    long copyLikes(@NonNull ItemSource<LikeRow> likes);
+
+    /**
+     * Copies the specified entities into {@code post_entities}.
+     *
+     * @param entities the entities to copy
+     * @return the number of entities copied
+     */
+    long copyEntities(@NonNull ItemSource<PostEntity> entities);
+
+    /**
+     * Records each post as mentioning the profiles its mention entities resolve
+     * to, case-insensitively.
+     *
+     * @return the number of mentions recorded
+     */
+    int rebuildMentions();
+
+    /**
+     * Records each post as tagged with the normalised text of its hashtag
+     * entities.
+     *
+     * @return the number of hashtags recorded
+     */
+    int rebuildHashtags();
+
+    /**
+     * Counts the likes and replies of every post into {@code post_stats}.
+     *
+     * @return the number of posts counted
+     */
+    int rebuildPostStats();
+
+    /**
+     * Counts the followers, followings and posts of every profile into
+     * {@code profile_stats}.
+     *
+     * @return the number of profiles counted
+     */
+    int rebuildProfileStats();
+
+    /**
+     * Ranks every reply within its thread into {@code reply_rankings}, from
+     * {@code post_stats}.
+     *
+     * @return the number of replies ranked
+     */
+    int rebuildReplyRankings();
+
+    /**
+     * Ranks every root post for the discover feed into
+     * {@code discover_rankings}, from {@code post_stats}.
+     *
+     * @return the number of posts ranked
+     */
+    int rebuildDiscoverRankings();
+
+    /**
+     * Fills the home timeline of every profile with the newest root posts of
+     * itself and of the profiles it follows, as fan-out on write would have,
+     * leaving out the posts of profiles pulled at read time, which are recorded
+     * in {@code home_timeline_pulled_authors} instead.
+     *
+     * @param capacity          the maximum number of entries of a timeline
+     * @param followerThreshold the follower count from which a profile's posts
+     *                          are pulled rather than pushed
+     * @return the number of timeline entries written
+     */
+    int rebuildHomeTimelines(int capacity, long followerThreshold);
+
+    /**
+     * Refreshes the planner statistics of every table loaded or rebuilt, so
+     * queries are planned for the loaded data.
+     */
+    void analyze();
+
+}
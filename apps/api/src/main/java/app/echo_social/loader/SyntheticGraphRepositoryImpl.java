@@ -0,0 +1,290 @@
+package app.echo_social.loader;
+
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import app.echo_social.loader.SyntheticGraphGenerator.FollowRow;
+import app.echo_social.loader.SyntheticGraphGenerator.LikeRow;
+import app.echo_social.loader.SyntheticGraphGenerator.PostRow;
+import app.echo_social.loader.SyntheticGraphGenerator.UserRow;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.shared.persistence.CsvCopyWriter;
+import app.echo_social.shared.streaming.ItemSource;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class SyntheticGraphRepositoryImpl implements SyntheticGraphRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_CAPACITY = "capacity";
+    private static final String ARG_FOLLOWER_THRESHOLD = "followerThreshold";
+
+    @Override
+    public boolean isEmpty() {
+        Boolean exists = jdbc().queryForObject("SELECT EXISTS (SELECT 1 FROM profiles)", Boolean.class);
+        return !Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public void disableTriggers() {
+        jdbc().execute("SET LOCAL session_replication_role = replica");
+    }
+
+    @Override
+    public long copyUsers(ItemSource<UserRow> users) {
+        String sql = "COPY users (id, external_id, created_at, updated_at) FROM STDIN (FORMAT csv)";
+        return copy(sql, users, (row, user) -> row
+            .field(user.id())
+            .field(user.externalId())
+            .field(user.createdAt())
+            .field(user.createdAt()));
+    }
+
+    @Override
+    public long copyProfiles(ItemSource<UserRow> users) {
+        String sql = "COPY profiles (id, username, name, bio, created_at, updated_at) FROM STDIN (FORMAT csv)";
+        return copy(sql, users, (row, user) -> row
+            .field(user.id())
+            .field(user.username())
+            .field(user.name())
+            .field(user.bio())
+            .field(user.createdAt())
+            .field(user.createdAt()));
+    }
+
+    @Override
+    public long copyFollows(ItemSource<FollowRow> follows) {
+        String sql = "COPY profile_follows (follower_id, followed_id, created_at) FROM STDIN (FORMAT csv)";
+        return copy(sql, follows, (row, follow) -> row
+            .field(follow.followerId())
+            .field(follow.followedId())
+            .field(follow.createdAt()));
+    }
+
+    @Override
+    public long copyPosts(ItemSource<PostRow> posts) {
+        String sql = """
+            COPY posts (id, parent_id, conversation_id, author_id, text, created_at, processed_at)
+            FROM STDIN (FORMAT csv)
+            """;
+        return copy(sql, posts, (row, post) -> row
+            .field(post.id())
+            .field(post.parentId())
+            .field(post.conversationId())
+            .field(post.authorId())
+            .field(post.text())
+            .field(post.createdAt())
+            .field(post.createdAt()));
+    }
+
+    @Override
+    public long copyLikes(ItemSource<LikeRow> likes) {
+        String sql = "COPY post_likes (post_id, author_id, created_at) FROM STDIN (FORMAT csv)";
+        return copy(sql, likes, (row, like) -> row
+            .field(like.postId())
+            .field(like.authorId())
+            .field(like.createdAt()));
+    }
+
+    @Override
+    public long copyEntities(ItemSource<PostEntity> entities) {
+        String sql = "COPY post_entities (post_id, entity_type, start_index, end_index, text) FROM STDIN (FORMAT csv)";
+        return copy(sql, entities, (row, entity) -> row
+            .field(entity.getPostId())
+            .field(entity.getType().name())
+            .field(entity.getStart())
+            .field(entity.getEnd())
+            .field(entity.getText()));
+    }
+
+    @Override
+    public int rebuildMentions() {
+        return execute("SELECT index_post_mentions(NULL)");
+    }
+
+    @Override
+    public int rebuildHashtags() {
+        return execute("SELECT index_post_hashtags(NULL)");
+    }
+
+    @Override
+    public int rebuildPostStats() {
+        // aggregated once per table, rather than counted per post
+        String sql = """
+            INSERT INTO post_stats (post_id, like_count, reply_count)
+            SELECT
+                p.id,
+                COALESCE(l.like_count, 0),
+                COALESCE(r.reply_count, 0)
+            FROM posts p
+            LEFT JOIN (
+                SELECT post_id, COUNT(*) AS like_count
+                FROM post_likes
+                GROUP BY post_id
+            ) l ON l.post_id = p.id
+            LEFT JOIN (
+                SELECT parent_id, COUNT(*) AS reply_count
+                FROM posts
+                WHERE parent_id IS NOT NULL
+                GROUP BY parent_id
+            ) r ON r.parent_id = p.id
+            ON CONFLICT (post_id) DO UPDATE
+            SET
+                like_count = EXCLUDED.like_count,
+                reply_count = EXCLUDED.reply_count
+            """;
+
+        return jdbc().update(sql);
+    }
+
+    @Override
+    public int rebuildProfileStats() {
+        String sql = """
+            INSERT INTO profile_stats (profile_id, follower_count, following_count, post_count)
+            SELECT
+                pr.id,
+                COALESCE(fr.follower_count, 0),
+                COALESCE(fg.following_count, 0),
+                COALESCE(po.post_count, 0)
+            FROM profiles pr
+            LEFT JOIN (
+                SELECT followed_id, COUNT(*) AS follower_count
+                FROM profile_follows
+                GROUP BY followed_id
+            ) fr ON fr.followed_id = pr.id
+            LEFT JOIN (
+                SELECT follower_id, COUNT(*) AS following_count
+                FROM profile_follows
+                GROUP BY follower_id
+            ) fg ON fg.follower_id = pr.id
+            LEFT JOIN (
+                SELECT author_id, COUNT(*) AS post_count
+                FROM posts
+                GROUP BY author_id
+            ) po ON po.author_id = pr.id
+            ON CONFLICT (profile_id) DO UPDATE
+            SET
+                follower_count = EXCLUDED.follower_count,
+                following_count = EXCLUDED.following_count,
+                post_count = EXCLUDED.post_count
+            """;
+
+        return jdbc().update(sql);
+    }
+
+    @Override
+    public int rebuildReplyRankings() {
+        return execute("SELECT rebuild_reply_rankings()");
+    }
+
+    @Override
+    public int rebuildDiscoverRankings() {
+        return execute("SELECT rebuild_discover_rankings()");
+    }
+
+    @Override
+    public int rebuildHomeTimelines(int capacity, long followerThreshold) {
+        // Each followed profile contributes at most its newest `capacity` root
+        // posts, read backward off index_posts_author_id_created_at, so the
+        // ranking never sees the full history of a prolific author.
+        String sql = """
+            INSERT INTO home_timeline (viewer_id, post_id, created_at)
+            SELECT
+                ranked.viewer_id,
+                ranked.post_id,
+                ranked.created_at
+            FROM (
+                SELECT
+                    v.viewer_id,
+                    p.id AS post_id,
+                    p.created_at,
+                    ROW_NUMBER() OVER (PARTITION BY v.viewer_id ORDER BY p.created_at DESC, p.id DESC) AS position
+                FROM (
+                    SELECT pr.id AS viewer_id, pr.id AS author_id
+                    FROM profiles pr
+                    UNION ALL
+                    SELECT f.follower_id, f.followed_id
+                    FROM profile_follows f
+                    JOIN profile_stats ps
+                        ON ps.profile_id = f.followed_id
+                    WHERE ps.follower_count < :followerThreshold
+                ) v
+                CROSS JOIN LATERAL (
+                    SELECT p.id, p.created_at
+                    FROM posts p
+                    WHERE p.author_id = v.author_id
+                    AND p.parent_id IS NULL
+                    ORDER BY p.created_at DESC, p.id DESC
+                    LIMIT :capacity
+                ) p
+            ) ranked
+            WHERE ranked.position <= :capacity
+            ON CONFLICT (viewer_id, post_id) DO NOTHING
+            """;
+
+        // Pulled profiles are recorded so that they are backfilled onto their
+        // followers' timelines once they fall below the threshold.
+        String pulledSql = """
+            INSERT INTO home_timeline_pulled_authors (author_id)
+            SELECT ps.profile_id
+            FROM profile_stats ps
+            WHERE ps.follower_count >= :followerThreshold
+            ON CONFLICT (author_id) DO NOTHING
+            """;
+
+        // The rebuilt timelines are within capacity, so none are queued for
+        // trimming; their sizes only seed the counters pushes add to.
+        String sizesSql = """
+            INSERT INTO home_timeline_sizes (viewer_id, entry_count)
+            SELECT ht.viewer_id, COUNT(*)
+            FROM home_timeline ht
+            GROUP BY ht.viewer_id
+            ON CONFLICT (viewer_id) DO UPDATE SET entry_count = EXCLUDED.entry_count
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold);
+
+        template.update(pulledSql, params);
+        int inserted = template.update(sql, params);
+        jdbc().update(sizesSql);
+        return inserted;
+    }
+
+    @Override
+    public void analyze() {
+        jdbc().execute("""
+            ANALYZE users, profiles, profile_follows, posts, post_likes, post_entities, post_mentions,
+                post_hashtags, post_stats, profile_stats, reply_rankings, discover_rankings, home_timeline,
+                home_timeline_pulled_authors, home_timeline_sizes
+            """);
+    }
+
+    /**
+     * Execute a rebuild function, returning the number of rows it wrote.
+     *
+     * @param sql the SQL query to execute
+     * @return the number of rows written
+     */
+    private int execute(String sql) {
+        Integer written = jdbc().queryForObject(sql, Integer.class);
+        return written != null ? written : 0;
+    }
+
+    private JdbcOperations jdbc() {
+        return template.getJdbcOperations();
+    }
+
+    private <T> long copy(String sql, ItemSource<T> rows, BiConsumer<CsvCopyWriter, T> fields) {
+        return CsvCopyWriter.copy(jdbc(), sql, rows, fields);
+    }
+
+}
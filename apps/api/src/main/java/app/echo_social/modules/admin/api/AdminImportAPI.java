@@ -0,0 +1,52 @@
+package app.echo_social.modules.admin.api;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import app.echo_social.exception.ErrorResponse;
+import app.echo_social.modules.admin.dto.response.ImportResultDTO;
+import app.echo_social.shared.constant.ApiRoutes;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Admin API")
+@Validated
+public interface AdminImportAPI {
+
+    @Operation(
+        description = "Import posts, one JSON object per line. Replies may be imported alongside their parent.",
+        requestBody = @RequestBody(content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)))
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(value = ApiRoutes.ADMIN.IMPORT_POSTS, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<ImportResultDTO> importPosts(@Parameter(hidden = true) InputStream body);
+
+    @Operation(
+        description = "Import post likes, one JSON object per line",
+        requestBody = @RequestBody(content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)))
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(value = ApiRoutes.ADMIN.IMPORT_LIKES, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<ImportResultDTO> importLikes(@Parameter(hidden = true) InputStream body);
+
+    @Operation(
+        description = "Import profile follows, one JSON object per line",
+        requestBody = @RequestBody(content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)))
+    @ApiResponse(responseCode = "403", description = "Caller is not an admin", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping(value = ApiRoutes.ADMIN.IMPORT_FOLLOWS, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<ImportResultDTO> importFollows(@Parameter(hidden = true) InputStream body);
+
+}
@@ -0,0 +1,35 @@
+package app.echo_social.modules.admin.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import app.echo_social.modules.admin.api.AdminImportAPI;
+import app.echo_social.modules.admin.dto.response.ImportResultDTO;
+import app.echo_social.modules.admin.service.BulkImportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+class AdminImportController implements AdminImportAPI {
+
+    private final BulkImportService bulkImportService;
+
+    @Override
+    public ResponseEntity<ImportResultDTO> importPosts(InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importPosts(body));
+    }
+
+    @Override
+    public ResponseEntity<ImportResultDTO> importLikes(InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importLikes(body));
+    }
+
+    @Override
+    public ResponseEntity<ImportResultDTO> importFollows(InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importFollows(body));
+    }
+
+}
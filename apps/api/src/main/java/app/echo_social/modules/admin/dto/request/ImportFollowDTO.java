@@ -0,0 +1,24 @@
+package app.echo_social.modules.admin.dto.request;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// @formatter:off
+/**
+ * Represents a follow to import, one per line of an NDJSON import.
+ *
+ * @param followerId the id of the following profile
+ * @param followedId the id of the followed profile
+ * @param createdAt  the time of the follow, the import time if null (nullable)
+ */
+public record ImportFollowDTO(
+
+    @JsonProperty("follower_id") UUID followerId,
+
+    @JsonProperty("followed_id") UUID followedId,
+
+    @JsonProperty("created_at") Instant createdAt
+
+) {}
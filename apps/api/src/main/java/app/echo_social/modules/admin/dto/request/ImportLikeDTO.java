@@ -0,0 +1,24 @@
+package app.echo_social.modules.admin.dto.request;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// @formatter:off
+/**
+ * Represents a like to import, one per line of an NDJSON import.
+ *
+ * @param postId    the id of the liked post
+ * @param authorId  the id of the profile liking the post
+ * @param createdAt the time of the like, the import time if null (nullable)
+ */
+public record ImportLikeDTO(
+
+    @JsonProperty("post_id") UUID postId,
+
+    @JsonProperty("author_id") UUID authorId,
+
+    @JsonProperty("created_at") Instant createdAt
+
+) {}
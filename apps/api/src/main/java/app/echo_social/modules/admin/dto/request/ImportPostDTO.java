@@ -0,0 +1,35 @@
+package app.echo_social.modules.admin.dto.request;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// @formatter:off
+/**
+ * Represents a post to import, one per line of an NDJSON import.
+ *
+ * <p>
+ * Fields are checked by the import rather than rejected on parse, so a post
+ * failing a check is skipped rather than failing the import.
+ *
+ * @param id        the id of the post
+ * @param parentId  the id of the parent post, null if not a reply (nullable)
+ * @param authorId  the id of the profile authoring the post
+ * @param text      the text content of the post
+ * @param createdAt the creation time of the post, the import time if null
+ *                  (nullable)
+ */
+public record ImportPostDTO(
+
+    UUID id,
+
+    @JsonProperty("parent_id") UUID parentId,
+
+    @JsonProperty("author_id") UUID authorId,
+
+    String text,
+
+    @JsonProperty("created_at") Instant createdAt
+
+) {}
@@ -0,0 +1,25 @@
+package app.echo_social.modules.admin.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+// @formatter:off
+/**
+ * Represents the outcome of a bulk import.
+ *
+ * @param received the number of non-blank lines received
+ * @param imported the number of rows written
+ * @param skipped  the number of lines skipped: malformed, duplicated, already
+ *                 existing, or failing a constraint, e.g. referencing a
+ *                 missing profile
+ */
+@Schema(
+    name = "ImportResult",
+    description = "The outcome of a bulk import.",
+    accessMode = Schema.AccessMode.READ_ONLY
+)
+public record ImportResultDTO(
+    @NotNull long received,
+    @NotNull long imported,
+    @NotNull long skipped
+) {}
@@ -0,0 +1,112 @@
+package app.echo_social.modules.admin.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.admin.dto.request.ImportFollowDTO;
+import app.echo_social.modules.admin.dto.request.ImportLikeDTO;
+import app.echo_social.modules.admin.dto.request.ImportPostDTO;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+import app.echo_social.shared.streaming.ItemSource;
+
+/**
+ * Repository for bulk imports: rows are streamed with {@code COPY} into
+ * unindexed staging tables, then merged into the live tables by a few
+ * set-based statements checking the constraints of each row, so rows failing
+ * them are skipped rather than failing the import.
+ *
+ * <p>
+ * Staging tables are temporary and dropped on commit, so every method must be
+ * called within the transaction of the import, a {@code stage} method before
+ * its {@code merge} counterpart.
+ */
+public interface BulkImportRepository {
+
+    /**
+     * Copies the specified posts into the staging table of posts.
+     *
+     * @param posts the posts to stage
+     * @return the number of posts staged
+     */
+    long stagePosts(@NonNull ItemSource<ImportPostDTO> posts);
+
+    /**
+     * Merges the staged posts into {@code posts}, as processed, skipping those
+     * already existing, duplicated, authored by a missing profile, replying to a
+     * missing post, or with a blank or too long text. Replies are merged once
+     * their parent is, whether staged or already existing.
+     *
+     * @return the number of posts merged
+     */
+    long mergePosts();
+
+    /**
+     * Retrieves the posts merged by {@link #mergePosts()}, a page at a time.
+     *
+     * @param after the id after which to start, the nil UUID for the first page
+     * @param limit the maximum number of posts to return
+     * @return the merged posts, ordered by id
+     */
+    List<UnprocessedPost> findMergedPosts(@NonNull UUID after, int limit);
+
+    /**
+     * Copies the specified entities of merged posts into {@code post_entities}.
+     *
+     * @param entities the entities to copy
+     * @return the number of entities copied
+     */
+    long copyEntities(@NonNull List<PostEntity> entities);
+
+    /**
+     * Resolves the mention entities of the merged posts to profiles,
+     * case-insensitively, and records each post as mentioning them.
+     *
+     * @return the number of mentions recorded
+     */
+    int mergeMentions();
+
+    /**
+     * Records each merged post as tagged with the normalised text of its hashtag
+     * entities.
+     *
+     * @return the number of hashtags recorded
+     */
+    int mergeHashtags();
+
+    /**
+     * Copies the specified likes into the staging table of likes.
+     *
+     * @param likes the likes to stage
+     * @return the number of likes staged
+     */
+    long stageLikes(@NonNull ItemSource<ImportLikeDTO> likes);
+
+    /**
+     * Merges the staged likes into {@code post_likes}, skipping those already
+     * existing, duplicated, or of a missing post or profile.
+     *
+     * @return the number of likes merged
+     */
+    long mergeLikes();
+
+    /**
+     * Copies the specified follows into the staging table of follows.
+     *
+     * @param follows the follows to stage
+     * @return the number of follows staged
+     */
+    long stageFollows(@NonNull ItemSource<ImportFollowDTO> follows);
+
+    /**
+     * Merges the staged follows into {@code profile_follows}, skipping those
+     * already existing, duplicated, of a missing profile, or of a profile by
+     * itself.
+     *
+     * @return the number of follows merged
+     */
+    long mergeFollows();
+
+}
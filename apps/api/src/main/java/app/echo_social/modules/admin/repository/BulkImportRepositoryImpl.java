@@ -0,0 +1,245 @@
+package app.echo_social.modules.admin.repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import app.echo_social.modules.admin.dto.request.ImportFollowDTO;
+import app.echo_social.modules.admin.dto.request.ImportLikeDTO;
+import app.echo_social.modules.admin.dto.request.ImportPostDTO;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+import app.echo_social.modules.profile.constant.ProfileConstraints;
+import app.echo_social.shared.persistence.CsvCopyWriter;
+import app.echo_social.shared.streaming.ItemSource;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class BulkImportRepositoryImpl implements BulkImportRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_AFTER = "after";
+    private static final String ARG_LIMIT = "limit";
+
+    @Override
+    public long stagePosts(ItemSource<ImportPostDTO> posts) {
+        jdbc().execute("""
+            CREATE TEMP TABLE import_posts (
+                id            UUID,
+                parent_id     UUID,
+                author_id     UUID,
+                text          TEXT,
+                created_at    TIMESTAMPTZ
+            ) ON COMMIT DROP
+            """);
+        jdbc().execute("""
+            CREATE TEMP TABLE import_merged_posts (
+                id            UUID PRIMARY KEY,
+                text          TEXT NOT NULL,
+                created_at    TIMESTAMPTZ NOT NULL
+            ) ON COMMIT DROP
+            """);
+
+        String sql = "COPY import_posts (id, parent_id, author_id, text, created_at) FROM STDIN (FORMAT csv)";
+        long staged = copy(sql, posts, (row, post) -> row
+            .field(post.id())
+            .field(post.parentId())
+            .field(post.authorId())
+            .field(post.text())
+            .field(post.createdAt()));
+
+        jdbc().execute("ANALYZE import_posts"); // temp tables are never auto-analyzed
+        return staged;
+    }
+
+    @Override
+    public long mergePosts() {
+        // A reply is only merged in the round after its parent, as the existence
+        // of its parent is checked against the snapshot the round started with,
+        // so each round merges one more level of the staged threads.
+        String sql = """
+            WITH merged AS (
+                INSERT INTO posts (id, parent_id, author_id, text, created_at, processed_at)
+                SELECT DISTINCT ON (s.id)
+                    s.id,
+                    s.parent_id,
+                    s.author_id,
+                    s.text,
+                    COALESCE(s.created_at, CURRENT_TIMESTAMP),
+                    CURRENT_TIMESTAMP
+                FROM import_posts s
+                WHERE s.id IS NOT NULL
+                    AND s.text ~ '\\S'
+                    AND char_length(s.text) <= %d
+                    AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.id = s.id)
+                    AND EXISTS (SELECT 1 FROM profiles pr WHERE pr.id = s.author_id)
+                    AND (s.parent_id IS NULL OR EXISTS (SELECT 1 FROM posts p WHERE p.id = s.parent_id))
+                ORDER BY s.id
+                ON CONFLICT (id) DO NOTHING
+                RETURNING id, text, created_at
+            )
+            INSERT INTO import_merged_posts (id, text, created_at)
+            SELECT id, text, created_at
+            FROM merged
+            """.formatted(ProfileConstraints.TEXT_MAX_LENGTH);
+
+        long merged = 0;
+        int round;
+        do {
+            round = jdbc().update(sql);
+            merged += round;
+        } while (round > 0);
+
+        jdbc().execute("ANALYZE import_merged_posts");
+        return merged;
+    }
+
+    @Override
+    public List<UnprocessedPost> findMergedPosts(UUID after, int limit) {
+        String sql = """
+            SELECT m.id, m.text
+            FROM import_merged_posts m
+            WHERE m.id > :after
+            ORDER BY m.id
+            LIMIT :limit
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_AFTER, after)
+            .addValue(ARG_LIMIT, limit);
+
+        return template.query(sql, params, (rs, rowNum) -> new UnprocessedPost(
+            rs.getObject("id", UUID.class),
+            rs.getString("text")));
+    }
+
+    @Override
+    public long copyEntities(List<PostEntity> entities) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "COPY post_entities (post_id, entity_type, start_index, end_index, text) FROM STDIN (FORMAT csv)";
+        return copy(sql, entities::forEach, (row, entity) -> row
+            .field(entity.getPostId())
+            .field(entity.getType().name())
+            .field(entity.getStart())
+            .field(entity.getEnd())
+            .field(entity.getText()));
+    }
+
+    @Override
+    public int mergeMentions() {
+        return execute("SELECT index_post_mentions(ARRAY(SELECT m.id FROM import_merged_posts m))");
+    }
+
+    @Override
+    public int mergeHashtags() {
+        return execute("SELECT index_post_hashtags(ARRAY(SELECT m.id FROM import_merged_posts m))");
+    }
+
+    @Override
+    public long stageLikes(ItemSource<ImportLikeDTO> likes) {
+        jdbc().execute("""
+            CREATE TEMP TABLE import_post_likes (
+                post_id       UUID,
+                author_id     UUID,
+                created_at    TIMESTAMPTZ
+            ) ON COMMIT DROP
+            """);
+
+        String sql = "COPY import_post_likes (post_id, author_id, created_at) FROM STDIN (FORMAT csv)";
+        long staged = copy(sql, likes, (row, like) -> row
+            .field(like.postId())
+            .field(like.authorId())
+            .field(like.createdAt()));
+
+        jdbc().execute("ANALYZE import_post_likes");
+        return staged;
+    }
+
+    @Override
+    public long mergeLikes() {
+        String sql = """
+            INSERT INTO post_likes (post_id, author_id, created_at)
+            SELECT DISTINCT ON (s.post_id, s.author_id)
+                s.post_id,
+                s.author_id,
+                COALESCE(s.created_at, CURRENT_TIMESTAMP)
+            FROM import_post_likes s
+            WHERE EXISTS (SELECT 1 FROM posts p WHERE p.id = s.post_id)
+                AND EXISTS (SELECT 1 FROM profiles pr WHERE pr.id = s.author_id)
+            ORDER BY s.post_id, s.author_id
+            ON CONFLICT DO NOTHING
+            """;
+
+        return jdbc().update(sql);
+    }
+
+    @Override
+    public long stageFollows(ItemSource<ImportFollowDTO> follows) {
+        jdbc().execute("""
+            CREATE TEMP TABLE import_profile_follows (
+                follower_id    UUID,
+                followed_id    UUID,
+                created_at     TIMESTAMPTZ
+            ) ON COMMIT DROP
+            """);
+
+        String sql = "COPY import_profile_follows (follower_id, followed_id, created_at) FROM STDIN (FORMAT csv)";
+        long staged = copy(sql, follows, (row, follow) -> row
+            .field(follow.followerId())
+            .field(follow.followedId())
+            .field(follow.createdAt()));
+
+        jdbc().execute("ANALYZE import_profile_follows");
+        return staged;
+    }
+
+    @Override
+    public long mergeFollows() {
+        String sql = """
+            INSERT INTO profile_follows (follower_id, followed_id, created_at)
+            SELECT DISTINCT ON (s.follower_id, s.followed_id)
+                s.follower_id,
+                s.followed_id,
+                COALESCE(s.created_at, CURRENT_TIMESTAMP)
+            FROM import_profile_follows s
+            WHERE s.follower_id <> s.followed_id
+                AND EXISTS (SELECT 1 FROM profiles pr WHERE pr.id = s.follower_id)
+                AND EXISTS (SELECT 1 FROM profiles pr WHERE pr.id = s.followed_id)
+            ORDER BY s.follower_id, s.followed_id
+            ON CONFLICT DO NOTHING
+            """;
+
+        return jdbc().update(sql);
+    }
+
+    /**
+     * Execute a shared indexing function, returning the number of rows it wrote.
+     *
+     * @param sql the SQL query to execute
+     * @return the number of rows written
+     */
+    private int execute(String sql) {
+        Integer written = jdbc().queryForObject(sql, Integer.class);
+        return written != null ? written : 0;
+    }
+
+    private JdbcOperations jdbc() {
+        return template.getJdbcOperations();
+    }
+
+    private <T> long copy(String sql, ItemSource<T> rows, BiConsumer<CsvCopyWriter, T> fields) {
+        return CsvCopyWriter.copy(jdbc(), sql, rows, fields);
+    }
+
+}
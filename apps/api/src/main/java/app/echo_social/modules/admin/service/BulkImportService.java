@@ -0,0 +1,36 @@
+package app.echo_social.modules.admin.service;
+
+import java.io.InputStream;
+
+import app.echo_social.modules.admin.dto.response.ImportResultDTO;
+
+public interface BulkImportService {
+
+    /**
+     * Imports posts, one JSON object per line, extracting and recording their
+     * entities, mentions and hashtags as done on post creation. Replies may be
+     * imported alongside their parent.
+     *
+     * @param ndjson the NDJSON stream of {@code ImportPostDTO} lines
+     * @return an {@link ImportResultDTO} counting the posts imported and skipped
+     */
+    ImportResultDTO importPosts(InputStream ndjson);
+
+    /**
+     * Imports post likes, one JSON object per line.
+     *
+     * @param ndjson the NDJSON stream of {@code ImportLikeDTO} lines
+     * @return an {@link ImportResultDTO} counting the likes imported and skipped
+     */
+    ImportResultDTO importLikes(InputStream ndjson);
+
+    /**
+     * Imports profile follows, one JSON object per line.
+     *
+     * @param ndjson the NDJSON stream of {@code ImportFollowDTO} lines
+     * @return an {@link ImportResultDTO} counting the follows imported and
+     *         skipped
+     */
+    ImportResultDTO importFollows(InputStream ndjson);
+
+}
@@ -0,0 +1,173 @@
+package app.echo_social.modules.admin.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.echo_social.modules.admin.dto.request.ImportFollowDTO;
+import app.echo_social.modules.admin.dto.request.ImportLikeDTO;
+import app.echo_social.modules.admin.dto.request.ImportPostDTO;
+import app.echo_social.modules.admin.dto.response.ImportResultDTO;
+import app.echo_social.modules.admin.repository.BulkImportRepository;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+import app.echo_social.shared.streaming.ItemSource;
+import app.echo_social.util.PostEntityExtractor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementation for importing NDJSON exports in bulk, each import
+ * running in a single transaction.
+ *
+ * <p>
+ * Lines are parsed one at a time as the request body is read, and streamed
+ * straight into a staging table, so neither the body nor its rows are held in
+ * memory. Malformed lines are skipped, as are rows the merge rejects.
+ *
+ * <p>
+ * The entities of imported posts are extracted a chunk at a time, in parallel
+ * across a dedicated fork-join pool, and copied in as each chunk completes.
+ * Imported posts are neither fanned out onto home timelines nor counted
+ * towards trending hashtags, as they are not new.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class BulkImportServiceImpl implements BulkImportService {
+
+    private static final int EXTRACTION_CHUNK_SIZE = 10_000;
+    private static final UUID NIL_UUID = new UUID(0, 0); // sorts first in PostgreSQL
+
+    private final BulkImportRepository bulkImportRepository;
+    private final ObjectMapper objectMapper;
+
+    // kept apart from the common pool, so an import does not hold up the parallel work of requests
+    private final ForkJoinPool extractionPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @Override
+    @Transactional
+    public ImportResultDTO importPosts(InputStream ndjson) {
+        long[] received = { 0 };
+        bulkImportRepository.stagePosts(lines(ndjson, ImportPostDTO.class, received));
+        long imported = bulkImportRepository.mergePosts();
+
+        long entities = extractEntities();
+        int mentions = bulkImportRepository.mergeMentions();
+        int hashtags = bulkImportRepository.mergeHashtags();
+
+        log.info("Imported {} of {} posts, with {} entities, {} mentions and {} hashtags",
+            imported, received[0], entities, mentions, hashtags);
+        return result(received[0], imported);
+    }
+
+    @Override
+    @Transactional
+    public ImportResultDTO importLikes(InputStream ndjson) {
+        long[] received = { 0 };
+        bulkImportRepository.stageLikes(lines(ndjson, ImportLikeDTO.class, received));
+        long imported = bulkImportRepository.mergeLikes();
+
+        log.info("Imported {} of {} likes", imported, received[0]);
+        return result(received[0], imported);
+    }
+
+    @Override
+    @Transactional
+    public ImportResultDTO importFollows(InputStream ndjson) {
+        long[] received = { 0 };
+        bulkImportRepository.stageFollows(lines(ndjson, ImportFollowDTO.class, received));
+        long imported = bulkImportRepository.mergeFollows();
+
+        log.info("Imported {} of {} follows", imported, received[0]);
+        return result(received[0], imported);
+    }
+
+    /**
+     * Extracts and copies in the entities of the merged posts, a chunk at a time.
+     *
+     * @return the number of entities copied
+     */
+    private long extractEntities() {
+        long copied = 0;
+        UUID after = NIL_UUID;
+
+        List<UnprocessedPost> posts;
+        while (!(posts = bulkImportRepository.findMergedPosts(after, EXTRACTION_CHUNK_SIZE)).isEmpty()) {
+            Map<UUID, String> textsByPostId = LinkedHashMap.newLinkedHashMap(posts.size());
+            posts.forEach(post -> textsByPostId.put(post.id(), post.text()));
+
+            List<PostEntity> entities = PostEntityExtractor.extractAll(textsByPostId, extractionPool)
+                .values()
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+
+            copied += bulkImportRepository.copyEntities(entities);
+            after = posts.getLast().id();
+        }
+        return copied;
+    }
+
+    /**
+     * Reads an NDJSON stream as it is consumed, one row per non-blank line,
+     * counting the lines into {@code received} and skipping those that are not a
+     * JSON object of the given type.
+     */
+    private <T> ItemSource<T> lines(InputStream ndjson, Class<T> type, long[] received) {
+        ObjectReader reader = objectMapper.readerFor(type);
+
+        return sink -> {
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    received[0]++;
+
+                    T row = parse(reader, line);
+                    if (row != null) {
+                        sink.accept(row);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static <T> T parse(ObjectReader reader, String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return null; // malformed, skipped
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        extractionPool.shutdown();
+    }
+
+    private static ImportResultDTO result(long received, long imported) {
+        return new ImportResultDTO(received, imported, received - imported);
+    }
+
+}
@@ -3,19 +3,23 @@ package app.echo_social.modules.feed.api;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import app.echo_social.exception.ErrorResponse;
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.shared.constant.ApiRoutes;
+import app.echo_social.shared.pagination.CursorPageParameters;
 import app.echo_social.shared.pagination.PageParameters;
 import app.echo_social.shared.pagination.Paged;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -29,35 +33,52 @@ public interface FeedAPI {
     @Operation(description = "Get your homepage posts")
     @GetMapping(ApiRoutes.FEED.HOMEPAGE)
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Paged<PostDTO>> getHomeFeed(@Valid PageParameters pageParams);
+    ResponseEntity<Paged<PostDTO>> getHomeFeed(@Valid CursorPageParameters pageParams);
 
     @Operation(description = "Get discover page posts")
     @GetMapping(ApiRoutes.FEED.DISCOVER)
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Paged<PostDTO>> getDiscoverFeed(@Valid PageParameters pageParams);
+    ResponseEntity<Paged<PostDTO>> getDiscoverFeed(@Valid CursorPageParameters pageParams);
+
+    @Operation(description = "Get discover page posts ranked by engagement, decayed by age")
+    @GetMapping(ApiRoutes.FEED.DISCOVER_RANKED)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<Paged<PostDTO>> getRankedDiscoverFeed(@Valid PageParameters pageParams);
 
     @Operation(description = "Get posts by profile ID")
     @ApiResponse(responseCode = "404", description = "ID not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping(ApiRoutes.FEED.POSTS)
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Paged<PostDTO>> getProfilePosts(@PathVariable("id") UUID id, @Valid PageParameters pageParams);
+    ResponseEntity<Paged<PostDTO>> getProfilePosts(@PathVariable("id") UUID id, @Valid CursorPageParameters pageParams);
+
+    @Operation(description = "Export every post by profile ID, streamed as a JSON array")
+    @ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = PostDTO.class))))
+    @ApiResponse(responseCode = "404", description = "ID not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @GetMapping(value = ApiRoutes.FEED.POSTS_EXPORT, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<StreamingResponseBody> exportProfilePosts(@PathVariable("id") UUID id);
 
     @Operation(description = "Get replies by profile ID")
     @ApiResponse(responseCode = "404", description = "ID not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping(ApiRoutes.FEED.REPLIES)
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Paged<PostDTO>> getProfileReplies(@PathVariable("id") UUID id, @Valid PageParameters pageParams);
+    ResponseEntity<Paged<PostDTO>> getProfileReplies(@PathVariable("id") UUID id, @Valid CursorPageParameters pageParams);
 
     @Operation(description = "Get likes by profile ID")
     @ApiResponse(responseCode = "404", description = "ID not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping(ApiRoutes.FEED.LIKES)
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Paged<PostDTO>> getProfileLikes(@PathVariable("id") UUID id, @Valid PageParameters pageParams);
+    ResponseEntity<Paged<PostDTO>> getProfileLikes(@PathVariable("id") UUID id, @Valid CursorPageParameters pageParams);
 
     @Operation(description = "Get mentions of profile ID")
     @ApiResponse(responseCode = "404", description = "ID not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping(ApiRoutes.FEED.MENTIONS)
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Paged<PostDTO>> getProfileMentions(@PathVariable("id") UUID id, @Valid PageParameters pageParams);
+    ResponseEntity<Paged<PostDTO>> getProfileMentions(@PathVariable("id") UUID id, @Valid CursorPageParameters pageParams);
+
+    @Operation(description = "Get posts by hashtag, with or without its leading #")
+    @GetMapping(ApiRoutes.FEED.HASHTAG)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<Paged<PostDTO>> getHashtagPosts(@PathVariable("tag") String tag, @Valid CursorPageParameters pageParams);
 
 }
@@ -3,15 +3,20 @@ package app.echo_social.modules.feed.controller;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import app.echo_social.modules.feed.api.FeedAPI;
 import app.echo_social.modules.feed.service.FeedService;
 import app.echo_social.modules.post.dto.response.PostDTO;
-import app.echo_social.shared.pagination.OffsetLimitRequest;
+import app.echo_social.shared.pagination.CursorPageParameters;
 import app.echo_social.shared.pagination.PageParameters;
 import app.echo_social.shared.pagination.Paged;
+import app.echo_social.shared.streaming.ItemSource;
+import app.echo_social.shared.streaming.JsonArrayStreamingBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,41 +25,62 @@ import lombok.RequiredArgsConstructor;
 class FeedController implements FeedAPI {
 
     private final FeedService feedService;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public ResponseEntity<Paged<PostDTO>> getHomeFeed(PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+    public ResponseEntity<Paged<PostDTO>> getHomeFeed(CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(feedService.getHomeFeed(page));
     }
 
     @Override
-    public ResponseEntity<Paged<PostDTO>> getDiscoverFeed(PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+    public ResponseEntity<Paged<PostDTO>> getDiscoverFeed(CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(feedService.getDiscoverFeed(page));
     }
 
     @Override
-    public ResponseEntity<Paged<PostDTO>> getProfilePosts(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+    public ResponseEntity<Paged<PostDTO>> getRankedDiscoverFeed(PageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
+        return ResponseEntity.ok(feedService.getRankedDiscoverFeed(page));
+    }
+
+    @Override
+    public ResponseEntity<Paged<PostDTO>> getProfilePosts(UUID id, CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(feedService.getProfilePosts(id, page));
     }
 
     @Override
-    public ResponseEntity<Paged<PostDTO>> getProfileReplies(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+    public ResponseEntity<StreamingResponseBody> exportProfilePosts(UUID id) {
+        ItemSource<PostDTO> posts = feedService.exportProfilePosts(id);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new JsonArrayStreamingBody<>(objectMapper, posts));
+    }
+
+    @Override
+    public ResponseEntity<Paged<PostDTO>> getProfileReplies(UUID id, CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(feedService.getProfileReplies(id, page));
     }
 
     @Override
-    public ResponseEntity<Paged<PostDTO>> getProfileLikes(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+    public ResponseEntity<Paged<PostDTO>> getProfileLikes(UUID id, CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(feedService.getProfileLikes(id, page));
     }
 
     @Override
-    public ResponseEntity<Paged<PostDTO>> getProfileMentions(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+    public ResponseEntity<Paged<PostDTO>> getProfileMentions(UUID id, CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(feedService.getProfileMentions(id, page));
     }
 
+    @Override
+    public ResponseEntity<Paged<PostDTO>> getHashtagPosts(String tag, CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
+        return ResponseEntity.ok(feedService.getHashtagPosts(tag, page));
+    }
+
 }
@@ -0,0 +1,66 @@
+package app.echo_social.modules.feed.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.echo_social.modules.feed.service.HomeTimelineService;
+import app.echo_social.modules.post.event.PostCreatedEvent;
+import app.echo_social.modules.profile.event.ProfileFollowedEvent;
+import app.echo_social.modules.profile.event.ProfileUnfollowedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps home timelines in step with post and follow writes.
+ *
+ * <p>
+ * Listeners run after the originating transaction commits, so the post or
+ * follow is visible to the timeline queries, and a failure to update a
+ * timeline never rolls back the write itself.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class HomeTimelineEventListener {
+
+    private final HomeTimelineService homeTimelineService;
+
+    @TransactionalEventListener
+    void onPostCreated(PostCreatedEvent event) {
+        if (!event.isRoot()) {
+            return; // replies are not shown on the homepage feed
+        }
+
+        try {
+            homeTimelineService.fanOut(event.postId());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to fan out post {}: {}", event.postId(), ex.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    void onProfileFollowed(ProfileFollowedEvent event) {
+        try {
+            homeTimelineService.backfill(event.followerId(), event.followedId());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to backfill home timeline of {}: {}", event.followerId(), ex.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    void onProfileUnfollowed(ProfileUnfollowedEvent event) {
+        try {
+            homeTimelineService.prune(event.followerId(), event.followedId());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to prune home timeline of {}: {}", event.followerId(), ex.getMessage());
+        }
+
+        try {
+            homeTimelineService.backfillFollowers(event.followedId()); // in case it fell below the threshold
+        } catch (RuntimeException ex) {
+            log.warn("Failed to backfill home timelines of followers of {}: {}", event.followedId(), ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package app.echo_social.modules.feed.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for reading the time-decayed engagement ranking of root-level
+ * posts, maintained by triggers on posts and post_likes, read by the ranked
+ * discover feed.
+ */
+public interface DiscoverRankingRepository {
+
+    /**
+     * Retrieves the ids of the {@code limit} highest ranked root-level posts.
+     *
+     * @param limit the maximum number of ids to return
+     * @return the post ids, highest ranked first
+     */
+    List<UUID> findTopPostIds(int limit);
+
+}
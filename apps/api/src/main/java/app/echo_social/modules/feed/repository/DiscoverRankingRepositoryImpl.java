@@ -0,0 +1,30 @@
+package app.echo_social.modules.feed.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class DiscoverRankingRepositoryImpl implements DiscoverRankingRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_LIMIT = "limit";
+
+    @Override
+    public List<UUID> findTopPostIds(int limit) {
+        String sql = "SELECT * FROM fetch_discover_rankings(:limit)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_LIMIT, limit);
+
+        return template.query(sql, params, (rs, rowNum) -> rs.getObject("post_id", UUID.class));
+    }
+
+}
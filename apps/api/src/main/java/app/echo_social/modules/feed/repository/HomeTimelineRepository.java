@@ -0,0 +1,150 @@
+package app.echo_social.modules.feed.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import app.echo_social.shared.pagination.PageCursor;
+
+/**
+ * Repository for maintaining and reading each viewer's materialised home
+ * timeline, read by the homepage feed in place of joining posts against
+ * follows.
+ *
+ * <p>
+ * Posts by profiles with at least {@code followerThreshold} followers are not
+ * fanned out on write. They are pulled per author at read time instead, see
+ * {@link #findPulledEntries}.
+ */
+public interface HomeTimelineRepository {
+
+    /**
+     * Pushes the root-level post with the specified ID onto the timeline of its
+     * author and, unless the author has at least {@code followerThreshold}
+     * followers, each of their followers, queuing each timeline grown past
+     * {@code capacity} for {@link #trimQueued}. Replies are ignored. An author
+     * whose posts are pulled instead is recorded, see {@link #backfillFollowers}.
+     *
+     * @param postId            the id of the post to push
+     * @param capacity          the number of entries kept per timeline once trimmed
+     * @param followerThreshold the follower count from which an author's posts
+     *                          are pulled rather than pushed
+     * @return the number of timelines the post was pushed onto
+     */
+    int fanOut(@NonNull UUID postId, int capacity, long followerThreshold);
+
+    /**
+     * Pushes the most recent root-level posts of {@code authorId} onto the
+     * timeline of {@code viewerId}, queuing it for {@link #trimQueued} once grown
+     * past {@code capacity}. Does nothing if the viewer does not follow the author, or if the author has at
+     * least {@code followerThreshold} followers.
+     *
+     * @param viewerId          the id of the following profile
+     * @param authorId          the id of the followed profile
+     * @param capacity          the number of entries kept per timeline once trimmed
+     * @param followerThreshold the follower count from which an author's posts
+     *                          are pulled rather than pushed
+     * @return the number of entries pushed onto the timeline
+     */
+    int backfill(@NonNull UUID viewerId, @NonNull UUID authorId, int capacity, long followerThreshold);
+
+    /**
+     * Pushes the most recent root-level posts of {@code authorId} onto the
+     * timeline of each of its followers, queuing each timeline grown past
+     * {@code capacity} for {@link #trimQueued}, once an author whose posts were
+     * pulled has fallen below {@code followerThreshold} followers, as they are no longer pulled.
+     * Does nothing for any other author.
+     *
+     * @param authorId          the id of the author
+     * @param capacity          the number of entries kept per timeline once trimmed
+     * @param followerThreshold the follower count from which an author's posts
+     *                          are pulled rather than pushed
+     * @return the number of entries pushed onto timelines
+     */
+    int backfillFollowers(@NonNull UUID authorId, int capacity, long followerThreshold);
+
+    /**
+     * Trims up to {@code limit} of the timelines queued by pushes to their newest
+     * {@code capacity} entries. A timeline is only queued once it has grown past
+     * {@code capacity} by a quarter, so most pushes leave nothing to trim.
+     *
+     * @param capacity the maximum number of entries to keep per timeline
+     * @param limit    the maximum number of timelines to trim
+     * @return the number of timelines trimmed
+     */
+    int trimQueued(int capacity, int limit);
+
+    /**
+     * Removes the posts of {@code authorId} from the timeline of
+     * {@code viewerId}. Does nothing if the viewer still follows the author.
+     *
+     * @param viewerId the id of the unfollowing profile
+     * @param authorId the id of the unfollowed profile
+     * @return the number of entries removed from the timeline
+     */
+    int prune(@NonNull UUID viewerId, @NonNull UUID authorId);
+
+    /**
+     * Retrieves up to {@code limit} entries of the timeline of {@code viewerId}
+     * adjacent to the given cursor, in the direction of the cursor.
+     *
+     * @param viewerId the id of the timeline owner
+     * @param cursor   the position to read from, or {@code null} for the newest
+     *                 entries
+     * @param limit    the maximum number of entries to return
+     * @return the entries, newest first
+     */
+    List<TimelineEntry> findEntries(@NonNull UUID viewerId, @Nullable PageCursor cursor, int limit);
+
+    /**
+     * Retrieves, for each profile followed by {@code viewerId} with at least
+     * {@code followerThreshold} followers, up to {@code limit} of its root-level
+     * posts adjacent to the given cursor, in the direction of the cursor.
+     *
+     * @param viewerId          the id of the timeline owner
+     * @param followerThreshold the follower count from which an author's posts
+     *                          are pulled rather than pushed
+     * @param cursor            the position to read from, or {@code null} for the
+     *                          newest posts
+     * @param limit             the maximum number of entries to return per
+     *                          author
+     * @return the entries, grouped by author, each group newest first
+     */
+    List<TimelineEntry> findPulledEntries(
+        @NonNull UUID viewerId,
+        long followerThreshold,
+        @Nullable PageCursor cursor,
+        int limit);
+
+    /**
+     * Counts the posts available to the hybrid homepage feed of
+     * {@code viewerId}: its timeline entries plus any pulled posts not already on
+     * the timeline. As the feed is read no deeper than {@code capacity} entries,
+     * each pulled author contributes at most its newest {@code capacity} posts,
+     * and the count is capped at {@code capacity}.
+     *
+     * @param viewerId          the id of the timeline owner
+     * @param capacity          the depth to which the feed is read
+     * @param followerThreshold the follower count from which an author's posts
+     *                          are pulled rather than pushed
+     * @return the number of available posts, at most {@code capacity}
+     */
+    long count(@NonNull UUID viewerId, int capacity, long followerThreshold);
+
+    /**
+     * Estimates the posts available to the hybrid homepage feed of
+     * {@code viewerId} from its timeline entries and the maintained post counters
+     * of the pulled authors, without de-duplicating the two. Capped at
+     * {@code capacity} like {@link #count}.
+     *
+     * @param viewerId          the id of the timeline owner
+     * @param capacity          the depth to which the feed is read
+     * @param followerThreshold the follower count from which an author's posts
+     *                          are pulled rather than pushed
+     * @return the estimated number of available posts, at most {@code capacity}
+     */
+    long estimateCount(@NonNull UUID viewerId, int capacity, long followerThreshold);
+
+}
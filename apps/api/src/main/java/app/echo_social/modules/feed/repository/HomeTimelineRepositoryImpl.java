@@ -0,0 +1,194 @@
+package app.echo_social.modules.feed.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import app.echo_social.shared.pagination.PageCursor;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class HomeTimelineRepositoryImpl implements HomeTimelineRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_POST_ID = "post_id";
+    private static final String ARG_VIEWER_ID = "viewer_id";
+    private static final String ARG_AUTHOR_ID = "author_id";
+    private static final String ARG_CAPACITY = "capacity";
+    private static final String ARG_FOLLOWER_THRESHOLD = "follower_threshold";
+    private static final String ARG_CURSOR_CREATED_AT = "cursor_created_at";
+    private static final String ARG_CURSOR_ID = "cursor_id";
+    private static final String ARG_BACKWARD = "backward";
+    private static final String ARG_LIMIT = "limit";
+
+    @Override
+    public int fanOut(UUID postId, int capacity, long followerThreshold) {
+        String sql = "SELECT fan_out_home_timeline(:post_id, :capacity, :follower_threshold)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_POST_ID, postId)
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold);
+
+        return execute(sql, params);
+    }
+
+    @Override
+    public int backfill(UUID viewerId, UUID authorId, int capacity, long followerThreshold) {
+        String sql = "SELECT backfill_home_timeline(:viewer_id, :author_id, :capacity, :follower_threshold)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_AUTHOR_ID, authorId)
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold);
+
+        return execute(sql, params);
+    }
+
+    @Override
+    public int backfillFollowers(UUID authorId, int capacity, long followerThreshold) {
+        String sql = "SELECT backfill_home_timeline_followers(:author_id, :capacity, :follower_threshold)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_AUTHOR_ID, authorId)
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold);
+
+        return execute(sql, params);
+    }
+
+    @Override
+    public int trimQueued(int capacity, int limit) {
+        String sql = "SELECT trim_queued_home_timelines(:capacity, :limit)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_LIMIT, limit);
+
+        return execute(sql, params);
+    }
+
+    @Override
+    public int prune(UUID viewerId, UUID authorId) {
+        String sql = "SELECT prune_home_timeline(:viewer_id, :author_id)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_AUTHOR_ID, authorId);
+
+        return execute(sql, params);
+    }
+
+    @Override
+    public List<TimelineEntry> findEntries(UUID viewerId, PageCursor cursor, int limit) {
+        String sql = "SELECT * FROM fetch_home_timeline_entries(:viewer_id, :cursor_created_at, :cursor_id, :backward, :limit)";
+
+        MapSqlParameterSource params = withCursor(new MapSqlParameterSource(), cursor)
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_LIMIT, limit);
+
+        return template.query(sql, params, new TimelineEntryRowMapper(false));
+    }
+
+    @Override
+    public List<TimelineEntry> findPulledEntries(UUID viewerId, long followerThreshold, PageCursor cursor, int limit) {
+        String sql = "SELECT * FROM fetch_home_timeline_pulled_entries(:viewer_id, :follower_threshold, :cursor_created_at, :cursor_id, :backward, :limit)";
+
+        MapSqlParameterSource params = withCursor(new MapSqlParameterSource(), cursor)
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold)
+            .addValue(ARG_LIMIT, limit);
+
+        return template.query(sql, params, new TimelineEntryRowMapper(true));
+    }
+
+    @Override
+    public long count(UUID viewerId, int capacity, long followerThreshold) {
+        String sql = "SELECT * FROM fetch_home_timeline_count(:viewer_id, :capacity, :follower_threshold)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold);
+
+        Long count = template.queryForObject(sql, params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public long estimateCount(UUID viewerId, int capacity, long followerThreshold) {
+        String sql = "SELECT * FROM fetch_home_timeline_count_estimate(:viewer_id, :capacity, :follower_threshold)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_CAPACITY, capacity)
+            .addValue(ARG_FOLLOWER_THRESHOLD, followerThreshold);
+
+        Long count = template.queryForObject(sql, params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Add the keyset parameters of the given cursor to the query parameters.
+     *
+     * @param params the query parameters
+     * @param cursor the position to read from, or {@code null} for the newest
+     *               entries
+     * @return the query parameters
+     */
+    private static MapSqlParameterSource withCursor(MapSqlParameterSource params, PageCursor cursor) {
+        return params
+            .addValue(ARG_CURSOR_CREATED_AT, cursor == null ? null : OffsetDateTime.ofInstant(cursor.createdAt(), ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue(ARG_CURSOR_ID, cursor == null ? null : cursor.id(), Types.OTHER)
+            .addValue(ARG_BACKWARD, cursor != null && cursor.backward());
+    }
+
+    /**
+     * Execute a timeline maintenance function, returning the number of affected
+     * entries.
+     *
+     * @param sql    the SQL query to execute
+     * @param params the query parameters
+     * @return the number of affected timeline entries
+     */
+    private int execute(String sql, MapSqlParameterSource params) {
+        Integer affected = template.queryForObject(sql, params, Integer.class);
+        return affected != null ? affected : 0;
+    }
+
+    /**
+     * Maps {@link ResultSet} rows to {@link TimelineEntry} objects. The author id
+     * is only selected for pulled entries.
+     */
+    private static class TimelineEntryRowMapper implements RowMapper<TimelineEntry> {
+
+        private final boolean withAuthor;
+
+        public TimelineEntryRowMapper(boolean withAuthor) {
+            this.withAuthor = withAuthor;
+        }
+
+        @Override
+        public TimelineEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new TimelineEntry(
+                withAuthor ? rs.getObject("author_id", UUID.class) : null,
+                rs.getObject("post_id", UUID.class),
+                rs.getTimestamp("created_at").toInstant());
+        }
+
+    }
+
+}
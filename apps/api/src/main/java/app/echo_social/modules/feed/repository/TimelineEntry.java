@@ -0,0 +1,35 @@
+package app.echo_social.modules.feed.repository;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Represents a single post on a home timeline, positioned by its
+ * {@code (created_at, id)} pair.
+ *
+ * @param authorId  the id of the post author, or {@code null} if not known
+ * @param postId    the id of the post
+ * @param createdAt the creation timestamp of the post
+ */
+public record TimelineEntry(UUID authorId, UUID postId, Instant createdAt) {
+
+    /**
+     * Orders entries newest first, by {@code created_at} then {@code id}, matching
+     * the {@code ORDER BY created_at DESC, id DESC} of the database.
+     *
+     * <p>
+     * {@link UUID#compareTo(UUID)} compares signed halves, whereas PostgreSQL
+     * compares UUIDs as unsigned bytes, so ids are compared unsigned here.
+     */
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+        .comparing(TimelineEntry::createdAt)
+        .thenComparing(TimelineEntry::postId, TimelineEntry::compareUnsigned)
+        .reversed();
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+}
@@ -0,0 +1,85 @@
+package app.echo_social.modules.feed.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import app.echo_social.modules.feed.repository.DiscoverRankingRepository;
+
+/**
+ * In-process snapshot of the top of the ranked discover feed.
+ *
+ * <p>
+ * Scores are maintained incrementally in the database as posts are liked and
+ * replied to, see {@link DiscoverRankingRepository}. The ids of the
+ * {@code capacity} highest ranked posts are read on a schedule, and published
+ * as an immutable list, and every page is a sublist of the current snapshot,
+ * so its cost does not depend on its offset. Consecutive pages read within one
+ * refresh interval do not skip or repeat posts as scores change between
+ * requests. Pages read across a refresh are sliced from different snapshots,
+ * and may skip or repeat posts whose rank changed in between.
+ *
+ * <p>
+ * The snapshot is loaded on first use if a request arrives before the first
+ * scheduled refresh.
+ */
+public class DiscoverRanking {
+
+    private final DiscoverRankingRepository repository;
+    private final int capacity;
+
+    private volatile List<UUID> snapshot;
+
+    /**
+     * Creates a new {@link DiscoverRanking}.
+     *
+     * @param repository the repository to read the ranking from
+     * @param capacity   the number of top ranked posts to snapshot
+     */
+    public DiscoverRanking(DiscoverRankingRepository repository, int capacity) {
+        this.repository = repository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Replaces the snapshot with the current top of the ranking.
+     */
+    @Scheduled(fixedDelayString = "${feed.discover-ranking-refresh-interval:60s}")
+    public void refresh() {
+        snapshot = List.copyOf(repository.findTopPostIds(capacity));
+    }
+
+    /**
+     * Slices a page of post ids from the current snapshot. The total is the size
+     * of the snapshot.
+     *
+     * @param page pagination parameters
+     * @return a {@link Page} of post ids, highest ranked first; empty beyond the
+     *         snapshot
+     */
+    public Page<UUID> page(Pageable page) {
+        List<UUID> ranking = snapshot();
+
+        int from = (int) Math.min(page.getOffset(), ranking.size());
+        int to = Math.min(from + page.getPageSize(), ranking.size());
+        return new PageImpl<>(ranking.subList(from, to), page, ranking.size());
+    }
+
+    private List<UUID> snapshot() {
+        List<UUID> ranking = snapshot;
+        if (ranking == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                ranking = snapshot;
+            }
+        }
+        return ranking;
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.shared.pagination.Paged;
+import app.echo_social.shared.streaming.ItemSource;
 
 public interface FeedService {
 
@@ -27,6 +28,16 @@ public interface FeedService {
      */
     Paged<PostDTO> getDiscoverFeed(Pageable page);
 
+    /**
+     * Fetches a page of {@link PostDTO} for the ranked discover feed: root-level
+     * posts ordered by their engagement, decayed by age, as of the last refresh
+     * of the ranking.
+     *
+     * @param page pagination parameters
+     * @return a {@link Paged} of {@link PostDTO}; empty if no matches
+     */
+    Paged<PostDTO> getRankedDiscoverFeed(Pageable page);
+
     /**
      * Fetches a page of top-level (no parent) posts authored by the given profile
      * by {@code id}.
@@ -38,6 +49,20 @@ public interface FeedService {
      */
     Paged<PostDTO> getProfilePosts(UUID profileId, Pageable page);
 
+    /**
+     * Exports every top-level (no parent) post authored by the given profile by
+     * {@code id}, newest first, as a stream rather than a page.
+     *
+     * <p>
+     * The profile is validated immediately, the posts are only read once the
+     * returned source is consumed.
+     *
+     * @param profileId
+     * @return an {@link ItemSource} of {@link PostDTO}
+     * @throws ApplicationException if no profile with the given id exists
+     */
+    ItemSource<PostDTO> exportProfilePosts(UUID profileId);
+
     /**
      * Fetches a page of reply posts (posts with a parent) authored by the given
      * profile by {@code id}.
@@ -69,4 +94,14 @@ public interface FeedService {
      */
     Paged<PostDTO> getProfileMentions(UUID profileId, Pageable page);
 
+    /**
+     * Fetches a page of posts tagged with the given hashtag, matched
+     * case-insensitively, sorted by newest first.
+     *
+     * @param tag  the hashtag, with or without its leading {@code #}
+     * @param page pagination parameters
+     * @return a {@link Paged} of {@link PostDTO}; empty if no matches
+     */
+    Paged<PostDTO> getHashtagPosts(String tag, Pageable page);
+
 }
@@ -1,7 +1,10 @@
 package app.echo_social.modules.feed.service;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,12 +13,17 @@ import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.modules.post.entity.Post;
 import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
 import app.echo_social.modules.profile.entity.Profile;
 import app.echo_social.modules.profile.exception.ProfileErrorCode;
 import app.echo_social.modules.profile.repository.ProfileRepository;
+import app.echo_social.shared.conditional.ConditionalRequests;
+import app.echo_social.shared.conditional.NotModifiedException;
 import app.echo_social.shared.pagination.Paged;
 import app.echo_social.shared.pagination.PageMapper;
 import app.echo_social.shared.service.SessionService;
+import app.echo_social.shared.streaming.ItemSource;
+import app.echo_social.util.PostEntityExtractor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -33,13 +41,15 @@ class FeedServiceImpl implements FeedService {
     private final ProfileRepository profileRepository;
     private final PostRepository postRepository;
     private final HttpServletRequest httpServletRequest;
+    private final HybridFeedAssembler hybridFeedAssembler;
+    private final DiscoverRanking discoverRanking;
 
     @Override
     @Transactional(readOnly = true)
     public Paged<PostDTO> getHomeFeed(Pageable page) {
         UUID authUserId = sessionService.getAuthenticatedUserId();
 
-        var query = postRepository.findHomepagePosts(authUserId, page);
+        var query = hydrate(hybridFeedAssembler.assemble(authUserId, page));
         String uri = getCurrentRequestUri();
 
         return PageMapper.toDTO(query, uri);
@@ -50,7 +60,25 @@ class FeedServiceImpl implements FeedService {
     public Paged<PostDTO> getDiscoverFeed(Pageable page) {
         UUID authUserId = sessionService.getAuthenticatedUserId();
 
-        var query = postRepository.findDiscoverPosts(authUserId, page);
+        var query = hydrate(postRepository.findDiscoverPosts(authUserId, page));
+        String uri = getCurrentRequestUri();
+        return PageMapper.toDTO(query, uri);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Paged<PostDTO> getRankedDiscoverFeed(Pageable page) {
+        UUID authUserId = sessionService.getAuthenticatedUserId();
+
+        Page<UUID> ranked = discoverRanking.page(page);
+        ConditionalRequests.checkNotModified(() -> ConditionalRequests.eTag(
+            authUserId,
+            ranked.getTotalElements(),
+            postRepository.findPostVersions(ranked.getContent())));
+
+        List<PostDTO> posts = postRepository.findPostDtosByIds(ranked.getContent(), authUserId);
+
+        var query = new PageImpl<>(posts, page, ranked.getTotalElements());
         String uri = getCurrentRequestUri();
         return PageMapper.toDTO(query, uri);
     }
@@ -61,18 +89,26 @@ class FeedServiceImpl implements FeedService {
         validateProfileExists(profileId);
         UUID authUserId = sessionService.getAuthenticatedUserId();
 
-        var query = postRepository.findPostsByProfileId(profileId, authUserId, page);
+        var query = hydrate(postRepository.findPostsByProfileId(profileId, authUserId, page));
         String uri = getCurrentRequestUri();
         return PageMapper.toDTO(query, uri);
     }
 
+    @Override
+    public ItemSource<PostDTO> exportProfilePosts(UUID profileId) {
+        validateProfileExists(profileId);
+        UUID authUserId = sessionService.getAuthenticatedUserId(); // resolved now, the source is consumed off the request thread
+
+        return sink -> postRepository.streamPostsByProfileId(profileId, authUserId, sink);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Paged<PostDTO> getProfileReplies(UUID profileId, Pageable page) {
         validateProfileExists(profileId);
         UUID authUserId = sessionService.getAuthenticatedUserId();
 
-        var query = postRepository.findRepliesByProfileId(profileId, authUserId, page);
+        var query = hydrate(postRepository.findRepliesByProfileId(profileId, authUserId, page));
         String uri = getCurrentRequestUri();
         return PageMapper.toDTO(query, uri);
     }
@@ -83,7 +119,7 @@ class FeedServiceImpl implements FeedService {
         validateProfileExists(profileId);
         UUID authUserId = sessionService.getAuthenticatedUserId();
 
-        var query = postRepository.findPostsLikedByProfileId(profileId, authUserId, page);
+        var query = hydrate(postRepository.findPostsLikedByProfileId(profileId, authUserId, page));
         String uri = getCurrentRequestUri();
         return PageMapper.toDTO(query, uri);
     }
@@ -94,10 +130,33 @@ class FeedServiceImpl implements FeedService {
         validateProfileExists(profileId);
         UUID authUserId = sessionService.getAuthenticatedUserId();
 
-        var query = postRepository.findPostsMentioningProfileId(profileId, authUserId, page);
+        var query = hydrate(postRepository.findPostsMentioningProfileId(profileId, authUserId, page));
+        String uri = getCurrentRequestUri();
+        return PageMapper.toDTO(query, uri);
+
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Paged<PostDTO> getHashtagPosts(String tag, Pageable page) {
+        UUID authUserId = sessionService.getAuthenticatedUserId();
+
+        var query = hydrate(postRepository.findPostsByHashtag(PostEntityExtractor.normalizeHashtag(tag), authUserId, page));
         String uri = getCurrentRequestUri();
         return PageMapper.toDTO(query, uri);
+    }
 
+    /**
+     * Answers a conditional request from the version of the selected page, and
+     * only hydrates the page if it has changed.
+     * 
+     * @param selection the selected page
+     * @return the hydrated page
+     * @throws NotModifiedException if the request matches the current version
+     */
+    private static Page<PostDTO> hydrate(PostSelection selection) {
+        ConditionalRequests.checkNotModified(() -> ConditionalRequests.eTag(selection.version()));
+        return selection.hydrate();
     }
 
     /**
@@ -114,12 +173,16 @@ class FeedServiceImpl implements FeedService {
     }
 
     /**
-     * Fetch the current HTTP request URI.
+     * Fetch the current HTTP request URI, including its encoded query string so
+     * the page links carry the request parameters.
      * 
-     * @return the current request URI as a string
+     * @return the current request URI and query string as a string
      */
     private String getCurrentRequestUri() {
-        return httpServletRequest.getRequestURI();
+        String queryString = httpServletRequest.getQueryString();
+        return queryString == null
+            ? httpServletRequest.getRequestURI()
+            : httpServletRequest.getRequestURI() + "?" + queryString;
     }
 
 }
@@ -0,0 +1,48 @@
+package app.echo_social.modules.feed.service;
+
+import java.util.UUID;
+
+public interface HomeTimelineService {
+
+    /**
+     * Pushes a newly created post onto the home timeline of its author and each of
+     * their followers. Replies are ignored.
+     *
+     * @param postId the id of the created post
+     */
+    void fanOut(UUID postId);
+
+    /**
+     * Backfills the home timeline of {@code followerId} with the recent posts of a
+     * newly followed profile.
+     *
+     * @param followerId the id of the following profile
+     * @param followedId the id of the followed profile
+     */
+    void backfill(UUID followerId, UUID followedId);
+
+    /**
+     * Backfills the home timeline of each follower of {@code authorId} with its
+     * recent posts, if its posts were pulled and it has since fallen below the
+     * follower threshold.
+     *
+     * @param authorId the id of the author
+     */
+    void backfillFollowers(UUID authorId);
+
+    /**
+     * Removes the posts of an unfollowed profile from the home timeline of
+     * {@code followerId}.
+     *
+     * @param followerId the id of the unfollowing profile
+     * @param followedId the id of the unfollowed profile
+     */
+    void prune(UUID followerId, UUID followedId);
+
+    /**
+     * Trims the home timelines that pushes have grown past their capacity, a
+     * batch at a time, until none remain queued.
+     */
+    void trim();
+
+}
@@ -0,0 +1,76 @@
+package app.echo_social.modules.feed.service;
+
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.echo_social.config.properties.FeedProperties;
+import app.echo_social.modules.feed.repository.HomeTimelineRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service implementation for maintaining the materialised home timelines read
+ * by the homepage feed.
+ *
+ * <p>
+ * Each operation runs in its own transaction, as it is invoked once the
+ * transaction that created the post or follow has committed. Pushes only queue
+ * the timelines they overfill, which {@link #trim()} trims on a schedule, each
+ * batch committed on its own.
+ */
+@Service
+@RequiredArgsConstructor
+class HomeTimelineServiceImpl implements HomeTimelineService {
+
+    private final HomeTimelineRepository homeTimelineRepository;
+    private final FeedProperties feedProperties;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fanOut(UUID postId) {
+        homeTimelineRepository.fanOut(
+            postId,
+            feedProperties.getHomeTimelineCapacity(),
+            feedProperties.getCelebrityFollowerThreshold());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void backfill(UUID followerId, UUID followedId) {
+        homeTimelineRepository.backfill(
+            followerId,
+            followedId,
+            feedProperties.getHomeTimelineCapacity(),
+            feedProperties.getCelebrityFollowerThreshold());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void backfillFollowers(UUID authorId) {
+        homeTimelineRepository.backfillFollowers(
+            authorId,
+            feedProperties.getHomeTimelineCapacity(),
+            feedProperties.getCelebrityFollowerThreshold());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void prune(UUID followerId, UUID followedId) {
+        homeTimelineRepository.prune(followerId, followedId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${feed.home-timeline-trim-interval:10s}")
+    public void trim() {
+        int capacity = feedProperties.getHomeTimelineCapacity();
+        int batchSize = feedProperties.getHomeTimelineTrimBatchSize();
+        while (homeTimelineRepository.trimQueued(capacity, batchSize) == batchSize) {
+            // a full batch may have left more queued
+        }
+    }
+
+}
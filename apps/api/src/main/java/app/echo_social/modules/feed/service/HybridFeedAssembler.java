@@ -0,0 +1,227 @@
+package app.echo_social.modules.feed.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import app.echo_social.config.properties.FeedProperties;
+import app.echo_social.modules.feed.repository.HomeTimelineRepository;
+import app.echo_social.modules.feed.repository.TimelineEntry;
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
+import app.echo_social.shared.pagination.CursorPage;
+import app.echo_social.shared.pagination.CursorRequest;
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Assembles the homepage feed from a push stream and a set of pull streams.
+ *
+ * <p>
+ * Posts by ordinary authors are pushed onto each follower's materialised home
+ * timeline on write. Posts by authors with at least
+ * {@code feed.celebrity-follower-threshold} followers are not, as fanning them
+ * out would write to every follower's timeline, and are instead pulled per
+ * author at read time. The streams are k-way merged by
+ * {@code (created_at, id)}, de-duplicated, and only the posts on the requested
+ * page are hydrated, once the caller has checked the version of the page.
+ *
+ * <p>
+ * Each stream is read {@code offset + limit + 1} entries deep from the cursor,
+ * so the merge is exact for the requested page and the extra entry determines
+ * whether a further page exists. The depth is capped at
+ * {@code feed.home-timeline-capacity}, the depth of the push stream, so offset
+ * pages end where the materialised timeline does rather than reading ever
+ * deeper into each pulled author's posts. The total is capped at the same
+ * depth, is computed as requested by the {@link TotalMode} of the page, and is
+ * skipped entirely for {@link TotalMode#NONE}.
+ *
+ * <p>
+ * Posts written while their author was pulled are pushed onto the followers'
+ * timelines once the author falls below the threshold, see
+ * {@link HomeTimelineService#backfillFollowers(UUID)}, so they do not drop out
+ * of the feed.
+ */
+@Component
+@RequiredArgsConstructor
+class HybridFeedAssembler {
+
+    private final HomeTimelineRepository homeTimelineRepository;
+    private final PostRepository postRepository;
+    private final FeedProperties feedProperties;
+
+    /**
+     * Assembles a page of the homepage feed of {@code viewerId}.
+     *
+     * @param viewerId the id of the authenticated user
+     * @param page     the pagination configuration, either offset or cursor based
+     * @return a {@link PostSelection} of a {@link Page} of {@link PostDTO}, a
+     *         {@link CursorPage} if {@code page} is a {@link CursorRequest}
+     */
+    public PostSelection assemble(UUID viewerId, Pageable page) {
+        PageCursor cursor = page instanceof CursorRequest cursorRequest ? cursorRequest.getCursor() : null;
+        boolean backward = cursor != null && cursor.backward();
+        long followerThreshold = feedProperties.getCelebrityFollowerThreshold();
+        int capacity = feedProperties.getHomeTimelineCapacity();
+
+        int skip = (int) page.getOffset();
+        int window = (int) Math.min((long) skip + page.getPageSize() + 1, capacity);
+
+        List<List<TimelineEntry>> streams = new ArrayList<>();
+        streams.add(homeTimelineRepository.findEntries(viewerId, cursor, window));
+        streams.addAll(groupByAuthor(homeTimelineRepository.findPulledEntries(viewerId, followerThreshold, cursor, window)));
+
+        List<TimelineEntry> merged = merge(streams, window, backward);
+        boolean hasMore = merged.size() > skip + page.getPageSize();
+
+        List<TimelineEntry> slice = new ArrayList<>(merged.subList(
+            Math.min(skip, merged.size()),
+            Math.min(skip + page.getPageSize(), merged.size())));
+        List<TimelineEntry> entries = backward
+            ? slice.reversed() // merged closest to the cursor first
+            : slice;
+
+        List<UUID> postIds = entries.stream().map(TimelineEntry::postId).toList();
+        Long count = switch (TotalMode.of(page)) {
+            case EXACT -> homeTimelineRepository.count(viewerId, capacity, followerThreshold);
+            case ESTIMATED -> homeTimelineRepository.estimateCount(viewerId, capacity, followerThreshold);
+            case NONE -> null;
+        };
+
+        return new PostSelection(
+            () -> viewerId + ":" + count + ":" + hasMore + ":" + postRepository.findPostVersions(postIds),
+            () -> toPage(postRepository.findPostDtosByIds(postIds, viewerId), page, entries, count, hasMore));
+    }
+
+    /**
+     * Builds the page of hydrated posts, with the cursors to the adjacent pages
+     * if {@code page} is a {@link CursorRequest}.
+     *
+     * @param posts   the hydrated posts of the page
+     * @param page    the pagination configuration
+     * @param entries the merged entries of the page, in the order of the posts
+     * @param count   the total, or {@code null} if not counted
+     * @param hasMore whether a further page exists in the direction of travel
+     * @return a {@link Page} of {@link PostDTO}
+     */
+    private static Page<PostDTO> toPage(
+        List<PostDTO> posts,
+        Pageable page,
+        List<TimelineEntry> entries,
+        Long count,
+        boolean hasMore) {
+        long total = count == null ? posts.size() : count;
+
+        if (!(page instanceof CursorRequest cursorRequest)) {
+            return TotalMode.of(page) == TotalMode.NONE
+                ? new UncountedPage<>(posts, page, hasMore)
+                : new PageImpl<>(posts, page, total);
+        }
+
+        PageCursor cursor = cursorRequest.getCursor();
+        boolean backward = cursor != null && cursor.backward();
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+        boolean hasNext = backward || hasMore;
+
+        PageCursor previousCursor = hasPrevious && !entries.isEmpty()
+            ? PageCursor.previous(entries.getFirst().createdAt(), entries.getFirst().postId())
+            : null;
+        PageCursor nextCursor = hasNext && !entries.isEmpty()
+            ? PageCursor.next(entries.getLast().createdAt(), entries.getLast().postId())
+            : null;
+
+        return new CursorPage<>(posts, cursorRequest, total, previousCursor, nextCursor);
+    }
+
+    /**
+     * K-way merge of streams of {@link TimelineEntry}, each ordered newest first,
+     * into a single de-duplicated stream.
+     *
+     * @param streams  the streams to merge
+     * @param limit    the maximum number of entries to return
+     * @param backward whether to merge oldest first, i.e. from the end of each
+     *                 stream, as when reading backward from a cursor
+     * @return up to {@code limit} distinct entries, newest first, or oldest first
+     *         if {@code backward}
+     */
+    static List<TimelineEntry> merge(List<List<TimelineEntry>> streams, int limit, boolean backward) {
+        Comparator<TimelineEntry> order = backward ? TimelineEntry.NEWEST_FIRST.reversed() : TimelineEntry.NEWEST_FIRST;
+
+        PriorityQueue<StreamHead> heads = new PriorityQueue<>(streams.size() + 1, Comparator.comparing(StreamHead::current, order));
+        for (List<TimelineEntry> stream : streams) {
+            if (!stream.isEmpty()) {
+                heads.add(new StreamHead(backward ? stream.reversed() : stream));
+            }
+        }
+
+        List<TimelineEntry> merged = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+
+        while (merged.size() < limit && !heads.isEmpty()) {
+            StreamHead head = heads.poll();
+            TimelineEntry entry = head.current();
+
+            if (seen.add(entry.postId())) {
+                merged.add(entry); // a post may be both pushed and pulled
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * Split pulled entries into one stream per author, preserving their order.
+     *
+     * @param entries the pulled entries, grouped by author
+     * @return the per-author streams
+     */
+    private static Collection<List<TimelineEntry>> groupByAuthor(List<TimelineEntry> entries) {
+        Map<UUID, List<TimelineEntry>> streams = new LinkedHashMap<>();
+        for (TimelineEntry entry : entries) {
+            streams.computeIfAbsent(entry.authorId(), id -> new ArrayList<>()).add(entry);
+        }
+        return streams.values();
+    }
+
+    /**
+     * The position of the merge within a single stream.
+     */
+    private static final class StreamHead {
+
+        private final List<TimelineEntry> stream;
+        private int index;
+
+        StreamHead(List<TimelineEntry> stream) {
+            this.stream = stream;
+        }
+
+        TimelineEntry current() {
+            return stream.get(index);
+        }
+
+        boolean advance() {
+            return ++index < stream.size();
+        }
+
+    }
+
+}
@@ -9,7 +9,6 @@ import org.springframework.web.bind.annotation.RestController;
 import app.echo_social.modules.post.api.PostViewAPI;
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.modules.post.service.PostViewService;
-import app.echo_social.shared.pagination.OffsetLimitRequest;
 import app.echo_social.shared.pagination.PageParameters;
 import app.echo_social.shared.pagination.Paged;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +26,7 @@ class PostViewController implements PostViewAPI {
 
     @Override
     public ResponseEntity<Paged<PostDTO>> getRepliesByPostId(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(postViewService.getRepliesByPostId(id, page));
     }
 
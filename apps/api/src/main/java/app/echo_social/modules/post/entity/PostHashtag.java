@@ -0,0 +1,37 @@
+package app.echo_social.modules.post.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a {@link Post} tagged with a normalised hashtag, as
+ * indexed from the post's HASHTAG entities at write time.
+ */
+@Entity
+@Table(name = "post_hashtags")
+@Getter
+@NoArgsConstructor
+@IdClass(PostHashtagPK.class)
+public class PostHashtag {
+
+    @Id
+    @Column(nullable = false)
+    private String tag;
+
+    @Id
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private UUID postId;
+
+}
@@ -0,0 +1,42 @@
+package app.echo_social.modules.post.entity;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID class representing a composite primary key for {@link PostHashtag} entity.
+ */
+@Getter
+@NoArgsConstructor
+public class PostHashtagPK {
+
+    private String tag;
+
+    private Instant createdAt;
+
+    private UUID postId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof PostHashtagPK))
+            return false;
+
+        PostHashtagPK that = (PostHashtagPK) o;
+
+        return this.tag.equals(that.tag) &&
+            this.createdAt.equals(that.createdAt) &&
+            this.postId.equals(that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tag, createdAt, postId);
+    }
+
+}
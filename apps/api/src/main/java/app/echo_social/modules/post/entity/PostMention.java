@@ -0,0 +1,39 @@
+package app.echo_social.modules.post.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import app.echo_social.modules.profile.entity.Profile;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a {@link Post} mentioning a {@link Profile}, as
+ * resolved from the post's MENTION entities at write time.
+ */
+@Entity
+@Table(name = "post_mentions")
+@Getter
+@NoArgsConstructor
+@IdClass(PostMentionPK.class)
+public class PostMention {
+
+    @Id
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Id
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private UUID postId;
+
+}
@@ -0,0 +1,42 @@
+package app.echo_social.modules.post.entity;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID class representing a composite primary key for {@link PostMention} entity.
+ */
+@Getter
+@NoArgsConstructor
+public class PostMentionPK {
+
+    private UUID profileId;
+
+    private Instant createdAt;
+
+    private UUID postId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof PostMentionPK))
+            return false;
+
+        PostMentionPK that = (PostMentionPK) o;
+
+        return this.profileId.equals(that.profileId) &&
+            this.createdAt.equals(that.createdAt) &&
+            this.postId.equals(that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(profileId, createdAt, postId);
+    }
+
+}
@@ -0,0 +1,23 @@
+package app.echo_social.modules.post.event;
+
+import java.util.UUID;
+
+import app.echo_social.modules.post.entity.Post;
+
+/**
+ * Published when a {@link Post} is created.
+ *
+ * @param postId   the id of the created post
+ * @param parentId the id of the parent post, or {@code null} if not a reply
+ * @param authorId the id of the post author
+ */
+public record PostCreatedEvent(UUID postId, UUID parentId, UUID authorId) {
+
+    /**
+     * @return whether the created post is a root-level post, i.e. not a reply
+     */
+    public boolean isRoot() {
+        return parentId == null;
+    }
+
+}
@@ -0,0 +1,14 @@
+package app.echo_social.modules.post.event;
+
+import java.util.UUID;
+
+import app.echo_social.modules.post.entity.Post;
+
+/**
+ * Published when a {@link Post} is deleted.
+ *
+ * @param postId   the id of the deleted post
+ * @param parentId the id of the parent post, or {@code null} if not a reply
+ * @param authorId the id of the post author
+ */
+public record PostDeletedEvent(UUID postId, UUID parentId, UUID authorId) {}
@@ -0,0 +1,13 @@
+package app.echo_social.modules.post.event;
+
+import java.util.UUID;
+
+import app.echo_social.modules.post.entity.PostLike;
+
+/**
+ * Published when a {@link PostLike} is created.
+ *
+ * @param postId   the id of the liked post
+ * @param authorId the id of the profile that liked the post
+ */
+public record PostLikedEvent(UUID postId, UUID authorId) {}
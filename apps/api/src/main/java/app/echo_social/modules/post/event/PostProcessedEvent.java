@@ -0,0 +1,13 @@
+package app.echo_social.modules.post.event;
+
+import java.util.UUID;
+
+import app.echo_social.modules.post.entity.Post;
+
+/**
+ * Published once the entities, mentions and hashtags of a created {@link Post}
+ * have been recorded.
+ *
+ * @param postId the id of the processed post
+ */
+public record PostProcessedEvent(UUID postId) {}
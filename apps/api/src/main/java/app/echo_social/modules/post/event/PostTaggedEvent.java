@@ -0,0 +1,15 @@
+package app.echo_social.modules.post.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+import app.echo_social.modules.post.entity.Post;
+
+/**
+ * Published when a {@link Post} is created with one or more hashtags.
+ *
+ * @param postId the id of the created post
+ * @param tags   the distinct hashtags recorded for the post, as lowercased by
+ *               the database
+ */
+public record PostTaggedEvent(UUID postId, Set<String> tags) {}
@@ -0,0 +1,13 @@
+package app.echo_social.modules.post.event;
+
+import java.util.UUID;
+
+import app.echo_social.modules.post.entity.PostLike;
+
+/**
+ * Published when a {@link PostLike} is removed.
+ *
+ * @param postId   the id of the unliked post
+ * @param authorId the id of the profile that unliked the post
+ */
+public record PostUnlikedEvent(UUID postId, UUID authorId) {}
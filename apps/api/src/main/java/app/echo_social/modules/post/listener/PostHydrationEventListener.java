@@ -0,0 +1,66 @@
+package app.echo_social.modules.post.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.echo_social.modules.post.event.PostCreatedEvent;
+import app.echo_social.modules.post.event.PostDeletedEvent;
+import app.echo_social.modules.post.event.PostLikedEvent;
+import app.echo_social.modules.post.event.PostProcessedEvent;
+import app.echo_social.modules.post.event.PostUnlikedEvent;
+import app.echo_social.modules.post.repository.PostHydrator;
+import app.echo_social.modules.profile.event.ProfileUpdatedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts cached post content from the {@link PostHydrator} once a write
+ * affecting it commits.
+ *
+ * <p>
+ * Listeners run after the originating transaction commits, so a concurrent
+ * read cannot re-cache the content as it was before the write. Writes made
+ * outside of a transaction are evicted immediately.
+ */
+@Component
+@RequiredArgsConstructor
+class PostHydrationEventListener {
+
+    private final PostHydrator postHydrator;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPostCreated(PostCreatedEvent event) {
+        if (!event.isRoot()) {
+            postHydrator.evict(event.parentId()); // reply count
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPostDeleted(PostDeletedEvent event) {
+        postHydrator.evict(event.postId());
+        if (event.parentId() != null) {
+            postHydrator.evict(event.parentId()); // reply count
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPostProcessed(PostProcessedEvent event) {
+        postHydrator.evict(event.postId()); // entities
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPostLiked(PostLikedEvent event) {
+        postHydrator.evict(event.postId()); // like count
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPostUnliked(PostUnlikedEvent event) {
+        postHydrator.evict(event.postId()); // like count
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onProfileUpdated(ProfileUpdatedEvent event) {
+        postHydrator.evictAuthor(event.profileId());
+    }
+
+}
@@ -0,0 +1,56 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.post.entity.PostLike;
+
+public interface CustomPostLikeRepository {
+
+    /**
+     * Inserts a like of a post by a profile in a single statement, unless it
+     * already exists.
+     * 
+     * @param postId   the id of the post to like
+     * @param authorId the id of the profile liking the post
+     * @return {@code true} if inserted, {@code false} if the like already existed
+     * @throws DataIntegrityViolationException if the post or the profile does not
+     *                                         exist
+     */
+    boolean insertIfAbsent(@NonNull UUID postId, @NonNull UUID authorId);
+
+    /**
+     * Deletes a like of a post by a profile in a single statement, if it exists.
+     * 
+     * @param postId   the id of the post to unlike
+     * @param authorId the id of the profile unliking the post
+     * @return {@code true} if deleted, {@code false} if no like existed
+     */
+    boolean deleteIfPresent(@NonNull UUID postId, @NonNull UUID authorId);
+
+    /**
+     * Inserts the specified likes in a single statement, skipping those that
+     * already exist and those whose post or author no longer exists. Likes are
+     * written in {@code (post_id, author_id)} order, whatever the order given, so
+     * that concurrent batches take their locks in the same order.
+     * 
+     * @param likes the likes to insert
+     * @return the likes actually inserted
+     */
+    List<PostLike> insertAllIgnoringExisting(@NonNull Collection<PostLike> likes);
+
+    /**
+     * Deletes the specified likes in a single statement. Likes that do not exist
+     * are ignored. Likes are locked in {@code (post_id, author_id)} order before
+     * they are deleted, as for {@link #insertAllIgnoringExisting}.
+     * 
+     * @param likes the likes to delete
+     * @return the likes actually deleted
+     */
+    List<PostLike> deleteAllExisting(@NonNull Collection<PostLike> likes);
+
+}
@@ -0,0 +1,114 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import app.echo_social.modules.post.entity.PostLike;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CustomPostLikeRepositoryImpl implements CustomPostLikeRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_POST_ID = "post_id";
+    private static final String ARG_AUTHOR_ID = "author_id";
+    private static final String ARG_POST_IDS = "post_ids";
+    private static final String ARG_AUTHOR_IDS = "author_ids";
+
+    private static final RowMapper<PostLike> POST_LIKE_ROW_MAPPER = (rs, rowNum) -> new PostLike(
+        rs.getObject("post_id", UUID.class),
+        rs.getObject("author_id", UUID.class));
+
+    @Override
+    public boolean insertIfAbsent(UUID postId, UUID authorId) {
+        String sql = """
+            INSERT INTO post_likes (post_id, author_id)
+            VALUES (:post_id, :author_id)
+            ON CONFLICT DO NOTHING
+            RETURNING post_id
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_POST_ID, postId)
+            .addValue(ARG_AUTHOR_ID, authorId);
+
+        return !template.queryForList(sql, params, UUID.class).isEmpty();
+    }
+
+    @Override
+    public boolean deleteIfPresent(UUID postId, UUID authorId) {
+        String sql = """
+            DELETE FROM post_likes
+            WHERE post_id = :post_id
+                AND author_id = :author_id
+            RETURNING post_id
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_POST_ID, postId)
+            .addValue(ARG_AUTHOR_ID, authorId);
+
+        return !template.queryForList(sql, params, UUID.class).isEmpty();
+    }
+
+    @Override
+    public List<PostLike> insertAllIgnoringExisting(Collection<PostLike> likes) {
+        if (likes.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = """
+            INSERT INTO post_likes (post_id, author_id)
+            SELECT l.post_id, l.author_id
+            FROM unnest(CAST(ARRAY[:post_ids] AS UUID[]), CAST(ARRAY[:author_ids] AS UUID[])) AS l (post_id, author_id)
+            WHERE EXISTS (SELECT 1 FROM posts p WHERE p.id = l.post_id)
+                AND EXISTS (SELECT 1 FROM profiles a WHERE a.id = l.author_id)
+            ORDER BY l.post_id, l.author_id
+            ON CONFLICT DO NOTHING
+            RETURNING post_id, author_id
+            """;
+
+        return template.query(sql, params(likes), POST_LIKE_ROW_MAPPER);
+    }
+
+    @Override
+    public List<PostLike> deleteAllExisting(Collection<PostLike> likes) {
+        if (likes.isEmpty()) {
+            return List.of();
+        }
+
+        // DELETE cannot be ordered, so the likes are locked in order beforehand
+        String sql = """
+            WITH locked AS (
+                SELECT pl.post_id, pl.author_id
+                FROM post_likes pl
+                JOIN unnest(CAST(ARRAY[:post_ids] AS UUID[]), CAST(ARRAY[:author_ids] AS UUID[])) AS l (post_id, author_id)
+                    ON pl.post_id = l.post_id
+                    AND pl.author_id = l.author_id
+                ORDER BY pl.post_id, pl.author_id
+                FOR UPDATE OF pl
+            )
+            DELETE FROM post_likes pl
+            USING locked l
+            WHERE pl.post_id = l.post_id
+                AND pl.author_id = l.author_id
+            RETURNING pl.post_id, pl.author_id
+            """;
+
+        return template.query(sql, params(likes), POST_LIKE_ROW_MAPPER);
+    }
+
+    private static MapSqlParameterSource params(Collection<PostLike> likes) {
+        return new MapSqlParameterSource()
+            .addValue(ARG_POST_IDS, likes.stream().map(PostLike::getPostId).toList())
+            .addValue(ARG_AUTHOR_IDS, likes.stream().map(PostLike::getAuthorId).toList());
+    }
+
+}
@@ -1,118 +1,172 @@
-package app.echo_social.modules.post.repository;
-
-import java.util.Optional;
-import java.util.UUID;
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.lang.NonNull;
-
-import app.echo_social.modules.post.dto.response.PostDTO;
-
-public interface CustomPostRepository {
-
-    /**
-     * Retrieves a {@link PostDTO} for the post with the specified ID.
-     * 
-     * @param postId     the id of the post to query
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @return an {@link Optional} containing the {@link PostDTO} if found, else
-     *         empty
-     */
-    Optional<PostDTO> findPostDtoById(@NonNull UUID postId, @NonNull UUID authUserId);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for posts that are in reply to
-     * the post with the specified ID.
-     * 
-     * <p>
-     * The replies are sorted in the following order of precedence before pagination
-     * is applied:
-     * <ul>
-     * <li>Has a response from the original post's author
-     * <li>Engagement metrics (sum of likes, replies and shares)
-     * <li>Creation date (newest first)
-     * </ul>
-     * 
-     * @param postId     the id of the post to query
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findRepliesById(@NonNull UUID postId, @NonNull UUID authUserId, @NonNull Pageable p);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for root-level posts from the
-     * authenticated user and profiles that the authenticated user follows, sorted
-     * by newest first.
-     * 
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findHomepagePosts(@NonNull UUID authUserId, @NonNull Pageable p);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for root-level posts from all
-     * profiles.
-     * 
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findDiscoverPosts(@NonNull UUID authUserId, @NonNull Pageable p);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for root-level posts from the
-     * profile with the specified ID, sorted by newest first.
-     * 
-     * @param profileId  the id of the profile to query
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findPostsByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for posts from the profile with
-     * the specified ID, that are in reply to another post, sorted by newest first.
-     * 
-     * @param profileId  the id of the profile to query
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findRepliesByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for posts liked by the profile
-     * with the specified ID, sorted by newest first.
-     * 
-     * @param profileId  the id of the profile to query
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findPostsLikedByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
-
-    /**
-     * Retrieves a paginated list of {@link PostDTO} for posts that include a
-     * mention, e.g. {@code @elonmusk}, of the profile with the specified ID, sorted
-     * by newest first.
-     * 
-     * @param profileId  the id of the profile to query
-     * @param authUserId the id of the authenticated user, required for building
-     *                   user and post relationships
-     * @param p          the pagination and sorting configuration
-     * @return a {@link Page} of {@link PostDTO}
-     */
-    Page<PostDTO> findPostsMentioningProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
-
-}
+package app.echo_social.modules.post.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+
+public interface CustomPostRepository {
+
+    /**
+     * Retrieves a {@link PostDTO} for the post with the specified ID.
+     * 
+     * @param postId     the id of the post to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @return an {@link Optional} containing the {@link PostDTO} if found, else
+     *         empty
+     */
+    Optional<PostDTO> findPostDtoById(@NonNull UUID postId, @NonNull UUID authUserId);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for posts that are in reply to
+     * the post with the specified ID.
+     * 
+     * <p>
+     * The replies are sorted in the following order of precedence before pagination
+     * is applied:
+     * <ul>
+     * <li>Has a response from the original post's author
+     * <li>Engagement metrics (sum of likes, replies and shares)
+     * <li>Creation date (newest first)
+     * </ul>
+     * 
+     * @param postId     the id of the post to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findRepliesById(@NonNull UUID postId, @NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a list of {@link PostDTO} for the posts with the specified IDs,
+     * in the order of the given IDs. Posts that no longer exist are omitted.
+     * 
+     * @param postIds    the ids of the posts to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @return a {@link List} of {@link PostDTO}
+     */
+    List<PostDTO> findPostDtosByIds(@NonNull List<UUID> postIds, @NonNull UUID authUserId);
+
+    /**
+     * Retrieves the current version of the posts with the specified IDs, without
+     * hydrating them. The version changes whenever the {@link PostDTO} of any of
+     * the posts may change, for any viewer.
+     * 
+     * @param postIds the ids of the posts to query
+     * @return a {@link Map} of the version of each post by id, in the order of
+     *         the given IDs. Posts that no longer exist are omitted.
+     */
+    Map<UUID, String> findPostVersions(@NonNull List<UUID> postIds);
+
+    /**
+     * Streams every root post authored by the profile with the specified ID,
+     * newest first, without loading them at once.
+     * 
+     * @param profileId  the id of the profile to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param sink       the consumer of the posts, called as they are hydrated
+     */
+    void streamPostsByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Consumer<? super PostDTO> sink);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for root-level posts from all
+     * profiles.
+     * 
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findDiscoverPosts(@NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for root-level posts from the
+     * profile with the specified ID, sorted by newest first.
+     * 
+     * @param profileId  the id of the profile to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findPostsByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for posts from the profile with
+     * the specified ID, that are in reply to another post, sorted by newest first.
+     * 
+     * @param profileId  the id of the profile to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findRepliesByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for posts liked by the profile
+     * with the specified ID, sorted by newest first.
+     * 
+     * @param profileId  the id of the profile to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findPostsLikedByProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for posts that include a
+     * mention, e.g. {@code @elonmusk}, of the profile with the specified ID, sorted
+     * by newest first.
+     * 
+     * @param profileId  the id of the profile to query
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findPostsMentioningProfileId(@NonNull UUID profileId, @NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for posts tagged with the
+     * specified hashtag, e.g. {@code #springboot}, sorted by newest first.
+     * 
+     * @param tag        the normalised hashtag to query, lowercased and without
+     *                   its leading {@code #}
+     * @param authUserId the id of the authenticated user, required for building
+     *                   user and post relationships
+     * @param p          the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findPostsByHashtag(@NonNull String tag, @NonNull UUID authUserId, @NonNull Pageable p);
+
+    /**
+     * Retrieves a paginated list of {@link PostDTO} for posts matching the
+     * specified full-text search query, ranked by relevance plus recency.
+     * 
+     * <p>
+     * Only the {@code candidateLimit} newest matching posts are ranked, so the
+     * cost of a page is bounded however common the searched terms are.
+     * 
+     * @param query          the web search query, e.g.
+     *                       {@code spring "boot" -legacy}
+     * @param candidateLimit the maximum number of matching posts to rank
+     * @param authUserId     the id of the authenticated user, required for
+     *                       building user and post relationships
+     * @param p              the pagination and sorting configuration
+     * @return a {@link PostSelection} of the page, hydrated on demand
+     */
+    PostSelection findPostsBySearchQuery(@NonNull String query, int candidateLimit, @NonNull UUID authUserId, @NonNull Pageable p);
+
+}
@@ -2,24 +2,33 @@ package app.echo_social.modules.post.repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import app.echo_social.modules.post.dto.response.PostDTO;
-import app.echo_social.modules.post.dto.response.PostEntitiesDTO;
-import app.echo_social.modules.post.dto.response.PostMetricsDTO;
-import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
-import app.echo_social.modules.profile.dto.response.ProfileRelationshipDTO;
-import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import app.echo_social.shared.pagination.CursorPage;
+import app.echo_social.shared.pagination.CursorRequest;
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.pagination.PageQueryExecutor;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,207 +36,398 @@ import lombok.RequiredArgsConstructor;
 public class CustomPostRepositoryImpl implements CustomPostRepository {
 
     private final NamedParameterJdbcTemplate template;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final PostHydrator postHydrator;
+    private final PostStreamer postStreamer;
 
     private static final String ARG_POST_ID = "post_id";
     private static final String ARG_PROFILE_ID = "profile_id";
-    private static final String ARG_VIEWER_ID = "viewer_id";
+    private static final String ARG_TAG = "tag";
+    private static final String ARG_QUERY = "query";
+    private static final String ARG_CANDIDATES = "candidates";
     private static final String ARG_OFFSET = "offset";
     private static final String ARG_LIMIT = "limit";
+    private static final String ARG_CURSOR_CREATED_AT = "cursor_created_at";
+    private static final String ARG_CURSOR_ID = "cursor_id";
+    private static final String ARG_BACKWARD = "backward";
 
     @Override
     public Optional<PostDTO> findPostDtoById(UUID id, UUID authUserId) {
-        String sql = "SELECT * FROM fetch_post_by_id(:post_id, :viewer_id)";
-
-        MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_POST_ID, id)
-            .addValue(ARG_VIEWER_ID, authUserId);
-
-        return template.query(
-            sql,
-            params,
-            new PostDtoRowMapper()).stream().findFirst();
+        return postHydrator.hydrate(List.of(id), authUserId).stream().findFirst();
     }
 
     @Override
-    public Page<PostDTO> findRepliesById(UUID id, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_post_replies_by_id(:post_id, :viewer_id, :offset, :limit)";
+    public PostSelection findRepliesById(UUID id, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_post_replies_by_id(:post_id, :offset, :limit)";
         String countSql = "SELECT * FROM fetch_post_replies_by_id_count(:post_id)";
+        String estimateSql = "SELECT * FROM fetch_post_replies_by_id_count_estimate(:post_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
             .addValue(ARG_POST_ID, id)
-            .addValue(ARG_VIEWER_ID, authUserId)
             .addValue(ARG_OFFSET, (int) p.getOffset())
             .addValue(ARG_LIMIT, p.getPageSize());
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
+        return fetchPaginatedPosts(sql, countSql, estimateSql, params, authUserId, p);
     }
 
     @Override
-    public Page<PostDTO> findHomepagePosts(UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_feed_homepage(:viewer_id, :offset, :limit)";
-        String countSql = "SELECT * FROM fetch_feed_homepage_count(:viewer_id)";
+    public List<PostDTO> findPostDtosByIds(List<UUID> ids, UUID authUserId) {
+        return postHydrator.hydrate(ids, authUserId);
+    }
+
+    @Override
+    public Map<UUID, String> findPostVersions(List<UUID> ids) {
+        return postHydrator.versions(ids);
+    }
+
+    @Override
+    public void streamPostsByProfileId(UUID profileId, UUID authUserId, Consumer<? super PostDTO> sink) {
+        String sql = "SELECT * FROM fetch_export_profile_posts(:profile_id, :cursor_created_at, :cursor_id, :limit)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_VIEWER_ID, authUserId)
-            .addValue(ARG_OFFSET, (int) p.getOffset())
-            .addValue(ARG_LIMIT, p.getPageSize());
+            .addValue(ARG_PROFILE_ID, profileId);
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
+        postStreamer.stream(sql, params, authUserId, sink);
     }
 
     @Override
-    public Page<PostDTO> findDiscoverPosts(UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_feed_discover(:viewer_id, :offset, :limit)";
+    public PostSelection findDiscoverPosts(UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_feed_discover(:offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_feed_discover_after(:cursor_created_at, :cursor_id, :backward, :limit)";
         String countSql = "SELECT * FROM fetch_feed_discover_count()";
+        String estimateSql = "SELECT * FROM fetch_feed_discover_count_estimate()";
 
-        MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_VIEWER_ID, authUserId)
-            .addValue(ARG_OFFSET, (int) p.getOffset())
-            .addValue(ARG_LIMIT, p.getPageSize());
+        MapSqlParameterSource params = new MapSqlParameterSource();
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
     }
 
     @Override
-    public Page<PostDTO> findPostsByProfileId(UUID profileId, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_feed_profile_posts(:profile_id, :viewer_id, :offset, :limit)";
+    public PostSelection findPostsByProfileId(UUID profileId, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_feed_profile_posts(:profile_id, :offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_feed_profile_posts_after(:profile_id, :cursor_created_at, :cursor_id, :backward, :limit)";
         String countSql = "SELECT * FROM fetch_feed_profile_posts_count(:profile_id)";
+        String estimateSql = "SELECT * FROM fetch_feed_profile_posts_count_estimate(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_PROFILE_ID, profileId)
-            .addValue(ARG_VIEWER_ID, authUserId)
-            .addValue(ARG_OFFSET, (int) p.getOffset())
-            .addValue(ARG_LIMIT, p.getPageSize());
+            .addValue(ARG_PROFILE_ID, profileId);
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
     }
 
     @Override
-    public Page<PostDTO> findRepliesByProfileId(UUID profileId, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_feed_profile_replies(:profile_id, :viewer_id, :offset, :limit)";
+    public PostSelection findRepliesByProfileId(UUID profileId, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_feed_profile_replies(:profile_id, :offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_feed_profile_replies_after(:profile_id, :cursor_created_at, :cursor_id, :backward, :limit)";
         String countSql = "SELECT * FROM fetch_feed_profile_replies_count(:profile_id)";
+        String estimateSql = "SELECT * FROM fetch_feed_profile_replies_count_estimate(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_PROFILE_ID, profileId)
-            .addValue(ARG_VIEWER_ID, authUserId)
-            .addValue(ARG_OFFSET, (int) p.getOffset())
-            .addValue(ARG_LIMIT, p.getPageSize());
+            .addValue(ARG_PROFILE_ID, profileId);
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
     }
 
     @Override
-    public Page<PostDTO> findPostsLikedByProfileId(UUID profileId, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_feed_profile_likes(:profile_id, :viewer_id, :offset, :limit)";
+    public PostSelection findPostsLikedByProfileId(UUID profileId, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_feed_profile_likes(:profile_id, :offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_feed_profile_likes_after(:profile_id, :cursor_created_at, :cursor_id, :backward, :limit)";
         String countSql = "SELECT * FROM fetch_feed_profile_likes_count(:profile_id)";
+        String estimateSql = "SELECT * FROM fetch_feed_profile_likes_count_estimate(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_PROFILE_ID, profileId)
-            .addValue(ARG_VIEWER_ID, authUserId)
-            .addValue(ARG_OFFSET, (int) p.getOffset())
-            .addValue(ARG_LIMIT, p.getPageSize());
+            .addValue(ARG_PROFILE_ID, profileId);
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
     }
 
     @Override
-    public Page<PostDTO> findPostsMentioningProfileId(UUID profileId, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_feed_profile_mentions(:profile_id, :viewer_id, :offset, :limit)";
+    public PostSelection findPostsMentioningProfileId(UUID profileId, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_feed_profile_mentions(:profile_id, :offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_feed_profile_mentions_after(:profile_id, :cursor_created_at, :cursor_id, :backward, :limit)";
         String countSql = "SELECT * FROM fetch_feed_profile_mentions_count(:profile_id)";
+        String estimateSql = "SELECT * FROM fetch_feed_profile_mentions_count_estimate(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_PROFILE_ID, profileId)
-            .addValue(ARG_VIEWER_ID, authUserId)
+            .addValue(ARG_PROFILE_ID, profileId);
+
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
+    }
+
+    @Override
+    public PostSelection findPostsByHashtag(String tag, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_feed_hashtag(:tag, :offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_feed_hashtag_after(:tag, :cursor_created_at, :cursor_id, :backward, :limit)";
+        String countSql = "SELECT * FROM fetch_feed_hashtag_count(:tag)";
+        String estimateSql = "SELECT * FROM fetch_feed_hashtag_count_estimate(:tag)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_TAG, tag);
+
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
+    }
+
+    @Override
+    public PostSelection findPostsBySearchQuery(String query, int candidateLimit, UUID authUserId, Pageable p) {
+        String sql = "SELECT * FROM fetch_search_posts(:query, :candidates, :offset, :limit)";
+        String cursorSql = "SELECT * FROM fetch_search_posts_after(:query, :candidates, :cursor_created_at, :cursor_id, :backward, :limit)";
+        String countSql = "SELECT * FROM fetch_search_posts_count(:query, :candidates)";
+        String estimateSql = "SELECT * FROM fetch_search_posts_count_estimate(:query, :candidates)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_QUERY, query)
+            .addValue(ARG_CANDIDATES, candidateLimit);
+
+        return fetchFeedPosts(sql, cursorSql, countSql, estimateSql, params, authUserId, p);
+    }
+
+    /**
+     * Private method that fetches a paginated feed of {@link PostDTO}, using
+     * keyset pagination if the provided {@link Pageable} is a
+     * {@link CursorRequest}, else offset pagination.
+     * 
+     * @param sql       The query related to fetching the posts by offset.
+     * @param cursorSql The query related to fetching the posts by cursor.
+     * @param countSql    The query related to obtaining a total count of
+     *                    available posts.
+     * @param estimateSql The query related to obtaining an estimated count of
+     *                    available posts.
+     * @param params      The query parameters, excluding pagination parameters.
+     * @param viewerId    The id of the authenticated user, to hydrate the posts
+     *                    for.
+     * @param p           The pagination and sorting configuration.
+     * @return A {@link PostSelection} of the page
+     */
+    // @formatter:off
+    private PostSelection fetchFeedPosts(
+        String sql,
+        String cursorSql,
+        String countSql,
+        String estimateSql,
+        MapSqlParameterSource params,
+        UUID viewerId,
+        Pageable p
+    ) {
+        if (p instanceof CursorRequest cursorRequest) {
+            return fetchCursorPosts(cursorSql, countSql, estimateSql, params, viewerId, cursorRequest);
+        }
+
+        params
             .addValue(ARG_OFFSET, (int) p.getOffset())
             .addValue(ARG_LIMIT, p.getPageSize());
 
-        return fetchPaginatedPosts(sql, countSql, params, p);
-    }
+        return fetchPaginatedPosts(sql, countSql, estimateSql, params, viewerId, p);
+    } // @formatter:on
+
+    /**
+     * Private method that fetches a page of {@link PostDTO} by keyset, positioned
+     * on the cursor of the provided {@link CursorRequest}.
+     * 
+     * One row beyond the limit is fetched to determine whether a further page
+     * exists in the direction of travel, without an additional query. The cursors
+     * to the adjacent pages are taken from the first and last keys of the page,
+     * and the remaining keys are hydrated via the {@link PostHydrator}.
+     * 
+     * @param sql         The query related to fetching the posts by cursor.
+     * @param countSql    The query related to obtaining a total count of
+     *                    available posts.
+     * @param estimateSql The query related to obtaining an estimated count of
+     *                    available posts.
+     * @param params      The query parameters, excluding pagination parameters.
+     * @param viewerId    The id of the authenticated user, to hydrate the posts
+     *                    for.
+     * @param p           The cursor pagination configuration.
+     * @return A {@link PostSelection} of a {@link CursorPage} containing the list
+     *         of {@link PostDTO} objects, the cursors to the adjacent pages, and
+     *         the total number of available posts.
+     */
+    // @formatter:off
+    private PostSelection fetchCursorPosts(
+        String sql,
+        String countSql,
+        String estimateSql,
+        MapSqlParameterSource params,
+        UUID viewerId,
+        CursorRequest p
+    ) {
+        PageCursor cursor = p.getCursor();
+        boolean backward = p.isBackward();
+
+        params
+            .addValue(ARG_CURSOR_CREATED_AT, cursor == null ? null : OffsetDateTime.ofInstant(cursor.createdAt(), ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue(ARG_CURSOR_ID, cursor == null ? null : cursor.id(), Types.OTHER)
+            .addValue(ARG_BACKWARD, backward)
+            .addValue(ARG_LIMIT, p.getPageSize() + 1);
+
+        PageQueryExecutor.Result<PostKey> result = pageQueryExecutor.execute(
+            () -> template.query(sql, params, PostKey::mapRow),
+            totalQuery(countSql, estimateSql, params, p.getTotalMode()),
+            totalQuery(countSql, estimateSql, params, TotalMode.ESTIMATED));
+
+        List<PostKey> keys = new ArrayList<>(result.content());
+        Long count = result.total();
+
+        boolean hasMore = keys.size() > p.getPageSize();
+        if (hasMore) {
+            // the extra row is the one furthest from the cursor
+            keys.remove(backward ? 0 : keys.size() - 1);
+        }
+
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+        boolean hasNext = backward || hasMore;
+
+        PageCursor previousCursor = hasPrevious && !keys.isEmpty()
+            ? PageCursor.previous(keys.getFirst().createdAt(), keys.getFirst().id())
+            : null;
+        PageCursor nextCursor = hasNext && !keys.isEmpty()
+            ? PageCursor.next(keys.getLast().createdAt(), keys.getLast().id())
+            : null;
+
+        return select(
+            keys,
+            viewerId,
+            posts -> new CursorPage<>(posts, p, count == null ? posts.size() : count, previousCursor, nextCursor),
+            count, hasPrevious, hasNext);
+    } // @formatter:on
 
     /**
      * Private method that fetches a paginated list of {@link PostDTO} based on the
      * provided SQL query and parameters.
      * 
-     * This method executes the main query to retrieve the posts and a separate
-     * count query to determine the total number of available posts, returning a
-     * constructed {@link PageImpl}.
+     * This method executes the main query to retrieve the posts and, depending on
+     * the {@link TotalMode} requested, a separate count query to determine the
+     * total number of available posts, returning a constructed {@link PageImpl}.
      * 
-     * @param sql      The query related to fetching the paginated posts.
-     * @param countSql The query related to obtaining a total count of available
-     *                 posts.
-     * @param params
-     * @param p        The pagination and sorting configuration.
-     * @return A {@link PageImpl} containing the list of {@link PostDTO} objects,
-     *         the current page details, and the total number of available posts.
+     * When no total is requested, one row beyond the limit is fetched instead to
+     * determine whether a further page exists, returning an
+     * {@link UncountedPage}.
+     * 
+     * @param sql         The query related to fetching the paginated posts.
+     * @param countSql    The query related to obtaining a total count of
+     *                    available posts.
+     * @param estimateSql The query related to obtaining an estimated count of
+     *                    available posts.
+     * @param params      The query parameters, including pagination parameters.
+     * @param viewerId    The id of the authenticated user, to hydrate the posts
+     *                    for.
+     * @param p           The pagination and sorting configuration.
+     * @return A {@link PostSelection} of a {@link PageImpl} containing the list
+     *         of {@link PostDTO} objects, the current page details, and the total
+     *         number of available posts.
      */
     // @formatter:off
-    private Page<PostDTO> fetchPaginatedPosts(
+    private PostSelection fetchPaginatedPosts(
         String sql,
         String countSql,
+        String estimateSql,
         MapSqlParameterSource params,
+        UUID viewerId,
         Pageable p
     ) {
-        List<PostDTO> posts = template.query(
-            sql,
-            params,
-            new PostDtoRowMapper());
+        TotalMode mode = TotalMode.of(p);
+        if (mode == TotalMode.NONE) {
+            params.addValue(ARG_LIMIT, p.getPageSize() + 1);
+
+            List<PostKey> keys = new ArrayList<>(template.query(
+                sql,
+                params,
+                PostKey::mapRow));
+
+            boolean hasMore = keys.size() > p.getPageSize();
+            if (hasMore) {
+                keys.removeLast();
+            }
 
-        Long count = template.queryForObject(
-            countSql,
-            params,
-            Long.class);
+            return select(keys, viewerId, posts -> new UncountedPage<>(posts, p, hasMore), hasMore);
+        }
+
+        PageQueryExecutor.Result<PostKey> result = pageQueryExecutor.execute(
+            () -> template.query(sql, params, PostKey::mapRow),
+            totalQuery(countSql, estimateSql, params, mode),
+            totalQuery(countSql, estimateSql, params, TotalMode.ESTIMATED));
 
-        return new PageImpl<>(posts, p, count == null ? 0L : count);
+        Long total = result.total();
+        return select(result.content(), viewerId, posts -> new PageImpl<>(posts, p, total), total);
     } // @formatter:on
 
     /**
-     * Maps {@link ResultSet} rows to full {@link PostDTO} objects, including
-     * metrics, relationship and entity data where applicable.
+     * Private method that builds the query fetching the total number of available
+     * posts, as requested by the given {@link TotalMode}. The query is run by the
+     * {@link PageQueryExecutor}, possibly concurrently with the page query.
+     * 
+     * @param countSql    The query related to obtaining a total count of
+     *                    available posts.
+     * @param estimateSql The query related to obtaining an estimated count of
+     *                    available posts.
+     * @param params      The query parameters.
+     * @param mode        The requested total mode.
+     * @return The query fetching the total number of available posts, or
+     *         {@literal null} if no total was requested.
      */
-    private static class PostDtoRowMapper implements RowMapper<PostDTO> {
+    // @formatter:off
+    private Supplier<Long> totalQuery(
+        String countSql,
+        String estimateSql,
+        MapSqlParameterSource params,
+        TotalMode mode
+    ) {
+        String sql = switch (mode) {
+            case EXACT -> countSql;
+            case ESTIMATED -> estimateSql;
+            case NONE -> null;
+        };
+        if (sql == null) {
+            return null;
+        }
 
-        private final ObjectMapper objectMapper;
+        return () -> {
+            Long count = template.queryForObject(
+                sql,
+                params,
+                Long.class);
 
-        public PostDtoRowMapper() {
-            this.objectMapper = new ObjectMapper();
-        }
+            return count == null ? 0L : count;
+        };
+    } // @formatter:on
 
-        @Override
-        public PostDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
-            boolean isSelf = rs.getBoolean("author_rel_is_self");
-
-            SimplifiedProfileDTO author = new SimplifiedProfileDTO(
-                rs.getString("author_id"),
-                rs.getString("author_username"),
-                rs.getString("author_name"),
-                rs.getString("author_bio"),
-                rs.getString("author_image_url"),
-                isSelf
-                    ? null
-                    : new ProfileRelationshipDTO(
-                        rs.getBoolean("author_rel_following"),
-                        rs.getBoolean("author_rel_followed_by")));
-
-            PostEntitiesDTO entities = null;
-            try {
-                entities = objectMapper.readValue(rs.getString("post_entities"), PostEntitiesDTO.class);
-            } catch (Exception e) {
-                throw new SQLException("Failed to parse post_entities JSON", e);
-            }
+    /**
+     * Private method that defers the hydration of a page of selected post keys,
+     * so that the caller may answer a conditional request first. The version
+     * covers the viewer, the versions of the selected posts and the given page
+     * state (totals, adjacent pages), so that nothing shown by the page can
+     * change without changing it.
+     * 
+     * @param keys      The keys of the selected posts.
+     * @param viewerId  The id of the authenticated user, the posts are hydrated
+     *                  for.
+     * @param toPage    Builds the page from the hydrated posts, in the order in
+     *                  which they were selected.
+     * @param pageState The state of the page besides its posts.
+     * @return A {@link PostSelection} of the page
+     */
+    // @formatter:off
+    private PostSelection select(
+        List<PostKey> keys,
+        UUID viewerId,
+        Function<List<PostDTO>, Page<PostDTO>> toPage,
+        Object... pageState
+    ) {
+        List<UUID> ids = keys.stream().map(PostKey::id).toList();
+
+        return new PostSelection(
+            () -> viewerId + ":" + Arrays.toString(pageState) + ":" + postHydrator.versions(ids),
+            () -> toPage.apply(postHydrator.hydrate(ids, viewerId)));
+    } // @formatter:on
+
+    /**
+     * The keyset position of a post selected by a feed query, prior to hydration.
+     */
+    private record PostKey(UUID id, Instant createdAt) {
 
-            return new PostDTO(
-                rs.getString("id"),
-                rs.getString("parent_id"),
-                rs.getString("conversation_id"),
-                author,
-                rs.getString("text"),
-                rs.getTimestamp("created_at").toInstant().toString(), // correctly reformats timestamp to ISO-8601
-                new PostMetricsDTO(
-                    rs.getInt("post_like_count"),
-                    rs.getInt("post_reply_count")),
-                new PostRelationshipDTO(
-                    rs.getBoolean("post_rel_liked")),
-                entities);
+        static PostKey mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new PostKey(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("created_at").toInstant());
         }
 
     }
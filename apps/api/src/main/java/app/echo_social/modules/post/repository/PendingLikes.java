@@ -0,0 +1,51 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Likes and unlikes accepted but not yet written to the database, overlaid by
+ * the {@link PostHydrator} so that a viewer reads their own writes.
+ */
+public interface PendingLikes {
+
+    /**
+     * No pending likes, as when likes are written directly.
+     */
+    PendingLikes NONE = new PendingLikes() {
+
+        @Override
+        public Boolean pending(UUID postId, UUID authorId) {
+            return null;
+        }
+
+        @Override
+        public long version(UUID postId) {
+            return 0;
+        }
+
+    };
+
+    /**
+     * Looks up the pending like or unlike of a post by a profile.
+     * 
+     * @param postId   the id of the post
+     * @param authorId the id of the profile
+     * @return {@code true} if a like is pending, {@code false} if an unlike is
+     *         pending, {@code null} if neither is
+     */
+    @Nullable
+    Boolean pending(@NonNull UUID postId, @NonNull UUID authorId);
+
+    /**
+     * Looks up a counter changing whenever a like or unlike of the post is
+     * accepted, to be combined with the stored version of the post.
+     * 
+     * @param postId the id of the post
+     * @return the counter
+     */
+    long version(@NonNull UUID postId);
+
+}
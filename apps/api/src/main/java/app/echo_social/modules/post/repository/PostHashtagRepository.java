@@ -0,0 +1,49 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.echo_social.modules.post.entity.PostHashtag;
+import app.echo_social.modules.post.entity.PostHashtagPK;
+
+/**
+ * Repository for maintaining the posts of each hashtag, read by the hashtag feed
+ * in place of scanning post entities.
+ *
+ * <p>
+ * Each statement flushes the persistence context first, so that the pending
+ * post is visible to it.
+ */
+@Repository
+public interface PostHashtagRepository extends ListCrudRepository<PostHashtag, PostHashtagPK> {
+
+    /**
+     * Records the post with the specified ID as tagged with each of the specified
+     * hashtags, at the creation time of the post.
+     *
+     * <p>
+     * This operation is idempotent.
+     *
+     * @param postId the id of the tagged post
+     * @param tags   the hashtags of the post, as written, lowercased with
+     *               {@code lower()} as by every other writer
+     * @return the number of hashtags recorded
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO post_hashtags (tag, created_at, post_id)
+        SELECT DISTINCT lower(t.tag), p.created_at, p.id
+        FROM posts p
+        CROSS JOIN unnest(ARRAY[:tags]) AS t(tag)
+        WHERE p.id = :postId
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int saveAllForPost(@Param("postId") UUID postId, @Param("tags") Collection<String> tags);
+
+}
@@ -0,0 +1,315 @@
+package app.echo_social.modules.post.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.dto.response.PostEntitiesDTO;
+import app.echo_social.modules.post.dto.response.PostMetricsDTO;
+import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
+import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
+import app.echo_social.shared.relationship.ViewerOverlay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Hydrates post IDs, selected by any source, into {@link PostDTO} for a given
+ * viewer.
+ *
+ * <p>
+ * The viewer-independent content of a post (text, author, counters and
+ * entities) is served from a bounded in-process cache, evicted by size and by
+ * age. Only cache misses are loaded, in a single batch. The viewer overlay
+ * (liked, following, followed by) is not cached, and is loaded as a single
+ * {@link ViewerOverlay} per call.
+ *
+ * <p>
+ * Entries are evicted once a write affecting them commits, see
+ * {@link #evict(UUID)} and {@link #evictAuthor(UUID)}. As a load may race with
+ * an eviction, and other instances do not observe it, the age limit bounds how
+ * long a cached entry may be stale.
+ *
+ * <p>
+ * Likes accepted but not yet written, see {@link PendingLikes}, are overlaid
+ * on the liked flag and like count of the viewer's posts.
+ */
+public class PostHydrator {
+
+    private static final String ARG_POST_IDS = "post_ids";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final NamedParameterJdbcTemplate template;
+    private final Cache<UUID, PostContent> cache;
+    private final PendingLikes pendingLikes;
+
+    /**
+     * Creates a new {@link PostHydrator}.
+     *
+     * @param template  the template to load posts with
+     * @param cacheSize the maximum number of posts to cache, 0 to disable caching
+     * @param cacheTtl  the maximum time a post is cached for
+     */
+    public PostHydrator(NamedParameterJdbcTemplate template, long cacheSize, Duration cacheTtl) {
+        this(template, cacheSize, cacheTtl, PendingLikes.NONE);
+    }
+
+    /**
+     * Creates a new {@link PostHydrator} overlaying pending likes.
+     *
+     * @param template     the template to load posts with
+     * @param cacheSize    the maximum number of posts to cache, 0 to disable
+     *                     caching
+     * @param cacheTtl     the maximum time a post is cached for
+     * @param pendingLikes the likes accepted but not yet written
+     */
+    public PostHydrator(
+        NamedParameterJdbcTemplate template,
+        long cacheSize,
+        Duration cacheTtl,
+        PendingLikes pendingLikes) {
+        this.template = template;
+        this.pendingLikes = pendingLikes;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(cacheTtl)
+            .executor(Runnable::run) // evict on the writing thread, so a size of 0 caches nothing
+            .build();
+    }
+
+    /**
+     * Hydrates the posts with the specified IDs for {@code viewerId}. Posts that
+     * no longer exist are omitted.
+     *
+     * @param postIds  the ids of the posts to hydrate
+     * @param viewerId the id of the authenticated user, required for building
+     *                 user and post relationships
+     * @return a {@link List} of {@link PostDTO}, in the order of {@code postIds}
+     */
+    public List<PostDTO> hydrate(@NonNull List<UUID> postIds, @NonNull UUID viewerId) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, PostContent> contents = new HashMap<>(cache.getAllPresent(postIds));
+
+        List<UUID> misses = postIds.stream()
+            .filter(id -> !contents.containsKey(id))
+            .distinct()
+            .toList();
+        if (!misses.isEmpty()) {
+            for (PostContent content : loadContents(misses)) {
+                contents.put(content.id(), content);
+                cache.put(content.id(), content);
+            }
+        }
+
+        Set<UUID> authorIds = contents.values().stream()
+            .map(PostContent::authorId)
+            .collect(Collectors.toSet());
+        ViewerOverlay overlay = ViewerOverlay.fetch(template, viewerId, contents.keySet(), authorIds);
+
+        List<PostDTO> posts = new ArrayList<>(postIds.size());
+        for (UUID id : postIds) {
+            PostContent content = contents.get(id);
+            if (content != null) {
+                posts.add(content.toDto(overlay, pendingLikes.pending(id, viewerId)));
+            }
+        }
+        return posts;
+    }
+
+    /**
+     * Looks up the current version of the posts with the specified IDs, without
+     * hydrating them, e.g. to answer a conditional GET.
+     *
+     * <p>
+     * The version of a post combines the version of its stats and that of its
+     * author, so it changes with its counters, the author's details and any like
+     * or follow altering the viewer overlay, including pending likes. It also
+     * changes once the post is processed, as its entities are only recorded then.
+     *
+     * @param postIds the ids of the posts
+     * @return the version of each post by id, in the order of {@code postIds}.
+     *         Posts that no longer exist are omitted.
+     */
+    public Map<UUID, String> versions(@NonNull List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = """
+            SELECT
+                p.id,
+                COALESCE(ps.version, 0) AS post_version,
+                COALESCE(aps.version, 0) AS author_version,
+                a.updated_at AS author_updated_at,
+                p.processed_at
+            FROM posts p
+            INNER JOIN profiles a ON a.id = p.author_id
+            LEFT JOIN post_stats ps ON ps.post_id = p.id
+            LEFT JOIN profile_stats aps ON aps.profile_id = p.author_id
+            WHERE p.id = ANY(CAST(ARRAY[:post_ids] AS UUID[]))
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_POST_IDS, postIds);
+
+        Map<UUID, String> versions = new HashMap<>();
+        template.query(sql, params, rs -> {
+            Timestamp processedAt = rs.getTimestamp("processed_at");
+            versions.put(
+                rs.getObject("id", UUID.class),
+                rs.getLong("post_version") + "." + rs.getLong("author_version") + "."
+                    + rs.getTimestamp("author_updated_at").toInstant().toEpochMilli() + "."
+                    + (processedAt != null ? processedAt.toInstant().toEpochMilli() : 0));
+        });
+
+        Map<UUID, String> ordered = new LinkedHashMap<>();
+        for (UUID id : postIds) {
+            String version = versions.get(id);
+            if (version != null) {
+                ordered.put(id, version + "." + pendingLikes.version(id));
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Evicts the cached content of the post with the specified ID, e.g. once its
+     * counters have changed.
+     *
+     * @param postId the id of the post
+     */
+    public void evict(@NonNull UUID postId) {
+        cache.invalidate(postId);
+    }
+
+    /**
+     * Evicts the cached content of every post authored by the profile with the
+     * specified ID, e.g. once its name or image has changed.
+     *
+     * @param authorId the id of the author
+     */
+    public void evictAuthor(@NonNull UUID authorId) {
+        cache.asMap().values().removeIf(content -> content.authorId().equals(authorId));
+    }
+
+    // ---- loading ----
+
+    private List<PostContent> loadContents(List<UUID> postIds) {
+        String sql = "SELECT * FROM posts_with_context_v1 pwc WHERE pwc.id = ANY(CAST(ARRAY[:post_ids] AS UUID[]))";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_POST_IDS, postIds);
+
+        return template.query(
+            sql,
+            params,
+            new PostContentRowMapper());
+    }
+
+    /**
+     * The viewer-independent content of a post, as cached. Package-private for
+     * the row mapper benchmark.
+     */
+    // @formatter:off
+    record PostContent(
+        UUID id,
+        UUID authorId,
+        String parentId,
+        String conversationId,
+        SimplifiedProfileDTO author,
+        String text,
+        String createdAt,
+        PostMetricsDTO metrics,
+        PostEntitiesDTO entities
+    ) {
+
+        PostDTO toDto(ViewerOverlay overlay, Boolean pendingLike) {
+            SimplifiedProfileDTO viewedAuthor = new SimplifiedProfileDTO(
+                author.id(),
+                author.username(),
+                author.name(),
+                author.bio(),
+                author.imageUrl(),
+                overlay.relationshipTo(authorId));
+
+            boolean liked = overlay.liked(id);
+            PostMetricsDTO viewedMetrics = metrics;
+            if (pendingLike != null && pendingLike != liked) {
+                liked = pendingLike;
+                viewedMetrics = new PostMetricsDTO(metrics.likes() + (liked ? 1 : -1), metrics.replies());
+            }
+
+            return new PostDTO(
+                id.toString(),
+                parentId,
+                conversationId,
+                viewedAuthor,
+                text,
+                createdAt,
+                viewedMetrics,
+                new PostRelationshipDTO(liked),
+                entities);
+        }
+
+    } // @formatter:on
+
+    /**
+     * Maps {@link ResultSet} rows of {@code posts_with_context_v1} to
+     * {@link PostContent} objects, without relationship data. Package-private for
+     * its benchmark.
+     */
+    static class PostContentRowMapper implements RowMapper<PostContent> {
+
+        @Override
+        public PostContent mapRow(ResultSet rs, int rowNum) throws SQLException {
+            SimplifiedProfileDTO author = new SimplifiedProfileDTO(
+                rs.getString("author_id"),
+                rs.getString("author_username"),
+                rs.getString("author_name"),
+                rs.getString("author_bio"),
+                rs.getString("author_image_url"),
+                null);
+
+            PostEntitiesDTO entities = null;
+            try {
+                entities = OBJECT_MAPPER.readValue(rs.getString("post_entities"), PostEntitiesDTO.class);
+            } catch (Exception e) {
+                throw new SQLException("Failed to parse post_entities JSON", e);
+            }
+
+            return new PostContent(
+                rs.getObject("id", UUID.class),
+                rs.getObject("author_id", UUID.class),
+                rs.getString("parent_id"),
+                rs.getString("conversation_id"),
+                author,
+                rs.getString("text"),
+                rs.getTimestamp("created_at").toInstant().toString(), // correctly reformats timestamp to ISO-8601
+                new PostMetricsDTO(
+                    rs.getInt("post_like_count"),
+                    rs.getInt("post_reply_count")),
+                entities);
+        }
+
+    }
+
+}
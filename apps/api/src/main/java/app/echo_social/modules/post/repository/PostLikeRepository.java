@@ -9,7 +9,7 @@ import app.echo_social.modules.post.entity.PostLike;
 import app.echo_social.modules.post.entity.PostLikePK;
 
 @Repository
-public interface PostLikeRepository extends ListCrudRepository<PostLike, PostLikePK> {
+public interface PostLikeRepository extends ListCrudRepository<PostLike, PostLikePK>, CustomPostLikeRepository {
 
     /**
      * Check if a post like exists between a post id and a profile id.
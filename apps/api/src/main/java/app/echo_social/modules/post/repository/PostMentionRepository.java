@@ -0,0 +1,83 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.echo_social.modules.post.entity.PostMention;
+import app.echo_social.modules.post.entity.PostMentionPK;
+
+/**
+ * Repository for maintaining the mentions of each profile, read by the profile
+ * mentions feed in place of matching post entities to usernames per request.
+ *
+ * <p>
+ * Each statement flushes the persistence context first, so that pending posts,
+ * post entities and profiles are visible to it.
+ */
+@Repository
+public interface PostMentionRepository extends ListCrudRepository<PostMention, PostMentionPK> {
+
+    /**
+     * Resolves the specified usernames to profiles, case-insensitively, and
+     * records the post with the specified ID as mentioning each of them.
+     * Usernames without a profile are ignored.
+     *
+     * <p>
+     * This operation is idempotent.
+     *
+     * @param postId    the id of the mentioning post
+     * @param usernames the lowercased usernames mentioned by the post
+     * @return the number of mentions recorded
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO post_mentions (profile_id, created_at, post_id)
+        SELECT pr.id, p.created_at, p.id
+        FROM posts p
+        JOIN profiles pr ON lower(pr.username) IN (:usernames)
+        WHERE p.id = :postId
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int saveAllResolved(@Param("postId") UUID postId, @Param("usernames") Collection<String> usernames);
+
+    /**
+     * Records every post mentioning {@code username}, case-insensitively, as
+     * mentioning the profile with the specified ID.
+     *
+     * <p>
+     * This operation is idempotent.
+     *
+     * @param profileId the id of the mentioned profile
+     * @param username  the current username of the profile
+     * @return the number of mentions recorded
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO post_mentions (profile_id, created_at, post_id)
+        SELECT :profileId, p.created_at, p.id
+        FROM post_entities pe
+        JOIN posts p ON p.id = pe.post_id
+        WHERE pe.entity_type = 'MENTION'
+        AND lower(pe.text) = lower(:username)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int saveAllForProfile(@Param("profileId") UUID profileId, @Param("username") String username);
+
+    /**
+     * Deletes every mention of the profile with the specified ID, e.g. once its
+     * username has changed.
+     *
+     * @param profileId the id of the mentioned profile
+     * @return the number of mentions deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM post_mentions WHERE profile_id = :profileId", nativeQuery = true)
+    int deleteAllForProfile(@Param("profileId") UUID profileId);
+
+}
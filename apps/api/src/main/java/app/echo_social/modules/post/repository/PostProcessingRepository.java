@@ -0,0 +1,75 @@
+package app.echo_social.modules.post.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.post.entity.PostEntity;
+
+/**
+ * Repository for recording what is extracted from the text of created posts,
+ * many posts at a time, written by the post processing stage.
+ *
+ * <p>
+ * Every statement is idempotent, so a batch may be processed again after a
+ * failure or alongside another instance.
+ */
+public interface PostProcessingRepository {
+
+    /**
+     * Marks the posts with the specified IDs as processed, locking them until the
+     * transaction ends so they cannot be deleted while their entities are being
+     * recorded.
+     *
+     * @param postIds the ids of the posts to mark
+     * @return the ids of the posts marked, omitting those already processed or
+     *         no longer existing
+     */
+    List<UUID> markAllProcessed(@NonNull Collection<UUID> postIds);
+
+    /**
+     * Inserts the specified post entities in JDBC batches. Entities that already
+     * exist are skipped.
+     *
+     * @param entities the entities to insert, of any number of posts
+     */
+    void saveAllEntities(@NonNull List<PostEntity> entities);
+
+    /**
+     * Resolves the usernames mentioned by each post to profiles,
+     * case-insensitively, and records each post as mentioning them. Usernames
+     * without a profile are ignored.
+     *
+     * @param usernamesByPostId the lowercased usernames mentioned by each post
+     * @return the number of mentions recorded
+     */
+    int saveAllMentions(@NonNull Map<UUID, Set<String>> usernamesByPostId);
+
+    /**
+     * Records each post as tagged with its hashtags, at the creation time of the
+     * post. The hashtags are lowercased with {@code lower()}, as by
+     * {@code index_post_hashtags}, so that posts are tagged alike whichever way
+     * they were written.
+     *
+     * @param tagsByPostId the hashtags of each post, as written
+     * @return the lowercased hashtags recorded for each post, omitting posts
+     *         none were recorded for
+     */
+    Map<UUID, Set<String>> saveAllHashtags(@NonNull Map<UUID, Set<String>> tagsByPostId);
+
+    /**
+     * Retrieves the posts still unprocessed that were created before the
+     * specified instant.
+     *
+     * @param createdBefore the instant the posts were created before
+     * @param limit         the maximum number of posts to return
+     * @return the posts, oldest first
+     */
+    List<UnprocessedPost> findUnprocessed(@NonNull Instant createdBefore, int limit);
+
+}
@@ -0,0 +1,158 @@
+package app.echo_social.modules.post.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import app.echo_social.modules.post.entity.PostEntity;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class PostProcessingRepositoryImpl implements PostProcessingRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final int ENTITY_BATCH_SIZE = 500;
+
+    private static final String ARG_POST_IDS = "post_ids";
+    private static final String ARG_VALUES = "values";
+    private static final String ARG_CREATED_BEFORE = "created_before";
+    private static final String ARG_LIMIT = "limit";
+
+    @Override
+    public List<UUID> markAllProcessed(Collection<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = """
+            UPDATE posts
+            SET processed_at = CURRENT_TIMESTAMP
+            WHERE id = ANY(CAST(ARRAY[:post_ids] AS UUID[]))
+                AND processed_at IS NULL
+            RETURNING id
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_POST_IDS, List.copyOf(postIds));
+
+        return template.queryForList(sql, params, UUID.class);
+    }
+
+    @Override
+    public void saveAllEntities(List<PostEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+            INSERT INTO post_entities (post_id, entity_type, start_index, end_index, text)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+        template.getJdbcOperations().batchUpdate(sql, entities, ENTITY_BATCH_SIZE, (ps, entity) -> {
+            ps.setObject(1, entity.getPostId());
+            ps.setString(2, entity.getType().name());
+            ps.setInt(3, entity.getStart());
+            ps.setInt(4, entity.getEnd());
+            ps.setString(5, entity.getText());
+        });
+    }
+
+    @Override
+    public int saveAllMentions(Map<UUID, Set<String>> usernamesByPostId) {
+        if (usernamesByPostId.isEmpty()) {
+            return 0;
+        }
+
+        String sql = """
+            INSERT INTO post_mentions (profile_id, created_at, post_id)
+            SELECT pr.id, p.created_at, p.id
+            FROM unnest(CAST(ARRAY[:post_ids] AS UUID[]), CAST(ARRAY[:values] AS TEXT[])) AS m(post_id, username),
+                posts p,
+                profiles pr
+            WHERE p.id = m.post_id
+                AND lower(pr.username) = m.username
+            ON CONFLICT DO NOTHING
+            """;
+
+        return template.update(sql, pairs(usernamesByPostId));
+    }
+
+    @Override
+    public Map<UUID, Set<String>> saveAllHashtags(Map<UUID, Set<String>> tagsByPostId) {
+        if (tagsByPostId.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = """
+            INSERT INTO post_hashtags (tag, created_at, post_id)
+            SELECT DISTINCT lower(t.tag), p.created_at, p.id
+            FROM unnest(CAST(ARRAY[:post_ids] AS UUID[]), CAST(ARRAY[:values] AS TEXT[])) AS t(post_id, tag),
+                posts p
+            WHERE p.id = t.post_id
+            ON CONFLICT DO NOTHING
+            RETURNING post_id, tag
+            """;
+
+        Map<UUID, Set<String>> recorded = new LinkedHashMap<>();
+        template.query(sql, pairs(tagsByPostId), rs -> recorded
+            .computeIfAbsent(rs.getObject("post_id", UUID.class), id -> new HashSet<>())
+            .add(rs.getString("tag")));
+        return recorded;
+    }
+
+    @Override
+    public List<UnprocessedPost> findUnprocessed(Instant createdBefore, int limit) {
+        String sql = """
+            SELECT p.id, p.text
+            FROM posts p
+            WHERE p.processed_at IS NULL
+                AND p.created_at < :created_before
+            ORDER BY p.created_at
+            LIMIT :limit
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_CREATED_BEFORE, Timestamp.from(createdBefore))
+            .addValue(ARG_LIMIT, limit);
+
+        return template.query(sql, params, (rs, rowNum) -> new UnprocessedPost(
+            rs.getObject("id", UUID.class),
+            rs.getString("text")));
+    }
+
+    /**
+     * Flattens values by post id into the parallel arrays unnested by a
+     * statement, one element per value.
+     */
+    private static MapSqlParameterSource pairs(Map<UUID, Set<String>> valuesByPostId) {
+        List<UUID> postIds = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        valuesByPostId.forEach((postId, postValues) -> {
+            for (String value : postValues) {
+                postIds.add(postId);
+                values.add(value);
+            }
+        });
+
+        return new MapSqlParameterSource()
+            .addValue(ARG_POST_IDS, postIds)
+            .addValue(ARG_VALUES, values);
+    }
+
+}
@@ -0,0 +1,53 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+
+/**
+ * A page of posts selected by a query, but not yet hydrated.
+ *
+ * <p>
+ * Its version changes whenever anything shown by the page may change, so that a
+ * caller can answer a conditional request from it without hydrating the page.
+ * Both the version and the page are only computed when asked for.
+ */
+public final class PostSelection {
+
+    private final Supplier<String> version;
+    private final Supplier<Page<PostDTO>> page;
+
+    /**
+     * Creates a new {@link PostSelection}.
+     *
+     * @param version supplies the version of the page, covering the viewer, the
+     *                versions of the selected posts and any other state of the
+     *                page, e.g. its total
+     * @param page    supplies the hydrated page
+     */
+    public PostSelection(Supplier<String> version, Supplier<Page<PostDTO>> page) {
+        this.version = version;
+        this.page = page;
+    }
+
+    /**
+     * Computes the current version of the page, without hydrating it.
+     *
+     * @return the version of the page
+     */
+    public String version() {
+        return version.get();
+    }
+
+    /**
+     * Hydrates the selected posts.
+     *
+     * @return a {@link Page} of {@link PostDTO}, in the order selected
+     */
+    public Page<PostDTO> hydrate() {
+        return page.get();
+    }
+
+}
@@ -0,0 +1,102 @@
+package app.echo_social.modules.post.repository;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+
+/**
+ * Streams posts selected by a query of any length, hydrated for a given
+ * viewer, without holding more than a chunk of them in memory.
+ *
+ * <p>
+ * The selected IDs are read in keyset chunks, each by a single statement
+ * starting strictly after the last post of the previous chunk. Each chunk is
+ * hydrated via the {@link PostHydrator} and handed to the sink before the next
+ * is read, so a connection is only held while a chunk is read and hydrated,
+ * not while the sink consumes it, e.g. for a slow client to download an
+ * export.
+ *
+ * <p>
+ * As the chunks are read in separate statements, a stream does not observe a
+ * single snapshot: posts created while streaming, newer than the cursor, are
+ * omitted.
+ */
+public class PostStreamer {
+
+    private static final String ARG_CURSOR_CREATED_AT = "cursor_created_at";
+    private static final String ARG_CURSOR_ID = "cursor_id";
+    private static final String ARG_LIMIT = "limit";
+
+    private final NamedParameterJdbcTemplate template;
+    private final PostHydrator postHydrator;
+    private final int chunkSize;
+
+    /**
+     * Creates a new {@link PostStreamer}.
+     *
+     * @param template     the template to select posts with
+     * @param postHydrator the hydrator to hydrate each chunk with
+     * @param chunkSize    the number of posts read and hydrated at once
+     */
+    public PostStreamer(NamedParameterJdbcTemplate template, PostHydrator postHydrator, int chunkSize) {
+        this.template = template;
+        this.postHydrator = postHydrator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Streams the posts selected by {@code sql}, newest first, hydrated for
+     * {@code viewerId}. Posts deleted while streaming are omitted.
+     *
+     * @param sql      the query selecting a chunk of posts strictly older than
+     *                 the {@code :cursor_created_at} and {@code :cursor_id}
+     *                 cursor, from the newest when {@literal null}, ordered by
+     *                 {@code created_at DESC, id DESC} and limited to
+     *                 {@code :limit}, returning {@code id} and
+     *                 {@code created_at} columns
+     * @param params   the query parameters, other than the cursor and limit
+     * @param viewerId the id of the authenticated user, required for building
+     *                 user and post relationships
+     * @param sink     the consumer of the hydrated posts
+     */
+    public void stream(
+        @NonNull String sql,
+        @NonNull MapSqlParameterSource params,
+        @NonNull UUID viewerId,
+        @NonNull Consumer<? super PostDTO> sink) {
+        StreamKey cursor = null;
+        List<StreamKey> chunk;
+        do {
+            params
+                .addValue(ARG_CURSOR_CREATED_AT, cursor == null ? null : OffsetDateTime.ofInstant(cursor.createdAt(), ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE)
+                .addValue(ARG_CURSOR_ID, cursor == null ? null : cursor.id(), Types.OTHER)
+                .addValue(ARG_LIMIT, chunkSize);
+
+            chunk = template.query(sql, params, (rs, rowNum) -> new StreamKey(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("created_at").toInstant()));
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            postHydrator.hydrate(chunk.stream().map(StreamKey::id).toList(), viewerId).forEach(sink);
+            cursor = chunk.getLast();
+        } while (chunk.size() == chunkSize);
+    }
+
+    /**
+     * The keyset position of a streamed post, prior to hydration.
+     */
+    private record StreamKey(UUID id, Instant createdAt) {}
+
+}
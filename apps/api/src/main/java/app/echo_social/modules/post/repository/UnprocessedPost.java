@@ -0,0 +1,12 @@
+package app.echo_social.modules.post.repository;
+
+import java.util.UUID;
+
+/**
+ * A post accepted but not yet processed, as read by the sweep for posts left
+ * unprocessed.
+ *
+ * @param id   the id of the post
+ * @param text the text of the post
+ */
+public record UnprocessedPost(UUID id, String text) {}
@@ -0,0 +1,288 @@
+package app.echo_social.modules.post.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.modules.post.entity.PostLike;
+import app.echo_social.modules.post.event.PostLikedEvent;
+import app.echo_social.modules.post.event.PostUnlikedEvent;
+import app.echo_social.modules.post.repository.PendingLikes;
+import app.echo_social.modules.post.repository.PostLikeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory write-behind buffer of likes and unlikes, coalescing the writes to
+ * hot posts into batches.
+ *
+ * <p>
+ * A like or unlike is accepted into one of a fixed number of stripes, chosen by
+ * post, replacing any write of the same post by the same profile still
+ * buffered, so only the last one is written. A flush writes batches of at most
+ * {@code batchSize} writes, oldest first, until fewer than {@code batchSize}
+ * remain, each in a single transaction of one multi-row insert and one
+ * multi-row delete, each sorted by {@code (post_id, author_id)} so that
+ * concurrent flushes, e.g. of other instances, lock rows in the same order.
+ * Writes that do not change anything, e.g. liking an already
+ * liked post, are skipped by the database, and events are only published for
+ * those that did.
+ *
+ * <p>
+ * Each stripe holds at most its share of {@code capacity} writes. Once a stripe
+ * is full, a write of a post and profile it does not already buffer is
+ * rejected, and the caller writes it synchronously instead, so the buffer
+ * stays bounded when flushes fall behind or fail.
+ *
+ * <p>
+ * Drained writes remain visible through {@link #pending(UUID, UUID)} until
+ * their flush commits, and are buffered again if it fails, unless a newer write
+ * replaced them in the meantime. Every buffered write is flushed on
+ * {@link #drain()}, when the application stops.
+ *
+ * <p>
+ * The buffer is local to the instance: other instances only observe a write
+ * once it is flushed.
+ */
+@Slf4j
+public class LikeBuffer implements PendingLikes {
+
+    /**
+     * Orders likes as PostgreSQL orders {@code (post_id, author_id)}, comparing
+     * ids as unsigned bytes.
+     */
+    private static final Comparator<PostLike> LOCK_ORDER = Comparator
+        .comparing(PostLike::getPostId, LikeBuffer::compareUnsigned)
+        .thenComparing(PostLike::getAuthorId, LikeBuffer::compareUnsigned);
+
+    private final PostLikeRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Stripe[] stripes;
+
+    private final Object flushLock = new Object();
+    private int nextStripe;
+
+    /**
+     * Creates a new {@link LikeBuffer}.
+     *
+     * @param repository          the repository to write likes with
+     * @param transactionTemplate the template to write each batch within
+     * @param eventPublisher      the publisher of the events of written likes
+     * @param batchSize           the maximum number of writes per transaction
+     * @param capacity            the maximum number of buffered writes, shared
+     *                            evenly between stripes
+     * @param stripes             the number of independently locked stripes
+     */
+    public LikeBuffer(
+        PostLikeRepository repository,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        int batchSize,
+        int capacity,
+        int stripes) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.stripes = new Stripe[stripes];
+        int stripeCapacity = Math.max(1, capacity / stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    /**
+     * Buffers a like of a post by a profile, unless the buffer is full.
+     *
+     * @param postId   the id of the post
+     * @param authorId the id of the profile
+     * @return {@code true} if buffered, {@code false} if full, in which case the
+     *         caller must write the like itself
+     */
+    public boolean like(@NonNull UUID postId, @NonNull UUID authorId) {
+        return stripeOf(postId).put(new Key(postId, authorId), true);
+    }
+
+    /**
+     * Buffers an unlike of a post by a profile, unless the buffer is full.
+     *
+     * @param postId   the id of the post
+     * @param authorId the id of the profile
+     * @return {@code true} if buffered, {@code false} if full, in which case the
+     *         caller must write the unlike itself
+     */
+    public boolean unlike(@NonNull UUID postId, @NonNull UUID authorId) {
+        return stripeOf(postId).put(new Key(postId, authorId), false);
+    }
+
+    @Override
+    public Boolean pending(UUID postId, UUID authorId) {
+        return stripeOf(postId).get(new Key(postId, authorId));
+    }
+
+    @Override
+    public long version(UUID postId) {
+        return stripeOf(postId).version();
+    }
+
+    /**
+     * @return the number of writes buffered and not yet drained by a flush
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Writes buffered writes in batches of {@code batchSize}, until fewer than
+     * {@code batchSize} remain or a batch fails to write.
+     */
+    @Scheduled(fixedDelayString = "${post.like-buffer-flush-interval:200ms}")
+    public void flush() {
+        synchronized (flushLock) {
+            boolean written;
+            do {
+                written = flushBatch();
+            } while (written && size() >= batchSize);
+        }
+    }
+
+    /**
+     * Writes every buffered write, batch by batch, e.g. on shutdown. Stops at the
+     * first batch that fails to write, as the following would likely fail too.
+     */
+    public void drain() {
+        synchronized (flushLock) {
+            while (size() > 0) {
+                if (!flushBatch()) {
+                    log.error("Dropped {} buffered likes that could not be written", size());
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean flushBatch() {
+        Map<Key, Boolean> batch = new LinkedHashMap<>();
+        for (int i = 0; i < stripes.length && batch.size() < batchSize; i++) {
+            stripes[nextStripe].drainTo(batch, batchSize);
+            nextStripe = (nextStripe + 1) % stripes.length;
+        }
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        List<PostLike> likes = new ArrayList<>();
+        List<PostLike> unlikes = new ArrayList<>();
+        batch.forEach((key, liked) -> (liked ? likes : unlikes).add(new PostLike(key.postId(), key.authorId())));
+        likes.sort(LOCK_ORDER);
+        unlikes.sort(LOCK_ORDER);
+
+        boolean written = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.insertAllIgnoringExisting(likes)
+                    .forEach(like -> eventPublisher.publishEvent(new PostLikedEvent(like.getPostId(), like.getAuthorId())));
+                repository.deleteAllExisting(unlikes)
+                    .forEach(like -> eventPublisher.publishEvent(new PostUnlikedEvent(like.getPostId(), like.getAuthorId())));
+            });
+            written = true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} buffered likes, retrying on the next flush", batch.size(), e);
+        }
+
+        boolean retry = !written;
+        batch.forEach((key, liked) -> stripeOf(key.postId()).complete(key, liked, retry));
+        return written;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private Stripe stripeOf(UUID postId) {
+        return stripes[Math.floorMod(postId.hashCode(), stripes.length)];
+    }
+
+    private record Key(UUID postId, UUID authorId) {}
+
+    /**
+     * A lock-guarded share of the buffer. Writes are queued in the order they
+     * were first buffered, and moved in flight when drained by a flush.
+     */
+    private static class Stripe {
+
+        private final int capacity;
+        private final Map<Key, Boolean> queued = new LinkedHashMap<>();
+        private final Map<Key, Boolean> inFlight = new HashMap<>();
+        private long version;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Queues a write, unless the stripe is full. A write replacing a queued or
+         * in flight write of the same key is always accepted, so it is ordered
+         * after that write rather than racing it.
+         */
+        synchronized boolean put(Key key, boolean liked) {
+            if (queued.size() + inFlight.size() >= capacity
+                && !queued.containsKey(key)
+                && !inFlight.containsKey(key)) {
+                return false;
+            }
+            queued.put(key, liked);
+            version++;
+            return true;
+        }
+
+        synchronized Boolean get(Key key) {
+            Boolean liked = queued.get(key);
+            return liked != null ? liked : inFlight.get(key);
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized int size() {
+            return queued.size();
+        }
+
+        synchronized void drainTo(Map<Key, Boolean> batch, int batchSize) {
+            Iterator<Map.Entry<Key, Boolean>> it = queued.entrySet().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                Map.Entry<Key, Boolean> entry = it.next();
+                batch.put(entry.getKey(), entry.getValue());
+                inFlight.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        }
+
+        synchronized void complete(Key key, boolean liked, boolean retry) {
+            inFlight.remove(key);
+            if (retry) {
+                queued.putIfAbsent(key, liked); // a newer write wins
+            }
+        }
+
+    }
+
+}
@@ -2,64 +2,125 @@ package app.echo_social.modules.post.service;
 
 import java.util.UUID;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.post.entity.Post;
 import app.echo_social.modules.post.entity.PostLike;
+import app.echo_social.modules.post.event.PostLikedEvent;
+import app.echo_social.modules.post.event.PostUnlikedEvent;
 import app.echo_social.modules.post.exception.PostErrorCode;
 import app.echo_social.modules.post.repository.PostLikeRepository;
 import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.shared.persistence.ConstraintViolations;
 import app.echo_social.shared.service.SessionService;
 
 /**
  * Service implementation for managing CRUD operations between {@link Profile}
  * and {@link Post} entities.
+ *
+ * <p>
+ * Likes and unlikes are written in a single statement each, relying on the
+ * primary and foreign keys of {@code post_likes} rather than checking for the
+ * post and an existing like first.
+ *
+ * <p>
+ * When the {@link LikeBuffer} is enabled, likes and unlikes are accepted into
+ * it and written behind, rather than written immediately, unless it is full.
  */
 @Service
 class PostInteractionServiceImpl extends BasePostService implements PostInteractionService {
 
     private final PostLikeRepository postLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<LikeBuffer> likeBuffer;
 
     // @formatter:off
     protected PostInteractionServiceImpl(
         SessionService sessionService,
         PostRepository postRepository,
-        PostLikeRepository postLikeRepository) {
+        PostLikeRepository postLikeRepository,
+        ApplicationEventPublisher eventPublisher,
+        ObjectProvider<LikeBuffer> likeBuffer) {
         super(sessionService, postRepository);
         this.postLikeRepository = postLikeRepository;
+        this.eventPublisher = eventPublisher;
+        this.likeBuffer = likeBuffer;
     }
     // @formatter:on
 
     @Override
     @Transactional
     public void like(UUID id) {
-        validatePostExists(id);
-
         UUID authUserId = getAuthenticatedUserId();
-        validateLikeDoesNotExist(id, authUserId);
+        LikeBuffer buffer = likeBuffer.getIfAvailable();
+        if (buffer != null) {
+            validatePostExists(id);
+            validateLikeDoesNotExist(id, authUserId, buffer);
+            if (buffer.like(id, authUserId)) {
+                return; // event published once written
+            }
+            // buffer full, written by this request instead
+        }
 
-        postLikeRepository.save(new PostLike(id, authUserId));
+        if (!insertLike(id, authUserId)) {
+            throw PostErrorCode.ALREADY_LIKED.buildAsException(id);
+        }
+        eventPublisher.publishEvent(new PostLikedEvent(id, authUserId));
     }
 
     @Override
     @Transactional
     public void unlike(UUID id) {
         UUID authUserId = getAuthenticatedUserId();
-        postLikeRepository.deleteByPostIdAndAuthorId(id, authUserId);
+        LikeBuffer buffer = likeBuffer.getIfAvailable();
+        if (buffer != null && buffer.unlike(id, authUserId)) {
+            return; // event published once written
+        }
+
+        if (postLikeRepository.deleteIfPresent(id, authUserId)) {
+            eventPublisher.publishEvent(new PostUnlikedEvent(id, authUserId));
+        }
+    }
+
+    /**
+     * Inserts a {@link PostLike} with the given {@code postId} and
+     * {@code authorId}, unless it already exists.
+     * 
+     * @param postId
+     * @param authorId
+     * @return {@code true} if inserted, {@code false} if the like already existed
+     * @throws ApplicationException if no post with the given id exists
+     */
+    private boolean insertLike(UUID postId, UUID authorId) {
+        try {
+            return postLikeRepository.insertIfAbsent(postId, authorId);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, "fk_post_id")) {
+                throw PostErrorCode.ID_NOT_FOUND.buildAsException(postId);
+            }
+            throw ex;
+        }
     }
 
     /**
      * Throws if a {@link PostLike} exists with the given {@code postId} and
-     * {@code authorId}.
+     * {@code authorId}, taking any write pending in the {@code buffer} over the
+     * stored like.
      * 
      * @param postId
      * @param authorId
+     * @param buffer   the like buffer, or {@code null} if disabled
      * @throws ApplicationException if a like already exists
      */
-    private void validateLikeDoesNotExist(UUID postId, UUID authorId) {
-        if (postLikeRepository.existsByPostIdAndAuthorId(postId, authorId)) {
+    private void validateLikeDoesNotExist(UUID postId, UUID authorId, LikeBuffer buffer) {
+        Boolean pending = buffer != null ? buffer.pending(postId, authorId) : null;
+        boolean liked = pending != null ? pending : postLikeRepository.existsByPostIdAndAuthorId(postId, authorId);
+        if (liked) {
             throw PostErrorCode.ALREADY_LIKED.buildAsException(postId);
         }
     }
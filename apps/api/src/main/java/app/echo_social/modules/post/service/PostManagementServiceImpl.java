@@ -4,34 +4,43 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.post.dto.request.CreatePostDTO;
 import app.echo_social.modules.post.entity.Post;
+import app.echo_social.modules.post.event.PostCreatedEvent;
+import app.echo_social.modules.post.event.PostDeletedEvent;
 import app.echo_social.modules.post.exception.PostErrorCode;
-import app.echo_social.modules.post.repository.PostEntityRepository;
 import app.echo_social.modules.post.repository.PostRepository;
 import app.echo_social.shared.service.SessionService;
-import app.echo_social.util.PostEntityExtractor;
 
 /**
  * Service implementation for managing mutation operations for {@link Post}
  * information related to the authenticated user.
+ *
+ * <p>
+ * A created post is accepted once its row is persisted. Its entities, mentions
+ * and hashtags are recorded afterwards, in batches, by the
+ * {@link PostProcessor}.
  */
 @Service
 class PostManagementServiceImpl extends BasePostService implements PostManagementService {
 
-    private final PostEntityRepository postEntityRepository;
+    private final PostProcessor postProcessor;
+    private final ApplicationEventPublisher eventPublisher;
 
     // @formatter:off
     protected PostManagementServiceImpl(
         SessionService sessionService,
         PostRepository postRepository,
-        PostEntityRepository postEntityRepository) {
+        PostProcessor postProcessor,
+        ApplicationEventPublisher eventPublisher) {
         super(sessionService, postRepository);
-        this.postEntityRepository = postEntityRepository;
+        this.postProcessor = postProcessor;
+        this.eventPublisher = eventPublisher;
     }
     // @formatter:on
 
@@ -43,7 +52,9 @@ class PostManagementServiceImpl extends BasePostService implements PostManagemen
         String text = request.text();
 
         Post post = postRepository.save(Post.create(parentId, authorId, text));
-        postEntityRepository.saveAll(PostEntityExtractor.extract(post.getId(), text));
+        postProcessor.submit(post.getId(), text); // queued once committed
+
+        eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), parentId, authorId));
     }
 
     @Override
@@ -58,6 +69,7 @@ class PostManagementServiceImpl extends BasePostService implements PostManagemen
         Post post = optPost.get();
         validatePostOwnership(authenticatedUserId, post.getAuthorId());
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostDeletedEvent(post.getId(), post.getParentId(), post.getAuthorId()));
     }
 
     /**
@@ -0,0 +1,279 @@
+package app.echo_social.modules.post.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.event.PostProcessedEvent;
+import app.echo_social.modules.post.event.PostTaggedEvent;
+import app.echo_social.modules.post.repository.PostProcessingRepository;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+import app.echo_social.util.PostEntityExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded background stage processing the text of created posts: extracting
+ * their entities, and recording the entities, mentions and hashtags of many
+ * posts together.
+ *
+ * <p>
+ * A post is submitted once the transaction creating it commits, and queued
+ * for a single worker thread, which takes up to {@code batchSize} posts at a
+ * time. Each batch is written in one transaction: the posts are marked as
+ * processed, then their entities are inserted in JDBC batches, and their
+ * mentions and hashtags in one statement each. A {@link PostTaggedEvent} and a
+ * {@link PostProcessedEvent} are published for every post processed.
+ *
+ * <p>
+ * When the queue is full, the submitting thread processes the post itself,
+ * slowing post creation down rather than dropping posts. Posts left
+ * unprocessed, by a failed batch or by a restart, are picked up again by
+ * {@link #sweep()}, and queued posts are processed on {@link #stop()}.
+ */
+@Slf4j
+public class PostProcessor {
+
+    private final PostProcessingRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration sweepDelay;
+    private final Clock clock;
+
+    private final BlockingQueue<UnprocessedPost> queue;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * Creates a new {@link PostProcessor}.
+     *
+     * @param repository          the repository to record processed posts with
+     * @param transactionTemplate the template to write each batch within
+     * @param eventPublisher      the publisher of the events of processed posts
+     * @param capacity            the maximum number of queued posts
+     * @param batchSize           the maximum number of posts processed together
+     * @param sweepDelay          the minimum age of an unprocessed post before it
+     *                            is swept
+     * @param clock               the clock to age posts by
+     */
+    public PostProcessor(
+        PostProcessingRepository repository,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        int capacity,
+        int batchSize,
+        Duration sweepDelay,
+        Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.sweepDelay = sweepDelay;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Submits a created post for processing, once the current transaction
+     * commits, or immediately outside of a transaction.
+     *
+     * @param postId the id of the post
+     * @param text   the text of the post
+     */
+    public void submit(@NonNull UUID postId, @NonNull String text) {
+        UnprocessedPost post = new UnprocessedPost(postId, text);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    enqueue(post);
+                }
+
+            });
+        } else {
+            enqueue(post);
+        }
+    }
+
+    /**
+     * Queues posts left unprocessed for longer than the sweep delay, as many as
+     * the queue has room for.
+     */
+    @Scheduled(fixedDelayString = "${post.processing-sweep-interval:60s}")
+    public void sweep() {
+        int room = queue.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+
+        List<UnprocessedPost> posts = repository.findUnprocessed(clock.instant().minus(sweepDelay), room);
+        int queued = 0;
+        for (UnprocessedPost post : posts) {
+            if (!queue.offer(post)) {
+                break;
+            }
+            queued++;
+        }
+        if (queued > 0) {
+            log.info("Queued {} unprocessed posts", queued);
+        }
+    }
+
+    /**
+     * Starts the worker thread.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("post-processor").daemon().start(this::work);
+    }
+
+    /**
+     * Stops the worker thread, if started, once its current batch is written,
+     * then processes every post still queued.
+     */
+    public synchronized void stop() {
+        if (running) {
+            running = false;
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<UnprocessedPost> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return the number of posts queued
+     */
+    public int depth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of posts the queue has room for
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * @return the number of posts processed since startup
+     */
+    public long processedCount() {
+        return processed.get();
+    }
+
+    /**
+     * @return the number of posts whose batch failed since startup
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    private void enqueue(UnprocessedPost post) {
+        if (!queue.offer(post)) {
+            process(List.of(post)); // queue full, process on the submitting thread
+        }
+    }
+
+    private void work() {
+        List<UnprocessedPost> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                UnprocessedPost first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Processes a batch of posts, logging rather than throwing if it fails, as
+     * its posts are swept again.
+     */
+    private void process(List<UnprocessedPost> batch) {
+        try {
+            Map<UUID, String> textsByPostId = LinkedHashMap.newLinkedHashMap(batch.size());
+            batch.forEach(post -> textsByPostId.put(post.id(), post.text()));
+            Map<UUID, List<PostEntity>> entitiesByPostId = PostEntityExtractor.extractAll(textsByPostId);
+
+            Integer count = transactionTemplate.execute(status -> write(entitiesByPostId));
+            processed.addAndGet(count);
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.warn("Failed to process {} posts, leaving them to the next sweep", batch.size(), e);
+        }
+    }
+
+    private int write(Map<UUID, List<PostEntity>> entitiesByPostId) {
+        List<UUID> marked = repository.markAllProcessed(entitiesByPostId.keySet());
+
+        List<PostEntity> entities = new ArrayList<>();
+        Map<UUID, Set<String>> mentions = new LinkedHashMap<>();
+        Map<UUID, Set<String>> hashtags = new LinkedHashMap<>();
+        for (UUID postId : marked) { // skipping posts processed or deleted since queued
+            List<PostEntity> postEntities = entitiesByPostId.get(postId);
+            entities.addAll(postEntities);
+
+            Set<String> postMentions = PostEntityExtractor.mentionedUsernames(postEntities);
+            if (!postMentions.isEmpty()) {
+                mentions.put(postId, postMentions);
+            }
+
+            Set<String> postHashtags = PostEntityExtractor.hashtags(postEntities);
+            if (!postHashtags.isEmpty()) {
+                hashtags.put(postId, postHashtags);
+            }
+        }
+
+        repository.saveAllEntities(entities);
+        repository.saveAllMentions(mentions);
+        Map<UUID, Set<String>> tagged = repository.saveAllHashtags(hashtags);
+
+        tagged.forEach((postId, tags) -> eventPublisher.publishEvent(new PostTaggedEvent(postId, tags)));
+        marked.forEach(postId -> eventPublisher.publishEvent(new PostProcessedEvent(postId)));
+        return marked.size();
+    }
+
+}
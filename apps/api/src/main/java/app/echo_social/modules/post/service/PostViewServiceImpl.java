@@ -1,5 +1,6 @@
 package app.echo_social.modules.post.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -11,6 +12,8 @@ import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.modules.post.entity.Post;
 import app.echo_social.modules.post.exception.PostErrorCode;
 import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
+import app.echo_social.shared.conditional.ConditionalRequests;
 import app.echo_social.shared.pagination.Paged;
 import app.echo_social.shared.pagination.PageMapper;
 import app.echo_social.shared.service.SessionService;
@@ -41,6 +44,11 @@ class PostViewServiceImpl extends BasePostService implements PostViewService {
     public PostDTO getPostById(UUID id) {
         UUID authUserId = getAuthenticatedUserId();
 
+        ConditionalRequests.checkNotModified(() -> {
+            String version = postRepository.findPostVersions(List.of(id)).get(id);
+            return version == null ? null : ConditionalRequests.eTag(authUserId, version);
+        });
+
         return postRepository.findPostDtoById(id, authUserId)
             .orElseThrow(() -> PostErrorCode.ID_NOT_FOUND.buildAsException(id));
     }
@@ -51,18 +59,25 @@ class PostViewServiceImpl extends BasePostService implements PostViewService {
         validatePostExists(id);
         UUID authUserId = getAuthenticatedUserId();
 
-        Page<PostDTO> query = postRepository.findRepliesById(id, authUserId, page);
+        PostSelection selection = postRepository.findRepliesById(id, authUserId, page);
+        ConditionalRequests.checkNotModified(() -> ConditionalRequests.eTag(selection.version()));
+
+        Page<PostDTO> query = selection.hydrate();
         String uri = getCurrentRequestUri();
         return PageMapper.toDTO(query, uri);
     }
 
     /**
-     * Fetch the current HTTP request URI.
+     * Fetch the current HTTP request URI, including its encoded query string so
+     * the page links carry the request parameters.
      * 
-     * @return the current request URI as a string
+     * @return the current request URI and query string as a string
      */
     private String getCurrentRequestUri() {
-        return httpServletRequest.getRequestURI();
+        String queryString = httpServletRequest.getQueryString();
+        return queryString == null
+            ? httpServletRequest.getRequestURI()
+            : httpServletRequest.getRequestURI() + "?" + queryString;
     }
 
 }
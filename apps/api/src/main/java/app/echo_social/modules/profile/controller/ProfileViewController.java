@@ -10,7 +10,6 @@ import app.echo_social.modules.profile.api.ProfileViewAPI;
 import app.echo_social.modules.profile.dto.response.ProfileDTO;
 import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
 import app.echo_social.modules.profile.service.ProfileViewService;
-import app.echo_social.shared.pagination.OffsetLimitRequest;
 import app.echo_social.shared.pagination.PageParameters;
 import app.echo_social.shared.pagination.Paged;
 
@@ -34,13 +33,13 @@ class ProfileViewController implements ProfileViewAPI {
 
     @Override
     public ResponseEntity<Paged<SimplifiedProfileDTO>> getFollowers(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(profileViewService.getFollowers(id, page));
     }
 
     @Override
     public ResponseEntity<Paged<SimplifiedProfileDTO>> getFollowing(UUID id, PageParameters pageParams) {
-        Pageable page = OffsetLimitRequest.of(pageParams.getOffset(), pageParams.getLimit());
+        Pageable page = pageParams.toPageable();
         return ResponseEntity.ok(profileViewService.getFollowing(id, page));
     }
 
@@ -0,0 +1,10 @@
+package app.echo_social.modules.profile.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a profile is created, alongside its user.
+ *
+ * @param profileId the id of the created profile
+ */
+public record ProfileCreatedEvent(UUID profileId) {}
@@ -0,0 +1,10 @@
+package app.echo_social.modules.profile.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a profile is deleted, alongside its user.
+ *
+ * @param profileId the id of the deleted profile
+ */
+public record ProfileDeletedEvent(UUID profileId) {}
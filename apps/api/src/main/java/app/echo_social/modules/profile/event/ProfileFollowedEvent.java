@@ -0,0 +1,11 @@
+package app.echo_social.modules.profile.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a profile follows another.
+ *
+ * @param followerId the id of the profile that followed
+ * @param followedId the id of the profile that was followed
+ */
+public record ProfileFollowedEvent(UUID followerId, UUID followedId) {}
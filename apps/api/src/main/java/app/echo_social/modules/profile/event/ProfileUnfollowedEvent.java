@@ -0,0 +1,11 @@
+package app.echo_social.modules.profile.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a profile unfollows another.
+ *
+ * @param followerId the id of the profile that unfollowed
+ * @param followedId the id of the profile that was unfollowed
+ */
+public record ProfileUnfollowedEvent(UUID followerId, UUID followedId) {}
@@ -0,0 +1,10 @@
+package app.echo_social.modules.profile.event;
+
+import java.util.UUID;
+
+/**
+ * Published when the details of a profile, e.g. its name or image, are updated.
+ *
+ * @param profileId the id of the updated profile
+ */
+public record ProfileUpdatedEvent(UUID profileId) {}
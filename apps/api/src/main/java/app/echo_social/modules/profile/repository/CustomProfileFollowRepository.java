@@ -0,0 +1,33 @@
+package app.echo_social.modules.profile.repository;
+
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+
+public interface CustomProfileFollowRepository {
+
+    /**
+     * Inserts a unidirectional follow from the follower to the followed profile
+     * id in a single statement, unless it already exists.
+     * 
+     * @param followerId the id of the profile initiating the follow
+     * @param followedId the id of the profile being followed
+     * @return {@code true} if inserted, {@code false} if the follow already
+     *         existed
+     * @throws DataIntegrityViolationException if either profile does not exist,
+     *                                         or both ids are equal
+     */
+    boolean insertIfAbsent(@NonNull UUID followerId, @NonNull UUID followedId);
+
+    /**
+     * Deletes the follow from the follower to the followed profile id in a
+     * single statement, if it exists.
+     * 
+     * @param followerId the id of the profile following
+     * @param followedId the id of the profile being followed
+     * @return {@code true} if deleted, {@code false} if no follow existed
+     */
+    boolean deleteIfPresent(@NonNull UUID followerId, @NonNull UUID followedId);
+
+}
@@ -0,0 +1,50 @@
+package app.echo_social.modules.profile.repository;
+
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CustomProfileFollowRepositoryImpl implements CustomProfileFollowRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_FOLLOWER_ID = "follower_id";
+    private static final String ARG_FOLLOWED_ID = "followed_id";
+
+    @Override
+    public boolean insertIfAbsent(UUID followerId, UUID followedId) {
+        String sql = """
+            INSERT INTO profile_follows (follower_id, followed_id)
+            VALUES (:follower_id, :followed_id)
+            ON CONFLICT DO NOTHING
+            RETURNING followed_id
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_FOLLOWER_ID, followerId)
+            .addValue(ARG_FOLLOWED_ID, followedId);
+
+        return !template.queryForList(sql, params, UUID.class).isEmpty();
+    }
+
+    @Override
+    public boolean deleteIfPresent(UUID followerId, UUID followedId) {
+        String sql = """
+            DELETE FROM profile_follows
+            WHERE follower_id = :follower_id
+                AND followed_id = :followed_id
+            RETURNING followed_id
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_FOLLOWER_ID, followerId)
+            .addValue(ARG_FOLLOWED_ID, followedId);
+
+        return !template.queryForList(sql, params, UUID.class).isEmpty();
+    }
+
+}
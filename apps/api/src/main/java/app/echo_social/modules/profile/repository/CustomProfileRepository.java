@@ -34,6 +34,17 @@ public interface CustomProfileRepository {
      */
     Optional<ProfileDTO> findProfileDtoByUsername(@NonNull String username, @NonNull UUID authUserId);
 
+    /**
+     * Retrieves the current version of the profile with the specified username,
+     * without hydrating it. The version changes whenever the {@link ProfileDTO}
+     * of the profile may change, for any viewer.
+     *
+     * @param username the username of the profile to query
+     * @return an {@link Optional} containing the version of the profile if found,
+     *         else empty
+     */
+    Optional<String> findProfileVersionByUsername(@NonNull String username);
+
     /**
      * Retrieves a paginated list of {@link SimplifiedProfileDTO} for users who
      * follow the profile with the specified ID.
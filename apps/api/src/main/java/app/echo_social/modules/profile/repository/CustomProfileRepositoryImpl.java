@@ -2,9 +2,11 @@ package app.echo_social.modules.profile.repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -15,8 +17,11 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import app.echo_social.modules.profile.dto.response.ProfileDTO;
 import app.echo_social.modules.profile.dto.response.ProfileMetricsDTO;
-import app.echo_social.modules.profile.dto.response.ProfileRelationshipDTO;
 import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
+import app.echo_social.shared.pagination.PageQueryExecutor;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
+import app.echo_social.shared.relationship.ViewerOverlay;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,67 +29,84 @@ import lombok.RequiredArgsConstructor;
 public class CustomProfileRepositoryImpl implements CustomProfileRepository {
 
     private final NamedParameterJdbcTemplate template;
+    private final PageQueryExecutor pageQueryExecutor;
 
     private static final String ARG_PROFILE_ID = "profile_id";
     private static final String ARG_PROFILE_USERNAME = "profile_username";
-    private static final String ARG_VIEWER_ID = "viewer_id";
     private static final String ARG_OFFSET = "offset";
     private static final String ARG_LIMIT = "limit";
 
     @Override
     public Optional<ProfileDTO> findProfileDtoById(UUID id, UUID authUserId) {
-        String sql = "SELECT * FROM fetch_profile_by_id(:profile_id, :viewer_id)";
+        String sql = "SELECT * FROM fetch_profile_by_id(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_PROFILE_ID, id)
-            .addValue(ARG_VIEWER_ID, authUserId);
+            .addValue(ARG_PROFILE_ID, id);
 
         return template.query(
             sql,
             params,
-            new ProfileDtoRowMapper()).stream().findFirst();
+            new ProfileDtoRowMapper()).stream().findFirst()
+            .map(profile -> withRelationship(profile, authUserId));
     }
 
     @Override
     public Optional<ProfileDTO> findProfileDtoByUsername(String username, UUID authUserId) {
-        String sql = "SELECT * FROM fetch_profile_by_username(:profile_username, :viewer_id)";
+        String sql = "SELECT * FROM fetch_profile_by_username(:profile_username)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
-            .addValue(ARG_PROFILE_USERNAME, username)
-            .addValue(ARG_VIEWER_ID, authUserId);
+            .addValue(ARG_PROFILE_USERNAME, username);
 
         return template.query(
             sql,
             params,
-            new ProfileDtoRowMapper()).stream().findFirst();
+            new ProfileDtoRowMapper()).stream().findFirst()
+            .map(profile -> withRelationship(profile, authUserId));
+    }
+
+    @Override
+    public Optional<String> findProfileVersionByUsername(String username) {
+        String sql = """
+            SELECT p.id, p.updated_at, COALESCE(ps.version, 0) AS stats_version
+            FROM profiles p
+            LEFT JOIN profile_stats ps ON ps.profile_id = p.id
+            WHERE lower(p.username) = lower(:profile_username)
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_PROFILE_USERNAME, username);
+
+        return template.query(
+            sql,
+            params,
+            (rs, rowNum) -> rs.getObject("id", UUID.class) + "@" + rs.getLong("stats_version") + "."
+                + rs.getTimestamp("updated_at").toInstant().toEpochMilli()).stream().findFirst();
     }
 
     @Override
     public Page<SimplifiedProfileDTO> findFollowerDtosById(UUID id, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_profile_followers(:profile_id, :viewer_id, :offset, :limit)";
+        String sql = "SELECT * FROM fetch_profile_followers(:profile_id, :offset, :limit)";
         String countSql = "SELECT * FROM fetch_profile_followers_count(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
             .addValue(ARG_PROFILE_ID, id)
-            .addValue(ARG_VIEWER_ID, authUserId)
             .addValue(ARG_OFFSET, (int) p.getOffset())
             .addValue(ARG_LIMIT, p.getPageSize());
 
-        return fetchPaginatedProfiles(sql, countSql, params, p);
+        return fetchPaginatedProfiles(sql, countSql, params, authUserId, p);
     }
 
     @Override
     public Page<SimplifiedProfileDTO> findFollowingDtosById(UUID id, UUID authUserId, Pageable p) {
-        String sql = "SELECT * FROM fetch_profile_following(:profile_id, :viewer_id, :offset, :limit)";
+        String sql = "SELECT * FROM fetch_profile_following(:profile_id, :offset, :limit)";
         String countSql = "SELECT * FROM fetch_profile_following_count(:profile_id)";
 
         MapSqlParameterSource params = new MapSqlParameterSource()
             .addValue(ARG_PROFILE_ID, id)
-            .addValue(ARG_VIEWER_ID, authUserId)
             .addValue(ARG_OFFSET, (int) p.getOffset())
             .addValue(ARG_LIMIT, p.getPageSize());
 
-        return fetchPaginatedProfiles(sql, countSql, params, p);
+        return fetchPaginatedProfiles(sql, countSql, params, authUserId, p);
     }
 
     /**
@@ -93,12 +115,19 @@ public class CustomProfileRepositoryImpl implements CustomProfileRepository {
      * 
      * This method executes the main query to retrieve the profiles and a separate
      * count query to determine the total number of available profiles, returning a
-     * constructed {@link PageImpl}.
+     * constructed {@link PageImpl}. As the count queries read maintained counters,
+     * they serve both the exact and the estimated {@link TotalMode}.
+     * 
+     * When no total is requested, one row beyond the limit is fetched instead to
+     * determine whether a further page exists, returning an
+     * {@link UncountedPage}.
      * 
      * @param sql      the query related to fetching the paginated profiles
      * @param countSql the query related to obtaining a total count of available
      *                 profiles
-     * @param params
+     * @param params   the query parameters, including pagination parameters
+     * @param viewerId the id of the authenticated user, required for building
+     *                 user relationships
      * @param p        the pagination and sorting configuration
      * @return a {@link PageImpl} containing the list of
      *         {@link SimplifiedProfileDTO} objects, the current page details, and
@@ -109,31 +138,100 @@ public class CustomProfileRepositoryImpl implements CustomProfileRepository {
         String sql,
         String countSql,
         MapSqlParameterSource params,
+        UUID viewerId,
         Pageable p
     ) {
-        List<SimplifiedProfileDTO> profiles = template.query(
-            sql,
-            params,
-            new SimplifiedProfileDtoRowMapper());
+        if (TotalMode.of(p) == TotalMode.NONE) {
+            params.addValue(ARG_LIMIT, p.getPageSize() + 1);
 
-        Long count = template.queryForObject(
-            countSql,
-            params,
-            Long.class);
+            List<SimplifiedProfileDTO> profiles = new ArrayList<>(template.query(
+                sql,
+                params,
+                new SimplifiedProfileDtoRowMapper()));
+
+            boolean hasMore = profiles.size() > p.getPageSize();
+            if (hasMore) {
+                profiles.removeLast();
+            }
+
+            return new UncountedPage<>(withRelationships(profiles, viewerId), p, hasMore);
+        }
 
-        return new PageImpl<>(profiles, p, count == null ? 0L : count);
+        Supplier<Long> countQuery = () -> {
+            Long count = template.queryForObject(
+                countSql,
+                params,
+                Long.class);
+
+            return count == null ? 0L : count;
+        };
+
+        PageQueryExecutor.Result<SimplifiedProfileDTO> result = pageQueryExecutor.execute(
+            () -> template.query(sql, params, new SimplifiedProfileDtoRowMapper()),
+            countQuery,
+            countQuery);
+
+        return new PageImpl<>(withRelationships(result.content(), viewerId), p, result.total());
     } // @formatter:on
 
     /**
-     * Maps {@link ResultSet} rows to full {@link ProfileDTO} objects, including
-     * metrics and relationship data where applicable.
+     * Private method that applies the relationship between the authenticated user
+     * and the given profile, loaded via {@link ViewerOverlay}.
+     * 
+     * @param profile  the profile, without relationship data
+     * @param viewerId the id of the authenticated user
+     * @return the {@link ProfileDTO}, including relationship data where applicable
      */
-    private static class ProfileDtoRowMapper implements RowMapper<ProfileDTO> {
+    private ProfileDTO withRelationship(ProfileDTO profile, UUID viewerId) {
+        UUID id = UUID.fromString(profile.id());
+        ViewerOverlay overlay = ViewerOverlay.fetch(template, viewerId, List.of(), List.of(id));
+
+        return new ProfileDTO(
+            profile.id(),
+            profile.username(),
+            profile.name(),
+            profile.bio(),
+            profile.location(),
+            profile.imageUrl(),
+            profile.createdAt(),
+            profile.metrics(),
+            overlay.relationshipTo(id));
+    }
+
+    /**
+     * Private method that applies the relationships between the authenticated
+     * user and a page of profiles, loaded via a single {@link ViewerOverlay} and
+     * joined in memory.
+     * 
+     * @param profiles the profiles, without relationship data
+     * @param viewerId the id of the authenticated user
+     * @return the list of {@link SimplifiedProfileDTO}, in the same order,
+     *         including relationship data where applicable
+     */
+    private List<SimplifiedProfileDTO> withRelationships(List<SimplifiedProfileDTO> profiles, UUID viewerId) {
+        List<UUID> ids = profiles.stream().map(profile -> UUID.fromString(profile.id())).toList();
+        ViewerOverlay overlay = ViewerOverlay.fetch(template, viewerId, List.of(), ids);
+
+        return profiles.stream()
+            .map(profile -> new SimplifiedProfileDTO(
+                profile.id(),
+                profile.username(),
+                profile.name(),
+                profile.bio(),
+                profile.imageUrl(),
+                overlay.relationshipTo(UUID.fromString(profile.id()))))
+            .toList();
+    }
+
+    /**
+     * Maps {@link ResultSet} rows to {@link ProfileDTO} objects, including
+     * metrics data. Relationship data is applied separately. Package-private for
+     * its benchmark.
+     */
+    static class ProfileDtoRowMapper implements RowMapper<ProfileDTO> {
 
         @Override
         public ProfileDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
-            boolean isSelf = rs.getBoolean("rel_is_self");
-
             return new ProfileDTO(
                 rs.getString("id"),
                 rs.getString("username"),
@@ -146,36 +244,27 @@ public class CustomProfileRepositoryImpl implements CustomProfileRepository {
                     rs.getInt("follower_count"),
                     rs.getInt("following_count"),
                     rs.getInt("post_count")),
-                isSelf
-                    ? null
-                    : new ProfileRelationshipDTO(
-                        rs.getBoolean("rel_following"),
-                        rs.getBoolean("rel_followed_by")));
+                null);
         }
 
     }
 
     /**
      * Maps {@link ResultSet} rows to {@link SimplifiedProfileDTO} for nested
-     * contexts like posts or comments.
+     * contexts like posts or comments. Relationship data is applied separately.
+     * Package-private for its benchmark.
      */
-    private static class SimplifiedProfileDtoRowMapper implements RowMapper<SimplifiedProfileDTO> {
+    static class SimplifiedProfileDtoRowMapper implements RowMapper<SimplifiedProfileDTO> {
 
         @Override
         public SimplifiedProfileDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
-            boolean isSelf = rs.getBoolean("rel_is_self");
-
             return new SimplifiedProfileDTO(
                 rs.getString("id"),
                 rs.getString("username"),
                 rs.getString("name"),
                 rs.getString("bio"),
                 rs.getString("image_url"),
-                isSelf
-                    ? null
-                    : new ProfileRelationshipDTO(
-                        rs.getBoolean("rel_following"),
-                        rs.getBoolean("rel_followed_by")));
+                null);
         }
 
     }
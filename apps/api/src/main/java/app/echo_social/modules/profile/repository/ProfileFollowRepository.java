@@ -9,7 +9,8 @@ import app.echo_social.modules.profile.entity.ProfileFollow;
 import app.echo_social.modules.profile.entity.ProfileFollowPK;
 
 @Repository
-public interface ProfileFollowRepository extends ListCrudRepository<ProfileFollow, ProfileFollowPK> {
+public interface ProfileFollowRepository
+    extends ListCrudRepository<ProfileFollow, ProfileFollowPK>, CustomProfileFollowRepository {
 
     /**
      * Check if a unidirectional follow exists from the follower to the followed
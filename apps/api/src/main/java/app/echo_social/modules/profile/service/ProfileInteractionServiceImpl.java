@@ -3,53 +3,68 @@ package app.echo_social.modules.profile.service;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.profile.entity.ProfileFollow;
+import app.echo_social.modules.profile.event.ProfileFollowedEvent;
+import app.echo_social.modules.profile.event.ProfileUnfollowedEvent;
 import app.echo_social.modules.profile.exception.ProfileErrorCode;
 import app.echo_social.modules.profile.repository.ProfileFollowRepository;
 import app.echo_social.modules.profile.repository.ProfileRepository;
+import app.echo_social.shared.persistence.ConstraintViolations;
 import app.echo_social.shared.service.SessionService;
 
 /**
  * Service implementation for managing CRUD operations between {@link Profile}
  * entities.
+ *
+ * <p>
+ * Follows and unfollows are written in a single statement each, relying on the
+ * primary and foreign keys of {@code profile_follows} rather than checking for
+ * the profile and an existing follow first.
  */
 @Service
 class ProfileInteractionServiceImpl extends BaseProfileService implements ProfileInteractionService {
 
     private final ProfileFollowRepository profileFollowRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // @formatter:off
     public ProfileInteractionServiceImpl(
         SessionService sessionService,
         ProfileRepository profileRepository,
-        ProfileFollowRepository profileFollowRepository
+        ProfileFollowRepository profileFollowRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         super(sessionService, profileRepository);
         this.profileFollowRepository = profileFollowRepository;
+        this.eventPublisher = eventPublisher;
     }
     // @formatter:on
 
     @Override
     @Transactional
     public void follow(UUID id) {
-        validateProfileExists(id);
-
         UUID authUserId = getAuthenticatedUserId();
         validateNoSelfAction(authUserId, id);
-        validateFollowDoesNotExist(authUserId, id);
 
-        profileFollowRepository.save(new ProfileFollow(authUserId, id));
+        if (!insertFollow(authUserId, id)) {
+            throw ProfileErrorCode.ALREADY_FOLLOWING.buildAsException(id);
+        }
+        eventPublisher.publishEvent(new ProfileFollowedEvent(authUserId, id));
     }
 
     @Override
     @Transactional
     public void unfollow(UUID id) {
         UUID authUserId = getAuthenticatedUserId();
-        profileFollowRepository.deleteByFollowerIdAndFollowedId(authUserId, id);
+        if (profileFollowRepository.deleteIfPresent(authUserId, id)) {
+            eventPublisher.publishEvent(new ProfileUnfollowedEvent(authUserId, id));
+        }
     }
 
     /**
@@ -66,16 +81,23 @@ class ProfileInteractionServiceImpl extends BaseProfileService implements Profil
     }
 
     /**
-     * Throws if a {@link ProfileFollow} exists with the given {@code followerId}
-     * and {@code followedId}.
+     * Inserts a {@link ProfileFollow} with the given {@code followerId} and
+     * {@code followedId}, unless it already exists.
      * 
      * @param followerId
      * @param followedId
-     * @throws ApplicationException if a follow already exists
+     * @return {@code true} if inserted, {@code false} if the follow already
+     *         existed
+     * @throws ApplicationException if no profile with the followed id exists
      */
-    private void validateFollowDoesNotExist(UUID followerId, UUID followedId) {
-        if (profileFollowRepository.existsByFollowerIdAndFollowedId(followerId, followedId)) {
-            throw ProfileErrorCode.ALREADY_FOLLOWING.buildAsException(followedId);
+    private boolean insertFollow(UUID followerId, UUID followedId) {
+        try {
+            return profileFollowRepository.insertIfAbsent(followerId, followedId);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, "fk_followed_id")) {
+                throw ProfileErrorCode.ID_NOT_FOUND.buildAsException(followedId);
+            }
+            throw ex;
         }
     }
 
@@ -1,9 +1,11 @@
 package app.echo_social.modules.profile.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import app.echo_social.modules.profile.dto.request.UpdateProfileDTO;
 import app.echo_social.modules.profile.entity.Profile;
+import app.echo_social.modules.profile.event.ProfileUpdatedEvent;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.shared.service.SessionService;
 
@@ -14,12 +16,16 @@ import app.echo_social.shared.service.SessionService;
 @Service
 class ProfileManagementServiceImpl extends BaseProfileService implements ProfileManagementService {
 
+    private final ApplicationEventPublisher eventPublisher;
+
     // @formatter:off
     public ProfileManagementServiceImpl(
         SessionService sessionService,
-        ProfileRepository profileRepository
+        ProfileRepository profileRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         super(sessionService, profileRepository);
+        this.eventPublisher = eventPublisher;
     }
     // @formatter:on
 
@@ -31,6 +37,7 @@ class ProfileManagementServiceImpl extends BaseProfileService implements Profile
         me.setLocation(request.location());
 
         profileRepository.save(me);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(me.getId()));
     }
 
 }
@@ -10,6 +10,7 @@ import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
 import app.echo_social.modules.profile.entity.Profile;
 import app.echo_social.modules.profile.exception.ProfileErrorCode;
 import app.echo_social.modules.profile.repository.ProfileRepository;
+import app.echo_social.shared.conditional.ConditionalRequests;
 import app.echo_social.shared.pagination.Paged;
 import app.echo_social.shared.pagination.PageMapper;
 import app.echo_social.shared.service.SessionService;
@@ -56,6 +57,10 @@ class ProfileViewServiceImpl extends BaseProfileService implements ProfileViewSe
     public ProfileDTO getByUsername(String username) {
         UUID authUserId = getAuthenticatedUserId();
 
+        ConditionalRequests.checkNotModified(() -> profileRepository.findProfileVersionByUsername(username)
+            .map(version -> ConditionalRequests.eTag(authUserId, version))
+            .orElse(null));
+
         return profileRepository.findProfileDtoByUsername(username, authUserId)
             .orElseThrow(() -> ProfileErrorCode.USERNAME_NOT_FOUND.buildAsException(username));
     }
@@ -81,12 +86,16 @@ class ProfileViewServiceImpl extends BaseProfileService implements ProfileViewSe
     }
 
     /**
-     * Fetch the current HTTP request URI.
+     * Fetch the current HTTP request URI, including its encoded query string so
+     * the page links carry the request parameters.
      * 
-     * @return the current request URI as a string
+     * @return the current request URI and query string as a string
      */
     private String getCurrentRequestUri() {
-        return httpServletRequest.getRequestURI();
+        String queryString = httpServletRequest.getQueryString();
+        return queryString == null
+            ? httpServletRequest.getRequestURI()
+            : httpServletRequest.getRequestURI() + "?" + queryString;
     }
 
 }
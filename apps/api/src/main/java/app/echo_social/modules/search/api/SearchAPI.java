@@ -0,0 +1,48 @@
+package app.echo_social.modules.search.api;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.search.dto.response.ProfileSuggestionDTO;
+import app.echo_social.shared.constant.ApiRoutes;
+import app.echo_social.shared.pagination.CursorPageParameters;
+import app.echo_social.shared.pagination.Paged;
+import app.echo_social.shared.validation.annotations.Limit;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Tag(name = "Search API")
+@Validated
+public interface SearchAPI {
+
+    @Operation(description = "Search posts by text, ranked by relevance and recency")
+    @GetMapping(ApiRoutes.SEARCH.POSTS)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<Paged<PostDTO>> searchPosts(
+        @Parameter(description = "Search query. Supports \"quoted phrases\", OR and -exclusions")
+        @RequestParam(name = "q") @NotBlank(message = "Search query cannot be blank") @Size(max = 100, message = "Search query must not exceed {max} characters") String q,
+        @Valid CursorPageParameters pageParams);
+
+    @Operation(description = "Suggest profiles by username or name prefix, followed profiles first")
+    @GetMapping(ApiRoutes.SEARCH.PROFILES)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<ProfileSuggestionDTO>> suggestProfiles(
+        @Parameter(description = "Username or name prefix, with or without a leading @")
+        @RequestParam(name = "q") @NotBlank(message = "Search query cannot be blank") @Size(max = 100, message = "Search query must not exceed {max} characters") String q,
+        @Parameter(description = "Maximum number of profiles", schema = @Schema(defaultValue = "10", minimum = "1", maximum = "50"))
+        @RequestParam(name = "limit", defaultValue = "10") @Limit int limit);
+
+}
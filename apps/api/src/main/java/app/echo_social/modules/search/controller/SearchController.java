@@ -0,0 +1,37 @@
+package app.echo_social.modules.search.controller;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.search.api.SearchAPI;
+import app.echo_social.modules.search.dto.response.ProfileSuggestionDTO;
+import app.echo_social.modules.search.service.SearchService;
+import app.echo_social.modules.search.service.TypeaheadService;
+import app.echo_social.shared.pagination.CursorPageParameters;
+import app.echo_social.shared.pagination.Paged;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+class SearchController implements SearchAPI {
+
+    private final SearchService searchService;
+    private final TypeaheadService typeaheadService;
+
+    @Override
+    public ResponseEntity<Paged<PostDTO>> searchPosts(String q, CursorPageParameters pageParams) {
+        Pageable page = pageParams.toPageable();
+        return ResponseEntity.ok(searchService.searchPosts(q, page));
+    }
+
+    @Override
+    public ResponseEntity<List<ProfileSuggestionDTO>> suggestProfiles(String q, int limit) {
+        return ResponseEntity.ok(typeaheadService.suggestProfiles(q, limit));
+    }
+
+}
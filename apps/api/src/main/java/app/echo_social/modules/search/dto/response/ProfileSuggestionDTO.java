@@ -0,0 +1,30 @@
+package app.echo_social.modules.search.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+// @formatter:off
+/**
+ * Represents a standardised response format for a profile suggested by the
+ * typeahead, e.g. while typing a mention.
+ *
+ * @param id        the id of the user associated to the profile
+ * @param username  the username of the user associated to the profile
+ * @param name      the profile name (nullable)
+ * @param imageUrl  the URL of the profile avatar image (nullable)
+ * @param following whether the authenticated user follows the profile
+ */
+@Schema(
+    name = "ProfileSuggestion",
+    description = "A profile matching a typeahead query, followed profiles first.",
+    accessMode = Schema.AccessMode.READ_ONLY
+)
+public record ProfileSuggestionDTO(
+    @NotNull String id,
+    @NotNull String username,
+    String name,
+    @JsonProperty("image_url") String imageUrl,
+    @NotNull boolean following
+) {}
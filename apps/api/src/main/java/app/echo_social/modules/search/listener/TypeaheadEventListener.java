@@ -0,0 +1,69 @@
+package app.echo_social.modules.search.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.echo_social.modules.profile.event.ProfileCreatedEvent;
+import app.echo_social.modules.profile.event.ProfileDeletedEvent;
+import app.echo_social.modules.profile.event.ProfileFollowedEvent;
+import app.echo_social.modules.profile.event.ProfileUnfollowedEvent;
+import app.echo_social.modules.profile.event.ProfileUpdatedEvent;
+import app.echo_social.modules.search.service.TypeaheadService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the in-process profile typeahead in step with profile upserts, deletes
+ * and follows.
+ *
+ * <p>
+ * Profiles are re-read and indexed once the originating transaction commits,
+ * so a rolled back change is never indexed. The index lives in memory only, and
+ * is loaded from the database once the application is ready. Changes made by
+ * other instances are picked up by {@link TypeaheadService#refresh()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TypeaheadEventListener {
+
+    private final TypeaheadService typeaheadService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onProfileCreated(ProfileCreatedEvent event) {
+        typeaheadService.index(event.profileId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onProfileUpdated(ProfileUpdatedEvent event) {
+        typeaheadService.index(event.profileId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onProfileDeleted(ProfileDeletedEvent event) {
+        typeaheadService.remove(event.profileId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onProfileFollowed(ProfileFollowedEvent event) {
+        typeaheadService.evictFollowing(event.followerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onProfileUnfollowed(ProfileUnfollowedEvent event) {
+        typeaheadService.evictFollowing(event.followerId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        try {
+            typeaheadService.rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to rebuild profile typeahead: {}", ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package app.echo_social.modules.search.repository;
+
+import java.util.UUID;
+
+/**
+ * The fields of a profile held in memory by the profile typeahead.
+ *
+ * @param id       the id of the profile
+ * @param username the username of the profile
+ * @param name     the profile name (nullable)
+ * @param imageUrl the URL of the profile avatar image (nullable)
+ */
+public record IndexedProfile(UUID id, String username, String name, String imageUrl) {}
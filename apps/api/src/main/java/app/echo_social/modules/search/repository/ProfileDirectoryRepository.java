@@ -0,0 +1,57 @@
+package app.echo_social.modules.search.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Repository for reading the profiles and follows indexed in memory by the
+ * profile typeahead.
+ */
+public interface ProfileDirectoryRepository {
+
+    /**
+     * Streams every profile to {@code consumer}, without holding the full result
+     * in memory.
+     *
+     * @param consumer the consumer of each profile
+     * @return the latest update time of the streamed profiles, or {@code null} if
+     *         there are none
+     */
+    @Nullable
+    Instant forEachProfile(@NonNull Consumer<IndexedProfile> consumer);
+
+    /**
+     * Streams every profile updated at or after {@code since} to
+     * {@code consumer}, without holding the full result in memory.
+     *
+     * @param since    the earliest update time to stream
+     * @param consumer the consumer of each profile
+     * @return the latest update time of the streamed profiles, or {@code null} if
+     *         there are none
+     */
+    @Nullable
+    Instant forEachProfileUpdatedSince(@NonNull Instant since, @NonNull Consumer<IndexedProfile> consumer);
+
+    /**
+     * Retrieves the profile with the specified ID.
+     *
+     * @param id the id of the profile
+     * @return the profile, or empty if it does not exist
+     */
+    Optional<IndexedProfile> findById(@NonNull UUID id);
+
+    /**
+     * Retrieves the ids of the profiles followed by {@code followerId}.
+     *
+     * @param followerId the id of the following profile
+     * @return the ids of the followed profiles
+     */
+    Set<UUID> findFollowingIds(@NonNull UUID followerId);
+
+}
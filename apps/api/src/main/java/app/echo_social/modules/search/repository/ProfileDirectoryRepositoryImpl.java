@@ -0,0 +1,106 @@
+package app.echo_social.modules.search.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class ProfileDirectoryRepositoryImpl implements ProfileDirectoryRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_ID = "id";
+    private static final String ARG_FOLLOWER_ID = "follower_id";
+    private static final String ARG_SINCE = "since";
+
+    @Override
+    public Instant forEachProfile(Consumer<IndexedProfile> consumer) {
+        String sql = "SELECT p.id, p.username, p.name, p.image_url, p.updated_at FROM profiles p";
+
+        return forEach(sql, new MapSqlParameterSource(), consumer);
+    }
+
+    @Override
+    public Instant forEachProfileUpdatedSince(Instant since, Consumer<IndexedProfile> consumer) {
+        String sql = """
+            SELECT p.id, p.username, p.name, p.image_url, p.updated_at
+            FROM profiles p
+            WHERE p.updated_at >= :since
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_SINCE, OffsetDateTime.ofInstant(since, ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+
+        return forEach(sql, params, consumer);
+    }
+
+    @Override
+    public Optional<IndexedProfile> findById(UUID id) {
+        String sql = "SELECT p.id, p.username, p.name, p.image_url FROM profiles p WHERE p.id = :id";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_ID, id);
+
+        return template.query(sql, params, (rs, rowNum) -> mapRow(rs)).stream().findFirst();
+    }
+
+    @Override
+    public Set<UUID> findFollowingIds(UUID followerId) {
+        String sql = "SELECT pf.followed_id FROM profile_follows pf WHERE pf.follower_id = :follower_id";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_FOLLOWER_ID, followerId);
+
+        Set<UUID> ids = new HashSet<>();
+        template.query(sql, params, (RowCallbackHandler) rs -> ids.add(rs.getObject("followed_id", UUID.class)));
+        return Set.copyOf(ids);
+    }
+
+    /**
+     * Stream the profiles selected by the given query to {@code consumer}.
+     *
+     * @param sql      the SQL query to execute, selecting an {@code updated_at}
+     *                 column
+     * @param params   the query parameters
+     * @param consumer the consumer of each profile
+     * @return the latest update time of the streamed profiles, or {@code null} if
+     *         there are none
+     */
+    private Instant forEach(String sql, MapSqlParameterSource params, Consumer<IndexedProfile> consumer) {
+        Instant[] latest = { null };
+        template.query(sql, params, (RowCallbackHandler) rs -> {
+            consumer.accept(mapRow(rs));
+
+            Instant updatedAt = rs.getTimestamp("updated_at").toInstant();
+            if (latest[0] == null || updatedAt.isAfter(latest[0])) {
+                latest[0] = updatedAt;
+            }
+        });
+        return latest[0];
+    }
+
+    private static IndexedProfile mapRow(ResultSet rs) throws SQLException {
+        return new IndexedProfile(
+            rs.getObject("id", UUID.class),
+            rs.getString("username"),
+            rs.getString("name"),
+            rs.getString("image_url"));
+    }
+
+}
@@ -0,0 +1,206 @@
+package app.echo_social.modules.search.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.search.repository.IndexedProfile;
+
+/**
+ * In-process prefix index over the usernames and names of every profile,
+ * serving the profile typeahead without a query per keystroke.
+ *
+ * <p>
+ * Each profile is indexed under its lowercased username, its lowercased name
+ * and each word of its name, as {@code term + '\0' + id} keys of a concurrent
+ * sorted map. A prefix lookup is a range scan of that map, starting from the
+ * prefix, so its cost depends on the number of keys scanned rather than on the
+ * number of profiles.
+ *
+ * <p>
+ * Matches are ranked followed profiles first, then by exact username match,
+ * username over name matches, shorter usernames and finally alphabetically.
+ * Followed profiles are matched directly, so they are never cut off by the scan
+ * limit of a short prefix. The terms of each profile are normalised once, when
+ * it is indexed, so a lookup does not re-derive them per keystroke.
+ */
+public class ProfilePrefixIndex {
+
+    private static final char SEPARATOR = '\0';
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final int scanLimit;
+
+    private final NavigableMap<String, UUID> terms = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Entry> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link ProfilePrefixIndex}.
+     *
+     * @param scanLimit the maximum number of distinct profiles matched per lookup,
+     *                  before ranking
+     */
+    public ProfilePrefixIndex(int scanLimit) {
+        this.scanLimit = scanLimit;
+    }
+
+    /**
+     * Indexes a profile, replacing any previously indexed version of it.
+     *
+     * @param profile the profile to index
+     */
+    public void put(@NonNull IndexedProfile profile) {
+        Entry entry = Entry.of(profile);
+        profiles.compute(profile.id(), (id, previous) -> {
+            if (previous != null) {
+                previous.terms().forEach(term -> terms.remove(key(term, id)));
+            }
+            entry.terms().forEach(term -> terms.put(key(term, id), id));
+            return entry;
+        });
+    }
+
+    /**
+     * Indexes a profile unless a version of it is already indexed, e.g. when
+     * rebuilding while newer versions are being indexed concurrently.
+     *
+     * @param profile the profile to index
+     */
+    public void putIfAbsent(@NonNull IndexedProfile profile) {
+        profiles.computeIfAbsent(profile.id(), id -> {
+            Entry entry = Entry.of(profile);
+            entry.terms().forEach(term -> terms.put(key(term, id), id));
+            return entry;
+        });
+    }
+
+    /**
+     * Removes a profile from the index. Does nothing if it is not indexed.
+     *
+     * @param id the id of the profile
+     */
+    public void remove(@NonNull UUID id) {
+        profiles.computeIfPresent(id, (profileId, previous) -> {
+            previous.terms().forEach(term -> terms.remove(key(term, profileId)));
+            return null;
+        });
+    }
+
+    /**
+     * @return the number of indexed profiles
+     */
+    public int size() {
+        return profiles.size();
+    }
+
+    /**
+     * Finds the profiles whose username, name or a word of their name starts with
+     * {@code query}, case-insensitively, ignoring a leading {@code @}.
+     *
+     * @param query        the prefix typed so far
+     * @param limit        the maximum number of profiles to return
+     * @param followingIds the ids of the profiles followed by the viewer, ranked
+     *                     first
+     * @return the matching profiles, best match first; empty if the query is
+     *         blank
+     */
+    public List<IndexedProfile> search(@NonNull String query, int limit, @NonNull Set<UUID> followingIds) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> matches = new LinkedHashSet<>();
+        for (UUID id : followingIds) {
+            Entry entry = profiles.get(id);
+            if (entry != null && entry.matches(prefix)) {
+                matches.add(id);
+            }
+        }
+
+        int scanned = 0;
+        for (UUID id : terms.subMap(prefix, true, prefix + MAX_CHAR, false).values()) {
+            if (matches.add(id) && ++scanned >= scanLimit) {
+                break;
+            }
+        }
+
+        List<Entry> ranked = new ArrayList<>(matches.size());
+        for (UUID id : matches) {
+            Entry entry = profiles.get(id);
+            if (entry != null) { // removed since matched
+                ranked.add(entry);
+            }
+        }
+        ranked.sort(ranking(prefix, followingIds));
+        return ranked.stream().limit(limit).map(Entry::profile).toList();
+    }
+
+    private static Comparator<Entry> ranking(String prefix, Set<UUID> followingIds) {
+        return Comparator
+            .comparing((Entry e) -> !followingIds.contains(e.profile().id()))
+            .thenComparing(e -> !e.username().equals(prefix))
+            .thenComparing(e -> !e.username().startsWith(prefix))
+            .thenComparingInt(e -> e.profile().username().length())
+            .thenComparing(Entry::username);
+    }
+
+    private static Set<String> termsOf(IndexedProfile profile) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalize(profile.username()));
+
+        String name = profile.name() == null ? "" : normalize(profile.name());
+        if (!name.isEmpty()) {
+            terms.add(name);
+            for (String word : name.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    terms.add(word);
+                }
+            }
+        }
+        return Set.copyOf(terms);
+    }
+
+    private static String normalize(String text) {
+        String stripped = text.strip();
+        if (stripped.startsWith("@")) {
+            stripped = stripped.substring(1).strip();
+        }
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(String term, UUID id) {
+        return term + SEPARATOR + id;
+    }
+
+    /**
+     * An indexed profile, with its normalised username and terms.
+     */
+    private record Entry(IndexedProfile profile, String username, Set<String> terms) {
+
+        static Entry of(IndexedProfile profile) {
+            return new Entry(profile, normalize(profile.username()), termsOf(profile));
+        }
+
+        boolean matches(String prefix) {
+            for (String term : terms) {
+                if (term.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package app.echo_social.modules.search.service;
+
+import org.springframework.data.domain.Pageable;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.shared.pagination.Paged;
+
+public interface SearchService {
+
+    /**
+     * Fetches a page of {@link PostDTO} matching the given full-text search
+     * query, ranked by relevance plus recency.
+     *
+     * @param query the web search query
+     * @param page  pagination parameters
+     * @return a {@link Paged} of {@link PostDTO}; empty if no matches
+     */
+    Paged<PostDTO> searchPosts(String query, Pageable page);
+
+}
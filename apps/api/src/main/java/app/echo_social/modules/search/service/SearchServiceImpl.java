@@ -0,0 +1,59 @@
+package app.echo_social.modules.search.service;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.echo_social.config.properties.SearchProperties;
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
+import app.echo_social.shared.conditional.ConditionalRequests;
+import app.echo_social.shared.pagination.Paged;
+import app.echo_social.shared.pagination.PageMapper;
+import app.echo_social.shared.service.SessionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service implementation for full-text search over posts.
+ */
+@Service
+@RequiredArgsConstructor
+class SearchServiceImpl implements SearchService {
+
+    private final SessionService sessionService;
+    private final PostRepository postRepository;
+    private final SearchProperties searchProperties;
+    private final HttpServletRequest httpServletRequest;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Paged<PostDTO> searchPosts(String query, Pageable page) {
+        UUID authUserId = sessionService.getAuthenticatedUserId();
+
+        PostSelection selection = postRepository.findPostsBySearchQuery(query.strip(), searchProperties.getCandidateLimit(), authUserId, page);
+        ConditionalRequests.checkNotModified(() -> ConditionalRequests.eTag(selection.version()));
+
+        var result = selection.hydrate();
+        String uri = getCurrentRequestUriWithQuery();
+        return PageMapper.toDTO(result, uri);
+    }
+
+    /**
+     * Fetch the current HTTP request URI, including its encoded query string so
+     * the page links carry the search query.
+     * 
+     * @return the current request URI and query string as a string
+     */
+    private String getCurrentRequestUriWithQuery() {
+        String queryString = httpServletRequest.getQueryString();
+        return queryString == null
+            ? httpServletRequest.getRequestURI()
+            : httpServletRequest.getRequestURI() + "?" + queryString;
+    }
+
+}
@@ -0,0 +1,56 @@
+package app.echo_social.modules.search.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import app.echo_social.modules.search.dto.response.ProfileSuggestionDTO;
+
+public interface TypeaheadService {
+
+    /**
+     * Suggests the profiles whose username or name starts with the given query,
+     * profiles followed by the authenticated user first.
+     *
+     * @param query the prefix typed so far, with or without a leading {@code @}
+     * @param limit the maximum number of profiles to return
+     * @return a {@link List} of {@link ProfileSuggestionDTO}, best match first;
+     *         empty if no matches
+     */
+    List<ProfileSuggestionDTO> suggestProfiles(String query, int limit);
+
+    /**
+     * Indexes the current version of the profile with the given id, or removes it
+     * from the index if it no longer exists.
+     *
+     * @param profileId the id of the created or updated profile
+     */
+    void index(UUID profileId);
+
+    /**
+     * Removes the profile with the given id from the index.
+     *
+     * @param profileId the id of the deleted profile
+     */
+    void remove(UUID profileId);
+
+    /**
+     * Evicts the cached follows of the given profile, once it has followed or
+     * unfollowed another.
+     *
+     * @param followerId the id of the following profile
+     */
+    void evictFollowing(UUID followerId);
+
+    /**
+     * Rebuilds the index from every profile in the database.
+     */
+    void rebuild();
+
+    /**
+     * Indexes the profiles updated since the previous rebuild or refresh,
+     * including those updated by other instances of the application. Does
+     * nothing until the index has been rebuilt.
+     */
+    void refresh();
+
+}
@@ -0,0 +1,122 @@
+package app.echo_social.modules.search.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import app.echo_social.config.properties.SearchProperties;
+import app.echo_social.modules.search.dto.response.ProfileSuggestionDTO;
+import app.echo_social.modules.search.repository.IndexedProfile;
+import app.echo_social.modules.search.repository.ProfileDirectoryRepository;
+import app.echo_social.shared.service.SessionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementation for serving the profile typeahead from the in-process
+ * {@link ProfilePrefixIndex}.
+ *
+ * <p>
+ * The ids followed by each viewer are cached for the length of a typing
+ * session, so successive keystrokes are answered from memory alone. Cached
+ * follows are evicted once the viewer follows or unfollows a profile.
+ *
+ * <p>
+ * Profile changes made by this instance are indexed as they commit. Changes
+ * made by other instances are picked up by a scheduled refresh, which re-reads
+ * the profiles updated since the latest update seen, less
+ * {@code search.typeahead-refresh-lag}. Profiles deleted by another instance
+ * are only dropped once the index is next rebuilt.
+ */
+@Slf4j
+@Service
+class TypeaheadServiceImpl implements TypeaheadService {
+
+    private final SessionService sessionService;
+    private final ProfilePrefixIndex profilePrefixIndex;
+    private final ProfileDirectoryRepository profileDirectoryRepository;
+    private final Cache<UUID, Set<UUID>> followingCache;
+    private final Duration refreshLag;
+
+    private volatile Instant refreshedUntil;
+
+    // @formatter:off
+    public TypeaheadServiceImpl(
+        SessionService sessionService,
+        ProfilePrefixIndex profilePrefixIndex,
+        ProfileDirectoryRepository profileDirectoryRepository,
+        SearchProperties searchProperties
+    ) {
+        this.sessionService = sessionService;
+        this.profilePrefixIndex = profilePrefixIndex;
+        this.profileDirectoryRepository = profileDirectoryRepository;
+        this.followingCache = Caffeine.newBuilder()
+            .maximumSize(searchProperties.getFollowingCacheSize())
+            .expireAfterWrite(searchProperties.getFollowingCacheTtl())
+            .build();
+        this.refreshLag = searchProperties.getTypeaheadRefreshLag();
+    }
+    // @formatter:on
+
+    @Override
+    public List<ProfileSuggestionDTO> suggestProfiles(String query, int limit) {
+        UUID authUserId = sessionService.getAuthenticatedUserId();
+        Set<UUID> followingIds = followingCache.get(authUserId, profileDirectoryRepository::findFollowingIds);
+
+        return profilePrefixIndex.search(query, limit, followingIds).stream()
+            .map(profile -> new ProfileSuggestionDTO(
+                profile.id().toString(),
+                profile.username(),
+                profile.name(),
+                profile.imageUrl(),
+                followingIds.contains(profile.id())))
+            .toList();
+    }
+
+    @Override
+    public void index(UUID profileId) {
+        profileDirectoryRepository.findById(profileId)
+            .ifPresentOrElse(profilePrefixIndex::put, () -> profilePrefixIndex.remove(profileId));
+    }
+
+    @Override
+    public void remove(UUID profileId) {
+        profilePrefixIndex.remove(profileId);
+        followingCache.invalidate(profileId);
+    }
+
+    @Override
+    public void evictFollowing(UUID followerId) {
+        followingCache.invalidate(followerId);
+    }
+
+    @Override
+    public void rebuild() {
+        Instant latest = profileDirectoryRepository.forEachProfile(profilePrefixIndex::putIfAbsent);
+        refreshedUntil = latest != null ? latest : Instant.EPOCH;
+
+        log.info("Rebuilt profile typeahead from {} profiles", profilePrefixIndex.size());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${search.typeahead-refresh-interval:30s}")
+    public void refresh() {
+        Instant since = refreshedUntil;
+        if (since == null) {
+            return; // not yet rebuilt
+        }
+
+        Instant latest = profileDirectoryRepository.forEachProfileUpdatedSince(since.minus(refreshLag), profilePrefixIndex::put);
+        if (latest != null && latest.isAfter(since)) {
+            refreshedUntil = latest;
+        }
+    }
+
+}
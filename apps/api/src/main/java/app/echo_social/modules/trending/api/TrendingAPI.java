@@ -0,0 +1,32 @@
+package app.echo_social.modules.trending.api;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+import app.echo_social.shared.constant.ApiRoutes;
+import app.echo_social.shared.validation.annotations.Limit;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Trending API")
+@Validated
+public interface TrendingAPI {
+
+    @Operation(description = "Get the hashtags trending across recent posts")
+    @GetMapping(ApiRoutes.TRENDING.HASHTAGS)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<TrendingHashtagDTO>> getTrendingHashtags(
+        @Parameter(description = "Maximum number of hashtags", schema = @Schema(defaultValue = "10", minimum = "1", maximum = "50"))
+        @RequestParam(name = "limit", defaultValue = "10") @Limit int limit);
+
+}
@@ -0,0 +1,25 @@
+package app.echo_social.modules.trending.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import app.echo_social.modules.trending.api.TrendingAPI;
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+import app.echo_social.modules.trending.service.TrendingService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+class TrendingController implements TrendingAPI {
+
+    private final TrendingService trendingService;
+
+    @Override
+    public ResponseEntity<List<TrendingHashtagDTO>> getTrendingHashtags(int limit) {
+        return ResponseEntity.ok(trendingService.getTrendingHashtags(limit));
+    }
+
+}
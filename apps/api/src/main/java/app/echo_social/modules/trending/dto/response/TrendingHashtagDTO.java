@@ -0,0 +1,21 @@
+package app.echo_social.modules.trending.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+// @formatter:off
+/**
+ * Represents a standardised response format for a trending hashtag.
+ *
+ * @param tag   the normalised hashtag, without its leading {@code #}
+ * @param posts the number of posts using the hashtag within the trending window
+ */
+@Schema(
+    name = "TrendingHashtag",
+    description = "A hashtag trending across recent posts.",
+    accessMode = Schema.AccessMode.READ_ONLY
+)
+public record TrendingHashtagDTO(
+    @NotNull String tag,
+    @NotNull long posts
+) {}
@@ -0,0 +1,45 @@
+package app.echo_social.modules.trending.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.echo_social.modules.post.event.PostTaggedEvent;
+import app.echo_social.modules.trending.service.TrendingHashtags;
+import app.echo_social.modules.trending.service.TrendingService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the in-process trending counters in step with tagged posts.
+ *
+ * <p>
+ * Uses are counted once the originating transaction commits, so a rolled back
+ * post is never counted. The counters are rebuilt from the database once the
+ * application is ready, as they do not survive a restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TrendingEventListener {
+
+    private final TrendingHashtags trendingHashtags;
+    private final TrendingService trendingService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onPostTagged(PostTaggedEvent event) {
+        trendingHashtags.record(event.tags());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        try {
+            trendingService.rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to rebuild trending hashtags: {}", ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package app.echo_social.modules.trending.repository;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Repository for reading recent hashtag uses, to rebuild the in-process
+ * trending counters on startup.
+ */
+public interface HashtagUsageRepository {
+
+    /**
+     * Passes each use of a hashtag by a post created at or after {@code since} to
+     * {@code consumer}, row by row, without collecting them.
+     *
+     * @param since    the earliest creation time of the posts to read
+     * @param consumer receives the normalised hashtag and the creation time of
+     *                 the post using it, per use
+     */
+    void forEachSince(@NonNull Instant since, @NonNull BiConsumer<String, Instant> consumer);
+
+}
@@ -0,0 +1,36 @@
+package app.echo_social.modules.trending.repository;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+class HashtagUsageRepositoryImpl implements HashtagUsageRepository {
+
+    private final NamedParameterJdbcTemplate template;
+
+    private static final String ARG_SINCE = "since";
+
+    @Override
+    public void forEachSince(Instant since, BiConsumer<String, Instant> consumer) {
+        String sql = "SELECT ph.tag, ph.created_at FROM post_hashtags ph WHERE ph.created_at >= :since";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_SINCE, OffsetDateTime.ofInstant(since, ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+
+        template.query(sql, params, (RowCallbackHandler) rs -> consumer.accept(
+            rs.getString("tag"),
+            rs.getTimestamp("created_at").toInstant()));
+    }
+
+}
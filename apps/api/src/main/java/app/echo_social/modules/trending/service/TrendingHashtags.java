@@ -0,0 +1,217 @@
+package app.echo_social.modules.trending.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.lang.NonNull;
+
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+
+/**
+ * In-process trending hashtags, counted over a sliding window of recent posts
+ * and served from memory.
+ *
+ * <p>
+ * The window is split into {@code bucketCount} buckets of {@code bucketWidth}.
+ * Each hashtag has a ring of buckets, each holding its epoch (the bucket's
+ * index since the Unix epoch) and count packed into a single {@code long}, so a
+ * use is recorded with a CAS on one slot, without locking, and a bucket that
+ * has slid out of the window is reset by the first use that reclaims it.
+ *
+ * <p>
+ * A hashtag's score is the sum of its bucket counts, each decayed by its age
+ * with the given half-life, so that a tag rising now outranks one that was busy
+ * at the start of the window. The top hashtags by score are recomputed
+ * periodically, see {@link #recompute()}, and replaced atomically, so reads
+ * never contend with writes. Hashtags with no uses left in the window are
+ * dropped on recompute; a use racing with the drop of its tag may be lost.
+ *
+ * <p>
+ * Counters are per instance, and start empty. They are rebuilt from recent
+ * posts on startup, see {@link #record(Collection, Instant)}.
+ */
+public class TrendingHashtags {
+
+    private static final Comparator<Trend> BY_SCORE = Comparator
+        .comparingDouble(Trend::score)
+        .thenComparing(Trend::tag, Comparator.reverseOrder());
+
+    private final Clock clock;
+    private final long bucketWidthMillis;
+    private final int bucketCount;
+    private final double[] weights; // decay by bucket age
+    private final int capacity;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private volatile List<TrendingHashtagDTO> top = List.of();
+
+    /**
+     * Creates a new {@link TrendingHashtags}.
+     *
+     * @param clock       the clock to bucket uses by
+     * @param bucketWidth the width of each bucket
+     * @param bucketCount the number of buckets in the window
+     * @param halfLife    the age at which a use counts for half as much as a
+     *                    use now
+     * @param capacity    the maximum number of trending hashtags kept
+     */
+    public TrendingHashtags(Clock clock, Duration bucketWidth, int bucketCount, Duration halfLife, int capacity) {
+        if (bucketWidth.toMillis() < 1 || bucketCount < 1 || halfLife.toMillis() < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Trending window, half-life and capacity must be positive.");
+        }
+
+        this.clock = clock;
+        this.bucketWidthMillis = bucketWidth.toMillis();
+        this.bucketCount = bucketCount;
+        this.capacity = capacity;
+
+        double decay = Math.pow(0.5, (double) bucketWidthMillis / halfLife.toMillis());
+        this.weights = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            weights[age] = Math.pow(decay, age);
+        }
+    }
+
+    /**
+     * Records a use of each of the specified hashtags now.
+     *
+     * @param tags the normalised hashtags used
+     */
+    public void record(@NonNull Collection<String> tags) {
+        record(tags, clock.instant());
+    }
+
+    /**
+     * Records a use of each of the specified hashtags at {@code at}. Uses outside
+     * of the window are ignored, and uses in the future are recorded now.
+     *
+     * @param tags the normalised hashtags used
+     * @param at   the time of use, e.g. the creation time of the post
+     */
+    public void record(@NonNull Collection<String> tags, @NonNull Instant at) {
+        long current = epochOf(clock.instant());
+        long epoch = Math.min(epochOf(at), current);
+        if (current - epoch >= bucketCount) {
+            return;
+        }
+
+        for (String tag : tags) {
+            counters.computeIfAbsent(tag, t -> new Counter(bucketCount)).increment(epoch);
+        }
+    }
+
+    /**
+     * Recomputes the top hashtags by score, dropping any hashtag with no uses
+     * left in the window.
+     */
+    public void recompute() {
+        long current = epochOf(clock.instant());
+        PriorityQueue<Trend> heap = new PriorityQueue<>(capacity + 1, BY_SCORE);
+
+        counters.forEach((tag, counter) -> {
+            Trend trend = counter.trend(tag, current);
+            if (trend.posts() == 0) {
+                counters.remove(tag, counter);
+                return;
+            }
+
+            heap.offer(trend);
+            if (heap.size() > capacity) {
+                heap.poll(); // lowest score
+            }
+        });
+
+        List<Trend> trends = new ArrayList<>(heap);
+        trends.sort(BY_SCORE.reversed());
+        top = trends.stream()
+            .map(t -> new TrendingHashtagDTO(t.tag(), t.posts()))
+            .toList();
+    }
+
+    /**
+     * Returns the top hashtags, as of the last {@link #recompute()}.
+     *
+     * @param limit the maximum number of hashtags to return
+     * @return the trending hashtags, highest score first
+     */
+    public List<TrendingHashtagDTO> top(int limit) {
+        List<TrendingHashtagDTO> snapshot = top;
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    /**
+     * @return the start of the oldest bucket in the window, before which uses are
+     *         no longer counted
+     */
+    public Instant windowStart() {
+        long oldest = epochOf(clock.instant()) - bucketCount + 1;
+        return Instant.ofEpochMilli(oldest * bucketWidthMillis);
+    }
+
+    private long epochOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), bucketWidthMillis);
+    }
+
+    private record Trend(String tag, double score, long posts) {}
+
+    /**
+     * A ring of buckets for a single hashtag, each slot packing the bucket's
+     * epoch in its high 32 bits and its count in its low 32 bits.
+     */
+    private class Counter {
+
+        private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+        private final AtomicLongArray slots;
+
+        Counter(int bucketCount) {
+            this.slots = new AtomicLongArray(bucketCount);
+        }
+
+        void increment(long epoch) {
+            int index = (int) Math.floorMod(epoch, (long) bucketCount);
+            while (true) {
+                long slot = slots.get(index);
+                long slotEpoch = slot >>> 32;
+                if (slotEpoch > epoch) {
+                    return; // reclaimed by a newer bucket, the use is outside of the window
+                }
+
+                long next = slotEpoch == epoch
+                    ? slot + 1
+                    : (epoch << 32) | 1;
+                if (slots.compareAndSet(index, slot, next)) {
+                    return;
+                }
+            }
+        }
+
+        Trend trend(String tag, long current) {
+            double score = 0;
+            long posts = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                long age = current - (slot >>> 32);
+                if (age < 0 || age >= bucketCount) {
+                    continue;
+                }
+
+                long count = slot & COUNT_MASK;
+                score += count * weights[(int) age];
+                posts += count;
+            }
+            return new Trend(tag, score, posts);
+        }
+
+    }
+
+}
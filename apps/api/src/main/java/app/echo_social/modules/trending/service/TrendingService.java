@@ -0,0 +1,30 @@
+package app.echo_social.modules.trending.service;
+
+import java.util.List;
+
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+
+public interface TrendingService {
+
+    /**
+     * Fetches the hashtags trending across recent posts, as of the last
+     * recompute.
+     *
+     * @param limit the maximum number of hashtags to return
+     * @return a {@link List} of {@link TrendingHashtagDTO}, highest scoring
+     *         first; empty if no hashtags were used recently
+     */
+    List<TrendingHashtagDTO> getTrendingHashtags(int limit);
+
+    /**
+     * Recomputes the trending hashtags from the current counters.
+     */
+    void recompute();
+
+    /**
+     * Rebuilds the counters from the hashtags of posts created within the
+     * trending window, and recomputes the trending hashtags.
+     */
+    void rebuild();
+
+}
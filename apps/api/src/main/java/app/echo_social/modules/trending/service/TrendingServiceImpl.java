@@ -0,0 +1,50 @@
+package app.echo_social.modules.trending.service;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+import app.echo_social.modules.trending.repository.HashtagUsageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementation for serving the trending hashtags from the in-process
+ * {@link TrendingHashtags} counters.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class TrendingServiceImpl implements TrendingService {
+
+    private final TrendingHashtags trendingHashtags;
+    private final HashtagUsageRepository hashtagUsageRepository;
+
+    @Override
+    public List<TrendingHashtagDTO> getTrendingHashtags(int limit) {
+        return trendingHashtags.top(limit);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${trending.recompute-interval:30s}")
+    public void recompute() {
+        trendingHashtags.recompute();
+    }
+
+    @Override
+    public void rebuild() {
+        long[] uses = { 0 };
+        hashtagUsageRepository.forEachSince(trendingHashtags.windowStart(), (tag, createdAt) -> {
+            trendingHashtags.record(Set.of(tag), createdAt);
+            uses[0]++;
+        });
+        trendingHashtags.recompute();
+
+        log.info("Rebuilt trending hashtags from {} recent uses", uses[0]);
+    }
+
+}
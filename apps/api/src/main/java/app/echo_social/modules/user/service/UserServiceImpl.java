@@ -1,10 +1,15 @@
 package app.echo_social.modules.user.service;
 
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import app.echo_social.modules.post.repository.PostMentionRepository;
 import app.echo_social.modules.profile.entity.Profile;
+import app.echo_social.modules.profile.event.ProfileCreatedEvent;
+import app.echo_social.modules.profile.event.ProfileDeletedEvent;
+import app.echo_social.modules.profile.event.ProfileUpdatedEvent;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.modules.user.entity.User;
 import app.echo_social.modules.user.repository.UserRepository;
@@ -22,6 +27,8 @@ class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
+    private final PostMentionRepository postMentionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -39,6 +46,9 @@ class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public int deleteFromExternalSource(String externalId) {
+        userRepository.findByExternalId(externalId)
+            .ifPresent(user -> eventPublisher.publishEvent(new ProfileDeletedEvent(user.getId())));
+
         return userRepository.deleteByExternalId(externalId);
     }
 
@@ -61,6 +71,8 @@ class UserServiceImpl implements UserService {
         profile.setUsername(username);
         profile.setImageUrl(imageUrl);
         profile = profileRepository.save(profile);
+        postMentionRepository.saveAllForProfile(profile.getId(), username); // mentions made before sign-up
+        eventPublisher.publishEvent(new ProfileCreatedEvent(profile.getId()));
 
         return user;
     }
@@ -82,6 +94,7 @@ class UserServiceImpl implements UserService {
 
                 if (!profile.getUsername().equals(username)) { // never null
                     profile.setUsername(username);
+                    relinkMentions(profile);
                     changed = true;
                 }
 
@@ -92,10 +105,23 @@ class UserServiceImpl implements UserService {
 
                 if (changed) {
                     profileRepository.save(profile);
+                    eventPublisher.publishEvent(new ProfileUpdatedEvent(profile.getId()));
                 }
             });
 
         return user;
     }
 
+    /**
+     * Re-resolves the mentions of a {@link Profile} whose username has changed:
+     * mentions of the previous username no longer refer to it, whereas any made
+     * of the new username now do.
+     * 
+     * @param profile the {@link Profile} with its new username set
+     */
+    private void relinkMentions(Profile profile) {
+        postMentionRepository.deleteAllForProfile(profile.getId());
+        postMentionRepository.saveAllForProfile(profile.getId(), profile.getUsername());
+    }
+
 }
@@ -0,0 +1,48 @@
+package app.echo_social.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import app.echo_social.config.ClerkConfig;
+
+/**
+ * Custom {@link AuthorizationManager} for Spring Security that grants access to
+ * the admin routes only.
+ *
+ * <p>
+ * Access is granted when the authenticated JWT carries a {@code role} claim
+ * equal to {@code admin}, set on the user's Clerk public metadata and exposed
+ * through a custom session token claim. Requests without it are denied, and
+ * handled by {@link JwtAccessDeniedHandler}.
+ *
+ * <p>
+ * For more information, refer to:
+ * <ul>
+ * <li>https://clerk.com/docs/backend-requests/custom-session-token
+ * </ul>
+ */
+public class AdminAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isAdmin(authentication.get()));
+    }
+
+    /**
+     * Determine if the authenticated principal is an admin.
+     *
+     * @param authentication the Spring Security authentication object
+     * @return true if the principal is a JWT with the admin role, false otherwise
+     */
+    private boolean isAdmin(Authentication authentication) {
+        return authentication != null
+            && authentication.getPrincipal() instanceof Jwt jwt
+            && ClerkConfig.ADMIN_ROLE.equals(jwt.getClaimAsString(ClerkConfig.JWT_ROLE_CLAIM));
+    }
+
+}
@@ -0,0 +1,78 @@
+package app.echo_social.shared.conditional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Conditional GET support shared by the post, profile and feed endpoints.
+ *
+ * <p>
+ * Responses are tagged with a weak ETag derived from the versions of the
+ * entities they are built from, rather than from the serialized body, so that
+ * a request carrying a matching {@code If-None-Match} is answered with
+ * {@code 304 Not Modified} before any post or profile is hydrated.
+ *
+ * <p>
+ * The check is a no-op outside of a GET or HEAD request, e.g. when a service
+ * is called from a listener or a test.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {}
+
+    /**
+     * Builds a weak ETag from the given version components. The same components,
+     * in the same order, always produce the same tag.
+     *
+     * @param parts the components identifying the version of a response, e.g.
+     *              the viewer id and the versions of the entities shown
+     * @return the weak ETag, quoted
+     */
+    public static String eTag(Object... parts) {
+        String version = Arrays.stream(parts)
+            .map(String::valueOf)
+            .collect(Collectors.joining(":"));
+
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Tags the response of the current request with the given ETag, aborting the
+     * request if its {@code If-None-Match} matches it.
+     *
+     * <p>
+     * The ETag is only computed within a GET or HEAD request, so the version
+     * lookup it may require is skipped for other callers.
+     *
+     * @param eTag supplies the current ETag of the requested resource, or
+     *             {@literal null} if it does not exist, leaving the request to
+     *             proceed untagged
+     * @throws NotModifiedException if the request matches the current ETag
+     */
+    public static void checkNotModified(Supplier<String> eTag) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        String tag = eTag.get();
+        if (tag != null && new ServletWebRequest(request, attributes.getResponse()).checkNotModified(tag)) {
+            throw new NotModifiedException(tag);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package app.echo_social.shared.conditional;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a conditional GET matches the current version of the requested
+ * resource, aborting the request before the response is built. Handled by
+ * responding {@code 304 Not Modified}.
+ *
+ * <p>
+ * Signals an expected outcome rather than an error, so no stack trace is
+ * captured.
+ */
+@Getter
+public class NotModifiedException extends RuntimeException {
+
+    private final String eTag;
+
+    /**
+     * Creates a new {@link NotModifiedException}.
+     *
+     * @param eTag the entity tag matched by the request
+     */
+    public NotModifiedException(String eTag) {
+        super("Not modified: " + eTag, null, false, false);
+        this.eTag = eTag;
+    }
+
+}
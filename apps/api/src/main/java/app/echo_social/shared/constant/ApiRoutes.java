@@ -49,10 +49,41 @@ public class ApiRoutes {
         private static final String ROOT = BASE_URL + "/feed";
         public static final String HOMEPAGE = ROOT + "/homepage";
         public static final String DISCOVER = ROOT + "/discover";
+        public static final String DISCOVER_RANKED = ROOT + "/discover/ranked";
         public static final String POSTS = ROOT + "/profile/{id}/posts";
+        public static final String POSTS_EXPORT = ROOT + "/profile/{id}/posts/export";
         public static final String REPLIES = ROOT + "/profile/{id}/replies";
         public static final String LIKES = ROOT + "/profile/{id}/likes";
         public static final String MENTIONS = ROOT + "/profile/{id}/mentions";
+        public static final String HASHTAG = ROOT + "/hashtag/{tag}";
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    public static final class SEARCH {
+
+        private static final String ROOT = BASE_URL + "/search";
+        public static final String POSTS = ROOT + "/posts";
+        public static final String PROFILES = ROOT + "/profiles";
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    public static final class TRENDING {
+
+        private static final String ROOT = BASE_URL + "/trending";
+        public static final String HASHTAGS = ROOT + "/hashtags";
+
+    }
+
+    @NoArgsConstructor(access = PRIVATE)
+    public static final class ADMIN {
+
+        private static final String ROOT = BASE_URL + "/admin";
+        public static final String ALL = ROOT + "/**";
+        public static final String IMPORT_POSTS = ROOT + "/import/posts";
+        public static final String IMPORT_LIKES = ROOT + "/import/likes";
+        public static final String IMPORT_FOLLOWS = ROOT + "/import/follows";
 
     }
 
@@ -0,0 +1,66 @@
+package app.echo_social.shared.pagination;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link org.springframework.data.domain.Page} fetched via a
+ * {@link CursorRequest}, carrying the cursors to the adjacent pages.
+ *
+ * <p>
+ * Page navigation is derived from the presence of the cursors rather than page
+ * numbers, which are not known under keyset pagination.
+ *
+ * @see CursorRequest
+ * @see PageMapper
+ */
+public class CursorPage<T> extends PageImpl<T> {
+
+    private final transient PageCursor previousCursor;
+    private final transient PageCursor nextCursor;
+
+    /**
+     * Creates a new {@link CursorPage}.
+     *
+     * @param content        the content of this page
+     * @param pageable       the request used to fetch this page
+     * @param total          the total number of items available
+     * @param previousCursor the cursor to the previous page, or {@literal null}
+     *                       if there is none
+     * @param nextCursor     the cursor to the next page, or {@literal null} if
+     *                       there is none
+     */
+    // @formatter:off
+    public CursorPage(
+        List<T> content,
+        CursorRequest pageable,
+        long total,
+        @Nullable PageCursor previousCursor,
+        @Nullable PageCursor nextCursor
+    ) {
+        super(content, pageable, total);
+        this.previousCursor = previousCursor;
+        this.nextCursor = nextCursor;
+    } // @formatter:on
+
+    public @Nullable PageCursor getPreviousCursor() {
+        return previousCursor;
+    }
+
+    public @Nullable PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+}
@@ -0,0 +1,48 @@
+package app.echo_social.shared.pagination;
+
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+
+import app.echo_social.shared.validation.annotations.Cursor;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Pagination query parameters for resources that support keyset pagination in
+ * addition to offset pagination.
+ * 
+ * <p>
+ * Keyset pagination is opted into by supplying the {@code cursor} parameter,
+ * with an empty value for the first page, after which the {@code previous} and
+ * {@code next} links of each page carry the cursors to the adjacent pages.
+ */
+@Getter
+@Setter
+@ParameterObject
+public class CursorPageParameters extends PageParameters {
+
+    @Cursor
+    @Parameter(description = "Opaque keyset cursor, taken from the previous/next links. Supply an empty value to request the first page. Takes precedence over offset")
+    String cursor;
+
+    /**
+     * Builds the {@link Pageable} described by these parameters.
+     * 
+     * @return a {@link CursorRequest} if a cursor was supplied, else an
+     *         {@link OffsetLimitRequest}
+     */
+    @Override
+    public Pageable toPageable() {
+        if (cursor == null) {
+            return super.toPageable();
+        }
+
+        return CursorRequest.of(
+            cursor.isEmpty() ? null : PageCursor.decode(cursor),
+            getLimit(),
+            getTotalMode());
+    }
+
+}
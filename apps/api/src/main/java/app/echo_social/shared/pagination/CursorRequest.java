@@ -0,0 +1,216 @@
+package app.echo_social.shared.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * A custom implementation of {@link Pageable} that supports keyset pagination
+ * using an opaque {@link PageCursor} and <b>limit</b>, instead of an offset.
+ *
+ * <p>
+ * The cost of fetching a page is independent of how far the client has
+ * scrolled, as each page begins with an index seek to the cursor position. A
+ * {@literal null} cursor requests the first (newest) page.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ *
+ * CursorRequest pageRequest = CursorRequest.of(PageCursor.decode(token), 20);
+ * Page<Item> page = repository.findAll(pageRequest);
+ * </pre>
+ *
+ * @see Pageable
+ * @see PageCursor
+ * @see CursorPage
+ */
+public class CursorRequest implements Pageable {
+
+    private final PageCursor cursor;
+    private final int limit;
+    private final Sort sort;
+    private final TotalMode totalMode;
+
+    // ---- constructors ----
+
+    /**
+     * Creates a new unsorted {@link CursorRequest}.
+     *
+     * @param cursor the position to fetch the page from, or {@literal null} for
+     *               the first page
+     * @param limit  maximum number of items to be returned
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     */
+    public CursorRequest(PageCursor cursor, int limit) {
+        this(cursor, limit, Sort.unsorted());
+    }
+
+    /**
+     * Creates a new {@link CursorRequest} with sort parameters applied.
+     *
+     * @param cursor the position to fetch the page from, or {@literal null} for
+     *               the first page
+     * @param limit  maximum number of items to be returned
+     * @param sort   sort parameters for the data
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     * @throws IllegalArgumentException if {@code sort} is {@literal null}
+     */
+    public CursorRequest(PageCursor cursor, int limit, Sort sort) {
+        this(cursor, limit, sort, TotalMode.EXACT);
+    }
+
+    /**
+     * Creates a new {@link CursorRequest} with sort parameters and a
+     * {@link TotalMode} applied.
+     *
+     * @param cursor    the position to fetch the page from, or {@literal null}
+     *                  for the first page
+     * @param limit     maximum number of items to be returned
+     * @param sort      sort parameters for the data
+     * @param totalMode how the total number of items should be computed
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     * @throws IllegalArgumentException if {@code sort} is {@literal null}
+     * @throws IllegalArgumentException if {@code totalMode} is {@literal null}
+     */
+    public CursorRequest(PageCursor cursor, int limit, Sort sort, TotalMode totalMode) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than 0.");
+        }
+        if (sort == null) {
+            throw new IllegalArgumentException("Sort must not be null");
+        }
+        if (totalMode == null) {
+            throw new IllegalArgumentException("Total mode must not be null");
+        }
+
+        this.cursor = cursor;
+        this.limit = limit;
+        this.sort = sort;
+        this.totalMode = totalMode;
+    }
+
+    // ---- factory methods ----
+
+    /**
+     * Simple factory method to create an unsorted {@link CursorRequest}.
+     *
+     * @param cursor the position to fetch the page from, or {@literal null} for
+     *               the first page
+     * @param limit  maximum number of items to be returned
+     * @return instance of {@link CursorRequest}
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     */
+    public static CursorRequest of(PageCursor cursor, int limit) {
+        return new CursorRequest(cursor, limit);
+    }
+
+    /**
+     * Simple factory method to create an unsorted {@link CursorRequest} for the
+     * first page.
+     *
+     * @param limit maximum number of items to be returned
+     * @return instance of {@link CursorRequest}
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     */
+    public static CursorRequest first(int limit) {
+        return new CursorRequest(null, limit);
+    }
+
+    /**
+     * Simple factory method to create an unsorted {@link CursorRequest} with a
+     * {@link TotalMode} applied.
+     *
+     * @param cursor    the position to fetch the page from, or {@literal null}
+     *                  for the first page
+     * @param limit     maximum number of items to be returned
+     * @param totalMode how the total number of items should be computed
+     * @return instance of {@link CursorRequest}
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     * @throws IllegalArgumentException if {@code totalMode} is {@literal null}
+     */
+    public static CursorRequest of(PageCursor cursor, int limit, TotalMode totalMode) {
+        return new CursorRequest(cursor, limit, Sort.unsorted(), totalMode);
+    }
+
+    // ---- accessors ----
+
+    /**
+     * @return the position to fetch the page from, or {@literal null} for the
+     *         first page
+     */
+    public @Nullable PageCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @return whether the page should be fetched backward from the cursor, i.e.
+     *         the items newer than the cursor position
+     */
+    public boolean isBackward() {
+        return cursor != null && cursor.backward();
+    }
+
+    /**
+     * @return how the total number of items should be computed
+     */
+    public TotalMode getTotalMode() {
+        return totalMode;
+    }
+
+    // ---- implementations ----
+
+    /**
+     * Page numbers are not known under keyset pagination, so this is always 0.
+     */
+    @Override
+    public int getPageNumber() {
+        return 0;
+    }
+
+    @Override
+    public int getPageSize() {
+        return limit;
+    }
+
+    /**
+     * Offsets are not known under keyset pagination, so this is always 0.
+     */
+    @Override
+    public long getOffset() {
+        return 0;
+    }
+
+    @Override
+    public @NonNull Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public @NonNull Pageable next() {
+        throw new UnsupportedOperationException("Method is not supported by cursor pagination, see CursorPage.");
+    }
+
+    @Override
+    public @NonNull Pageable previousOrFirst() {
+        return first();
+    }
+
+    @Override
+    public @NonNull Pageable first() {
+        return new CursorRequest(null, getPageSize(), getSort(), getTotalMode());
+    }
+
+    @Override
+    public @NonNull Pageable withPage(int pageNumber) {
+        throw new UnsupportedOperationException("Method is not supported by cursor pagination.");
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor != null;
+    }
+
+}
@@ -26,6 +26,7 @@ public class OffsetLimitRequest implements Pageable {
     private final int offset;
     private final int limit;
     private final Sort sort;
+    private final TotalMode totalMode;
 
     // ---- constructors ----
 
@@ -52,6 +53,23 @@ public class OffsetLimitRequest implements Pageable {
      * @throws IllegalArgumentException if {@code sort} is {@literal null}
      */
     public OffsetLimitRequest(int offset, int limit, Sort sort) {
+        this(offset, limit, sort, TotalMode.EXACT);
+    }
+
+    /**
+     * Creates a new {@link OffsetLimitRequest} with sort parameters and a
+     * {@link TotalMode} applied.
+     * 
+     * @param offset    zero-indexed starting position
+     * @param limit     maximum number of items to be returned
+     * @param sort      sort parameters for the data
+     * @param totalMode how the total number of items should be computed
+     * @throws IllegalArgumentException if {@code offset} is negative
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     * @throws IllegalArgumentException if {@code sort} is {@literal null}
+     * @throws IllegalArgumentException if {@code totalMode} is {@literal null}
+     */
+    public OffsetLimitRequest(int offset, int limit, Sort sort, TotalMode totalMode) {
         if (offset < 0) {
             throw new IllegalArgumentException("Offset index must not be negative.");
         }
@@ -61,10 +79,14 @@ public class OffsetLimitRequest implements Pageable {
         if (sort == null) {
             throw new IllegalArgumentException("Sort must not be null");
         }
+        if (totalMode == null) {
+            throw new IllegalArgumentException("Total mode must not be null");
+        }
 
         this.offset = offset;
         this.limit = limit;
         this.sort = sort;
+        this.totalMode = totalMode;
     }
 
     // ---- factory methods ----
@@ -82,6 +104,31 @@ public class OffsetLimitRequest implements Pageable {
         return new OffsetLimitRequest(offset, limit);
     }
 
+    /**
+     * Simple factory method to create an unsorted {@link OffsetLimitRequest} with
+     * a {@link TotalMode} applied.
+     * 
+     * @param offset    zero-indexed starting position
+     * @param limit     maximum number of items to be returned
+     * @param totalMode how the total number of items should be computed
+     * @return instance of {@link OffsetLimitRequest}
+     * @throws IllegalArgumentException if {@code offset} is negative
+     * @throws IllegalArgumentException if {@code limit} is less than 1
+     * @throws IllegalArgumentException if {@code totalMode} is {@literal null}
+     */
+    public static OffsetLimitRequest of(int offset, int limit, TotalMode totalMode) {
+        return new OffsetLimitRequest(offset, limit, Sort.unsorted(), totalMode);
+    }
+
+    // ---- accessors ----
+
+    /**
+     * @return how the total number of items should be computed
+     */
+    public TotalMode getTotalMode() {
+        return totalMode;
+    }
+
     // ---- implementations ----
 
     @Override
@@ -106,7 +153,7 @@ public class OffsetLimitRequest implements Pageable {
 
     @Override
     public @NonNull Pageable next() {
-        return new OffsetLimitRequest((int) getOffset() + getPageSize(), getPageSize(), getSort());
+        return new OffsetLimitRequest((int) getOffset() + getPageSize(), getPageSize(), getSort(), getTotalMode());
     }
 
     @Override
@@ -116,13 +163,13 @@ public class OffsetLimitRequest implements Pageable {
 
     public Pageable previous() {
         return hasPrevious()
-            ? new OffsetLimitRequest((int) getOffset() - getPageSize(), getPageSize(), getSort())
+            ? new OffsetLimitRequest((int) getOffset() - getPageSize(), getPageSize(), getSort(), getTotalMode())
             : this;
     }
 
     @Override
     public @NonNull Pageable first() {
-        return new OffsetLimitRequest(0, getPageSize(), getSort());
+        return new OffsetLimitRequest(0, getPageSize(), getSort(), getTotalMode());
     }
 
     @Override
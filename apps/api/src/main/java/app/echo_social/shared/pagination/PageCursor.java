@@ -0,0 +1,121 @@
+package app.echo_social.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Represents a keyset pagination cursor, positioned on the
+ * {@code (created_at, id)} pair of a single item.
+ *
+ * <p>
+ * Cursors are exchanged with the client as opaque, URL-safe tokens via
+ * {@link #encode()} and {@link #decode(String)}. A cursor pointing
+ * {@code backward} selects the items newer than its position (the previous
+ * page), rather than older (the next page).
+ *
+ * @param createdAt the creation timestamp of the item the cursor is positioned
+ *                  on, truncated to microseconds to match the database
+ * @param id        the id of the item the cursor is positioned on, used as a
+ *                  tie-breaker for equal timestamps
+ * @param backward  whether the cursor selects items newer than its position
+ */
+public record PageCursor(Instant createdAt, UUID id, boolean backward) {
+
+    private static final String DELIMITER = "~";
+    private static final String FORWARD_FLAG = "n";
+    private static final String BACKWARD_FLAG = "p";
+
+    /**
+     * Creates a new {@link PageCursor}.
+     *
+     * @throws IllegalArgumentException if {@code createdAt} or {@code id} is
+     *                                  {@literal null}
+     */
+    public PageCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor timestamp must not be null.");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id must not be null.");
+        }
+
+        createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // ---- factory methods ----
+
+    /**
+     * Creates a cursor selecting the items older than the given position.
+     *
+     * @param createdAt the creation timestamp of the last item on a page
+     * @param id        the id of the last item on a page
+     * @return instance of {@link PageCursor}
+     */
+    public static PageCursor next(Instant createdAt, UUID id) {
+        return new PageCursor(createdAt, id, false);
+    }
+
+    /**
+     * Creates a cursor selecting the items newer than the given position.
+     *
+     * @param createdAt the creation timestamp of the first item on a page
+     * @param id        the id of the first item on a page
+     * @return instance of {@link PageCursor}
+     */
+    public static PageCursor previous(Instant createdAt, UUID id) {
+        return new PageCursor(createdAt, id, true);
+    }
+
+    // ---- encoding ----
+
+    /**
+     * Encodes the cursor into an opaque, URL-safe token.
+     *
+     * @return the encoded token
+     */
+    public String encode() {
+        String raw = String.join(
+            DELIMITER,
+            backward ? BACKWARD_FLAG : FORWARD_FLAG,
+            Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, createdAt)),
+            id.toString());
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the encoded token
+     * @return the decoded {@link PageCursor}
+     * @throws IllegalArgumentException if {@code token} is not a valid cursor
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor must not be blank.");
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+
+            if (parts.length != 3 || !(FORWARD_FLAG.equals(parts[0]) || BACKWARD_FLAG.equals(parts[0]))) {
+                throw new IllegalArgumentException("Malformed cursor.");
+            }
+
+            return new PageCursor(
+                Instant.EPOCH.plus(Long.parseLong(parts[1]), ChronoUnit.MICROS),
+                UUID.fromString(parts[2]),
+                BACKWARD_FLAG.equals(parts[0]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException("Malformed cursor.", e);
+        }
+    }
+
+}
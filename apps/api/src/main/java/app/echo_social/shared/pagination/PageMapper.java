@@ -3,6 +3,7 @@ package app.echo_social.shared.pagination;
 import static lombok.AccessLevel.PRIVATE;
 
 import java.net.URI;
+import java.util.Locale;
 
 import org.springframework.data.domain.Page;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -13,33 +14,96 @@ import lombok.NoArgsConstructor;
  * Utility mapper to convert the default Spring pagination {@link Page} to a
  * custom {@link Page}, which returns more concise information to the client
  * than the default.
+ *
+ * <p>
+ * The {@code previous} and {@code next} links carry the requested
+ * {@link TotalMode} forward, whatever the query string of the base URI, so a
+ * client following them is not charged an exact count from the second page on.
  */
 @NoArgsConstructor(access = PRIVATE)
 public class PageMapper {
 
     public static <T> Paged<T> toDTO(Page<T> page, String uri) {
+        if (page instanceof CursorPage<T> cursorPage) {
+            return toCursorDTO(cursorPage, uri);
+        }
+
         int offset = (int) page.getPageable().getOffset();
         int limit = page.getPageable().getPageSize();
 
-        URI previous = page.hasPrevious() ? constructUri(uri, offset - limit, limit) : null;
-        URI next = page.hasNext() ? constructUri(uri, offset + limit, limit) : null;
+        TotalMode totalMode = TotalMode.of(page.getPageable());
+
+        URI previous = page.hasPrevious() ? constructUri(uri, offset - limit, limit, totalMode) : null;
+        URI next = page.hasNext() ? constructUri(uri, offset + limit, limit, totalMode) : null;
 
         return new Paged<>(
             previous,
             next,
             offset,
             limit,
-            (int) page.getTotalElements(),
+            total(page),
+            page.getContent());
+    }
+
+    /**
+     * Maps a {@link CursorPage}, whose {@code previous} and {@code next} links
+     * carry cursors in place of offsets. The offset is always reported as 0, as it
+     * is not known under keyset pagination.
+     */
+    private static <T> Paged<T> toCursorDTO(CursorPage<T> page, String uri) {
+        int limit = page.getPageable().getPageSize();
+
+        TotalMode totalMode = TotalMode.of(page.getPageable());
+
+        URI previous = page.hasPrevious() ? constructCursorUri(uri, page.getPreviousCursor(), limit, totalMode) : null;
+        URI next = page.hasNext() ? constructCursorUri(uri, page.getNextCursor(), limit, totalMode) : null;
+
+        return new Paged<>(
+            previous,
+            next,
+            0,
+            limit,
+            total(page),
             page.getContent());
     }
 
-    private static URI constructUri(String baseUri, int offset, int limit) {
-        return UriComponentsBuilder
-            .fromUriString(baseUri)
+    /**
+     * Resolves the reported total of a {@link Page}, omitted if the request opted
+     * out of counting via {@link TotalMode#NONE}.
+     */
+    private static Integer total(Page<?> page) {
+        if (page instanceof UncountedPage<?> || TotalMode.of(page.getPageable()) == TotalMode.NONE) {
+            return null;
+        }
+
+        return (int) page.getTotalElements();
+    }
+
+    private static URI constructUri(String baseUri, int offset, int limit, TotalMode totalMode) {
+        return withTotal(UriComponentsBuilder.fromUriString(baseUri), totalMode)
             .replaceQueryParam("offset", offset)
             .replaceQueryParam("limit", limit)
-            .build()
+            .build(true) // the base is already encoded, as received by the servlet
             .toUri();
     }
 
+    private static URI constructCursorUri(String baseUri, PageCursor cursor, int limit, TotalMode totalMode) {
+        return withTotal(UriComponentsBuilder.fromUriString(baseUri), totalMode)
+            .replaceQueryParam("offset")
+            .replaceQueryParam("cursor", cursor.encode())
+            .replaceQueryParam("limit", limit)
+            .build(true) // the base is already encoded, as received by the servlet
+            .toUri();
+    }
+
+    /**
+     * Sets the {@code total} query parameter to the requested mode, omitted for
+     * the default {@link TotalMode#EXACT}.
+     */
+    private static UriComponentsBuilder withTotal(UriComponentsBuilder builder, TotalMode totalMode) {
+        return totalMode == TotalMode.EXACT
+            ? builder.replaceQueryParam("total")
+            : builder.replaceQueryParam("total", totalMode.name().toLowerCase(Locale.ROOT));
+    }
+
 }
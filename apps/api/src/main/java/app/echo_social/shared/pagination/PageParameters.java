@@ -1,9 +1,11 @@
 package app.echo_social.shared.pagination;
 
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 
 import app.echo_social.shared.validation.annotations.Limit;
 import app.echo_social.shared.validation.annotations.Offset;
+import app.echo_social.shared.validation.annotations.Total;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -23,4 +25,24 @@ public class PageParameters {
     @Parameter(description = "Page size", schema = @Schema(defaultValue = "20", minimum = "1", maximum = "50"))
     int limit = PaginationConstraints.DEFAULT_LIMIT;
 
+    @Total
+    @Parameter(description = "How the total is computed. 'estimated' is cheaper but may be inexact, 'none' omits it", schema = @Schema(defaultValue = "exact", allowableValues = { "exact", "estimated", "none" }))
+    String total;
+
+    /**
+     * @return the {@link TotalMode} described by these parameters
+     */
+    public TotalMode getTotalMode() {
+        return TotalMode.fromParameter(total);
+    }
+
+    /**
+     * Builds the {@link Pageable} described by these parameters.
+     * 
+     * @return an {@link OffsetLimitRequest}
+     */
+    public Pageable toPageable() {
+        return OffsetLimitRequest.of(getOffset(), getLimit(), getTotalMode());
+    }
+
 }
@@ -0,0 +1,212 @@
+package app.echo_social.shared.pagination;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes the page query and the count query of a paginated request.
+ *
+ * <p>
+ * In sequential mode, the count query runs on the calling thread after the
+ * page query, as a single round trip would. In concurrent mode, the count query
+ * is submitted to an executor, typically one virtual thread per task, and runs
+ * on a separate pooled connection while the page query runs on the calling
+ * thread, so the latency of a page is that of the slower query rather than the
+ * sum of both.
+ *
+ * <p>
+ * A concurrent count that does not complete within the configured timeout is
+ * abandoned, and the total is taken from the estimate query instead. Each
+ * concurrent count runs in its own read-only transaction, with its
+ * {@code statement_timeout} set to the time left until the deadline, so the
+ * database cancels an abandoned statement and its connection is returned to
+ * the pool rather than held until the count completes.
+ *
+ * @see TotalMode
+ */
+@Slf4j
+public class PageQueryExecutor implements AutoCloseable {
+
+    private static final String SQL_STATE_QUERY_CANCELED = "57014";
+
+    private final ExecutorService executor;
+    private final Duration countTimeout;
+    private final TransactionOperations transactions;
+    private final JdbcOperations jdbc;
+
+    private PageQueryExecutor(
+        ExecutorService executor,
+        Duration countTimeout,
+        TransactionOperations transactions,
+        JdbcOperations jdbc) {
+        this.executor = executor;
+        this.countTimeout = countTimeout;
+        this.transactions = transactions;
+        this.jdbc = jdbc;
+    }
+
+    // ---- factory methods ----
+
+    /**
+     * Creates a {@link PageQueryExecutor} running both queries on the calling
+     * thread, one after the other.
+     *
+     * @return instance of {@link PageQueryExecutor}
+     */
+    public static PageQueryExecutor sequential() {
+        return new PageQueryExecutor(null, null, null, null);
+    }
+
+    /**
+     * Creates a {@link PageQueryExecutor} running the count query on the given
+     * executor, concurrently with the page query.
+     *
+     * @param executor     the executor to run count queries on
+     * @param countTimeout the maximum time to wait for a count before falling
+     *                     back to an estimate
+     * @param transactions the transaction each count query runs within, read-only
+     * @param jdbc         the operations to set the statement timeout of each
+     *                     count transaction with, on the same data source as the
+     *                     count queries
+     * @return instance of {@link PageQueryExecutor}
+     * @throws IllegalArgumentException if {@code executor} is {@literal null}
+     * @throws IllegalArgumentException if {@code countTimeout} is {@literal null}
+     *                                  or negative
+     * @throws IllegalArgumentException if {@code transactions} or {@code jdbc} is
+     *                                  {@literal null}
+     */
+    public static PageQueryExecutor concurrent(
+        ExecutorService executor,
+        Duration countTimeout,
+        TransactionOperations transactions,
+        JdbcOperations jdbc) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        if (countTimeout == null || countTimeout.isNegative()) {
+            throw new IllegalArgumentException("Count timeout must not be null or negative");
+        }
+        if (transactions == null || jdbc == null) {
+            throw new IllegalArgumentException("Transactions and JDBC operations must not be null");
+        }
+
+        return new PageQueryExecutor(executor, countTimeout, transactions, jdbc);
+    }
+
+    // ---- execution ----
+
+    /**
+     * Executes the given page and count queries.
+     *
+     * @param pageQuery     the query fetching the content of the page
+     * @param countQuery    the query fetching the total, or {@literal null} if no
+     *                      total is required
+     * @param estimateQuery the query estimating the total, used when a
+     *                      concurrent count times out
+     * @return the content of the page and the total, {@literal null} if no
+     *         total was required
+     */
+    // @formatter:off
+    public <T> Result<T> execute(
+        Supplier<List<T>> pageQuery,
+        Supplier<Long> countQuery,
+        Supplier<Long> estimateQuery
+    ) {
+        if (executor == null || countQuery == null) {
+            List<T> content = pageQuery.get();
+            return new Result<>(content, countQuery == null ? null : countQuery.get());
+        }
+
+        long deadline = System.nanoTime() + countTimeout.toNanos();
+        CompletableFuture<Long> count = CompletableFuture.supplyAsync(() -> countUntil(countQuery, deadline), executor);
+
+        List<T> content;
+        try {
+            content = pageQuery.get();
+        } catch (RuntimeException e) {
+            count.cancel(true);
+            throw e;
+        }
+
+        return new Result<>(content, awaitCount(count, deadline, estimateQuery));
+    } // @formatter:on
+
+    /**
+     * Runs a concurrent count in a transaction whose statements are cancelled by
+     * the database once the deadline has passed.
+     */
+    private Long countUntil(Supplier<Long> countQuery, long deadline) {
+        long timeoutMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())); // 0 disables
+
+        return transactions.execute(status -> {
+            jdbc.execute("SET LOCAL statement_timeout = " + timeoutMillis);
+            return countQuery.get();
+        });
+    }
+
+    /**
+     * Waits for a concurrent count until the deadline, falling back to the
+     * estimate query if it has not completed by then, or was cancelled by its
+     * statement timeout.
+     */
+    private Long awaitCount(CompletableFuture<Long> count, long deadline, Supplier<Long> estimateQuery) {
+        try {
+            return count.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            count.cancel(true);
+            log.debug("Count query exceeded {}, falling back to an estimate", countTimeout);
+            return estimateQuery.get();
+        } catch (ExecutionException e) {
+            if (isQueryCanceled(e.getCause())) {
+                log.debug("Count query cancelled after {}, falling back to an estimate", countTimeout);
+                return estimateQuery.get();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Count query failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while awaiting count query", e);
+        }
+    }
+
+    private static boolean isQueryCanceled(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                && SQL_STATE_QUERY_CANCELED.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    /**
+     * The content of a page and the total number of items available.
+     *
+     * @param content the content of the page
+     * @param total   the total number of items available, or {@literal null} if
+     *                no total was required
+     */
+    public record Result<T>(List<T> content, Long total) {}
+
+}
@@ -20,7 +20,9 @@ import jakarta.validation.constraints.NotNull;
  * @param limit    the size of this page
  * @param offset   the offset of data fetched in this page (page size * page
  *                 number)
- * @param total    the total number of items available from this resource
+ * @param total    the total number of items available from this resource,
+ *                 estimated or omitted if requested via {@link TotalMode}
+ *                 (nullable)
  * @param items    the list of content returned in this response
  */
 public record Paged<T>(
@@ -28,6 +30,6 @@ public record Paged<T>(
     URI next,
     @NotNull int offset,
     @NotNull int limit,
-    @NotNull int total,
+    Integer total,
     @NotNull List<T> items
 ) {}
@@ -0,0 +1,57 @@
+package app.echo_social.shared.pagination;
+
+import java.util.Locale;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Determines how the {@code total} of a {@link Paged} response is computed.
+ *
+ * <ul>
+ * <li>{@link #EXACT} runs a full count query alongside each page (default)
+ * <li>{@link #ESTIMATED} reads maintained counters or planner statistics, which
+ * is cheap but may be inexact
+ * <li>{@link #NONE} skips the count entirely. The total is omitted, and whether
+ * a next page exists is determined by fetching one item beyond the limit
+ * </ul>
+ */
+public enum TotalMode {
+
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    /**
+     * Parses the {@code total} query parameter, case-insensitively.
+     *
+     * @param value the parameter value, or {@literal null} if absent
+     * @return the matching {@link TotalMode}, or {@link #EXACT} if absent
+     * @throws IllegalArgumentException if {@code value} is not a valid mode
+     */
+    public static TotalMode fromParameter(String value) {
+        if (value == null || value.isEmpty()) {
+            return EXACT;
+        }
+
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Resolves the {@link TotalMode} requested by the given {@link Pageable}.
+     *
+     * @param pageable the pagination configuration
+     * @return the requested mode, or {@link #EXACT} if the pageable does not
+     *         carry one
+     */
+    public static TotalMode of(Pageable pageable) {
+        if (pageable instanceof OffsetLimitRequest offsetLimitRequest) {
+            return offsetLimitRequest.getTotalMode();
+        }
+        if (pageable instanceof CursorRequest cursorRequest) {
+            return cursorRequest.getTotalMode();
+        }
+
+        return EXACT;
+    }
+
+}
@@ -0,0 +1,41 @@
+package app.echo_social.shared.pagination;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A {@link org.springframework.data.domain.Page} fetched without a count query,
+ * as requested by {@link TotalMode#NONE}.
+ *
+ * <p>
+ * Whether a next page exists is determined by the caller, typically by fetching
+ * one item beyond the limit, rather than derived from a total. The total
+ * reported by this page is a lower bound only, and is omitted by
+ * {@link PageMapper}.
+ *
+ * @see TotalMode
+ */
+public class UncountedPage<T> extends PageImpl<T> {
+
+    private final boolean hasNext;
+
+    /**
+     * Creates a new {@link UncountedPage}.
+     *
+     * @param content  the content of this page
+     * @param pageable the request used to fetch this page
+     * @param hasNext  whether a further page exists
+     */
+    public UncountedPage(List<T> content, Pageable pageable, boolean hasNext) {
+        super(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+        this.hasNext = hasNext;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+}
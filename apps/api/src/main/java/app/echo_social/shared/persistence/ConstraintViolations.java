@@ -0,0 +1,42 @@
+package app.echo_social.shared.persistence;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+
+/**
+ * Identifies the database constraint behind a
+ * {@link DataIntegrityViolationException}, so that a write can rely on the
+ * constraint rather than check for it first, and map its violation to the
+ * matching application error.
+ *
+ * <p>
+ * The constraint is read from the {@code constraint_name} field of the error
+ * reported by PostgreSQL, rather than parsed from its message, so another
+ * constraint named within the message, or a localised message, cannot be
+ * mistaken for it.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {}
+
+    /**
+     * Checks whether the exception was raised by a violation of the given
+     * constraint.
+     *
+     * @param ex         the exception raised by the write
+     * @param constraint the name of the constraint, as declared in the schema
+     * @return {@code true} if the constraint was violated, else {@code false}
+     */
+    public static boolean isViolationOf(@NonNull DataIntegrityViolationException ex, @NonNull String constraint) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psqlException) {
+                ServerErrorMessage error = psqlException.getServerErrorMessage();
+                return error != null && constraint.equals(error.getConstraint());
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,167 @@
+package app.echo_social.shared.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.function.BiConsumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import app.echo_social.shared.streaming.ItemSource;
+
+/**
+ * Writes rows into a {@code COPY ... FROM STDIN (FORMAT csv)} operation,
+ * buffering them into blocks of about {@value #BLOCK_SIZE} characters rather
+ * than sending each row on its own.
+ *
+ * <p>
+ * Strings are always quoted, so a null field, written unquoted and empty, is
+ * told apart from an empty string. Other values are written with
+ * {@link Object#toString()}, which for UUIDs, numbers, enums and ISO-8601
+ * instants is a form PostgreSQL accepts.
+ *
+ * <p>
+ * A failure to send a block is rethrown as an {@link UncheckedSQLException},
+ * so rows can be written from a {@link java.util.function.Consumer}.
+ * {@link #copy(JdbcOperations, String, ItemSource, BiConsumer)} runs a whole
+ * operation, for repositories streaming rows in bulk.
+ */
+public final class CsvCopyWriter {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder block = new StringBuilder(BLOCK_SIZE + 1024);
+    private boolean rowStarted;
+
+    CsvCopyWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    /**
+     * Streams rows into a {@code COPY ... FROM STDIN (FORMAT csv)} statement on
+     * the connection of the current transaction, cancelling the copy if it fails
+     * midway.
+     *
+     * @param jdbc   the operations to run the statement with
+     * @param sql    the {@code COPY} statement
+     * @param rows   the rows to copy
+     * @param fields writes the fields of a row, in the column order of the
+     *               statement
+     * @return the number of rows copied
+     */
+    public static <T> long copy(
+        JdbcOperations jdbc,
+        String sql,
+        ItemSource<T> rows,
+        BiConsumer<CsvCopyWriter, T> fields) {
+        Long copied = jdbc.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            try {
+                CsvCopyWriter writer = new CsvCopyWriter(copyIn);
+                rows.forEach(row -> {
+                    fields.accept(writer, row);
+                    writer.endRow();
+                });
+                return writer.finish();
+            } catch (UncheckedSQLException e) {
+                throw e.getCause(); // translated by the template
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    /**
+     * Appends a field to the current row.
+     *
+     * @param value the value of the field (nullable)
+     * @return this writer
+     */
+    public CsvCopyWriter field(Object value) {
+        if (rowStarted) {
+            block.append(',');
+        }
+        rowStarted = true;
+
+        if (value instanceof String text) {
+            block.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    block.append('"');
+                }
+                block.append(c);
+            }
+            block.append('"');
+        } else if (value != null) {
+            block.append(value);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current row, sending the block once full.
+     *
+     * @throws UncheckedSQLException if the block fails to send
+     */
+    void endRow() {
+        block.append('\n');
+        rowStarted = false;
+
+        if (block.length() >= BLOCK_SIZE) {
+            send();
+        }
+    }
+
+    /**
+     * Sends the last block and completes the operation.
+     *
+     * @return the number of rows copied
+     * @throws SQLException if the operation fails
+     */
+    long finish() throws SQLException {
+        try {
+            send();
+        } catch (UncheckedSQLException e) {
+            throw e.getCause();
+        }
+        return copyIn.endCopy();
+    }
+
+    private void send() {
+        if (block.isEmpty()) {
+            return;
+        }
+
+        byte[] bytes = block.toString().getBytes(StandardCharsets.UTF_8);
+        block.setLength(0);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+    }
+
+    /**
+     * Unchecked wrapper of a failure to send a block.
+     */
+    static final class UncheckedSQLException extends RuntimeException {
+
+        UncheckedSQLException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package app.echo_social.shared.relationship;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import app.echo_social.modules.profile.dto.response.ProfileRelationshipDTO;
+
+/**
+ * The relationships between a viewer and a page of posts and/or profiles.
+ *
+ * <p>
+ * Loaded via {@code viewer_overlay_v1} in a single round trip, as one row of
+ * ID arrays, and joined in memory with hash sets by the mappers building the
+ * page, instead of one correlated subquery per row and relationship.
+ *
+ * @param viewerId      the id of the viewer
+ * @param likedPostIds  the ids of the given posts liked by the viewer
+ * @param followingIds  the ids of the given profiles followed by the viewer
+ * @param followedByIds the ids of the given profiles following the viewer
+ */
+public record ViewerOverlay(
+    UUID viewerId,
+    Set<UUID> likedPostIds,
+    Set<UUID> followingIds,
+    Set<UUID> followedByIds
+) {
+
+    private static final String SQL = "SELECT * FROM viewer_overlay_v1(:viewer_id, CAST(ARRAY[:post_ids] AS UUID[]), CAST(ARRAY[:profile_ids] AS UUID[]))";
+
+    private static final String ARG_VIEWER_ID = "viewer_id";
+    private static final String ARG_POST_IDS = "post_ids";
+    private static final String ARG_PROFILE_IDS = "profile_ids";
+
+    /**
+     * Loads the relationships between the viewer and the given posts and
+     * profiles. No query is made if neither are given.
+     *
+     * @param template   the template to load the relationships with
+     * @param viewerId   the id of the viewer
+     * @param postIds    the ids of the posts on the page
+     * @param profileIds the ids of the profiles on the page, e.g. post authors
+     * @return instance of {@link ViewerOverlay}
+     */
+    // @formatter:off
+    public static ViewerOverlay fetch(
+        @NonNull NamedParameterJdbcTemplate template,
+        @NonNull UUID viewerId,
+        @NonNull Collection<UUID> postIds,
+        @NonNull Collection<UUID> profileIds
+    ) {
+        if (postIds.isEmpty() && profileIds.isEmpty()) {
+            return new ViewerOverlay(viewerId, Set.of(), Set.of(), Set.of());
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue(ARG_VIEWER_ID, viewerId)
+            .addValue(ARG_POST_IDS, List.copyOf(postIds))
+            .addValue(ARG_PROFILE_IDS, List.copyOf(new HashSet<>(profileIds)));
+
+        return template.queryForObject(SQL, params, (rs, rowNum) -> new ViewerOverlay(
+            viewerId,
+            toSet(rs, "liked_post_ids"),
+            toSet(rs, "following_ids"),
+            toSet(rs, "followed_by_ids")));
+    } // @formatter:on
+
+    /**
+     * @param postId the id of a post on the page
+     * @return whether the viewer liked the post
+     */
+    public boolean liked(UUID postId) {
+        return likedPostIds.contains(postId);
+    }
+
+    /**
+     * @param profileId the id of a profile on the page
+     * @return the relationship between the viewer and the profile, or
+     *         {@literal null} if the profile is the viewer
+     */
+    public @Nullable ProfileRelationshipDTO relationshipTo(UUID profileId) {
+        if (viewerId.equals(profileId)) {
+            return null;
+        }
+
+        return new ProfileRelationshipDTO(
+            followingIds.contains(profileId),
+            followedByIds.contains(profileId));
+    }
+
+    private static Set<UUID> toSet(ResultSet rs, String column) throws SQLException {
+        Array array = rs.getArray(column);
+        if (array == null) {
+            return Set.of();
+        }
+
+        Object[] values = (Object[]) array.getArray();
+        Set<UUID> ids = HashSet.newHashSet(values.length);
+        for (Object value : values) {
+            ids.add(value instanceof UUID id ? id : UUID.fromString(value.toString()));
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,25 @@
+package app.echo_social.shared.streaming;
+
+import java.util.function.Consumer;
+
+/**
+ * A source of items produced one at a time, e.g. rows read from the database a
+ * chunk at a time, rather than collected into a list first.
+ *
+ * <p>
+ * Items are pushed to the given sink as they are produced, so the source
+ * controls the resources held while producing them, such as a transaction.
+ *
+ * @param <T> the type of the items
+ */
+@FunctionalInterface
+public interface ItemSource<T> {
+
+    /**
+     * Produces every item of the source, in order, into {@code sink}.
+     *
+     * @param sink the consumer of the items
+     */
+    void forEach(Consumer<? super T> sink);
+
+}
@@ -0,0 +1,95 @@
+package app.echo_social.shared.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes the items of an {@link ItemSource} to the response as a JSON array,
+ * each item being serialized straight to the response stream as it is
+ * produced, so the memory held by a response does not grow with its length.
+ *
+ * <p>
+ * The stream is flushed every {@code flushInterval} items rather than after
+ * each one, so compression, when negotiated, works on larger blocks.
+ *
+ * <p>
+ * The body is written on an async request thread once the handler has
+ * returned, so the source must not rely on the request thread, e.g. on the
+ * security context.
+ *
+ * @param <T> the type of the items
+ */
+public class JsonArrayStreamingBody<T> implements StreamingResponseBody {
+
+    private static final int DEFAULT_FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+    private final ItemSource<T> source;
+    private final int flushInterval;
+
+    /**
+     * Creates a new {@link JsonArrayStreamingBody}, flushing every
+     * {@value #DEFAULT_FLUSH_INTERVAL} items.
+     *
+     * @param objectMapper the mapper to serialize items with
+     * @param source       the source of the items
+     */
+    public JsonArrayStreamingBody(ObjectMapper objectMapper, ItemSource<T> source) {
+        this(objectMapper, source, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a new {@link JsonArrayStreamingBody}.
+     *
+     * @param objectMapper  the mapper to serialize items with
+     * @param source        the source of the items
+     * @param flushInterval the number of items written between flushes
+     * @throws IllegalArgumentException if {@code flushInterval} is less than 1
+     */
+    public JsonArrayStreamingBody(ObjectMapper objectMapper, ItemSource<T> source, int flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("Flush interval must be greater than 0");
+        }
+
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // left to the container
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT); // a failed stream must not look complete
+            generator.writeStartArray();
+
+            int[] written = { 0 };
+            source.forEach(item -> {
+                try {
+                    writer.writeValue(generator, item);
+                    if (++written[0] % flushInterval == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+}
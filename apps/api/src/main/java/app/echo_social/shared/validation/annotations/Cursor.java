@@ -0,0 +1,53 @@
+package app.echo_social.shared.validation.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import app.echo_social.shared.validation.validators.CursorValidator;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Custom Jakarta Validation annotation for pagination query parameters.
+ *
+ * <p>
+ * The annotated {@link String} must be {@literal null}, empty, or a token that
+ * decodes to a valid {@link app.echo_social.shared.pagination.PageCursor}.
+ *
+ * <p>
+ * This annotation is intended to be used on method parameters or fields of type
+ * {@link String}. When applied, it triggers the validation logic defined in the
+ * associated {@link CursorValidator} class.
+ *
+ * <p>
+ * If the validation fails, a {@link ConstraintViolationException} will be
+ * thrown.
+ */
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+@Documented
+@Constraint(validatedBy = CursorValidator.class)
+public @interface Cursor {
+
+    /**
+     * @return the error message template
+     */
+    String message() default "Cursor is invalid";
+
+    /**
+     * @return the groups the constraint belongs to
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * @return the payload associated to the constraint
+     */
+    Class<? extends Payload>[] payload() default {};
+
+}
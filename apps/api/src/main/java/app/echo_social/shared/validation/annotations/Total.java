@@ -0,0 +1,53 @@
+package app.echo_social.shared.validation.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import app.echo_social.shared.validation.validators.TotalValidator;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Custom Jakarta Validation annotation for pagination query parameters.
+ *
+ * <p>
+ * The annotated {@link String} must be {@literal null}, empty, or the name of a
+ * {@link app.echo_social.shared.pagination.TotalMode}, case-insensitively.
+ *
+ * <p>
+ * This annotation is intended to be used on method parameters or fields of type
+ * {@link String}. When applied, it triggers the validation logic defined in the
+ * associated {@link TotalValidator} class.
+ *
+ * <p>
+ * If the validation fails, a {@link ConstraintViolationException} will be
+ * thrown.
+ */
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+@Documented
+@Constraint(validatedBy = TotalValidator.class)
+public @interface Total {
+
+    /**
+     * @return the error message template
+     */
+    String message() default "Total must be one of: exact, estimated, none";
+
+    /**
+     * @return the groups the constraint belongs to
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * @return the payload associated to the constraint
+     */
+    Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,36 @@
+package app.echo_social.shared.validation.validators;
+
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.validation.annotations.Cursor;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator implementation for the {@link Cursor} annotation.
+ * 
+ * <p>
+ * This class ensures that {@code cursor} arguments/fields as part of pagination
+ * query parameters are valid. An absent or empty cursor is valid, and denotes
+ * offset pagination or the first keyset page respectively.
+ * 
+ * @see Cursor
+ * @see ConstraintValidator
+ */
+public class CursorValidator implements ConstraintValidator<Cursor, String> {
+
+    @Override
+    public boolean isValid(String cursor, ConstraintValidatorContext context) {
+        if (cursor == null || cursor.isEmpty()) {
+            return true;
+        }
+
+        try {
+            PageCursor.decode(cursor);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+}
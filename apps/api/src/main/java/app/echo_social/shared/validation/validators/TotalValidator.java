@@ -0,0 +1,32 @@
+package app.echo_social.shared.validation.validators;
+
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.validation.annotations.Total;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator implementation for the {@link Total} annotation.
+ * 
+ * <p>
+ * This class ensures that {@code total} arguments/fields as part of pagination
+ * query parameters are valid. An absent or empty value is valid, and denotes an
+ * exact total.
+ * 
+ * @see Total
+ * @see ConstraintValidator
+ */
+public class TotalValidator implements ConstraintValidator<Total, String> {
+
+    @Override
+    public boolean isValid(String total, ConstraintValidatorContext context) {
+        try {
+            TotalMode.fromParameter(total);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+}
@@ -2,10 +2,17 @@ package app.echo_social.util;
 
 import static lombok.AccessLevel.PRIVATE;
 
-import java.util.EnumSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import app.echo_social.modules.post.entity.PostEntity;
 import app.echo_social.modules.post.entity.PostEntityType;
@@ -26,33 +33,159 @@ public class PostEntityExtractor {
 
     private static final Extractor extractor = new Extractor();
 
-    // Explicitly allow mentions, hashtags & URLs.
-    private static final Set<Extractor.Entity.Type> ALLOWED_ENTITY_TYPES = EnumSet.of(
-        Extractor.Entity.Type.MENTION, Extractor.Entity.Type.HASHTAG, Extractor.Entity.Type.URL);
+    // Explicitly allow mentions, hashtags & URLs, mapped once rather than by name per entity.
+    private static final Map<Extractor.Entity.Type, PostEntityType> ALLOWED_ENTITY_TYPES = new EnumMap<>(Map.of(
+        Extractor.Entity.Type.MENTION, PostEntityType.MENTION,
+        Extractor.Entity.Type.HASHTAG, PostEntityType.HASHTAG,
+        Extractor.Entity.Type.URL, PostEntityType.URL));
 
+    /**
+     * Extracts the mentions, hashtags and URLs of a post.
+     *
+     * <p>
+     * Text without any character an allowed entity requires, i.e. an {@code @}
+     * or {@code #} (or their full-width forms) or a dot, as in a URL domain, is
+     * returned as having none without running the TwitterText patterns, which
+     * is the case of most posts.
+     *
+     * @param postId the id of the post
+     * @param text   the text of the post
+     * @return the entities of the post, in order of appearance
+     * @throws IllegalArgumentException if {@code postId} or {@code text} is null
+     */
     public static List<PostEntity> extract(UUID postId, String text) {
         if (postId == null || text == null) {
             throw new IllegalArgumentException("Extractor arguments cannot be null.");
         }
+        if (!mayContainEntities(text)) {
+            return List.of();
+        }
 
         List<Extractor.Entity> twEntities = extractor.extractEntitiesWithIndices(text);
 
-        return twEntities
+        List<PostEntity> entities = new ArrayList<>(twEntities.size());
+        for (Extractor.Entity twEntity : twEntities) {
+            PostEntityType type = ALLOWED_ENTITY_TYPES.get(twEntity.getType());
+            if (type != null) {
+                entities.add(toPostEntity(postId, type, twEntity));
+            }
+        }
+        return Collections.unmodifiableList(entities);
+    }
+
+    /**
+     * Extracts the entities of many posts, one after the other.
+     *
+     * @param textsByPostId the text of each post, by post id
+     * @return the entities of each post, by post id, in the iteration order of
+     *         {@code textsByPostId}
+     * @throws IllegalArgumentException if a text is null
+     */
+    public static Map<UUID, List<PostEntity>> extractAll(Map<UUID, String> textsByPostId) {
+        Map<UUID, List<PostEntity>> entitiesByPostId = LinkedHashMap.newLinkedHashMap(textsByPostId.size());
+        textsByPostId.forEach((postId, text) -> entitiesByPostId.put(postId, extract(postId, text)));
+        return entitiesByPostId;
+    }
+
+    /**
+     * Extracts the entities of many posts in parallel across the given pool,
+     * e.g. for an import, blocking until every post is extracted.
+     *
+     * @param textsByPostId the text of each post, by post id
+     * @param pool          the pool to extract the posts on
+     * @return the entities of each post, by post id, in the iteration order of
+     *         {@code textsByPostId}
+     * @throws IllegalArgumentException if a text is null
+     */
+    public static Map<UUID, List<PostEntity>> extractAll(Map<UUID, String> textsByPostId, ForkJoinPool pool) {
+        List<Map.Entry<UUID, String>> posts = List.copyOf(textsByPostId.entrySet());
+
+        List<List<PostEntity>> extracted = pool
+            .submit(() -> posts // a parallel stream runs on the pool of the task it is started from
+                .parallelStream()
+                .map(post -> extract(post.getKey(), post.getValue()))
+                .toList())
+            .join();
+
+        Map<UUID, List<PostEntity>> entitiesByPostId = LinkedHashMap.newLinkedHashMap(posts.size());
+        for (int i = 0; i < posts.size(); i++) {
+            entitiesByPostId.put(posts.get(i).getKey(), extracted.get(i));
+        }
+        return entitiesByPostId;
+    }
+
+    /**
+     * Returns the distinct usernames mentioned by the given entities, lowercased
+     * to match usernames case-insensitively.
+     *
+     * @param entities the entities extracted from a post
+     * @return the mentioned usernames, or an empty set if there are none
+     */
+    public static Set<String> mentionedUsernames(List<PostEntity> entities) {
+        return distinctLowercased(entities, PostEntityType.MENTION);
+    }
+
+    /**
+     * Returns the distinct hashtags of the given entities, as written. They are
+     * lowercased by the database once recorded, with {@code lower()} as for every
+     * other writer of {@code post_hashtags}, rather than here, as
+     * {@link String#toLowerCase(Locale)} need not agree with {@code lower()} under
+     * the locale of the database.
+     *
+     * @param entities the entities extracted from a post
+     * @return the hashtags, or an empty set if there are none
+     */
+    public static Set<String> hashtags(List<PostEntity> entities) {
+        return entities
+            .stream()
+            .filter(e -> e.getType() == PostEntityType.HASHTAG)
+            .map(PostEntity::getText)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Normalises a hashtag, as supplied by a client, for lookup: strips a leading
+     * {@code #}. The lookup lowercases it with {@code lower()}, as the recorded
+     * hashtags are, so that {@code #SpringBoot} and {@code springboot} refer to
+     * the same tag.
+     *
+     * @param tag the hashtag, with or without its leading {@code #}
+     * @return the hashtag without its leading {@code #}
+     * @throws IllegalArgumentException if {@code tag} is null
+     */
+    public static String normalizeHashtag(String tag) {
+        if (tag == null) {
+            throw new IllegalArgumentException("Hashtag cannot be null.");
+        }
+
+        return tag.startsWith("#") ? tag.substring(1) : tag;
+    }
+
+    private static Set<String> distinctLowercased(List<PostEntity> entities, PostEntityType type) {
+        return entities
             .stream()
-            .filter(e -> ALLOWED_ENTITY_TYPES.contains(e.getType()))
-            .map(e -> toPostEntity(postId, e))
-            .toList();
+            .filter(e -> e.getType() == type)
+            .map(e -> e.getText().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
     }
 
-    private static PostEntity toPostEntity(UUID postId, Extractor.Entity twEntity) {
-        PostEntityType type = null;
-        try {
-            type = PostEntityType.valueOf(twEntity.getType().name());
-        } catch (Exception ex) {
-            throw new IllegalArgumentException(
-                "Could not convert TwitterText entity enum type: " + twEntity.getType().name());
+    /**
+     * Determine if the text contains any character an allowed entity requires.
+     * Conservative: text passing may still contain no entity.
+     */
+    private static boolean mayContainEntities(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+                case '@', '\uFF20', '#', '\uFF03', '.', '\uFF0E', '\u3002', '\uFF61':
+                    return true;
+                default:
+                    break;
+            }
         }
+        return false;
+    }
 
+    private static PostEntity toPostEntity(UUID postId, PostEntityType type, Extractor.Entity twEntity) {
         return new PostEntity(
             postId,
             type,
@@ -0,0 +1,26 @@
+/*  
+    V10__backfill_reply_rankings.sql
+
+    One-shot backfill of reply_rankings for replies created before rankings were
+    maintained by triggers. Reads the engagement counters from post_stats.
+*/
+
+INSERT INTO reply_rankings (post_id, parent_id, parent_author_id, author_responded, rank_score, created_at)
+SELECT
+    r.id,
+    r.parent_id,
+    parent.author_id,
+    EXISTS (
+        SELECT 1
+        FROM posts rr
+        WHERE rr.parent_id = r.id
+        AND rr.author_id = parent.author_id
+    ),
+    COALESCE(ps.like_count, 0) + COALESCE(ps.reply_count, 0),
+    r.created_at
+FROM posts r
+JOIN posts parent
+    ON parent.id = r.parent_id
+LEFT JOIN post_stats ps
+    ON ps.post_id = r.id
+ON CONFLICT (post_id) DO NOTHING;
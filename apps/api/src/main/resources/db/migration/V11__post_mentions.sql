@@ -0,0 +1,24 @@
+/*  
+    V11__post_mentions.sql
+
+    Mentions resolved to profile IDs at write time, by PostManagementServiceImpl
+    on post creation and by UserServiceImpl on a change of username, and read by
+    the fetch_feed_profile_mentions functions in place of joining post_entities
+    to profiles on lower(username) per request.
+
+    - created_at is copied from the mentioning post, so a page of the mentions
+      feed is a single range scan of the primary key, read backward.
+    - A post mentioning the same profile more than once is stored once.
+*/
+
+CREATE TABLE post_mentions (
+    profile_id    UUID NOT NULL,
+    created_at    TIMESTAMPTZ NOT NULL,
+    post_id       UUID NOT NULL,
+    PRIMARY KEY (profile_id, created_at, post_id),
+    CONSTRAINT fk_profile_id FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+CREATE INDEX index_post_mentions_post_id
+    ON post_mentions(post_id);
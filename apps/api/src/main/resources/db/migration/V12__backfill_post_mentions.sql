@@ -0,0 +1,20 @@
+/*  
+    V12__backfill_post_mentions.sql
+
+    One-shot backfill of post_mentions for posts created before mentions were
+    resolved at write time, by the same case-insensitive username match the
+    mentions feed previously applied per request.
+*/
+
+INSERT INTO post_mentions (profile_id, created_at, post_id)
+SELECT DISTINCT
+    pr.id,
+    p.created_at,
+    p.id
+FROM post_entities pe
+JOIN posts p
+    ON p.id = pe.post_id
+JOIN profiles pr
+    ON lower(pr.username) = lower(pe.text)
+WHERE pe.entity_type = 'MENTION'
+ON CONFLICT DO NOTHING;
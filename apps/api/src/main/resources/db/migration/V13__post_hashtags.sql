@@ -0,0 +1,23 @@
+/*  
+    V13__post_hashtags.sql
+
+    Hashtags of each post, normalised (lowercased, without the leading #) at
+    write time by PostManagementServiceImpl, and read by the
+    fetch_feed_hashtag functions.
+
+    - created_at is copied from the tagged post, so a page of a hashtag feed is
+      a single range scan of the primary key, read backward, however busy the
+      tag is, without touching post_entities.
+    - A post using the same hashtag more than once is stored once.
+*/
+
+CREATE TABLE post_hashtags (
+    tag           VARCHAR(280) NOT NULL,
+    created_at    TIMESTAMPTZ NOT NULL,
+    post_id       UUID NOT NULL,
+    PRIMARY KEY (tag, created_at, post_id),
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+CREATE INDEX index_post_hashtags_post_id
+    ON post_hashtags(post_id);
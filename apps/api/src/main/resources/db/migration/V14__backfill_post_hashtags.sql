@@ -0,0 +1,17 @@
+/*  
+    V14__backfill_post_hashtags.sql
+
+    One-shot backfill of post_hashtags for posts created before hashtags were
+    indexed at write time, from their HASHTAG entities.
+*/
+
+INSERT INTO post_hashtags (tag, created_at, post_id)
+SELECT DISTINCT
+    lower(pe.text),
+    p.created_at,
+    p.id
+FROM post_entities pe
+JOIN posts p
+    ON p.id = pe.post_id
+WHERE pe.entity_type = 'HASHTAG'
+ON CONFLICT DO NOTHING;
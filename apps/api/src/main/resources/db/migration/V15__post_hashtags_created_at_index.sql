@@ -0,0 +1,9 @@
+/*  
+    V15__post_hashtags_created_at_index.sql
+
+    Supports reading the hashtags of recent posts, across all tags, to rebuild
+    the in-process trending counters on startup.
+*/
+
+CREATE INDEX index_post_hashtags_created_at
+    ON post_hashtags(created_at);
@@ -0,0 +1,28 @@
+/*  
+    V16__discover_rankings.sql
+
+    Time-decayed engagement ranking of root-level posts for the ranked discover
+    feed, maintained incrementally by triggers on posts and post_likes (see
+    R__function_maintain_discover_rankings.sql).
+
+    - engagement is the post's weighted engagement (likes + 2 * replies).
+    - hot_score is ln(1 + engagement) + epoch(created_at) / 45000, so every
+      12.5 hours of age is worth one e-fold of engagement. Because age enters
+      as the creation time rather than as now() - created_at, a score only
+      changes when the post's engagement does, and the ordering it induces
+      decays over time without rescoring every post.
+
+    The top of the ranking is a single range scan of
+    index_discover_rankings_hot_score, read forward.
+*/
+
+CREATE TABLE discover_rankings (
+    post_id             UUID PRIMARY KEY,
+    engagement          BIGINT NOT NULL DEFAULT 0,
+    hot_score           DOUBLE PRECISION NOT NULL,
+    created_at          TIMESTAMPTZ NOT NULL,
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+CREATE INDEX index_discover_rankings_hot_score
+    ON discover_rankings(hot_score DESC, post_id DESC);
@@ -0,0 +1,23 @@
+/*  
+    V17__backfill_discover_rankings.sql
+
+    One-shot backfill of discover_rankings for root-level posts created before
+    rankings were maintained by triggers. Reads the engagement counters from
+    post_stats. The score is inlined, as discover_hot_score is only created by
+    the repeatable migrations that run after this one.
+*/
+
+INSERT INTO discover_rankings (post_id, engagement, hot_score, created_at)
+SELECT
+    p.id,
+    e.engagement,
+    ln(1 + e.engagement) + extract(epoch FROM p.created_at) / 45000,
+    p.created_at
+FROM posts p
+LEFT JOIN post_stats ps
+    ON ps.post_id = p.id
+CROSS JOIN LATERAL (
+    SELECT COALESCE(ps.like_count, 0) + 2 * COALESCE(ps.reply_count, 0) AS engagement
+) e
+WHERE p.parent_id IS NULL
+ON CONFLICT (post_id) DO NOTHING;
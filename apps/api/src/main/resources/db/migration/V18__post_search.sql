@@ -0,0 +1,33 @@
+/*  
+    V18__post_search.sql
+
+    Full-text search over posts.text, read by the fetch_search_posts functions.
+
+    - search_vector is a stored generated column, so it is kept in step with
+      the post text by the database, on insert and on every backfill alike.
+    - index_posts_search_vector (GIN) serves the matching of rare terms.
+    - index_posts_created_at_id serves the matching of common terms, walking
+      posts newest first and filtering on search_vector until the candidate
+      limit is reached, rather than collecting every match.
+
+    Lock and downtime cost: adding a STORED generated column rewrites the
+    whole posts table, computing to_tsvector for every row, under an ACCESS
+    EXCLUSIVE lock, which blocks every read and write of posts until the
+    migration commits. Neither index is built CONCURRENTLY, since Flyway runs
+    each migration in a transaction, so each build also blocks writes to
+    posts for the length of a full scan. On a large table, apply this
+    migration in a maintenance window. Otherwise, add a plain nullable column
+    kept up to date by a trigger, backfill it in batches outside the
+    migration, and build the indexes CONCURRENTLY in a non-transactional
+    migration.
+*/
+
+ALTER TABLE posts
+    ADD COLUMN search_vector TSVECTOR
+    GENERATED ALWAYS AS (to_tsvector('english', text)) STORED;
+
+CREATE INDEX index_posts_search_vector
+    ON posts USING GIN (search_vector);
+
+CREATE INDEX index_posts_created_at_id
+    ON posts(created_at DESC, id DESC);
@@ -0,0 +1,17 @@
+/*  
+    V19__stats_versions.sql
+
+    Per-row version counters on post_stats and profile_stats, incremented on
+    every update of the row (see R__function_bump_stats_version.sql).
+
+    Together with profiles.updated_at, they version everything a hydrated post
+    or profile is built from, including the viewer relationships, as a like or
+    follow always changes a counter of the post or profiles involved. Conditional
+    GETs compare them in place of re-hydrating the response.
+*/
+
+ALTER TABLE post_stats
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE profile_stats
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
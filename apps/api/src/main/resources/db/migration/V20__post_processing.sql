@@ -0,0 +1,27 @@
+/*  
+    V20__post_processing.sql
+
+    Marks each post once its text has been processed, i.e. once its entities,
+    mentions and hashtags have been recorded.
+
+    Posts are accepted before they are processed, by a background stage, so a
+    post left unprocessed by a failed batch or a restart is found through the
+    partial index and processed again. Existing posts were processed on
+    creation.
+
+    Existing posts are marked processed through a constant default, which is
+    stored once in the catalog rather than written to each row, so the table
+    is neither rewritten nor updated. The default is dropped straight after,
+    so new posts start unprocessed. Existing posts read as processed at the
+    epoch, as the actual time was not recorded.
+*/
+
+ALTER TABLE posts
+    ADD COLUMN processed_at TIMESTAMPTZ DEFAULT 'epoch';
+
+ALTER TABLE posts
+    ALTER COLUMN processed_at DROP DEFAULT;
+
+CREATE INDEX index_posts_unprocessed
+    ON posts(created_at)
+    WHERE processed_at IS NULL;
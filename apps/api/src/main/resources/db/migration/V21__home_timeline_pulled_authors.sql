@@ -0,0 +1,24 @@
+/*  
+    V21__home_timeline_pulled_authors.sql
+
+    Authors whose posts have been pulled at read time rather than fanned out,
+    recorded by fan_out_home_timeline whenever it skips their followers (see
+    R__function_home_timeline.sql).
+
+    Once such an author falls below the follower threshold, its posts are no
+    longer pulled, so the posts written in the meantime are pushed onto each
+    follower's timeline and the author is removed from the table.
+
+    Existing authors are recorded against the default threshold of 10000
+    followers, as the configured threshold is not known to the migration.
+*/
+
+CREATE TABLE home_timeline_pulled_authors (
+    author_id     UUID PRIMARY KEY,
+    CONSTRAINT fk_author_id FOREIGN KEY (author_id) REFERENCES profiles(id) ON DELETE CASCADE
+);
+
+INSERT INTO home_timeline_pulled_authors (author_id)
+SELECT ps.profile_id
+FROM profile_stats ps
+WHERE ps.follower_count >= 10000;
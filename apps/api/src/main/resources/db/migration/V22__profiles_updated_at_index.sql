@@ -0,0 +1,9 @@
+/*  
+    V22__profiles_updated_at_index.sql
+
+    Supports the incremental refresh of the in-process profile typeahead, which
+    re-reads the profiles updated since its previous refresh.
+*/
+
+CREATE INDEX index_profiles_updated_at
+    ON profiles(updated_at);
@@ -0,0 +1,37 @@
+/*  
+    V23__home_timeline_sizes.sql
+
+    Moves home timeline trimming off the push path (see
+    R__function_home_timeline.sql).
+
+    - home_timeline_sizes counts the entries pushed onto each timeline since it
+      was last trimmed, on top of its size at that trim. Entries removed by a
+      prune or a post delete are not subtracted, so the count is an upper bound
+      of the timeline size, and is reset whenever the timeline is trimmed.
+    - home_timeline_trim_queue holds the timelines whose count has grown past
+      their capacity plus a quarter of slack, to be trimmed by a scheduled job.
+
+    Existing timelines are counted, and queued if already over capacity plus
+    slack for the default capacity of 800.
+*/
+
+CREATE TABLE home_timeline_sizes (
+    viewer_id     UUID PRIMARY KEY,
+    entry_count   INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT fk_viewer_id FOREIGN KEY (viewer_id) REFERENCES profiles(id) ON DELETE CASCADE
+);
+
+CREATE TABLE home_timeline_trim_queue (
+    viewer_id     UUID PRIMARY KEY,
+    CONSTRAINT fk_viewer_id FOREIGN KEY (viewer_id) REFERENCES profiles(id) ON DELETE CASCADE
+);
+
+INSERT INTO home_timeline_sizes (viewer_id, entry_count)
+SELECT h.viewer_id, COUNT(*)
+FROM home_timeline h
+GROUP BY h.viewer_id;
+
+INSERT INTO home_timeline_trim_queue (viewer_id)
+SELECT s.viewer_id
+FROM home_timeline_sizes s
+WHERE s.entry_count > 1000;
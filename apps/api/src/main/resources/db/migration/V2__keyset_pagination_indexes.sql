@@ -0,0 +1,14 @@
+/*  
+    V2__keyset_pagination_indexes.sql
+
+    Supporting indexes for keyset (cursor) pagination of post feeds, ordered by
+    (created_at, id). Allows each page to start with an index seek to the cursor
+    position rather than walking and discarding OFFSET rows.
+*/
+
+-- posts
+CREATE INDEX index_posts_root_created_at_id
+    ON posts(created_at DESC, id DESC)
+    WHERE parent_id IS NULL;
+CREATE INDEX index_posts_author_id_created_at_id
+    ON posts(author_id, created_at DESC, id DESC);
@@ -0,0 +1,14 @@
+/*  
+    V3__post_stats.sql
+
+    Per-post engagement counters, maintained incrementally by triggers on
+    post_likes and posts (see R__function_maintain_post_stats.sql), and read by
+    posts_with_context_v1 in place of per-row COUNT(*)s.
+*/
+
+CREATE TABLE post_stats (
+    post_id        UUID PRIMARY KEY,
+    like_count     BIGINT NOT NULL DEFAULT 0,
+    reply_count    BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
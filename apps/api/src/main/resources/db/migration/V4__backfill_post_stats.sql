@@ -0,0 +1,17 @@
+/*  
+    V4__backfill_post_stats.sql
+
+    One-shot backfill of post_stats for posts created before the counters were
+    maintained by triggers.
+*/
+
+INSERT INTO post_stats (post_id, like_count, reply_count)
+SELECT
+    p.id,
+    (SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id),
+    (SELECT COUNT(*) FROM posts r WHERE r.parent_id = p.id)
+FROM posts p
+ON CONFLICT (post_id) DO UPDATE
+SET
+    like_count = EXCLUDED.like_count,
+    reply_count = EXCLUDED.reply_count;
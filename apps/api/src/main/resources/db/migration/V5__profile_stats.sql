@@ -0,0 +1,15 @@
+/*  
+    V5__profile_stats.sql
+
+    Per-profile counters, maintained incrementally by triggers on profiles,
+    profile_follows and posts (see R__function_maintain_profile_stats.sql), and
+    read by profiles_with_context_v1 in place of per-row COUNT(*)s.
+*/
+
+CREATE TABLE profile_stats (
+    profile_id         UUID PRIMARY KEY,
+    follower_count     BIGINT NOT NULL DEFAULT 0,
+    following_count    BIGINT NOT NULL DEFAULT 0,
+    post_count         BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_profile_id FOREIGN KEY (profile_id) REFERENCES profiles(id) ON DELETE CASCADE
+);
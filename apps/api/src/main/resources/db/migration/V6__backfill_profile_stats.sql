@@ -0,0 +1,19 @@
+/*  
+    V6__backfill_profile_stats.sql
+
+    One-shot backfill of profile_stats for profiles created before the counters
+    were maintained by triggers.
+*/
+
+INSERT INTO profile_stats (profile_id, follower_count, following_count, post_count)
+SELECT
+    p.id,
+    (SELECT COUNT(*) FROM profile_follows pf WHERE pf.followed_id = p.id),
+    (SELECT COUNT(*) FROM profile_follows pf WHERE pf.follower_id = p.id),
+    (SELECT COUNT(*) FROM posts po WHERE po.author_id = p.id)
+FROM profiles p
+ON CONFLICT (profile_id) DO UPDATE
+SET
+    follower_count = EXCLUDED.follower_count,
+    following_count = EXCLUDED.following_count,
+    post_count = EXCLUDED.post_count;
@@ -0,0 +1,25 @@
+/*  
+    V7__home_timeline.sql
+
+    Per-viewer materialised homepage feed, filled on write: each root post is
+    pushed onto its author's and each follower's timeline, and timelines are
+    backfilled/pruned on follow/unfollow (see R__function_home_timeline.sql).
+    Each timeline is capped to the newest feed.home-timeline-capacity entries.
+
+    created_at is copied from the post, so a page of the homepage feed is a
+    single range scan of index_home_timeline_viewer_id_created_at_post_id.
+*/
+
+CREATE TABLE home_timeline (
+    viewer_id     UUID NOT NULL,
+    post_id       UUID NOT NULL,
+    created_at    TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (viewer_id, post_id),
+    CONSTRAINT fk_viewer_id FOREIGN KEY (viewer_id) REFERENCES profiles(id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+CREATE INDEX index_home_timeline_viewer_id_created_at_post_id
+    ON home_timeline(viewer_id, created_at DESC, post_id DESC);
+CREATE INDEX index_home_timeline_post_id
+    ON home_timeline(post_id);
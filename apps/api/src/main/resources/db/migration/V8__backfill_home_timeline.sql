@@ -0,0 +1,31 @@
+/*  
+    V8__backfill_home_timeline.sql
+
+    One-shot backfill of home_timeline for posts and follows created before
+    timelines were filled on write. Each timeline is capped to its newest 800
+    entries, the default feed.home-timeline-capacity.
+*/
+
+INSERT INTO home_timeline (viewer_id, post_id, created_at)
+SELECT
+    ranked.viewer_id,
+    ranked.post_id,
+    ranked.created_at
+FROM (
+    SELECT
+        v.viewer_id,
+        p.id AS post_id,
+        p.created_at,
+        ROW_NUMBER() OVER (PARTITION BY v.viewer_id ORDER BY p.created_at DESC, p.id DESC) AS position
+    FROM posts p
+    JOIN (
+        SELECT pr.id AS viewer_id, pr.id AS author_id
+        FROM profiles pr
+        UNION
+        SELECT f.follower_id, f.followed_id
+        FROM profile_follows f
+    ) v ON v.author_id = p.author_id
+    WHERE p.parent_id IS NULL
+) ranked
+WHERE ranked.position <= 800
+ON CONFLICT (viewer_id, post_id) DO NOTHING;
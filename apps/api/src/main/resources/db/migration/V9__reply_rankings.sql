@@ -0,0 +1,29 @@
+/*  
+    V9__reply_rankings.sql
+
+    Per-reply ranking within its thread, maintained incrementally by triggers on
+    posts and post_likes (see R__function_maintain_reply_rankings.sql), and read
+    by fetch_post_replies_by_id in place of per-reply COUNT(*)s and EXISTS.
+
+    - rank_score is the reply's engagement (likes + replies).
+    - author_responded is set once the author of the parent post has replied to
+      the reply. parent_author_id is copied from the parent post, so the flag is
+      a single-row update on each incoming reply.
+
+    A page of replies is a single range scan of
+    index_reply_rankings_parent_id_rank, read backward.
+*/
+
+CREATE TABLE reply_rankings (
+    post_id             UUID PRIMARY KEY,
+    parent_id           UUID NOT NULL,
+    parent_author_id    UUID NOT NULL,
+    author_responded    BOOLEAN NOT NULL DEFAULT FALSE,
+    rank_score          BIGINT NOT NULL DEFAULT 0,
+    created_at          TIMESTAMPTZ NOT NULL,
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE,
+    CONSTRAINT fk_parent_id FOREIGN KEY (parent_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+CREATE INDEX index_reply_rankings_parent_id_rank
+    ON reply_rankings(parent_id, author_responded, rank_score, created_at);
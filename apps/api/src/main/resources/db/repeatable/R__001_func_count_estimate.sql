@@ -0,0 +1,27 @@
+/* 
+    R__001_func_count_estimate.sql
+
+    Estimates the number of rows a query returns from the planner's statistics,
+    via EXPLAIN, without executing it. Used by the *_count_estimate functions
+    where no maintained counter exists.
+
+    NOTE: p_query is executed as dynamic SQL, so callers must only ever pass
+          constant queries, with any values quoted via format(%L).
+*/
+DROP FUNCTION IF EXISTS count_estimate;
+
+CREATE OR REPLACE FUNCTION count_estimate (
+    p_query TEXT
+)
+RETURNS BIGINT
+AS
+$$
+    DECLARE
+        v_plan JSONB;
+    BEGIN
+        EXECUTE 'EXPLAIN (FORMAT JSON) ' || p_query INTO v_plan;
+        RETURN (v_plan -> 0 -> 'Plan' ->> 'Plan Rows')::BIGINT;
+    END;
+$$
+LANGUAGE PLPGSQL
+STABLE;
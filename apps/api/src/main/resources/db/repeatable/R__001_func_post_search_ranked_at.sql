@@ -0,0 +1,25 @@
+/* 
+    R__001_func_post_search_ranked_at.sql
+
+    The position of a post in search results: its creation time, boosted by up
+    to a day for relevance, via ts_rank normalised to [0, 1). A strong match
+    therefore outranks weaker matches posted up to a day later.
+
+    Expressed as a timestamp so search results are keyset paginated on the same
+    (created_at, id) cursors as the feeds. The position depends only on the post
+    and the query, so it is stable between pages.
+*/
+DROP FUNCTION IF EXISTS post_search_ranked_at;
+
+CREATE OR REPLACE FUNCTION post_search_ranked_at (
+    p_created_at TIMESTAMPTZ,
+    p_search_vector TSVECTOR,
+    p_query TSQUERY
+)
+RETURNS TIMESTAMPTZ
+AS
+$$
+    SELECT p_created_at + ts_rank(p_search_vector, p_query, 32) * INTERVAL '86400 seconds';
+$$
+LANGUAGE SQL
+STABLE;
@@ -3,16 +3,13 @@
 
     Base read model for posts.
     
-    For each post row: joins author profile, lateral-aggregates contextual counts,
-    and builds ordered entities JSON per-post (hashtags/mentions/urls). Designed
-    to be enriched further by viewer-aware functions.
+    For each post row: joins author profile and its trigger-maintained counters
+    (post_stats), and builds ordered entities JSON per-post (hashtags/mentions/urls).
+    Designed to be enriched further by viewer-aware functions.
 
-    NOTE: Performing COUNT(*)s like this will degrade in performance heavily with
-          increased row counts, but for a personal project it's fine.
-          
-          In reality, this would be better replaced with a MATERIALIZED VIEW,
-          or _count tables using triggers. Increased write overhead, 
-          but massive read performance gain.
+    NOTE: Counters are read from post_stats, maintained incrementally on writes
+          (see R__function_maintain_post_stats.sql), so hydration cost does not
+          grow with a post's likes or replies.
 */
 CREATE OR REPLACE VIEW posts_with_context_v1 AS
 SELECT
@@ -21,8 +18,8 @@ SELECT
     p.conversation_id,
     p.text,
     p.created_at,
-    lc.post_like_count,
-    rc.post_reply_count,
+    COALESCE(ps.like_count, 0) AS post_like_count,
+    COALESCE(ps.reply_count, 0) AS post_reply_count,
     0::bigint AS post_share_count,-- TODO
     pe.post_entities,
     a.id AS author_id,
@@ -35,17 +32,8 @@ FROM posts p
 INNER JOIN profiles a -- POST AUTHOR
     ON a.id = p.author_id
 
-LEFT JOIN LATERAL ( -- POST LIKE COUNT
-    SELECT COUNT(*) AS post_like_count
-    FROM post_likes pl
-    WHERE pl.post_id = p.id
-) lc ON TRUE
-
-LEFT JOIN LATERAL ( -- POST REPLY COUNT
-    SELECT COUNT(*) AS post_reply_count
-    FROM posts r
-    WHERE r.parent_id = p.id
-) AS rc ON TRUE
+LEFT JOIN post_stats ps -- POST COUNTS
+    ON ps.post_id = p.id
 
 LEFT JOIN LATERAL ( -- POST ENTITIES
     SELECT
@@ -0,0 +1,8 @@
+/*
+    R__002_func_post_viewer_overlay_v1.sql
+
+    Superseded by viewer_overlay_v1, which returns the viewer's relationships
+    for a whole page as arrays in a single row, rather than one row of
+    correlated subqueries per post.
+*/
+DROP FUNCTION IF EXISTS post_viewer_overlay_v1;
\ No newline at end of file
@@ -0,0 +1,43 @@
+/* 
+    R__002_func_simplified_profiles_with_viewer_v1.sql
+
+    Viewer overlay for simplified profiles. Accepts an array of profile IDs and a
+    viewer ID, adds viewer-specific relationship flags (self/following/followed_by),
+    and returns the simplified profile DTO shape.
+
+    Reads profiles directly, as the simplified shape carries no counters, so
+    follower/following lists never touch profile_stats.
+    
+    NOTE: Does not maintain ordering; callers must ORDER after enrichment.
+*/
+DROP FUNCTION IF EXISTS simplified_profiles_with_viewer_v1;
+
+CREATE OR REPLACE FUNCTION simplified_profiles_with_viewer_v1 (
+    p_profile_ids UUID[],
+    p_viewer_id UUID
+)
+RETURNS TABLE (
+    id                 UUID,
+    username           VARCHAR(255),
+    name               VARCHAR(50),
+    bio                VARCHAR(160),
+    image_url          VARCHAR(255),
+    rel_is_self        BOOLEAN,
+    rel_following      BOOLEAN,
+    rel_followed_by    BOOLEAN
+)
+AS
+$$
+    SELECT
+        p.id,
+        p.username,
+        p.name,
+        p.bio,
+        p.image_url,
+        (p.id = p_viewer_id) AS rel_is_self,
+        EXISTS(SELECT 1 FROM profile_follows pf WHERE pf.follower_id = p_viewer_id AND pf.followed_id = p.id) AS rel_following,
+        EXISTS(SELECT 1 FROM profile_follows pf WHERE pf.follower_id = p.id AND pf.followed_id = p_viewer_id) AS rel_followed_by
+    FROM profiles p
+    WHERE p.id = ANY(p_profile_ids)
+$$
+LANGUAGE SQL;
@@ -0,0 +1,34 @@
+/* 
+    R__002_func_viewer_overlay_v1.sql
+
+    Viewer overlay for a page of posts and/or profiles. Accepts a viewer ID, an
+    array of post IDs and an array of profile IDs, and returns a single row of
+    the viewer's relationships to them as arrays, to be joined in memory:
+
+        liked_post_ids     the given posts liked by the viewer
+        following_ids      the given profiles followed by the viewer
+        followed_by_ids    the given profiles following the viewer
+
+    Each array is read with a single index scan over the given IDs, rather than
+    one correlated subquery per post or profile row.
+*/
+DROP FUNCTION IF EXISTS viewer_overlay_v1;
+
+CREATE OR REPLACE FUNCTION viewer_overlay_v1 (
+    p_viewer_id UUID,
+    p_post_ids UUID[],
+    p_profile_ids UUID[]
+)
+RETURNS TABLE (
+    liked_post_ids     UUID[],
+    following_ids      UUID[],
+    followed_by_ids    UUID[]
+)
+AS
+$$
+    SELECT
+        ARRAY(SELECT pl.post_id FROM post_likes pl WHERE pl.author_id = p_viewer_id AND pl.post_id = ANY(p_post_ids))          AS liked_post_ids,
+        ARRAY(SELECT pf.followed_id FROM profile_follows pf WHERE pf.follower_id = p_viewer_id AND pf.followed_id = ANY(p_profile_ids)) AS following_ids,
+        ARRAY(SELECT pf.follower_id FROM profile_follows pf WHERE pf.followed_id = p_viewer_id AND pf.follower_id = ANY(p_profile_ids)) AS followed_by_ids
+$$
+LANGUAGE SQL;
\ No newline at end of file
@@ -0,0 +1,25 @@
+/* 
+    R__func_fetch_discover_rankings.sql
+
+    Ranked discover feed: selects the ids of the p_limit highest ranked
+    root-level posts, by hot_score then id, as maintained in discover_rankings.
+
+    Read in a single range scan of index_discover_rankings_hot_score, and
+    snapshotted by the application, which pages through the snapshot in memory.
+*/
+DROP FUNCTION IF EXISTS fetch_discover_rankings;
+
+CREATE OR REPLACE FUNCTION fetch_discover_rankings (
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    post_id     UUID
+)
+AS
+$$
+    SELECT dr.post_id
+    FROM discover_rankings dr
+    ORDER BY dr.hot_score DESC, dr.post_id DESC
+    LIMIT p_limit;
+$$
+LANGUAGE SQL;
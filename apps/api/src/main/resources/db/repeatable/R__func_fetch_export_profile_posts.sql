@@ -0,0 +1,42 @@
+/* 
+    R__func_fetch_export_profile_posts.sql
+
+    Profile Posts export (keyset): selects the target profile's root posts,
+    strictly older than the (p_cursor_created_at, p_cursor_id) cursor, orders by
+    newest first, limits, returns the post IDs for hydration.
+    A NULL cursor starts from the newest post.
+
+    The export reads one chunk per call, moving the cursor to the last post of
+    each (see PostStreamer), so no transaction or connection is held across the
+    chunks while they are written to the client.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_export_profile_posts;
+
+CREATE OR REPLACE FUNCTION fetch_export_profile_posts (
+    p_profile_id UUID,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    SELECT
+        p.id,
+        p.created_at
+    FROM posts p
+    WHERE p.author_id = p_profile_id
+    AND p.parent_id IS NULL
+    AND (p.created_at, p.id) < (
+        COALESCE(p_cursor_created_at, 'infinity'),
+        COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+    )
+    ORDER BY p.created_at DESC, p.id DESC
+    LIMIT p_limit
+$$
+LANGUAGE SQL STABLE;
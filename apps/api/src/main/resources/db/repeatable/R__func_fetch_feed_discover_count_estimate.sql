@@ -0,0 +1,14 @@
+/* 
+    R__func_fetch_feed_discover_count_estimate.sql
+
+    Estimated discover feed count, from the planner's statistics on posts.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_discover_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_feed_discover_count_estimate ()
+RETURNS BIGINT
+AS
+$$
+    SELECT count_estimate('SELECT 1 FROM posts WHERE parent_id IS NULL');
+$$
+LANGUAGE SQL;
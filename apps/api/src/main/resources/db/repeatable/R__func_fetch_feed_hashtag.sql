@@ -0,0 +1,32 @@
+/* 
+    R__func_fetch_feed_hashtag.sql
+
+    Hashtag feed: selects posts tagged with the hashtag p_tag, lowercased with
+    lower() as the tags in post_hashtags are, orders by newest first, paginates
+    with OFFSET/LIMIT, returns the post IDs for hydration.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_hashtag;
+
+CREATE OR REPLACE FUNCTION fetch_feed_hashtag (
+    p_tag TEXT,
+    p_offset INTEGER,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    SELECT
+        ph.post_id AS id,
+        ph.created_at
+    FROM post_hashtags ph
+    WHERE ph.tag = lower(p_tag)
+    ORDER BY ph.created_at DESC, ph.post_id DESC
+    OFFSET p_offset
+    LIMIT p_limit
+$$
+LANGUAGE SQL;
\ No newline at end of file
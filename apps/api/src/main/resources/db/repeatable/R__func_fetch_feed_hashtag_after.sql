@@ -0,0 +1,64 @@
+/* 
+    R__func_fetch_feed_hashtag_after.sql
+
+    Hashtag feed (keyset): selects posts tagged with the hashtag p_tag,
+    lowercased with lower() as the tags in post_hashtags are, strictly older than the
+    (p_cursor_created_at, p_cursor_id) cursor, orders by newest first, limits,
+    returns the post IDs for hydration. A NULL cursor starts from the newest post.
+
+    When p_backward is set, selects the posts strictly newer than the cursor
+    instead, closest to the cursor first, so the previous page can be served from
+    the same index range.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_hashtag_after;
+
+CREATE OR REPLACE FUNCTION fetch_feed_hashtag_after (
+    p_tag TEXT,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_backward BOOLEAN,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    WITH hashtag_posts AS (
+        (
+            SELECT
+                ph.post_id AS id,
+                ph.created_at
+            FROM post_hashtags ph
+            WHERE ph.tag = lower(p_tag)
+            AND NOT p_backward
+            AND (ph.created_at, ph.post_id) < (
+                COALESCE(p_cursor_created_at, 'infinity'),
+                COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+            )
+            ORDER BY ph.created_at DESC, ph.post_id DESC
+            LIMIT p_limit
+        )
+        UNION ALL
+        (
+            SELECT
+                ph.post_id AS id,
+                ph.created_at
+            FROM post_hashtags ph
+            WHERE ph.tag = lower(p_tag)
+            AND p_backward
+            AND (ph.created_at, ph.post_id) > (p_cursor_created_at, p_cursor_id)
+            ORDER BY ph.created_at ASC, ph.post_id ASC
+            LIMIT p_limit
+        )
+    )
+    SELECT
+        hp.id,
+        hp.created_at
+    FROM hashtag_posts hp
+    ORDER BY hp.created_at DESC, hp.id DESC
+$$
+LANGUAGE SQL;
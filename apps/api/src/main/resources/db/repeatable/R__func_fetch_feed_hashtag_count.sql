@@ -0,0 +1,13 @@
+DROP FUNCTION IF EXISTS fetch_feed_hashtag_count;
+
+CREATE OR REPLACE FUNCTION fetch_feed_hashtag_count (
+    p_tag TEXT
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT COUNT(*)
+    FROM post_hashtags ph
+    WHERE ph.tag = lower(p_tag);
+$$
+LANGUAGE SQL;
\ No newline at end of file
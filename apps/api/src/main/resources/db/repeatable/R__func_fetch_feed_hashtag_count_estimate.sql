@@ -0,0 +1,21 @@
+/* 
+    R__func_fetch_feed_hashtag_count_estimate.sql
+
+    Estimated count of the posts tagged with a hashtag, lowercased with lower()
+    as the tags in post_hashtags are, from the planner's statistics on
+    post_hashtags.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_hashtag_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_feed_hashtag_count_estimate (
+    p_tag TEXT
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT count_estimate(format(
+        'SELECT 1 FROM post_hashtags WHERE tag = %L',
+        lower(p_tag)
+    ));
+$$
+LANGUAGE SQL;
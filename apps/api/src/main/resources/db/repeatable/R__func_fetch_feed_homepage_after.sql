@@ -0,0 +1,10 @@
+/* 
+    R__func_fetch_feed_homepage_after.sql
+
+    Retired: the homepage feed is assembled from the home timeline push and pull
+    streams (see fetch_home_timeline_entries and
+    fetch_home_timeline_pulled_entries). The script is kept, rather than
+    removed, so that Flyway re-applies it to drop the function from existing
+    databases without failing validation.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_homepage_after;
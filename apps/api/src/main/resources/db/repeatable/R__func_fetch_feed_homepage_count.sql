@@ -1,15 +1,10 @@
-DROP FUNCTION IF EXISTS fetch_feed_homepage_count;
+/* 
+    R__func_fetch_feed_homepage_count.sql
 
-CREATE OR REPLACE FUNCTION fetch_feed_homepage_count (
-    p_viewer_id UUID
-)
-RETURNS BIGINT
-AS
-$$
-    SELECT COUNT(*)
-    FROM posts p
-    LEFT JOIN profile_follows f ON p.author_id = f.followed_id
-    WHERE p.parent_id IS NULL
-    AND (f.follower_id = p_viewer_id OR p.author_id = p_viewer_id);
-$$
-LANGUAGE SQL;
\ No newline at end of file
+    Retired: the homepage feed is assembled from the home timeline push and pull
+    streams (see fetch_home_timeline_entries and
+    fetch_home_timeline_pulled_entries). The script is kept, rather than
+    removed, so that Flyway re-applies it to drop the function from existing
+    databases without failing validation.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_homepage_count;
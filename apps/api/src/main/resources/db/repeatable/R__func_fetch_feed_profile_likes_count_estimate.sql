@@ -0,0 +1,20 @@
+/* 
+    R__func_fetch_feed_profile_likes_count_estimate.sql
+
+    Estimated count of the posts liked by a profile, from the planner's
+    statistics on post_likes.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_profile_likes_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_feed_profile_likes_count_estimate (
+    p_profile_id UUID
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT count_estimate(format(
+        'SELECT 1 FROM post_likes WHERE author_id = %L',
+        p_profile_id
+    ));
+$$
+LANGUAGE SQL;
@@ -0,0 +1,64 @@
+/* 
+    R__func_fetch_feed_profile_mentions_after.sql
+
+    Profile Mentions feed (keyset): selects posts mentioning the target profile,
+    as resolved at write time into post_mentions, strictly older than the
+    (p_cursor_created_at, p_cursor_id) cursor, orders by newest first, limits,
+    returns the post IDs for hydration. A NULL cursor starts from the newest post.
+
+    When p_backward is set, selects the posts strictly newer than the cursor
+    instead, closest to the cursor first, so the previous page can be served from
+    the same index range.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_profile_mentions_after;
+
+CREATE OR REPLACE FUNCTION fetch_feed_profile_mentions_after (
+    p_profile_id UUID,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_backward BOOLEAN,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    WITH profile_mentions AS (
+        (
+            SELECT
+                pm.post_id AS id,
+                pm.created_at
+            FROM post_mentions pm
+            WHERE pm.profile_id = p_profile_id
+            AND NOT p_backward
+            AND (pm.created_at, pm.post_id) < (
+                COALESCE(p_cursor_created_at, 'infinity'),
+                COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+            )
+            ORDER BY pm.created_at DESC, pm.post_id DESC
+            LIMIT p_limit
+        )
+        UNION ALL
+        (
+            SELECT
+                pm.post_id AS id,
+                pm.created_at
+            FROM post_mentions pm
+            WHERE pm.profile_id = p_profile_id
+            AND p_backward
+            AND (pm.created_at, pm.post_id) > (p_cursor_created_at, p_cursor_id)
+            ORDER BY pm.created_at ASC, pm.post_id ASC
+            LIMIT p_limit
+        )
+    )
+    SELECT
+        pm.id,
+        pm.created_at
+    FROM profile_mentions pm
+    ORDER BY pm.created_at DESC, pm.id DESC
+$$
+LANGUAGE SQL;
@@ -7,9 +7,8 @@ RETURNS BIGINT
 AS
 $$
     SELECT COUNT(*)
-    FROM posts p
-    INNER JOIN post_entities pe ON pe.post_id = p.id AND pe.entity_type = 'MENTION'
-    INNER JOIN profiles pr ON pr.id = p_profile_id AND lower(pr.username) = lower(pe.text)
+    FROM post_mentions pm
+    WHERE pm.profile_id = p_profile_id
 $$
 LANGUAGE SQL;
         
\ No newline at end of file
@@ -0,0 +1,66 @@
+/* 
+    R__func_fetch_feed_profile_posts_after.sql
+
+    Profile Posts feed (keyset): selects the target profile’s root posts,
+    strictly older than the (p_cursor_created_at, p_cursor_id) cursor, orders by
+    newest first, limits, returns the post IDs for hydration.
+    A NULL cursor starts from the newest post.
+
+    When p_backward is set, selects the posts strictly newer than the cursor
+    instead, closest to the cursor first, so the previous page can be served from
+    the same index range.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_profile_posts_after;
+
+CREATE OR REPLACE FUNCTION fetch_feed_profile_posts_after (
+    p_profile_id UUID,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_backward BOOLEAN,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    WITH profile_posts AS (
+        (
+            SELECT
+                p.id,
+                p.created_at
+            FROM posts p
+            WHERE p.author_id = p_profile_id
+            AND p.parent_id IS NULL
+            AND NOT p_backward
+            AND (p.created_at, p.id) < (
+                COALESCE(p_cursor_created_at, 'infinity'),
+                COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+            )
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT p_limit
+        )
+        UNION ALL
+        (
+            SELECT
+                p.id,
+                p.created_at
+            FROM posts p
+            WHERE p.author_id = p_profile_id
+            AND p.parent_id IS NULL
+            AND p_backward
+            AND (p.created_at, p.id) > (p_cursor_created_at, p_cursor_id)
+            ORDER BY p.created_at ASC, p.id ASC
+            LIMIT p_limit
+        )
+    )
+    SELECT
+        pp.id,
+        pp.created_at
+    FROM profile_posts pp
+    ORDER BY pp.created_at DESC, pp.id DESC
+$$
+LANGUAGE SQL;
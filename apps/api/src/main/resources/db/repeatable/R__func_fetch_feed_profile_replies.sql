@@ -2,45 +2,28 @@
     R__func_fetch_feed_profile_replies.sql
 
     Profile Replies feed: selects posts authored by the target profile that are
-    replies, orders by newest first, paginates with OFFSET/LIMIT, enriches via
-    the viewer overlay.
+    replies, orders by newest first, paginates with OFFSET/LIMIT, returns the post
+    IDs for hydration.
 
-    Final ORDER BY created_at DESC applied after enrichment.
+    Final ORDER BY created_at DESC, id DESC.
 */
 DROP FUNCTION IF EXISTS fetch_feed_profile_replies;
 
 CREATE OR REPLACE FUNCTION fetch_feed_profile_replies (
     p_profile_id UUID,
-    p_viewer_id UUID,
     p_offset INTEGER,
     p_limit INTEGER
 )
 RETURNS TABLE (
-    id                        UUID,
-    parent_id                 UUID,
-    conversation_id           UUID,
-    text                      VARCHAR(280),
-    created_at                TIMESTAMPTZ,
-    post_like_count           BIGINT,
-    post_reply_count          BIGINT,
-    post_share_count          BIGINT,
-    post_entities             JSONB,
-    author_id                 UUID,
-    author_username           VARCHAR(255),
-    author_name               VARCHAR(50),
-    author_bio                VARCHAR(160),
-    author_image_url          VARCHAR(255),
-    post_rel_liked            BOOLEAN,
-    post_rel_shared           BOOLEAN,
-    author_rel_is_self        BOOLEAN,
-    author_rel_following      BOOLEAN,
-    author_rel_followed_by    BOOLEAN
+    id            UUID,
+    created_at    TIMESTAMPTZ
 )
 AS
 $$
     WITH profile_replies AS (
         SELECT
-            p.id
+            p.id,
+            p.created_at
         FROM posts p
         WHERE p.author_id = p_profile_id
         AND p.parent_id IS NOT NULL
@@ -49,11 +32,9 @@ $$
         LIMIT p_limit
     )
     SELECT
-        pwc.*
-    FROM posts_with_context_and_viewer_v1 (
-        ARRAY(SELECT pr.id FROM profile_replies pr),
-        p_viewer_id
-    ) pwc
-    ORDER BY pwc.created_at DESC
+        pr.id,
+        pr.created_at
+    FROM profile_replies pr
+    ORDER BY pr.created_at DESC, pr.id DESC
 $$
 LANGUAGE SQL;
\ No newline at end of file
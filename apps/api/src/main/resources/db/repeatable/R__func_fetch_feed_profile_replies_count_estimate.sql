@@ -0,0 +1,20 @@
+/* 
+    R__func_fetch_feed_profile_replies_count_estimate.sql
+
+    Estimated count of a profile's replies, from the planner's statistics on
+    posts.
+*/
+DROP FUNCTION IF EXISTS fetch_feed_profile_replies_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_feed_profile_replies_count_estimate (
+    p_profile_id UUID
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT count_estimate(format(
+        'SELECT 1 FROM posts WHERE author_id = %L AND parent_id IS NOT NULL',
+        p_profile_id
+    ));
+$$
+LANGUAGE SQL;
@@ -0,0 +1,58 @@
+/* 
+    R__func_fetch_home_timeline_count.sql
+
+    Hybrid homepage feed count: the viewer's materialised home_timeline entries,
+    plus the root posts of followed profiles with at least p_follower_threshold
+    followers that are not already on the timeline.
+
+    The feed is read no deeper than p_capacity entries, so neither is the count:
+    each followed profile contributes at most its newest p_capacity root posts,
+    read backward off index_posts_author_id_created_at_id, and the total is capped
+    at p_capacity. A celebrity's full post history is never scanned.
+*/
+DROP FUNCTION IF EXISTS fetch_home_timeline_count;
+
+CREATE OR REPLACE FUNCTION fetch_home_timeline_count (
+    p_viewer_id UUID,
+    p_capacity INTEGER,
+    p_follower_threshold BIGINT
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT LEAST(
+        (
+            SELECT COUNT(*)
+            FROM (
+                SELECT 1
+                FROM home_timeline h
+                WHERE h.viewer_id = p_viewer_id
+                LIMIT p_capacity
+            ) t
+        )
+        +
+        (
+            SELECT COUNT(*)
+            FROM profile_follows f
+            JOIN profile_stats ps ON ps.profile_id = f.followed_id
+            CROSS JOIN LATERAL (
+                SELECT p.id
+                FROM posts p
+                WHERE p.author_id = f.followed_id
+                AND p.parent_id IS NULL
+                ORDER BY p.created_at DESC, p.id DESC
+                LIMIT p_capacity
+            ) p
+            WHERE f.follower_id = p_viewer_id
+            AND ps.follower_count >= p_follower_threshold
+            AND NOT EXISTS (
+                SELECT 1
+                FROM home_timeline h
+                WHERE h.viewer_id = p_viewer_id
+                AND h.post_id = p.id
+            )
+        ),
+        p_capacity
+    );
+$$
+LANGUAGE SQL;
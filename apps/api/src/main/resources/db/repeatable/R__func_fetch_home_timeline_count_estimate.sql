@@ -0,0 +1,41 @@
+/* 
+    R__func_fetch_home_timeline_count_estimate.sql
+
+    Estimated hybrid homepage feed count: the viewer's materialised home_timeline
+    entries plus the maintained post counters of followed profiles with at least
+    p_follower_threshold followers, each capped at p_capacity like the total, as
+    the feed is read no deeper. Pulled posts already on the timeline, and pulled
+    replies, are not discounted.
+*/
+DROP FUNCTION IF EXISTS fetch_home_timeline_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_home_timeline_count_estimate (
+    p_viewer_id UUID,
+    p_capacity INTEGER,
+    p_follower_threshold BIGINT
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT LEAST(
+        (
+            SELECT COUNT(*)
+            FROM (
+                SELECT 1
+                FROM home_timeline h
+                WHERE h.viewer_id = p_viewer_id
+                LIMIT p_capacity
+            ) t
+        )
+        +
+        (
+            SELECT COALESCE(SUM(LEAST(ps.post_count, p_capacity)), 0)::BIGINT
+            FROM profile_follows f
+            JOIN profile_stats ps ON ps.profile_id = f.followed_id
+            WHERE f.follower_id = p_viewer_id
+            AND ps.follower_count >= p_follower_threshold
+        ),
+        p_capacity
+    );
+$$
+LANGUAGE SQL;
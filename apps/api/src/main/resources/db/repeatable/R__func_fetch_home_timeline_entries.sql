@@ -0,0 +1,63 @@
+/* 
+    R__func_fetch_home_timeline_entries.sql
+
+    Home timeline push stream (keyset): selects the (post_id, created_at) entries
+    of the viewer's materialised home_timeline strictly older than the
+    (p_cursor_created_at, p_cursor_id) cursor, newest first, limited.
+    A NULL cursor starts from the newest entry.
+
+    When p_backward is set, selects the p_limit entries strictly newer than the
+    cursor instead, closest to the cursor.
+
+    Rows are returned newest first in both directions, for merging with the pull
+    stream by the application.
+*/
+DROP FUNCTION IF EXISTS fetch_home_timeline_entries;
+
+CREATE OR REPLACE FUNCTION fetch_home_timeline_entries (
+    p_viewer_id UUID,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_backward BOOLEAN,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    post_id       UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    SELECT
+        e.post_id,
+        e.created_at
+    FROM (
+        (
+            SELECT
+                h.post_id,
+                h.created_at
+            FROM home_timeline h
+            WHERE h.viewer_id = p_viewer_id
+            AND NOT p_backward
+            AND (h.created_at, h.post_id) < (
+                COALESCE(p_cursor_created_at, 'infinity'),
+                COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+            )
+            ORDER BY h.created_at DESC, h.post_id DESC
+            LIMIT p_limit
+        )
+        UNION ALL
+        (
+            SELECT
+                h.post_id,
+                h.created_at
+            FROM home_timeline h
+            WHERE h.viewer_id = p_viewer_id
+            AND p_backward
+            AND (h.created_at, h.post_id) > (p_cursor_created_at, p_cursor_id)
+            ORDER BY h.created_at ASC, h.post_id ASC
+            LIMIT p_limit
+        )
+    ) e
+    ORDER BY e.created_at DESC, e.post_id DESC
+$$
+LANGUAGE SQL;
@@ -0,0 +1,73 @@
+/* 
+    R__func_fetch_home_timeline_pulled_entries.sql
+
+    Home timeline pull stream (keyset): for each profile followed by the viewer
+    with at least p_follower_threshold followers, whose posts are not fanned out
+    on write, selects the (post_id, created_at) of its root posts strictly older
+    than the (p_cursor_created_at, p_cursor_id) cursor, newest first, limited per
+    author. A NULL cursor starts from the newest post.
+
+    When p_backward is set, selects the p_limit posts strictly newer than the
+    cursor instead, closest to the cursor.
+
+    Rows are returned grouped by author, each group newest first, so the
+    application can k-way merge the groups with the push stream.
+*/
+DROP FUNCTION IF EXISTS fetch_home_timeline_pulled_entries;
+
+CREATE OR REPLACE FUNCTION fetch_home_timeline_pulled_entries (
+    p_viewer_id UUID,
+    p_follower_threshold BIGINT,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_backward BOOLEAN,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    author_id     UUID,
+    post_id       UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    SELECT
+        f.followed_id,
+        e.post_id,
+        e.created_at
+    FROM profile_follows f
+    JOIN profile_stats ps ON ps.profile_id = f.followed_id
+    CROSS JOIN LATERAL (
+        (
+            SELECT
+                p.id AS post_id,
+                p.created_at
+            FROM posts p
+            WHERE p.author_id = f.followed_id
+            AND p.parent_id IS NULL
+            AND NOT p_backward
+            AND (p.created_at, p.id) < (
+                COALESCE(p_cursor_created_at, 'infinity'),
+                COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+            )
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT p_limit
+        )
+        UNION ALL
+        (
+            SELECT
+                p.id AS post_id,
+                p.created_at
+            FROM posts p
+            WHERE p.author_id = f.followed_id
+            AND p.parent_id IS NULL
+            AND p_backward
+            AND (p.created_at, p.id) > (p_cursor_created_at, p_cursor_id)
+            ORDER BY p.created_at ASC, p.id ASC
+            LIMIT p_limit
+        )
+    ) e
+    WHERE f.follower_id = p_viewer_id
+    AND ps.follower_count >= p_follower_threshold
+    ORDER BY f.followed_id, e.created_at DESC, e.post_id DESC
+$$
+LANGUAGE SQL;
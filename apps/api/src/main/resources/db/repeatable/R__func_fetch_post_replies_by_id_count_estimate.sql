@@ -0,0 +1,20 @@
+/* 
+    R__func_fetch_post_replies_by_id_count_estimate.sql
+
+    Estimated reply count of a post, read from its maintained reply counter.
+*/
+DROP FUNCTION IF EXISTS fetch_post_replies_by_id_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_post_replies_by_id_count_estimate (
+    p_id UUID
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT COALESCE((
+        SELECT ps.reply_count
+        FROM post_stats ps
+        WHERE ps.post_id = p_id
+    ), 0);
+$$
+LANGUAGE SQL;
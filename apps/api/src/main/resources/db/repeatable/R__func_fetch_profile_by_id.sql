@@ -1,14 +1,13 @@
 /* 
     R__func_fetch_profile_by_id.sql
 
-    Single-profile fetch by ID: returns one profile projected through
-    profiles_with_context_and_viewer_v1 for the given profile ID and viewer ID.
+    Single-profile fetch by ID: returns one profile from profiles_with_context_v1
+    for the given profile ID, without viewer relationships (see viewer_overlay_v1).
 */
 DROP FUNCTION IF EXISTS fetch_profile_by_id;
 
 CREATE OR REPLACE FUNCTION fetch_profile_by_id (
-    p_id UUID,
-    p_viewer_id UUID
+    p_id UUID
 )
 RETURNS TABLE (
     id                 UUID,
@@ -21,13 +20,10 @@ RETURNS TABLE (
     follower_count     BIGINT,
     following_count    BIGINT,
     post_count         BIGINT,
-    media_count        BIGINT,
-    rel_is_self        BOOLEAN,
-    rel_following      BOOLEAN,
-    rel_followed_by    BOOLEAN
+    media_count        BIGINT
 )
 AS
 $$
-    SELECT * FROM profiles_with_context_and_viewer_v1(ARRAY[p_id], p_viewer_id)
+    SELECT * FROM profiles_with_context_v1 pwc WHERE pwc.id = p_id
 $$
 LANGUAGE SQL;
\ No newline at end of file
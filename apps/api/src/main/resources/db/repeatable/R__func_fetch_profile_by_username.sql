@@ -1,14 +1,14 @@
 /* 
     R__func_fetch_profile_by_username.sql
 
-    Single-profile fetch by username: returns one profile projected through
-    profiles_with_context_and_viewer_v1 for the given profile ID and viewer ID.
+    Single-profile fetch by username: returns one profile from
+    profiles_with_context_v1 for the given username, without viewer relationships
+    (see viewer_overlay_v1).
 */
 DROP FUNCTION IF EXISTS fetch_profile_by_username;
 
 CREATE OR REPLACE FUNCTION fetch_profile_by_username (
-    p_username VARCHAR,
-    p_viewer_id UUID
+    p_username VARCHAR
 )
 RETURNS TABLE (
     id                 UUID,
@@ -21,16 +21,10 @@ RETURNS TABLE (
     follower_count     BIGINT,
     following_count    BIGINT,
     post_count         BIGINT,
-    media_count        BIGINT,
-    rel_is_self        BOOLEAN,
-    rel_following      BOOLEAN,
-    rel_followed_by    BOOLEAN
+    media_count        BIGINT
 )
 AS
 $$
-    SELECT * FROM profiles_with_context_and_viewer_v1 (
-        ARRAY(SELECT id FROM profiles WHERE lower(username) = lower(p_username)),
-        p_viewer_id
-    )
+    SELECT * FROM profiles_with_context_v1 pwc WHERE lower(pwc.username) = lower(p_username)
 $$
 LANGUAGE SQL;
\ No newline at end of file
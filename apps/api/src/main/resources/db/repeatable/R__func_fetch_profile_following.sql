@@ -2,15 +2,15 @@
     R__func_fetch_profile_following.sql
 
     Following list: selects following edges from a profile, sorts by newest first,
-    paginates with OFFSET/LIMIT, enriches via via the viewer overlay.
+    paginates with OFFSET/LIMIT, returns the simplified profile shape without
+    viewer relationships (see viewer_overlay_v1).
     
-    Final ORDER BY profile_follows.created_at DESC applied after enrichment.
+    Final ORDER BY profile_follows.created_at DESC.
 */
 DROP FUNCTION IF EXISTS fetch_profile_following;
 
 CREATE OR REPLACE FUNCTION fetch_profile_following (
     p_profile_id UUID,
-    p_viewer_id UUID,
     p_offset INTEGER,
     p_limit INTEGER
 )
@@ -19,10 +19,7 @@ RETURNS TABLE (
     username           VARCHAR(255),
     name               VARCHAR(50),
     bio                VARCHAR(160),
-    image_url          VARCHAR(255),
-    rel_is_self        BOOLEAN,
-    rel_following      BOOLEAN,
-    rel_followed_by    BOOLEAN
+    image_url          VARCHAR(255)
 )
 AS
 $$
@@ -37,19 +34,13 @@ $$
         LIMIT p_limit
     )
     SELECT
-        pwc.id,
-        pwc.username,
-        pwc.name,
-        pwc.bio,
-        pwc.image_url,
-        pwc.rel_is_self,
-        pwc.rel_following,
-        pwc.rel_followed_by
-    FROM profiles_with_context_and_viewer_v1 (
-        ARRAY(SELECT f.id FROM following f),
-        p_viewer_id
-    ) pwc
-    JOIN following f on f.id = pwc.id
+        p.id,
+        p.username,
+        p.name,
+        p.bio,
+        p.image_url
+    FROM following f
+    JOIN profiles p on p.id = f.id
     ORDER BY f.created_at DESC
 $$
 LANGUAGE SQL;
\ No newline at end of file
@@ -6,8 +6,10 @@ CREATE OR REPLACE FUNCTION fetch_profile_following_count (
 RETURNS BIGINT
 AS
 $$
-    SELECT COUNT(*)
-    FROM profile_follows f
-    WHERE f.follower_id = p_profile_id;
+    SELECT COALESCE((
+        SELECT ps.following_count
+        FROM profile_stats ps
+        WHERE ps.profile_id = p_profile_id
+    ), 0);
 $$
 LANGUAGE SQL;
\ No newline at end of file
@@ -0,0 +1,51 @@
+/* 
+    R__func_fetch_search_posts.sql
+
+    Post search: selects the p_candidates newest posts matching the web search
+    query p_query, orders them by post_search_ranked_at, paginates with
+    OFFSET/LIMIT, returns the post IDs for hydration. The ranked position is
+    returned as created_at, for use as the keyset cursor.
+
+    Matches are found via index_posts_search_vector or, for common terms, by
+    walking index_posts_created_at_id. enable_seqscan is off for the function,
+    steering the planner towards those indexes on a small or freshly analysed
+    table. This only adds a large cost to sequential scans, it does not forbid
+    them: the planner still picks one if no index path exists, e.g. if an
+    index is missing or invalid, or if its estimates make one cheaper anyway.
+    Check the plan with EXPLAIN after changing the query or the indexes.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_search_posts;
+
+CREATE OR REPLACE FUNCTION fetch_search_posts (
+    p_query TEXT,
+    p_candidates INTEGER,
+    p_offset INTEGER,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    WITH candidates AS (
+        SELECT
+            p.id,
+            post_search_ranked_at(p.created_at, p.search_vector, websearch_to_tsquery('english', p_query)) AS ranked_at
+        FROM posts p
+        WHERE p.search_vector @@ websearch_to_tsquery('english', p_query)
+        ORDER BY p.created_at DESC, p.id DESC
+        LIMIT p_candidates
+    )
+    SELECT
+        c.id,
+        c.ranked_at AS created_at
+    FROM candidates c
+    ORDER BY c.ranked_at DESC, c.id DESC
+    OFFSET p_offset
+    LIMIT p_limit
+$$
+LANGUAGE SQL
+SET enable_seqscan = off;
@@ -0,0 +1,78 @@
+/* 
+    R__func_fetch_search_posts_after.sql
+
+    Post search (keyset): selects the p_candidates newest posts matching the web
+    search query p_query, strictly ranked below the (p_cursor_created_at,
+    p_cursor_id) cursor by post_search_ranked_at, orders by rank, limits,
+    returns the post IDs for hydration. The ranked position is returned as
+    created_at, for use as the keyset cursor. A NULL cursor starts from the
+    highest ranked post.
+
+    When p_backward is set, selects the posts strictly ranked above the cursor
+    instead, closest to the cursor first.
+
+    The candidates are bounded, so a page costs the same however common the
+    terms and however deep the cursor. See fetch_search_posts for how matches
+    are found, and for what enable_seqscan = off does and does not guarantee.
+
+    Final ORDER BY created_at DESC, id DESC.
+*/
+DROP FUNCTION IF EXISTS fetch_search_posts_after;
+
+CREATE OR REPLACE FUNCTION fetch_search_posts_after (
+    p_query TEXT,
+    p_candidates INTEGER,
+    p_cursor_created_at TIMESTAMPTZ,
+    p_cursor_id UUID,
+    p_backward BOOLEAN,
+    p_limit INTEGER
+)
+RETURNS TABLE (
+    id            UUID,
+    created_at    TIMESTAMPTZ
+)
+AS
+$$
+    WITH candidates AS (
+        SELECT
+            p.id,
+            post_search_ranked_at(p.created_at, p.search_vector, websearch_to_tsquery('english', p_query)) AS ranked_at
+        FROM posts p
+        WHERE p.search_vector @@ websearch_to_tsquery('english', p_query)
+        ORDER BY p.created_at DESC, p.id DESC
+        LIMIT p_candidates
+    ),
+    search_posts AS (
+        (
+            SELECT
+                c.id,
+                c.ranked_at
+            FROM candidates c
+            WHERE NOT p_backward
+            AND (c.ranked_at, c.id) < (
+                COALESCE(p_cursor_created_at, 'infinity'),
+                COALESCE(p_cursor_id, 'ffffffff-ffff-ffff-ffff-ffffffffffff')
+            )
+            ORDER BY c.ranked_at DESC, c.id DESC
+            LIMIT p_limit
+        )
+        UNION ALL
+        (
+            SELECT
+                c.id,
+                c.ranked_at
+            FROM candidates c
+            WHERE p_backward
+            AND (c.ranked_at, c.id) > (p_cursor_created_at, p_cursor_id)
+            ORDER BY c.ranked_at ASC, c.id ASC
+            LIMIT p_limit
+        )
+    )
+    SELECT
+        sp.id,
+        sp.ranked_at AS created_at
+    FROM search_posts sp
+    ORDER BY sp.ranked_at DESC, sp.id DESC
+$$
+LANGUAGE SQL
+SET enable_seqscan = off;
@@ -0,0 +1,27 @@
+/* 
+    R__func_fetch_search_posts_count.sql
+
+    Count of the posts matching the web search query p_query, capped at the
+    p_candidates searched by fetch_search_posts. Like fetch_search_posts, sets
+    enable_seqscan off, which penalises sequential scans without ruling them
+    out.
+*/
+DROP FUNCTION IF EXISTS fetch_search_posts_count;
+
+CREATE OR REPLACE FUNCTION fetch_search_posts_count (
+    p_query TEXT,
+    p_candidates INTEGER
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT COUNT(*)
+    FROM (
+        SELECT 1
+        FROM posts p
+        WHERE p.search_vector @@ websearch_to_tsquery('english', p_query)
+        LIMIT p_candidates
+    ) matches;
+$$
+LANGUAGE SQL
+SET enable_seqscan = off;
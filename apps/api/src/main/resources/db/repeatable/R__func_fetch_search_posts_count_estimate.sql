@@ -0,0 +1,25 @@
+/* 
+    R__func_fetch_search_posts_count_estimate.sql
+
+    Estimated count of the posts matching the web search query p_query, from
+    the planner's statistics on posts.search_vector, capped at the p_candidates
+    searched by fetch_search_posts.
+*/
+DROP FUNCTION IF EXISTS fetch_search_posts_count_estimate;
+
+CREATE OR REPLACE FUNCTION fetch_search_posts_count_estimate (
+    p_query TEXT,
+    p_candidates INTEGER
+)
+RETURNS BIGINT
+AS
+$$
+    SELECT LEAST(
+        count_estimate(format(
+            'SELECT 1 FROM posts WHERE search_vector @@ websearch_to_tsquery(''english'', %L)',
+            p_query
+        )),
+        p_candidates
+    );
+$$
+LANGUAGE SQL;
@@ -0,0 +1,34 @@
+/* 
+    R__function_bump_stats_version.sql
+
+    Stats version triggers: increment the version of a post_stats or
+    profile_stats row whenever it is updated, whichever trigger the update
+    comes from, including the resets on TRUNCATE.
+*/
+CREATE OR REPLACE FUNCTION bump_stats_version()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        NEW.version := OLD.version + 1;
+
+        RETURN NEW;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP TRIGGER IF EXISTS trigger_bump_post_stats_version ON post_stats;
+
+CREATE TRIGGER trigger_bump_post_stats_version
+BEFORE UPDATE
+ON post_stats
+FOR EACH row
+EXECUTE FUNCTION bump_stats_version();
+
+DROP TRIGGER IF EXISTS trigger_bump_profile_stats_version ON profile_stats;
+
+CREATE TRIGGER trigger_bump_profile_stats_version
+BEFORE UPDATE
+ON profile_stats
+FOR EACH row
+EXECUTE FUNCTION bump_stats_version();
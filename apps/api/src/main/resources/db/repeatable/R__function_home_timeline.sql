@@ -0,0 +1,360 @@
+/* 
+    R__function_home_timeline.sql
+
+    Home timeline fan-out: keeps home_timeline, the per-viewer materialised
+    homepage feed, in step with new root posts and follow changes. Called by the
+    application once the originating transaction has committed, so each function
+    re-reads posts/profile_follows rather than trusting its arguments.
+
+    - fan_out_home_timeline pushes a root post onto its author's and each
+      follower's timeline. Posts by authors with at least p_follower_threshold
+      followers are pushed onto the author's timeline only, and are instead
+      pulled at read time (see fetch_home_timeline_pulled_entries). Such authors
+      are recorded in home_timeline_pulled_authors.
+    - backfill_home_timeline pushes a newly followed profile's most recent root
+      posts onto the follower's timeline, unless the profile is pulled.
+    - backfill_home_timeline_followers pushes the most recent root posts of a
+      recorded author that has fallen below p_follower_threshold onto each
+      follower's timeline, as they are no longer pulled, and forgets the
+      author. It is applied on unfollow and before every fan-out.
+    - prune_home_timeline removes an unfollowed profile's posts from the
+      follower's timeline.
+    - trim_home_timeline caps the given timelines to their newest p_capacity
+      entries.
+
+    Pushes do not trim. Each push records the entries it wrote per timeline in
+    home_timeline_sizes, via record_home_timeline_pushes, and queues the
+    timelines grown past p_capacity plus a quarter of slack onto
+    home_timeline_trim_queue. trim_queued_home_timelines trims a batch of
+    queued timelines, and is run on a schedule, so a push costs a single
+    counter upsert per timeline rather than a scan of each timeline. Counter
+    rows are upserted in viewer order, so concurrent pushes lock them in the
+    same order. Readers never see more than p_capacity entries of a timeline,
+    as the homepage feed reads no deeper.
+
+    Each function returns the number of timeline entries written or removed.
+*/
+DROP FUNCTION IF EXISTS trim_home_timeline;
+
+CREATE OR REPLACE FUNCTION trim_home_timeline (
+    p_viewer_ids UUID[],
+    p_capacity INTEGER
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_trimmed INTEGER;
+    BEGIN
+        -- the p_capacity-th newest entry of each timeline is its boundary,
+        -- everything strictly older than it is removed
+        DELETE FROM home_timeline h
+        USING (
+            SELECT
+                v.viewer_id,
+                b.created_at,
+                b.post_id
+            FROM UNNEST(p_viewer_ids) AS v(viewer_id)
+            CROSS JOIN LATERAL (
+                SELECT
+                    t.created_at,
+                    t.post_id
+                FROM home_timeline t
+                WHERE t.viewer_id = v.viewer_id
+                ORDER BY t.created_at DESC, t.post_id DESC
+                OFFSET p_capacity - 1
+                LIMIT 1
+            ) b
+        ) boundary
+        WHERE h.viewer_id = boundary.viewer_id
+        AND (h.created_at, h.post_id) < (boundary.created_at, boundary.post_id);
+
+        GET DIAGNOSTICS v_trimmed = ROW_COUNT;
+        RETURN v_trimmed;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS record_home_timeline_pushes;
+
+CREATE OR REPLACE FUNCTION record_home_timeline_pushes (
+    p_viewer_ids UUID[],
+    p_capacity INTEGER
+)
+RETURNS VOID
+AS
+$$
+    BEGIN
+        -- p_viewer_ids holds each timeline once per entry pushed onto it
+        WITH grown AS (
+            INSERT INTO home_timeline_sizes AS s (viewer_id, entry_count)
+            SELECT
+                v.viewer_id,
+                COUNT(*)
+            FROM UNNEST(p_viewer_ids) AS v(viewer_id)
+            GROUP BY v.viewer_id
+            ORDER BY v.viewer_id
+            ON CONFLICT (viewer_id) DO UPDATE
+            SET entry_count = s.entry_count + EXCLUDED.entry_count
+            RETURNING s.viewer_id, s.entry_count
+        )
+        INSERT INTO home_timeline_trim_queue (viewer_id)
+        SELECT g.viewer_id
+        FROM grown g
+        WHERE g.entry_count > p_capacity + p_capacity / 4
+        ORDER BY g.viewer_id
+        ON CONFLICT (viewer_id) DO NOTHING;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS trim_queued_home_timelines;
+
+CREATE OR REPLACE FUNCTION trim_queued_home_timelines (
+    p_capacity INTEGER,
+    p_limit INTEGER
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_viewer_ids UUID[];
+    BEGIN
+        -- SKIP LOCKED lets concurrent instances claim disjoint batches
+        WITH claimed AS (
+            DELETE FROM home_timeline_trim_queue q
+            WHERE q.viewer_id IN (
+                SELECT t.viewer_id
+                FROM home_timeline_trim_queue t
+                ORDER BY t.viewer_id
+                LIMIT p_limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING q.viewer_id
+        )
+        SELECT ARRAY_AGG(c.viewer_id ORDER BY c.viewer_id) INTO v_viewer_ids
+        FROM claimed c;
+
+        IF v_viewer_ids IS NULL THEN
+            RETURN 0;
+        END IF;
+
+        -- lock the counters in viewer order, as pushes do
+        PERFORM 1
+        FROM home_timeline_sizes s
+        WHERE s.viewer_id = ANY (v_viewer_ids)
+        ORDER BY s.viewer_id
+        FOR UPDATE;
+
+        PERFORM trim_home_timeline(v_viewer_ids, p_capacity);
+
+        UPDATE home_timeline_sizes s
+        SET entry_count = (
+            SELECT COUNT(*)
+            FROM home_timeline h
+            WHERE h.viewer_id = s.viewer_id
+        )
+        WHERE s.viewer_id = ANY (v_viewer_ids);
+
+        RETURN CARDINALITY(v_viewer_ids);
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS fan_out_home_timeline;
+
+CREATE OR REPLACE FUNCTION fan_out_home_timeline (
+    p_post_id UUID,
+    p_capacity INTEGER,
+    p_follower_threshold BIGINT
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_viewer_ids UUID[];
+    BEGIN
+        PERFORM backfill_home_timeline_followers(p.author_id, p_capacity, p_follower_threshold)
+        FROM posts p
+        WHERE p.id = p_post_id;
+
+        WITH inserted AS (
+            INSERT INTO home_timeline (viewer_id, post_id, created_at)
+            SELECT
+                v.viewer_id,
+                p.id,
+                p.created_at
+            FROM posts p
+            CROSS JOIN LATERAL (
+                SELECT p.author_id AS viewer_id
+                UNION ALL
+                SELECT f.follower_id
+                FROM profile_follows f
+                WHERE f.followed_id = p.author_id
+                AND COALESCE((
+                    SELECT ps.follower_count
+                    FROM profile_stats ps
+                    WHERE ps.profile_id = p.author_id
+                ), 0) < p_follower_threshold
+            ) v
+            WHERE p.id = p_post_id
+            AND p.parent_id IS NULL
+            ON CONFLICT (viewer_id, post_id) DO NOTHING
+            RETURNING home_timeline.viewer_id
+        )
+        SELECT ARRAY_AGG(i.viewer_id) INTO v_viewer_ids
+        FROM inserted i;
+
+        INSERT INTO home_timeline_pulled_authors (author_id)
+        SELECT p.author_id
+        FROM posts p
+        JOIN profile_stats ps ON ps.profile_id = p.author_id
+        WHERE p.id = p_post_id
+        AND p.parent_id IS NULL
+        AND ps.follower_count >= p_follower_threshold
+        ON CONFLICT (author_id) DO NOTHING;
+
+        PERFORM record_home_timeline_pushes(v_viewer_ids, p_capacity);
+        RETURN COALESCE(CARDINALITY(v_viewer_ids), 0);
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS backfill_home_timeline_followers;
+
+CREATE OR REPLACE FUNCTION backfill_home_timeline_followers (
+    p_author_id UUID,
+    p_capacity INTEGER,
+    p_follower_threshold BIGINT
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_viewer_ids UUID[];
+        v_inserted INTEGER;
+    BEGIN
+        -- deleting the record claims the backfill, a concurrent caller blocks on
+        -- the row and then finds nothing to do
+        DELETE FROM home_timeline_pulled_authors a
+        WHERE a.author_id = p_author_id
+        AND COALESCE((
+            SELECT ps.follower_count
+            FROM profile_stats ps
+            WHERE ps.profile_id = p_author_id
+        ), 0) < p_follower_threshold;
+
+        IF NOT FOUND THEN
+            RETURN 0;
+        END IF;
+
+        WITH recent AS (
+            SELECT
+                p.id,
+                p.created_at
+            FROM posts p
+            WHERE p.author_id = p_author_id
+            AND p.parent_id IS NULL
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT p_capacity
+        ),
+        inserted AS (
+            INSERT INTO home_timeline (viewer_id, post_id, created_at)
+            SELECT
+                f.follower_id,
+                r.id,
+                r.created_at
+            FROM profile_follows f
+            CROSS JOIN recent r
+            WHERE f.followed_id = p_author_id
+            ON CONFLICT (viewer_id, post_id) DO NOTHING
+            RETURNING home_timeline.viewer_id
+        )
+        SELECT ARRAY_AGG(i.viewer_id), COUNT(*) INTO v_viewer_ids, v_inserted
+        FROM inserted i;
+
+        PERFORM record_home_timeline_pushes(v_viewer_ids, p_capacity);
+        RETURN v_inserted;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS backfill_home_timeline;
+
+CREATE OR REPLACE FUNCTION backfill_home_timeline (
+    p_viewer_id UUID,
+    p_author_id UUID,
+    p_capacity INTEGER,
+    p_follower_threshold BIGINT
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_viewer_ids UUID[];
+        v_inserted INTEGER;
+    BEGIN
+        WITH inserted AS (
+            INSERT INTO home_timeline (viewer_id, post_id, created_at)
+            SELECT
+                p_viewer_id,
+                p.id,
+                p.created_at
+            FROM posts p
+            WHERE p.author_id = p_author_id
+            AND p.parent_id IS NULL
+            AND EXISTS (
+                SELECT 1
+                FROM profile_follows f
+                WHERE f.follower_id = p_viewer_id
+                AND f.followed_id = p_author_id
+            )
+            AND COALESCE((
+                SELECT ps.follower_count
+                FROM profile_stats ps
+                WHERE ps.profile_id = p_author_id
+            ), 0) < p_follower_threshold
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT p_capacity
+            ON CONFLICT (viewer_id, post_id) DO NOTHING
+            RETURNING home_timeline.viewer_id
+        )
+        SELECT ARRAY_AGG(i.viewer_id), COUNT(*) INTO v_viewer_ids, v_inserted
+        FROM inserted i;
+
+        PERFORM record_home_timeline_pushes(v_viewer_ids, p_capacity);
+        RETURN v_inserted;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS prune_home_timeline;
+
+CREATE OR REPLACE FUNCTION prune_home_timeline (
+    p_viewer_id UUID,
+    p_author_id UUID
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_pruned INTEGER;
+    BEGIN
+        DELETE FROM home_timeline h
+        USING posts p
+        WHERE h.viewer_id = p_viewer_id
+        AND h.post_id = p.id
+        AND p.author_id = p_author_id
+        AND p_viewer_id <> p_author_id
+        AND NOT EXISTS (
+            SELECT 1
+            FROM profile_follows f
+            WHERE f.follower_id = p_viewer_id
+            AND f.followed_id = p_author_id
+        );
+
+        GET DIAGNOSTICS v_pruned = ROW_COUNT;
+        RETURN v_pruned;
+    END;
+$$
+LANGUAGE PLPGSQL;
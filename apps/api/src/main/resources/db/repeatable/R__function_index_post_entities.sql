@@ -0,0 +1,83 @@
+/* 
+    R__function_index_post_entities.sql
+
+    Set-based indexing of the entities of existing posts, for writes that bypass
+    the per-post indexing done by the application on post creation: the admin
+    bulk import, for the posts it merged, and the synthetic graph loader, for
+    every post (p_post_ids NULL).
+
+    - index_post_mentions resolves MENTION entities to profiles by
+      case-insensitive username, into post_mentions.
+    - index_post_hashtags records the lowercased text of HASHTAG entities, into
+      post_hashtags.
+
+    Both skip rows already recorded, and return the number of rows recorded.
+    They apply the same rules as the one-shot backfills V12 and V14, which
+    predate them.
+
+    Hashtags are lowercased with lower() by every writer of post_hashtags, so
+    that no two disagree on a tag: these functions, V14, and the background
+    PostProcessor, through PostProcessingRepository.saveAllHashtags, which
+    indexes posts created through the API. (V13 names PostManagementServiceImpl
+    as the writer; that predates the PostProcessor.) The fetch_feed_hashtag
+    functions lowercase the looked up tag the same way.
+*/
+DROP FUNCTION IF EXISTS index_post_mentions;
+
+CREATE OR REPLACE FUNCTION index_post_mentions (
+    p_post_ids UUID[]
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_inserted INTEGER;
+    BEGIN
+        INSERT INTO post_mentions (profile_id, created_at, post_id)
+        SELECT DISTINCT
+            pr.id,
+            p.created_at,
+            p.id
+        FROM post_entities pe
+        JOIN posts p
+            ON p.id = pe.post_id
+        JOIN profiles pr
+            ON lower(pr.username) = lower(pe.text)
+        WHERE pe.entity_type = 'MENTION'
+        AND (p_post_ids IS NULL OR pe.post_id = ANY (p_post_ids))
+        ON CONFLICT DO NOTHING;
+
+        GET DIAGNOSTICS v_inserted = ROW_COUNT;
+        RETURN v_inserted;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP FUNCTION IF EXISTS index_post_hashtags;
+
+CREATE OR REPLACE FUNCTION index_post_hashtags (
+    p_post_ids UUID[]
+)
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_inserted INTEGER;
+    BEGIN
+        INSERT INTO post_hashtags (tag, created_at, post_id)
+        SELECT DISTINCT
+            lower(pe.text),
+            p.created_at,
+            p.id
+        FROM post_entities pe
+        JOIN posts p
+            ON p.id = pe.post_id
+        WHERE pe.entity_type = 'HASHTAG'
+        AND (p_post_ids IS NULL OR pe.post_id = ANY (p_post_ids))
+        ON CONFLICT DO NOTHING;
+
+        GET DIAGNOSTICS v_inserted = ROW_COUNT;
+        RETURN v_inserted;
+    END;
+$$
+LANGUAGE PLPGSQL;
@@ -0,0 +1,152 @@
+/* 
+    R__function_maintain_discover_rankings.sql
+
+    Discover ranking triggers: keep discover_rankings in step with posts and
+    post_likes.
+
+    - Inserting a root-level post creates its (zeroed) ranking row.
+    - Inserting/deleting a reply adds/removes 2 to the engagement of its parent,
+      if the parent is a root-level post. A deleted root post's own ranking row
+      is removed by ON DELETE CASCADE.
+    - Inserting/deleting a like adds/removes 1 to the engagement of the post.
+    - Truncating post_likes resets every engagement to twice the post's reply
+      count, as TRUNCATE does not fire row-level triggers.
+
+    Each change rescores only the affected row, via discover_hot_score, which
+    must stay in step with the score backfilled by V17.
+
+    rebuild_discover_rankings ranks every root-level post not yet ranked from
+    its post_stats counters, for writes that bypass the triggers, e.g. the
+    synthetic graph loader.
+*/
+CREATE OR REPLACE FUNCTION discover_hot_score(p_engagement BIGINT, p_created_at TIMESTAMPTZ)
+RETURNS DOUBLE PRECISION
+AS
+$$
+    SELECT ln(1 + GREATEST(p_engagement, 0)) + extract(epoch FROM p_created_at) / 45000;
+$$
+LANGUAGE SQL IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION adjust_discover_ranking(p_post_id UUID, p_delta BIGINT)
+RETURNS VOID
+AS
+$$
+    UPDATE discover_rankings
+    SET engagement = GREATEST(engagement + p_delta, 0),
+        hot_score = discover_hot_score(engagement + p_delta, created_at)
+    WHERE post_id = p_post_id;
+$$
+LANGUAGE SQL;
+
+CREATE OR REPLACE FUNCTION maintain_discover_rankings_on_post()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            IF NEW.parent_id IS NULL THEN
+                INSERT INTO discover_rankings (post_id, hot_score, created_at)
+                VALUES (NEW.id, discover_hot_score(0, NEW.created_at), NEW.created_at)
+                ON CONFLICT (post_id) DO NOTHING;
+            ELSE
+                PERFORM adjust_discover_ranking(NEW.parent_id, 2);
+            END IF;
+
+            RETURN NEW;
+        END IF;
+
+        IF OLD.parent_id IS NOT NULL THEN
+            PERFORM adjust_discover_ranking(OLD.parent_id, -2);
+        END IF;
+
+        RETURN OLD;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION maintain_discover_rankings_on_like()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            PERFORM adjust_discover_ranking(NEW.post_id, 1);
+            RETURN NEW;
+        END IF;
+
+        PERFORM adjust_discover_ranking(OLD.post_id, -1);
+        RETURN OLD;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION reset_discover_rankings_engagement()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        UPDATE discover_rankings dr
+        SET engagement = 2 * ps.reply_count,
+            hot_score = discover_hot_score(2 * ps.reply_count, dr.created_at)
+        FROM post_stats ps
+        WHERE ps.post_id = dr.post_id
+        AND dr.engagement <> 2 * ps.reply_count;
+
+        RETURN NULL;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP TRIGGER IF EXISTS trigger_maintain_discover_rankings_on_post ON posts;
+
+CREATE TRIGGER trigger_maintain_discover_rankings_on_post
+AFTER INSERT OR DELETE
+ON posts
+FOR EACH row
+EXECUTE FUNCTION maintain_discover_rankings_on_post();
+
+DROP TRIGGER IF EXISTS trigger_maintain_discover_rankings_on_like ON post_likes;
+
+CREATE TRIGGER trigger_maintain_discover_rankings_on_like
+AFTER INSERT OR DELETE
+ON post_likes
+FOR EACH row
+EXECUTE FUNCTION maintain_discover_rankings_on_like();
+
+DROP TRIGGER IF EXISTS trigger_reset_discover_rankings_engagement ON post_likes;
+
+CREATE TRIGGER trigger_reset_discover_rankings_engagement
+AFTER TRUNCATE
+ON post_likes
+FOR EACH statement
+EXECUTE FUNCTION reset_discover_rankings_engagement();
+
+DROP FUNCTION IF EXISTS rebuild_discover_rankings;
+
+CREATE OR REPLACE FUNCTION rebuild_discover_rankings()
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_inserted INTEGER;
+    BEGIN
+        INSERT INTO discover_rankings (post_id, engagement, hot_score, created_at)
+        SELECT
+            p.id,
+            e.engagement,
+            discover_hot_score(e.engagement, p.created_at),
+            p.created_at
+        FROM posts p
+        LEFT JOIN post_stats ps
+            ON ps.post_id = p.id
+        CROSS JOIN LATERAL (
+            SELECT COALESCE(ps.like_count, 0) + 2 * COALESCE(ps.reply_count, 0) AS engagement
+        ) e
+        WHERE p.parent_id IS NULL
+        ON CONFLICT (post_id) DO NOTHING;
+
+        GET DIAGNOSTICS v_inserted = ROW_COUNT;
+        RETURN v_inserted;
+    END;
+$$
+LANGUAGE PLPGSQL;
@@ -0,0 +1,105 @@
+/* 
+    R__function_maintain_post_stats.sql
+
+    Post stats triggers: keep post_stats in step with post_likes and posts.
+
+    - Inserting a post creates its (zeroed) stats row, and increments the
+      parent's reply_count if it is a reply.
+    - Deleting a reply decrements the parent's reply_count. The deleted post's
+      own stats row is removed by ON DELETE CASCADE.
+    - Inserting/deleting a like increments/decrements the post's like_count.
+    - Truncating post_likes resets every like_count, as TRUNCATE does not fire
+      row-level triggers.
+
+    Counter updates are single-row writes keyed by primary key, so hydrating a
+    post costs the same regardless of its engagement.
+*/
+CREATE OR REPLACE FUNCTION maintain_post_stats_on_post()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            INSERT INTO post_stats (post_id)
+            VALUES (NEW.id)
+            ON CONFLICT (post_id) DO NOTHING;
+
+            IF NEW.parent_id IS NOT NULL THEN
+                UPDATE post_stats
+                SET reply_count = reply_count + 1
+                WHERE post_id = NEW.parent_id;
+            END IF;
+
+            RETURN NEW;
+        END IF;
+
+        IF OLD.parent_id IS NOT NULL THEN
+            UPDATE post_stats
+            SET reply_count = GREATEST(reply_count - 1, 0)
+            WHERE post_id = OLD.parent_id;
+        END IF;
+
+        RETURN OLD;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION maintain_post_stats_on_like()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            UPDATE post_stats
+            SET like_count = like_count + 1
+            WHERE post_id = NEW.post_id;
+
+            RETURN NEW;
+        END IF;
+
+        UPDATE post_stats
+        SET like_count = GREATEST(like_count - 1, 0)
+        WHERE post_id = OLD.post_id;
+
+        RETURN OLD;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION reset_post_stats_like_count()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        UPDATE post_stats
+        SET like_count = 0
+        WHERE like_count <> 0;
+
+        RETURN NULL;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP TRIGGER IF EXISTS trigger_maintain_post_stats_on_post ON posts;
+
+CREATE TRIGGER trigger_maintain_post_stats_on_post
+AFTER INSERT OR DELETE
+ON posts
+FOR EACH row
+EXECUTE FUNCTION maintain_post_stats_on_post();
+
+DROP TRIGGER IF EXISTS trigger_maintain_post_stats_on_like ON post_likes;
+
+CREATE TRIGGER trigger_maintain_post_stats_on_like
+AFTER INSERT OR DELETE
+ON post_likes
+FOR EACH row
+EXECUTE FUNCTION maintain_post_stats_on_like();
+
+DROP TRIGGER IF EXISTS trigger_reset_post_stats_like_count ON post_likes;
+
+CREATE TRIGGER trigger_reset_post_stats_like_count
+AFTER TRUNCATE
+ON post_likes
+FOR EACH statement
+EXECUTE FUNCTION reset_post_stats_like_count();
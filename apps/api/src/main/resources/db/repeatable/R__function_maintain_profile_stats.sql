@@ -0,0 +1,128 @@
+/* 
+    R__function_maintain_profile_stats.sql
+
+    Profile stats triggers: keep profile_stats in step with profiles,
+    profile_follows and posts.
+
+    - Inserting a profile creates its (zeroed) stats row. Deleting a profile
+      removes it by ON DELETE CASCADE.
+    - Inserting/deleting a follow increments/decrements the follower's
+      following_count and the followed profile's follower_count.
+    - Inserting/deleting a post increments/decrements the author's post_count.
+    - Truncating profile_follows or posts resets the affected counters, as
+      TRUNCATE does not fire row-level triggers.
+*/
+CREATE OR REPLACE FUNCTION maintain_profile_stats_on_profile()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        INSERT INTO profile_stats (profile_id)
+        VALUES (NEW.id)
+        ON CONFLICT (profile_id) DO NOTHING;
+
+        RETURN NEW;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION maintain_profile_stats_on_follow()
+RETURNS TRIGGER
+AS
+$$
+    DECLARE
+        v_delta BIGINT := CASE WHEN TG_OP = 'INSERT' THEN 1 ELSE -1 END;
+        v_follower_id UUID := CASE WHEN TG_OP = 'INSERT' THEN NEW.follower_id ELSE OLD.follower_id END;
+        v_followed_id UUID := CASE WHEN TG_OP = 'INSERT' THEN NEW.followed_id ELSE OLD.followed_id END;
+    BEGIN
+        -- single statement, so both rows are locked in one pass
+        UPDATE profile_stats
+        SET
+            following_count = GREATEST(following_count + CASE WHEN profile_id = v_follower_id THEN v_delta ELSE 0 END, 0),
+            follower_count = GREATEST(follower_count + CASE WHEN profile_id = v_followed_id THEN v_delta ELSE 0 END, 0)
+        WHERE profile_id IN (v_follower_id, v_followed_id);
+
+        RETURN NULL;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION maintain_profile_stats_on_post()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            UPDATE profile_stats
+            SET post_count = post_count + 1
+            WHERE profile_id = NEW.author_id;
+        ELSE
+            UPDATE profile_stats
+            SET post_count = GREATEST(post_count - 1, 0)
+            WHERE profile_id = OLD.author_id;
+        END IF;
+
+        RETURN NULL;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION reset_profile_stats()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_TABLE_NAME = 'profile_follows' THEN
+            UPDATE profile_stats
+            SET follower_count = 0, following_count = 0
+            WHERE follower_count <> 0 OR following_count <> 0;
+        ELSE
+            UPDATE profile_stats
+            SET post_count = 0
+            WHERE post_count <> 0;
+        END IF;
+
+        RETURN NULL;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP TRIGGER IF EXISTS trigger_maintain_profile_stats_on_profile ON profiles;
+
+CREATE TRIGGER trigger_maintain_profile_stats_on_profile
+AFTER INSERT
+ON profiles
+FOR EACH row
+EXECUTE FUNCTION maintain_profile_stats_on_profile();
+
+DROP TRIGGER IF EXISTS trigger_maintain_profile_stats_on_follow ON profile_follows;
+
+CREATE TRIGGER trigger_maintain_profile_stats_on_follow
+AFTER INSERT OR DELETE
+ON profile_follows
+FOR EACH row
+EXECUTE FUNCTION maintain_profile_stats_on_follow();
+
+DROP TRIGGER IF EXISTS trigger_maintain_profile_stats_on_post ON posts;
+
+CREATE TRIGGER trigger_maintain_profile_stats_on_post
+AFTER INSERT OR DELETE
+ON posts
+FOR EACH row
+EXECUTE FUNCTION maintain_profile_stats_on_post();
+
+DROP TRIGGER IF EXISTS trigger_reset_profile_stats_on_follows ON profile_follows;
+
+CREATE TRIGGER trigger_reset_profile_stats_on_follows
+AFTER TRUNCATE
+ON profile_follows
+FOR EACH statement
+EXECUTE FUNCTION reset_profile_stats();
+
+DROP TRIGGER IF EXISTS trigger_reset_profile_stats_on_posts ON posts;
+
+CREATE TRIGGER trigger_reset_profile_stats_on_posts
+AFTER TRUNCATE
+ON posts
+FOR EACH statement
+EXECUTE FUNCTION reset_profile_stats();
@@ -0,0 +1,161 @@
+/* 
+    R__function_maintain_reply_rankings.sql
+
+    Reply ranking triggers: keep reply_rankings in step with posts and post_likes.
+
+    - Inserting a reply creates its (zeroed) ranking row, copying the parent's
+      author. It also increments the parent's rank_score if the parent is itself
+      a reply, and flags it author_responded if the reply is from the author of
+      the parent's parent.
+    - Deleting a reply decrements the parent's rank_score, and re-checks its
+      author_responded flag only if the deleted reply could have set it. The
+      deleted post's own ranking row is removed by ON DELETE CASCADE.
+    - Inserting/deleting a like increments/decrements the post's rank_score.
+    - Truncating post_likes resets every rank_score to the reply's reply count,
+      as TRUNCATE does not fire row-level triggers.
+
+    Ranking updates are single-row writes keyed by primary key, so ranking a
+    thread costs the same regardless of its engagement.
+
+    rebuild_reply_rankings ranks every reply not yet ranked from its post_stats
+    counters, for writes that bypass the triggers, e.g. the synthetic graph
+    loader. It applies the same ranking as the one-shot backfill V10.
+*/
+CREATE OR REPLACE FUNCTION maintain_reply_rankings_on_post()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            IF NEW.parent_id IS NOT NULL THEN
+                INSERT INTO reply_rankings (post_id, parent_id, parent_author_id, created_at)
+                SELECT NEW.id, NEW.parent_id, p.author_id, NEW.created_at
+                FROM posts p
+                WHERE p.id = NEW.parent_id
+                ON CONFLICT (post_id) DO NOTHING;
+
+                UPDATE reply_rankings
+                SET rank_score = rank_score + 1,
+                    author_responded = author_responded OR parent_author_id = NEW.author_id
+                WHERE post_id = NEW.parent_id;
+            END IF;
+
+            RETURN NEW;
+        END IF;
+
+        IF OLD.parent_id IS NOT NULL THEN
+            UPDATE reply_rankings rr
+            SET rank_score = GREATEST(rr.rank_score - 1, 0),
+                author_responded = CASE
+                    WHEN rr.parent_author_id = OLD.author_id THEN EXISTS (
+                        SELECT 1
+                        FROM posts p
+                        WHERE p.parent_id = OLD.parent_id
+                        AND p.author_id = OLD.author_id
+                    )
+                    ELSE rr.author_responded
+                END
+            WHERE rr.post_id = OLD.parent_id;
+        END IF;
+
+        RETURN OLD;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION maintain_reply_rankings_on_like()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        IF TG_OP = 'INSERT' THEN
+            UPDATE reply_rankings
+            SET rank_score = rank_score + 1
+            WHERE post_id = NEW.post_id;
+
+            RETURN NEW;
+        END IF;
+
+        UPDATE reply_rankings
+        SET rank_score = GREATEST(rank_score - 1, 0)
+        WHERE post_id = OLD.post_id;
+
+        RETURN OLD;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+CREATE OR REPLACE FUNCTION reset_reply_rankings_rank_score()
+RETURNS TRIGGER
+AS
+$$
+    BEGIN
+        UPDATE reply_rankings rr
+        SET rank_score = ps.reply_count
+        FROM post_stats ps
+        WHERE ps.post_id = rr.post_id
+        AND rr.rank_score <> ps.reply_count;
+
+        RETURN NULL;
+    END;
+$$
+LANGUAGE PLPGSQL;
+
+DROP TRIGGER IF EXISTS trigger_maintain_reply_rankings_on_post ON posts;
+
+CREATE TRIGGER trigger_maintain_reply_rankings_on_post
+AFTER INSERT OR DELETE
+ON posts
+FOR EACH row
+EXECUTE FUNCTION maintain_reply_rankings_on_post();
+
+DROP TRIGGER IF EXISTS trigger_maintain_reply_rankings_on_like ON post_likes;
+
+CREATE TRIGGER trigger_maintain_reply_rankings_on_like
+AFTER INSERT OR DELETE
+ON post_likes
+FOR EACH row
+EXECUTE FUNCTION maintain_reply_rankings_on_like();
+
+DROP TRIGGER IF EXISTS trigger_reset_reply_rankings_rank_score ON post_likes;
+
+CREATE TRIGGER trigger_reset_reply_rankings_rank_score
+AFTER TRUNCATE
+ON post_likes
+FOR EACH statement
+EXECUTE FUNCTION reset_reply_rankings_rank_score();
+
+DROP FUNCTION IF EXISTS rebuild_reply_rankings;
+
+CREATE OR REPLACE FUNCTION rebuild_reply_rankings()
+RETURNS INTEGER
+AS
+$$
+    DECLARE
+        v_inserted INTEGER;
+    BEGIN
+        INSERT INTO reply_rankings (post_id, parent_id, parent_author_id, author_responded, rank_score, created_at)
+        SELECT
+            r.id,
+            r.parent_id,
+            parent.author_id,
+            EXISTS (
+                SELECT 1
+                FROM posts rr
+                WHERE rr.parent_id = r.id
+                AND rr.author_id = parent.author_id
+            ),
+            COALESCE(ps.like_count, 0) + COALESCE(ps.reply_count, 0),
+            r.created_at
+        FROM posts r
+        JOIN posts parent
+            ON parent.id = r.parent_id
+        LEFT JOIN post_stats ps
+            ON ps.post_id = r.id
+        ON CONFLICT (post_id) DO NOTHING;
+
+        GET DIAGNOSTICS v_inserted = ROW_COUNT;
+        RETURN v_inserted;
+    END;
+$$
+LANGUAGE PLPGSQL;
@@ -0,0 +1,181 @@
+package app.echo_social.loader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import app.echo_social.config.properties.SyntheticGraphProperties;
+import app.echo_social.loader.SyntheticGraphGenerator.FollowRow;
+import app.echo_social.loader.SyntheticGraphGenerator.LikeRow;
+import app.echo_social.loader.SyntheticGraphGenerator.PostRow;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.entity.PostEntityType;
+import app.echo_social.modules.profile.constant.ProfileConstraints;
+import app.echo_social.shared.streaming.ItemSource;
+
+/**
+ * Unit test class for {@link SyntheticGraphGenerator}.
+ */
+class SyntheticGraphGeneratorTest {
+
+    private SyntheticGraphProperties props;
+
+    @BeforeEach
+    void initProperties() {
+        props = new SyntheticGraphProperties();
+        props.setUsers(1_000);
+        props.setPosts(5_000);
+        props.setFollowsPerUser(20);
+        props.setHashtagRate(0.5);
+        props.setMentionRate(0.5);
+        props.setUrlRate(0.5);
+    }
+
+    @Test
+    void generator_GeneratesTheSameGraph_WhenSeedIsTheSame() {
+        // arrange
+        SyntheticGraphGenerator generator = new SyntheticGraphGenerator(props);
+        SyntheticGraphGenerator other = new SyntheticGraphGenerator(props);
+
+        // act & assert
+        assertEquals(collect(generator.users()), collect(other.users()));
+        assertEquals(collect(generator.follows()), collect(other.follows()));
+        assertEquals(collect(generator.posts()), collect(other.posts()));
+        assertEquals(collect(generator.likes()), collect(other.likes()));
+    }
+
+    @Test
+    void generator_GeneratesAnotherGraph_WhenSeedDiffers() {
+        // arrange
+        SyntheticGraphProperties otherProps = new SyntheticGraphProperties();
+        otherProps.setUsers(props.getUsers());
+        otherProps.setPosts(props.getPosts());
+        otherProps.setSeed(props.getSeed() + 1);
+
+        SyntheticGraphGenerator generator = new SyntheticGraphGenerator(props);
+        SyntheticGraphGenerator other = new SyntheticGraphGenerator(otherProps);
+
+        // act & assert
+        assertNotEquals(collect(generator.users()), collect(other.users()));
+        assertNotEquals(collect(generator.posts()), collect(other.posts()));
+    }
+
+    @Test
+    void follows_AreNeitherSelfFollowsNorRepeated_AndFollowAPowerLaw() {
+        // arrange
+        SyntheticGraphGenerator generator = new SyntheticGraphGenerator(props);
+        Set<UUID> userIds = ids(generator);
+
+        // act
+        List<FollowRow> follows = collect(generator.follows());
+
+        // assert
+        Set<List<UUID>> pairs = new HashSet<>();
+        Map<UUID, Integer> followerCounts = new HashMap<>();
+        for (FollowRow follow : follows) {
+            assertNotEquals(follow.followerId(), follow.followedId());
+            assertTrue(userIds.contains(follow.followerId()));
+            assertTrue(userIds.contains(follow.followedId()));
+            assertTrue(pairs.add(List.of(follow.followerId(), follow.followedId())));
+            followerCounts.merge(follow.followedId(), 1, Integer::sum);
+        }
+
+        List<Integer> counts = new ArrayList<>(followerCounts.values());
+        counts.sort(null);
+        int median = counts.get(counts.size() / 2);
+        int max = counts.getLast();
+        assertTrue(max > 20 * median, "max " + max + " should dwarf median " + median);
+    }
+
+    @Test
+    void posts_ReplyToEarlierPosts_WithinTheConversationOfTheirParent() {
+        // arrange
+        SyntheticGraphGenerator generator = new SyntheticGraphGenerator(props);
+        Set<UUID> userIds = ids(generator);
+
+        // act
+        List<PostRow> posts = collect(generator.posts());
+
+        // assert
+        Map<UUID, PostRow> earlier = new HashMap<>();
+        int replies = 0;
+        for (PostRow post : posts) {
+            assertTrue(userIds.contains(post.authorId()));
+            assertTrue(post.text().length() <= ProfileConstraints.TEXT_MAX_LENGTH);
+            assertFalse(post.text().isBlank());
+
+            if (post.parentId() == null) {
+                assertEquals(post.id(), post.conversationId());
+            } else {
+                PostRow parent = earlier.get(post.parentId());
+                assertNotNull(parent, "the parent of a reply must come first");
+                assertEquals(parent.conversationId(), post.conversationId());
+                assertFalse(post.createdAt().isBefore(parent.createdAt()));
+                replies++;
+            }
+            assertNull(earlier.put(post.id(), post), "post ids must be unique");
+        }
+        assertEquals(props.getReplyRate(), (double) replies / posts.size(), 0.05);
+    }
+
+    @Test
+    void entities_MatchTheConfiguredRates() {
+        // arrange
+        SyntheticGraphGenerator generator = new SyntheticGraphGenerator(props);
+
+        // act
+        List<PostEntity> entities = collect(generator.entities());
+
+        // assert
+        Map<PostEntityType, Set<UUID>> postsByType = new HashMap<>();
+        entities.forEach(e -> postsByType.computeIfAbsent(e.getType(), type -> new HashSet<>()).add(e.getPostId()));
+
+        for (PostEntityType type : PostEntityType.values()) {
+            double rate = (double) postsByType.getOrDefault(type, Set.of()).size() / props.getPosts();
+            assertEquals(0.5, rate, 0.05, type + " rate");
+        }
+    }
+
+    @Test
+    void likes_AreNotRepeated_AndReferToGeneratedPostsAndUsers() {
+        // arrange
+        SyntheticGraphGenerator generator = new SyntheticGraphGenerator(props);
+        Set<UUID> userIds = ids(generator);
+        Set<UUID> postIds = new HashSet<>();
+        generator.posts().forEach(post -> postIds.add(post.id()));
+
+        // act
+        List<LikeRow> likes = collect(generator.likes());
+
+        // assert
+        Set<List<UUID>> pairs = new HashSet<>();
+        for (LikeRow like : likes) {
+            assertTrue(postIds.contains(like.postId()));
+            assertTrue(userIds.contains(like.authorId()));
+            assertTrue(pairs.add(List.of(like.postId(), like.authorId())));
+        }
+        assertFalse(likes.isEmpty());
+    }
+
+    private static Set<UUID> ids(SyntheticGraphGenerator generator) {
+        Set<UUID> ids = new HashSet<>();
+        generator.users().forEach(user -> ids.add(user.id()));
+        return ids;
+    }
+
+    private static <T> List<T> collect(ItemSource<T> source) {
+        List<T> items = new ArrayList<>();
+        source.forEach(items::add);
+        return items;
+    }
+
+}
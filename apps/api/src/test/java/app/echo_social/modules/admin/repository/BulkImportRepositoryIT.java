@@ -0,0 +1,172 @@
+package app.echo_social.modules.admin.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.echo_social.modules.admin.dto.request.ImportFollowDTO;
+import app.echo_social.modules.admin.dto.request.ImportLikeDTO;
+import app.echo_social.modules.admin.dto.request.ImportPostDTO;
+import app.echo_social.modules.post.entity.Post;
+import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+import app.echo_social.modules.profile.entity.Profile;
+import app.echo_social.modules.profile.repository.ProfileRepository;
+import app.echo_social.modules.user.entity.User;
+import app.echo_social.modules.user.repository.UserRepository;
+import app.echo_social.testing.support.AbstractRepositoryTest;
+import app.echo_social.util.PostEntityExtractor;
+
+/**
+ * Integration test class for {@link BulkImportRepository}.
+ */
+@Import(BulkImportRepositoryImpl.class)
+class BulkImportRepositoryIT extends AbstractRepositoryTest {
+
+    private static final UUID NIL_UUID = new UUID(0, 0);
+
+    @Autowired
+    private BulkImportRepository bulkImportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Profile self;
+    private Profile other;
+
+    private Profile createProfile(String externalId, String username) {
+        User user = userRepository.save(User.fromExternalSource(externalId));
+        Profile profile = profileRepository.save(Profile.forTest(user.getId(), username));
+        entityManager.flush(); // the import reads and writes via JDBC
+        return profile;
+    }
+
+    @BeforeEach
+    void setup() {
+        self = createProfile("user_someUniqueId1", "self");
+        other = createProfile("user_someUniqueId2", "other");
+    }
+
+    @Test
+    void mergePosts_MergesRepliesAfterTheirParent_AndSkipsInvalidPosts() {
+        // arrange
+        UUID root = UUID.randomUUID();
+        UUID reply = UUID.randomUUID();
+        UUID nestedReply = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2020-01-01T00:00:00Z");
+
+        List<ImportPostDTO> posts = List.of(
+            new ImportPostDTO(nestedReply, reply, self.getId(), "Nested reply.", null), // staged before its parent
+            new ImportPostDTO(reply, root, other.getId(), "Reply.", null),
+            new ImportPostDTO(root, null, self.getId(), "Root, with \"quotes\", commas\nand a line break.", createdAt),
+            new ImportPostDTO(root, null, self.getId(), "Duplicate.", null),
+            new ImportPostDTO(UUID.randomUUID(), UUID.randomUUID(), self.getId(), "Missing parent.", null),
+            new ImportPostDTO(UUID.randomUUID(), null, UUID.randomUUID(), "Missing author.", null),
+            new ImportPostDTO(UUID.randomUUID(), null, self.getId(), " ", null),
+            new ImportPostDTO(UUID.randomUUID(), null, self.getId(), "x".repeat(281), null));
+
+        // act
+        long staged = bulkImportRepository.stagePosts(posts::forEach);
+        long merged = bulkImportRepository.mergePosts();
+
+        // assert
+        assertThat(staged).isEqualTo(8);
+        assertThat(merged).isEqualTo(3);
+
+        Post rootPost = postRepository.findById(root).orElseThrow();
+        assertThat(rootPost.getText()).isEqualTo("Root, with \"quotes\", commas\nand a line break.");
+        assertThat(rootPost.getCreatedAt()).isEqualTo(createdAt);
+
+        List<UUID> conversations = jdbcTemplate.queryForList(
+            "SELECT conversation_id FROM posts WHERE id IN (?, ?)", UUID.class, reply, nestedReply);
+        assertThat(conversations).containsOnly(root);
+
+        Long unprocessed = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM posts WHERE id IN (?, ?, ?) AND processed_at IS NULL", Long.class, root, reply, nestedReply);
+        assertThat(unprocessed).isZero();
+    }
+
+    @Test
+    void copyEntities_RecordsEntitiesMentionsAndHashtagsOfMergedPosts() {
+        // arrange
+        UUID postId = UUID.randomUUID();
+        List<ImportPostDTO> posts = List.of(
+            new ImportPostDTO(postId, null, other.getId(), "Hi @Self and @nobody, #Imported #imported", null));
+        bulkImportRepository.stagePosts(posts::forEach);
+        bulkImportRepository.mergePosts();
+
+        // act
+        List<UnprocessedPost> merged = bulkImportRepository.findMergedPosts(NIL_UUID, 10);
+        long entities = bulkImportRepository.copyEntities(
+            PostEntityExtractor.extract(merged.getFirst().id(), merged.getFirst().text()));
+        int mentions = bulkImportRepository.mergeMentions();
+        int hashtags = bulkImportRepository.mergeHashtags();
+
+        // assert
+        assertThat(merged).containsExactly(new UnprocessedPost(postId, "Hi @Self and @nobody, #Imported #imported"));
+        assertThat(entities).isEqualTo(4);
+        assertThat(mentions).isEqualTo(1); // @nobody has no profile
+        assertThat(hashtags).isEqualTo(1); // normalised, stored once
+        assertThat(bulkImportRepository.findMergedPosts(postId, 10)).isEmpty();
+    }
+
+    @Test
+    void mergeLikes_SkipsDuplicatedLikesAndLikesOfMissingPostsOrProfiles() {
+        // arrange
+        Post post = postRepository.save(Post.create(null, self.getId(), "Liked post."));
+        entityManager.flush();
+        List<ImportLikeDTO> likes = List.of(
+            new ImportLikeDTO(post.getId(), other.getId(), null),
+            new ImportLikeDTO(post.getId(), other.getId(), null),
+            new ImportLikeDTO(UUID.randomUUID(), other.getId(), null),
+            new ImportLikeDTO(post.getId(), UUID.randomUUID(), null),
+            new ImportLikeDTO(null, null, null));
+
+        // act
+        long staged = bulkImportRepository.stageLikes(likes::forEach);
+        long merged = bulkImportRepository.mergeLikes();
+
+        // assert
+        assertThat(staged).isEqualTo(5);
+        assertThat(merged).isEqualTo(1);
+    }
+
+    @Test
+    void mergeFollows_SkipsSelfFollowsAndFollowsOfMissingProfiles() {
+        // arrange
+        List<ImportFollowDTO> follows = List.of(
+            new ImportFollowDTO(self.getId(), other.getId(), Instant.parse("2020-01-01T00:00:00Z")),
+            new ImportFollowDTO(self.getId(), self.getId(), null),
+            new ImportFollowDTO(other.getId(), UUID.randomUUID(), null));
+
+        // act
+        long staged = bulkImportRepository.stageFollows(follows::forEach);
+        long merged = bulkImportRepository.mergeFollows();
+
+        // assert
+        assertThat(staged).isEqualTo(3);
+        assertThat(merged).isEqualTo(1);
+    }
+
+}
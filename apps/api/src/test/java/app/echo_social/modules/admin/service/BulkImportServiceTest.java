@@ -0,0 +1,157 @@
+package app.echo_social.modules.admin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.echo_social.modules.admin.dto.request.ImportFollowDTO;
+import app.echo_social.modules.admin.dto.request.ImportLikeDTO;
+import app.echo_social.modules.admin.dto.request.ImportPostDTO;
+import app.echo_social.modules.admin.dto.response.ImportResultDTO;
+import app.echo_social.modules.admin.repository.BulkImportRepository;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.entity.PostEntityType;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+import app.echo_social.shared.streaming.ItemSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit test class for {@link BulkImportService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    @Mock
+    private BulkImportRepository bulkImportRepository;
+
+    private BulkImportServiceImpl bulkImportService;
+
+    @BeforeEach
+    void setup() {
+        bulkImportService = new BulkImportServiceImpl(bulkImportRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Collect the rows of a staged {@link ItemSource}, as the repository would
+     * copy them.
+     */
+    private static <T> List<T> drain(ItemSource<T> source) {
+        List<T> rows = new ArrayList<>();
+        source.forEach(rows::add);
+        return rows;
+    }
+
+    @Test
+    void importPosts_StagesParsedLines_AndSkipsMalformedLines() {
+        // arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        String text = "Imported post with a #ValidHashtag!";
+        InputStream body = ndjson(
+            "{\"id\":\"%s\",\"author_id\":\"%s\",\"text\":\"%s\",\"created_at\":\"2020-01-01T00:00:00Z\"}"
+                .formatted(postId, authorId, text),
+            "",
+            "{\"id\":");
+
+        List<ImportPostDTO> staged = new ArrayList<>();
+        when(bulkImportRepository.stagePosts(any())).thenAnswer(invocation -> {
+            staged.addAll(drain(invocation.<ItemSource<ImportPostDTO>>getArgument(0)));
+            return (long) staged.size();
+        });
+        when(bulkImportRepository.mergePosts()).thenReturn(1L);
+        when(bulkImportRepository.findMergedPosts(new UUID(0, 0), 10_000))
+            .thenReturn(List.of(new UnprocessedPost(postId, text)));
+        when(bulkImportRepository.findMergedPosts(postId, 10_000)).thenReturn(List.of());
+
+        // act
+        ImportResultDTO result = bulkImportService.importPosts(body);
+
+        // assert
+        assertThat(staged).containsExactly(
+            new ImportPostDTO(postId, null, authorId, text, Instant.parse("2020-01-01T00:00:00Z")));
+        assertThat(result).isEqualTo(new ImportResultDTO(2, 1, 1));
+
+        verify(bulkImportRepository).copyEntities(List.of(
+            new PostEntity(postId, PostEntityType.HASHTAG, 21, 34, "ValidHashtag")));
+        verify(bulkImportRepository).mergeMentions();
+        verify(bulkImportRepository).mergeHashtags();
+    }
+
+    @Test
+    void importPosts_CopiesNoEntities_WhenNoPostIsMerged() {
+        // arrange
+        when(bulkImportRepository.stagePosts(any())).thenAnswer(invocation -> (long) drain(invocation.<ItemSource<ImportPostDTO>>getArgument(0)).size());
+        when(bulkImportRepository.mergePosts()).thenReturn(0L);
+        when(bulkImportRepository.findMergedPosts(any(), anyInt())).thenReturn(List.of());
+
+        // act
+        ImportResultDTO result = bulkImportService.importPosts(ndjson("{}", "{}"));
+
+        // assert
+        assertThat(result).isEqualTo(new ImportResultDTO(2, 0, 2));
+        verify(bulkImportRepository, never()).copyEntities(any());
+    }
+
+    @Test
+    void importLikes_ReturnsCountOfMergedLikes() {
+        // arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        String like = "{\"post_id\":\"%s\",\"author_id\":\"%s\"}".formatted(postId, authorId);
+
+        List<ImportLikeDTO> staged = new ArrayList<>();
+        when(bulkImportRepository.stageLikes(any())).thenAnswer(invocation -> {
+            staged.addAll(drain(invocation.<ItemSource<ImportLikeDTO>>getArgument(0)));
+            return (long) staged.size();
+        });
+        when(bulkImportRepository.mergeLikes()).thenReturn(1L);
+
+        // act
+        ImportResultDTO result = bulkImportService.importLikes(ndjson(like, like));
+
+        // assert
+        assertThat(staged).containsOnly(new ImportLikeDTO(postId, authorId, null));
+        assertThat(result).isEqualTo(new ImportResultDTO(2, 1, 1));
+    }
+
+    @Test
+    void importFollows_ReturnsCountOfMergedFollows() {
+        // arrange
+        UUID followerId = UUID.randomUUID();
+        UUID followedId = UUID.randomUUID();
+        String follow = "{\"follower_id\":\"%s\",\"followed_id\":\"%s\"}".formatted(followerId, followedId);
+
+        List<ImportFollowDTO> staged = new ArrayList<>();
+        when(bulkImportRepository.stageFollows(any())).thenAnswer(invocation -> {
+            staged.addAll(drain(invocation.<ItemSource<ImportFollowDTO>>getArgument(0)));
+            return (long) staged.size();
+        });
+        when(bulkImportRepository.mergeFollows()).thenReturn(1L);
+
+        // act
+        ImportResultDTO result = bulkImportService.importFollows(ndjson(follow, "not json"));
+
+        // assert
+        assertThat(staged).containsExactly(new ImportFollowDTO(followerId, followedId, null));
+        assertThat(result).isEqualTo(new ImportResultDTO(2, 1, 1));
+    }
+
+}
@@ -12,6 +12,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 
 import app.echo_social.exception.ErrorResponse;
+import app.echo_social.modules.feed.service.HomeTimelineService;
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.modules.post.entity.Post;
 import app.echo_social.modules.post.entity.PostLike;
@@ -45,6 +46,9 @@ class FeedControllerIT extends AbstractIntegrationTest {
     @Autowired
     private PostEntityRepository postEntityRepository;
 
+    @Autowired
+    private HomeTimelineService homeTimelineService;
+
     @BeforeEach
     void cleanDb() {
         cleaner.cleanPosts();
@@ -52,7 +56,7 @@ class FeedControllerIT extends AbstractIntegrationTest {
 
     /**
      * Create and persist a new {@link Post} with the given parent, author and text
-     * fields.
+     * fields, and push it onto the relevant home timelines.
      * 
      * @param parentId the ID of the parent post, or {@code null} if not a reply
      * @param authorId the ID of the user creating the post
@@ -62,6 +66,7 @@ class FeedControllerIT extends AbstractIntegrationTest {
     private Post createPost(UUID parentId, UUID authorId, String text) {
         Post post = postRepository.save(Post.create(parentId, authorId, text));
         postEntityRepository.saveAll(PostEntityExtractor.extract(post.getId(), post.getText()));
+        homeTimelineService.fanOut(post.getId());
         return post;
     }
 
@@ -2,6 +2,7 @@ package app.echo_social.modules.feed.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -19,7 +20,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
 
@@ -31,9 +34,15 @@ import app.echo_social.modules.post.dto.response.PostMetricsDTO;
 import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
 import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
 import app.echo_social.modules.profile.exception.ProfileErrorCode;
+import app.echo_social.shared.conditional.NotModifiedException;
 import app.echo_social.shared.constant.ApiRoutes;
+import app.echo_social.shared.pagination.CursorPage;
+import app.echo_social.shared.pagination.CursorRequest;
 import app.echo_social.shared.pagination.OffsetLimitRequest;
+import app.echo_social.shared.pagination.PageCursor;
 import app.echo_social.shared.pagination.Paged;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
 import app.echo_social.shared.pagination.PageMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -46,10 +55,13 @@ class FeedControllerTest {
 
     private static final String HOMEPAGE_PATH = ApiRoutes.FEED.HOMEPAGE;
     private static final String DISCOVER_PATH = ApiRoutes.FEED.DISCOVER;
+    private static final String DISCOVER_RANKED_PATH = ApiRoutes.FEED.DISCOVER_RANKED;
     private static final String POSTS_PATH = ApiRoutes.FEED.POSTS;
+    private static final String POSTS_EXPORT_PATH = ApiRoutes.FEED.POSTS_EXPORT;
     private static final String REPLIES_PATH = ApiRoutes.FEED.REPLIES;
     private static final String LIKES_PATH = ApiRoutes.FEED.LIKES;
     private static final String MENTIONS_PATH = ApiRoutes.FEED.MENTIONS;
+    private static final String HASHTAG_PATH = ApiRoutes.FEED.HASHTAG;
 
     @Autowired
     private MockMvcTester mvc;
@@ -102,6 +114,26 @@ class FeedControllerTest {
         verify(feedService).getHomeFeed(any(Pageable.class));
     }
 
+    @Test
+    void getHomeFeed_Returns304NotModified_WhenIfNoneMatchMatchesETag() {
+        // api: GET /api/v1/feed/homepage ==> 304 Not Modified
+        String eTag = "W/\"version\"";
+
+        when(feedService.getHomeFeed(any(Pageable.class))).thenThrow(new NotModifiedException(eTag));
+
+        var response = mvc.get()
+            .uri(HOMEPAGE_PATH)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(HttpStatus.NOT_MODIFIED)
+            .hasHeader(HttpHeaders.ETAG, eTag);
+        assertThat(response.getResponse().getContentAsByteArray()).isEmpty();
+
+        verify(feedService).getHomeFeed(any(Pageable.class));
+    }
+
     @Test
     void getHomeFeed_Returns400BadRequest_WhenInvalidOffsetSupplied() {
         // api: GET /api/v1/feed/homepage ==> 400 Bad Request : ErrorDTO
@@ -150,6 +182,96 @@ class FeedControllerTest {
         verify(feedService, never()).getHomeFeed(any(Pageable.class));
     }
 
+    @Test
+    void getHomeFeed_PassesCursorRequest_WhenCursorSupplied() throws Exception {
+        // api: GET /api/v1/feed/homepage?cursor= ==> 200 OK : PageDTO<PostDTO>
+        int limit = 20;
+        PageCursor cursor = PageCursor.next(Instant.parse(post.createdAt()), UUID.fromString(post.id()));
+
+        Page<PostDTO> posts = new CursorPage<>(List.of(post), CursorRequest.of(cursor, limit), 1, null, null);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, HOMEPAGE_PATH);
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(feedService.getHomeFeed(any(Pageable.class))).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(HOMEPAGE_PATH)
+            .queryParam("cursor", cursor.encode())
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(feedService).getHomeFeed(argThat(p -> p instanceof CursorRequest c && cursor.equals(c.getCursor())));
+    }
+
+    @Test
+    void getHomeFeed_Returns400BadRequest_WhenInvalidCursorSupplied() {
+        // api: GET /api/v1/feed/homepage ==> 400 Bad Request : ErrorDTO
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Cursor is invalid",
+            null);
+
+        var response = mvc.get()
+            .uri(HOMEPAGE_PATH)
+            .queryParam("cursor", "not-a-cursor")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(feedService, never()).getHomeFeed(any(Pageable.class));
+    }
+
+    @Test
+    void getHomeFeed_PassesTotalMode_WhenTotalSupplied() throws Exception {
+        // api: GET /api/v1/feed/homepage?total=none ==> 200 OK : PageDTO<PostDTO>
+        int offset = 0;
+        int limit = 20;
+
+        Pageable page = OffsetLimitRequest.of(offset, limit, TotalMode.NONE);
+        Page<PostDTO> posts = new UncountedPage<>(List.of(post), page, false);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, HOMEPAGE_PATH);
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(feedService.getHomeFeed(any(Pageable.class))).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(HOMEPAGE_PATH)
+            .queryParam("total", "none")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(feedService).getHomeFeed(argThat(p -> TotalMode.of(p) == TotalMode.NONE));
+    }
+
+    @Test
+    void getHomeFeed_Returns400BadRequest_WhenInvalidTotalSupplied() {
+        // api: GET /api/v1/feed/homepage ==> 400 Bad Request : ErrorDTO
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Total must be one of: exact, estimated, none",
+            null);
+
+        var response = mvc.get()
+            .uri(HOMEPAGE_PATH)
+            .queryParam("total", "approximate")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(feedService, never()).getHomeFeed(any(Pageable.class));
+    }
+
     @Test
     void getDiscoverFeed_Returns200PageDtoOfPostDto() throws Exception {
         // api: GET /api/v1/feed/discover ==> 200 OK : PageDTO<PostDTO>
@@ -224,6 +346,56 @@ class FeedControllerTest {
         verify(feedService, never()).getDiscoverFeed(any(Pageable.class));
     }
 
+    @Test
+    void getRankedDiscoverFeed_Returns200PageDtoOfPostDto() throws Exception {
+        // api: GET /api/v1/feed/discover/ranked ==> 200 OK : PageDTO<PostDTO>
+        int offset = 20;
+        int limit = 20;
+
+        Pageable page = OffsetLimitRequest.of(offset, limit);
+        Page<PostDTO> posts = new PageImpl<>(List.of(post), page, 21);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, DISCOVER_RANKED_PATH);
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(feedService.getRankedDiscoverFeed(any(Pageable.class))).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(DISCOVER_RANKED_PATH)
+            .queryParam("offset", String.valueOf(offset))
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(feedService).getRankedDiscoverFeed(any(Pageable.class));
+    }
+
+    @Test
+    void getRankedDiscoverFeed_Returns400BadRequest_WhenInvalidLimitSupplied() {
+        // api: GET /api/v1/feed/discover/ranked ==> 400 Bad Request : ErrorDTO
+        int offset = 0;
+        int limit = 51;
+
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Limit must be in the range 1 to 50",
+            null);
+
+        var response = mvc.get()
+            .uri(DISCOVER_RANKED_PATH)
+            .queryParam("offset", String.valueOf(offset))
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(feedService, never()).getRankedDiscoverFeed(any(Pageable.class));
+    }
+
     @Test
     void getProfilePosts_Returns200PageDtoOfPostDto() throws Exception {
         // api: GET /api/v1/feed/profile/{id}/posts ==> 200 OK : PageDTO<PostDTO>
@@ -331,6 +503,53 @@ class FeedControllerTest {
         verify(feedService).getProfilePosts(eq(id), any(Pageable.class));
     }
 
+    @Test
+    void exportProfilePosts_Returns200StreamedArrayOfPostDto() throws Exception {
+        // api: GET /api/v1/feed/profile/{id}/posts/export ==> 200 OK : PostDTO[]
+        UUID id = UUID.randomUUID();
+        String expectedJson = objectMapper.writeValueAsString(List.of(post, post));
+
+        when(feedService.exportProfilePosts(id)).thenReturn(sink -> {
+            sink.accept(post);
+            sink.accept(post);
+        });
+
+        var response = mvc.get()
+            .uri(POSTS_EXPORT_PATH, id)
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .hasContentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(feedService).exportProfilePosts(id);
+    }
+
+    @Test
+    void exportProfilePosts_Returns404NotFound_WhenProfileByIdDoesNotExist() {
+        // api: GET /api/v1/feed/profile/{id}/posts/export ==> 404 Not Found : ErrorDTO
+        ProfileErrorCode errorCode = ProfileErrorCode.ID_NOT_FOUND;
+        UUID id = UUID.randomUUID();
+
+        when(feedService.exportProfilePosts(id)).thenThrow(errorCode.buildAsException(id));
+
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.NOT_FOUND,
+            errorCode.formatMessage(id),
+            null);
+
+        var response = mvc.get()
+            .uri(POSTS_EXPORT_PATH, id)
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(404)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(feedService).exportProfilePosts(id);
+    }
+
     @Test
     void getProfileReplies_Returns200PageDtoOfPostDto() throws Exception {
         // api: GET /api/v1/feed/profile/{id}/replies ==> 200 OK : PageDTO<PostDTO>
@@ -656,4 +875,56 @@ class FeedControllerTest {
         verify(feedService).getProfileMentions(eq(id), any(Pageable.class));
     }
 
+
+    @Test
+    void getHashtagPosts_PassesCursorRequest_WhenCursorSupplied() throws Exception {
+        // api: GET /api/v1/feed/hashtag/{tag}?cursor= ==> 200 OK : PageDTO<PostDTO>
+        String tag = "SpringBoot";
+        int limit = 20;
+        PageCursor cursor = PageCursor.next(Instant.parse(post.createdAt()), UUID.fromString(post.id()));
+
+        Page<PostDTO> posts = new CursorPage<>(List.of(post), CursorRequest.of(cursor, limit), 1, null, null);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, HASHTAG_PATH);
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(feedService.getHashtagPosts(eq(tag), any(Pageable.class))).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(HASHTAG_PATH, tag)
+            .queryParam("cursor", cursor.encode())
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(feedService).getHashtagPosts(eq(tag), argThat(p -> p instanceof CursorRequest c && cursor.equals(c.getCursor())));
+    }
+
+    @Test
+    void getHashtagPosts_Returns400BadRequest_WhenInvalidLimitSupplied() {
+        // api: GET /api/v1/feed/hashtag/{tag} ==> 400 Bad Request : ErrorDTO
+        String tag = "SpringBoot";
+        int offset = 0;
+        int limit = 51;
+
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Limit must be in the range 1 to 50",
+            null);
+
+        var response = mvc.get()
+            .uri(HASHTAG_PATH, tag)
+            .queryParam("offset", String.valueOf(offset))
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(feedService, never()).getHashtagPosts(eq(tag), any(Pageable.class));
+    }
+
 }
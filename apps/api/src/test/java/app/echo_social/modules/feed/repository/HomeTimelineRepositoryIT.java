@@ -0,0 +1,238 @@
+package app.echo_social.modules.feed.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import app.echo_social.modules.post.entity.Post;
+import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.profile.entity.Profile;
+import app.echo_social.modules.profile.entity.ProfileFollow;
+import app.echo_social.modules.profile.repository.ProfileFollowRepository;
+import app.echo_social.modules.profile.repository.ProfileRepository;
+import app.echo_social.modules.user.entity.User;
+import app.echo_social.modules.user.repository.UserRepository;
+import app.echo_social.testing.support.AbstractRepositoryTest;
+
+/**
+ * Integration test class for {@link HomeTimelineRepository}.
+ */
+@Import(HomeTimelineRepositoryImpl.class)
+class HomeTimelineRepositoryIT extends AbstractRepositoryTest {
+
+    private static final int CAPACITY = 800;
+    private static final long FOLLOWER_THRESHOLD = 10_000L;
+
+    @Autowired
+    private HomeTimelineRepository homeTimelineRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProfileFollowRepository profileFollowRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Profile self;
+    private Profile other;
+
+    private Profile createProfile(String externalId, String username) {
+        User user = userRepository.save(User.fromExternalSource(externalId));
+        return profileRepository.save(Profile.forTest(user.getId(), username));
+    }
+
+    private Post createPost(UUID parentId, UUID authorId, String text) {
+        Post post = postRepository.save(Post.create(parentId, authorId, text));
+        entityManager.flush(); // JDBC reads bypass the persistence context
+        return post;
+    }
+
+    private void follow(Profile follower, Profile followed) {
+        profileFollowRepository.save(new ProfileFollow(follower.getId(), followed.getId()));
+        entityManager.flush();
+    }
+
+    private List<UUID> timelineOf(Profile viewer) {
+        return homeTimelineRepository.findEntries(viewer.getId(), null, 10)
+            .stream()
+            .map(TimelineEntry::postId)
+            .toList();
+    }
+
+    @BeforeEach
+    void setup() {
+        self = createProfile("user_someUniqueId1", "self");
+        other = createProfile("user_someUniqueId2", "other");
+    }
+
+    @Test
+    void fanOut_PushesRootPostOntoAuthorAndFollowerTimelines() {
+        follow(self, other);
+        Post post = createPost(null, other.getId(), "A root post.");
+
+        int pushed = homeTimelineRepository.fanOut(post.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+
+        assertThat(pushed).isEqualTo(2);
+        assertThat(timelineOf(self)).containsExactly(post.getId());
+        assertThat(timelineOf(other)).containsExactly(post.getId());
+    }
+
+    @Test
+    void fanOut_IgnoresReplies() {
+        Post post = createPost(null, self.getId(), "A root post.");
+        Post reply = createPost(post.getId(), self.getId(), "A reply.");
+
+        int pushed = homeTimelineRepository.fanOut(reply.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+
+        assertThat(pushed).isZero();
+        assertThat(timelineOf(self)).isEmpty();
+    }
+
+    @Test
+    void fanOut_PushesOntoAuthorTimelineOnly_WhenAuthorHasThresholdFollowers() {
+        follow(self, other);
+        Post post = createPost(null, other.getId(), "A root post.");
+
+        int pushed = homeTimelineRepository.fanOut(post.getId(), CAPACITY, 1L);
+
+        assertThat(pushed).isEqualTo(1);
+        assertThat(timelineOf(self)).isEmpty();
+        assertThat(timelineOf(other)).containsExactly(post.getId());
+    }
+
+    @Test
+    void fanOut_DoesNotTrim_WhenTimelineWithinSlack() {
+        Post older = createPost(null, self.getId(), "An older root post.");
+        Post newer = createPost(null, self.getId(), "A newer root post.");
+
+        homeTimelineRepository.fanOut(older.getId(), 2, FOLLOWER_THRESHOLD);
+        homeTimelineRepository.fanOut(newer.getId(), 2, FOLLOWER_THRESHOLD);
+
+        assertThat(timelineOf(self)).containsExactly(newer.getId(), older.getId());
+        assertThat(homeTimelineRepository.trimQueued(2, 10)).isZero();
+    }
+
+    @Test
+    void trimQueued_TrimsTimelinesPushedPastCapacity() {
+        // arrange
+        Post older = createPost(null, self.getId(), "An older root post.");
+        Post newer = createPost(null, self.getId(), "A newer root post.");
+        homeTimelineRepository.fanOut(older.getId(), 1, FOLLOWER_THRESHOLD);
+        homeTimelineRepository.fanOut(newer.getId(), 1, FOLLOWER_THRESHOLD);
+
+        // act
+        int trimmed = homeTimelineRepository.trimQueued(1, 10);
+
+        // assert
+        assertThat(trimmed).isEqualTo(1);
+        assertThat(timelineOf(self)).containsExactly(newer.getId());
+        assertThat(homeTimelineRepository.trimQueued(1, 10)).isZero(); // no longer queued
+    }
+
+    @Test
+    void findEntries_ReturnsEntriesNewestFirst() {
+        Post older = createPost(null, self.getId(), "An older root post.");
+        Post newer = createPost(null, self.getId(), "A newer root post.");
+        homeTimelineRepository.fanOut(older.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+        homeTimelineRepository.fanOut(newer.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+
+        assertThat(timelineOf(self)).containsExactly(newer.getId(), older.getId());
+        assertThat(homeTimelineRepository.count(self.getId(), CAPACITY, FOLLOWER_THRESHOLD)).isEqualTo(2);
+    }
+
+    @Test
+    void count_CapsPulledPostsAtCapacity() {
+        // arrange
+        follow(self, other);
+        createPost(null, other.getId(), "A first root post by other.");
+        createPost(null, other.getId(), "A second root post by other.");
+        createPost(null, other.getId(), "A third root post by other.");
+
+        // act
+        long count = homeTimelineRepository.count(self.getId(), 2, 1L); // other is pulled at one follower
+
+        // assert
+        assertThat(count).isEqualTo(2);
+        assertThat(homeTimelineRepository.count(self.getId(), CAPACITY, 1L)).isEqualTo(3);
+    }
+
+    @Test
+    void backfill_PushesFollowedProfilePosts() {
+        Post post = createPost(null, other.getId(), "A root post by other.");
+        follow(self, other);
+
+        int pushed = homeTimelineRepository.backfill(self.getId(), other.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+
+        assertThat(pushed).isEqualTo(1);
+        assertThat(timelineOf(self)).containsExactly(post.getId());
+    }
+
+    @Test
+    void prune_RemovesUnfollowedProfilePosts() {
+        follow(self, other);
+        Post post = createPost(null, other.getId(), "A root post by other.");
+        homeTimelineRepository.fanOut(post.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+        profileFollowRepository.deleteByFollowerIdAndFollowedId(self.getId(), other.getId());
+        entityManager.flush();
+
+        int pruned = homeTimelineRepository.prune(self.getId(), other.getId());
+
+        assertThat(pruned).isEqualTo(1);
+        assertThat(timelineOf(self)).isEmpty();
+    }
+
+    @Test
+    void backfillFollowers_PushesPulledPostsOntoFollowerTimelines_WhenAuthorFallsBelowThreshold() {
+        // arrange
+        follow(self, other);
+        Post post = createPost(null, other.getId(), "A root post by other.");
+        homeTimelineRepository.fanOut(post.getId(), CAPACITY, 1L); // other is pulled at one follower
+
+        // act
+        int pushed = homeTimelineRepository.backfillFollowers(other.getId(), CAPACITY, 2L);
+
+        // assert
+        assertThat(pushed).isEqualTo(1);
+        assertThat(timelineOf(self)).containsExactly(post.getId());
+        assertThat(homeTimelineRepository.backfillFollowers(other.getId(), CAPACITY, 2L)).isZero(); // already backfilled
+    }
+
+    @Test
+    void backfillFollowers_DoesNothing_WhenAuthorStillAtThreshold() {
+        follow(self, other);
+        Post post = createPost(null, other.getId(), "A root post by other.");
+        homeTimelineRepository.fanOut(post.getId(), CAPACITY, 1L);
+
+        int pushed = homeTimelineRepository.backfillFollowers(other.getId(), CAPACITY, 1L);
+
+        assertThat(pushed).isZero();
+        assertThat(timelineOf(self)).isEmpty();
+    }
+
+    @Test
+    void backfillFollowers_DoesNothing_WhenAuthorWasNeverPulled() {
+        follow(self, other);
+        createPost(null, other.getId(), "A root post by other, never fanned out.");
+
+        int pushed = homeTimelineRepository.backfillFollowers(other.getId(), CAPACITY, FOLLOWER_THRESHOLD);
+
+        assertThat(pushed).isZero();
+        assertThat(timelineOf(self)).isEmpty();
+    }
+
+}
@@ -0,0 +1,95 @@
+package app.echo_social.modules.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+
+import app.echo_social.modules.feed.repository.DiscoverRankingRepository;
+import app.echo_social.shared.pagination.OffsetLimitRequest;
+
+/**
+ * Unit test class for {@link DiscoverRanking}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DiscoverRankingTest {
+
+    private static final int CAPACITY = 5;
+
+    @Mock
+    private DiscoverRankingRepository repository;
+
+    private DiscoverRanking discoverRanking;
+
+    @BeforeEach
+    void setUp() {
+        discoverRanking = new DiscoverRanking(repository, CAPACITY);
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+
+    @Test
+    void page_LoadsSnapshotOnFirstUse_AndReusesItAfterwards() {
+        // arrange
+        List<UUID> ranking = ids(CAPACITY);
+        when(repository.findTopPostIds(CAPACITY)).thenReturn(ranking);
+
+        // act
+        Page<UUID> first = discoverRanking.page(OffsetLimitRequest.of(0, 2));
+        Page<UUID> second = discoverRanking.page(OffsetLimitRequest.of(2, 2));
+
+        // assert
+        assertThat(first.getContent()).containsExactly(ranking.get(0), ranking.get(1));
+        assertThat(second.getContent()).containsExactly(ranking.get(2), ranking.get(3));
+        assertThat(second.getTotalElements()).isEqualTo(CAPACITY);
+        verify(repository, times(1)).findTopPostIds(CAPACITY);
+    }
+
+    @Test
+    void page_ReturnsPartialThenEmptyPages_BeyondSnapshot() {
+        // arrange
+        List<UUID> ranking = ids(3);
+        when(repository.findTopPostIds(CAPACITY)).thenReturn(ranking);
+
+        // act
+        Page<UUID> partial = discoverRanking.page(OffsetLimitRequest.of(2, 2));
+        Page<UUID> beyond = discoverRanking.page(OffsetLimitRequest.of(10, 2));
+
+        // assert
+        assertThat(partial.getContent()).containsExactly(ranking.get(2));
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void refresh_ReplacesSnapshot() {
+        // arrange
+        List<UUID> before = ids(CAPACITY);
+        List<UUID> after = ids(CAPACITY);
+        when(repository.findTopPostIds(CAPACITY)).thenReturn(before, after);
+
+        // act
+        discoverRanking.refresh();
+        Page<UUID> stale = discoverRanking.page(OffsetLimitRequest.of(0, CAPACITY));
+        discoverRanking.refresh();
+        Page<UUID> fresh = discoverRanking.page(OffsetLimitRequest.of(0, CAPACITY));
+
+        // assert
+        assertThat(stale.getContent()).isEqualTo(before);
+        assertThat(fresh.getContent()).isEqualTo(after);
+    }
+
+}
@@ -5,12 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -28,13 +31,17 @@ import app.echo_social.modules.post.dto.response.PostEntitiesDTO;
 import app.echo_social.modules.post.dto.response.PostMetricsDTO;
 import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
 import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
 import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
 import app.echo_social.modules.profile.exception.ProfileErrorCode;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.shared.pagination.OffsetLimitRequest;
 import app.echo_social.shared.pagination.Paged;
 import app.echo_social.shared.pagination.PageMapper;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
 import app.echo_social.shared.service.SessionService;
+import app.echo_social.shared.streaming.ItemSource;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -56,6 +63,12 @@ class FeedServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Mock
+    private HybridFeedAssembler hybridFeedAssembler;
+
+    @Mock
+    private DiscoverRanking discoverRanking;
+
     @InjectMocks
     private FeedServiceImpl feedService;
 
@@ -95,7 +108,7 @@ class FeedServiceTest {
         Paged<PostDTO> expected = PageMapper.toDTO(posts, uri);
 
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findHomepagePosts(authenticatedUserId, page)).thenReturn(posts);
+        when(hybridFeedAssembler.assemble(authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -103,7 +116,30 @@ class FeedServiceTest {
 
         // assert
         assertEquals(expected, actual);
-        verify(postRepository).findHomepagePosts(authenticatedUserId, page);
+        verify(hybridFeedAssembler).assemble(authenticatedUserId, page);
+    }
+
+    @Test
+    void getHomeFeed_KeepsRequestQueryInPageLinks_WhenTotalNotCounted() {
+        // arrange
+        Pageable uncounted = OffsetLimitRequest.of(0, 1, TotalMode.NONE);
+        Page<PostDTO> posts = new UncountedPage<>(List.of(createPostDto(UUID.randomUUID(), "Test post.")), uncounted, true);
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(hybridFeedAssembler.assemble(authenticatedUserId, uncounted)).thenReturn(new PostSelection(() -> "version", () -> posts));
+        when(httpServletRequest.getRequestURI()).thenReturn("/some/api/uri");
+        when(httpServletRequest.getQueryString()).thenReturn("total=none&limit=1");
+
+        // act
+        Paged<PostDTO> actual = feedService.getHomeFeed(uncounted);
+
+        // assert
+        assertThat(actual.total()).isNull();
+        assertThat(actual.next()).asString()
+            .startsWith("/some/api/uri?")
+            .contains("total=none")
+            .contains("offset=1")
+            .contains("limit=1");
     }
 
     @Test
@@ -114,7 +150,7 @@ class FeedServiceTest {
         Paged<PostDTO> expected = PageMapper.toDTO(posts, uri);
 
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findDiscoverPosts(authenticatedUserId, page)).thenReturn(posts);
+        when(postRepository.findDiscoverPosts(authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -125,6 +161,28 @@ class FeedServiceTest {
         verify(postRepository).findDiscoverPosts(authenticatedUserId, page);
     }
 
+    @Test
+    void getRankedDiscoverFeed_ReturnPageDtoOfPostDto_HydratingRankedIds() {
+        // arrange
+        String uri = "/some/api/uri";
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<PostDTO> dtos = List.of(createPostDto(first, "Hot post."), createPostDto(second, "Warm post."));
+        Paged<PostDTO> expected = PageMapper.toDTO(new PageImpl<>(dtos, page, 40), uri);
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(discoverRanking.page(page)).thenReturn(new PageImpl<>(List.of(first, second), page, 40));
+        when(postRepository.findPostDtosByIds(List.of(first, second), authenticatedUserId)).thenReturn(dtos);
+        when(httpServletRequest.getRequestURI()).thenReturn(uri);
+
+        // act
+        Paged<PostDTO> actual = feedService.getRankedDiscoverFeed(page);
+
+        // assert
+        assertEquals(expected, actual);
+        verify(postRepository).findPostDtosByIds(List.of(first, second), authenticatedUserId);
+    }
+
     @Test
     void getProfilePosts_ReturnPageDtoOfPostDto_WhenProfileByIdExists() {
         // arrange
@@ -136,7 +194,7 @@ class FeedServiceTest {
 
         when(profileRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findPostsByProfileId(id, authenticatedUserId, page)).thenReturn(posts);
+        when(postRepository.findPostsByProfileId(id, authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -164,6 +222,47 @@ class FeedServiceTest {
         verify(postRepository, never()).findPostsByProfileId(any(UUID.class), eq(authenticatedUserId), eq(page));
     }
 
+    @Test
+    void exportProfilePosts_StreamsPostsByProfileId_WhenSourceIsConsumed() {
+        // arrange
+        UUID id = UUID.randomUUID();
+        PostDTO post = createPostDto(UUID.randomUUID(), "Test post.");
+
+        when(profileRepository.existsById(id)).thenReturn(true);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        doAnswer(invocation -> {
+            Consumer<PostDTO> sink = invocation.getArgument(2);
+            sink.accept(post);
+            return null;
+        }).when(postRepository).streamPostsByProfileId(eq(id), eq(authenticatedUserId), any());
+
+        // act
+        ItemSource<PostDTO> source = feedService.exportProfilePosts(id);
+        verify(postRepository, never()).streamPostsByProfileId(any(UUID.class), any(UUID.class), any());
+
+        List<PostDTO> actual = new ArrayList<>();
+        source.forEach(actual::add);
+
+        // assert
+        assertThat(actual).containsExactly(post);
+        verify(postRepository).streamPostsByProfileId(eq(id), eq(authenticatedUserId), any());
+    }
+
+    @Test
+    void exportProfilePosts_ThrowsApplicationException_WhenProfileByIdDoesNotExist() {
+        // arrange
+        ProfileErrorCode errorCode = ProfileErrorCode.ID_NOT_FOUND;
+        UUID id = UUID.randomUUID();
+
+        when(profileRepository.existsById(id)).thenReturn(false);
+
+        // act & assert
+        var ex = assertThrows(ApplicationException.class, () -> feedService.exportProfilePosts(id));
+        assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(id));
+
+        verify(postRepository, never()).streamPostsByProfileId(any(UUID.class), any(UUID.class), any());
+    }
+
     @Test
     void getProfileReplies_ReturnPageDtoOfPostDto_WhenProfileByIdExists() {
         // arrange
@@ -175,7 +274,7 @@ class FeedServiceTest {
 
         when(profileRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findRepliesByProfileId(id, authenticatedUserId, page)).thenReturn(posts);
+        when(postRepository.findRepliesByProfileId(id, authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -214,7 +313,7 @@ class FeedServiceTest {
 
         when(profileRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findPostsLikedByProfileId(id, authenticatedUserId, page)).thenReturn(posts);
+        when(postRepository.findPostsLikedByProfileId(id, authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -253,7 +352,7 @@ class FeedServiceTest {
 
         when(profileRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findPostsMentioningProfileId(id, authenticatedUserId, page)).thenReturn(posts);
+        when(postRepository.findPostsMentioningProfileId(id, authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -281,4 +380,24 @@ class FeedServiceTest {
         verify(postRepository, never()).findPostsMentioningProfileId(id, authenticatedUserId, page);
     }
 
+
+    @Test
+    void getHashtagPosts_ReturnPageDtoOfPostDto_WithNormalisedTag() {
+        // arrange
+        String uri = "/some/api/uri";
+        Page<PostDTO> posts = new PageImpl<>(List.of(createPostDto(UUID.randomUUID(), "Test #post.")), page, 1);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, uri);
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(postRepository.findPostsByHashtag("SpringBoot", authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
+        when(httpServletRequest.getRequestURI()).thenReturn(uri);
+
+        // act
+        Paged<PostDTO> actual = feedService.getHashtagPosts("#SpringBoot", page);
+
+        // assert
+        assertEquals(expected, actual);
+        verify(postRepository).findPostsByHashtag("SpringBoot", authenticatedUserId, page);
+    }
+
 }
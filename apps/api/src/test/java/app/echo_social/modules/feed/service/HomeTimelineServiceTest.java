@@ -0,0 +1,93 @@
+package app.echo_social.modules.feed.service;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.echo_social.config.properties.FeedProperties;
+import app.echo_social.modules.feed.repository.HomeTimelineRepository;
+
+/**
+ * Unit test class for {@link HomeTimelineService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class HomeTimelineServiceTest {
+
+    private static final int CAPACITY = 50;
+    private static final long FOLLOWER_THRESHOLD = 1_000;
+    private static final int TRIM_BATCH_SIZE = 10;
+
+    @Mock
+    private HomeTimelineRepository homeTimelineRepository;
+
+    private HomeTimelineServiceImpl homeTimelineService;
+
+    @BeforeEach
+    void setup() {
+        FeedProperties feedProperties = new FeedProperties();
+        feedProperties.setHomeTimelineCapacity(CAPACITY);
+        feedProperties.setCelebrityFollowerThreshold(FOLLOWER_THRESHOLD);
+        feedProperties.setHomeTimelineTrimBatchSize(TRIM_BATCH_SIZE);
+
+        homeTimelineService = new HomeTimelineServiceImpl(homeTimelineRepository, feedProperties);
+    }
+
+    @Test
+    void fanOut_PushesPostWithConfiguredCapacityAndThreshold() {
+        UUID postId = UUID.randomUUID();
+
+        homeTimelineService.fanOut(postId);
+
+        verify(homeTimelineRepository).fanOut(postId, CAPACITY, FOLLOWER_THRESHOLD);
+    }
+
+    @Test
+    void backfill_PushesFollowedPostsWithConfiguredCapacityAndThreshold() {
+        UUID followerId = UUID.randomUUID();
+        UUID followedId = UUID.randomUUID();
+
+        homeTimelineService.backfill(followerId, followedId);
+
+        verify(homeTimelineRepository).backfill(followerId, followedId, CAPACITY, FOLLOWER_THRESHOLD);
+    }
+
+    @Test
+    void backfillFollowers_PushesAuthorPostsWithConfiguredCapacityAndThreshold() {
+        UUID authorId = UUID.randomUUID();
+
+        homeTimelineService.backfillFollowers(authorId);
+
+        verify(homeTimelineRepository).backfillFollowers(authorId, CAPACITY, FOLLOWER_THRESHOLD);
+    }
+
+    @Test
+    void prune_RemovesUnfollowedPosts() {
+        UUID followerId = UUID.randomUUID();
+        UUID followedId = UUID.randomUUID();
+
+        homeTimelineService.prune(followerId, followedId);
+
+        verify(homeTimelineRepository).prune(followerId, followedId);
+    }
+
+    @Test
+    void trim_TrimsQueuedTimelinesUntilBatchIsNotFull() {
+        // arrange
+        when(homeTimelineRepository.trimQueued(CAPACITY, TRIM_BATCH_SIZE)).thenReturn(TRIM_BATCH_SIZE, 3);
+
+        // act
+        homeTimelineService.trim();
+
+        // assert
+        verify(homeTimelineRepository, times(2)).trimQueued(CAPACITY, TRIM_BATCH_SIZE);
+    }
+
+}
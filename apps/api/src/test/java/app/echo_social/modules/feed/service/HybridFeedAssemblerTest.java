@@ -0,0 +1,243 @@
+package app.echo_social.modules.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+
+import app.echo_social.config.properties.FeedProperties;
+import app.echo_social.modules.feed.repository.HomeTimelineRepository;
+import app.echo_social.modules.feed.repository.TimelineEntry;
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
+import app.echo_social.shared.pagination.CursorPage;
+import app.echo_social.shared.pagination.CursorRequest;
+import app.echo_social.shared.pagination.OffsetLimitRequest;
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
+
+/**
+ * Unit test class for {@link HybridFeedAssembler}.
+ */
+@ExtendWith(MockitoExtension.class)
+class HybridFeedAssemblerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final int CAPACITY = 800;
+    private static final long FOLLOWER_THRESHOLD = 1_000;
+
+    @Mock
+    private HomeTimelineRepository homeTimelineRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private HybridFeedAssembler hybridFeedAssembler;
+
+    private final UUID viewerId = UUID.randomUUID();
+    private final UUID celebrityId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        FeedProperties feedProperties = new FeedProperties();
+        feedProperties.setHomeTimelineCapacity(CAPACITY);
+        feedProperties.setCelebrityFollowerThreshold(FOLLOWER_THRESHOLD);
+
+        hybridFeedAssembler = new HybridFeedAssembler(homeTimelineRepository, postRepository, feedProperties);
+    }
+
+    /**
+     * Create a {@link TimelineEntry} positioned {@code minutesAgo} before now.
+     */
+    private static TimelineEntry entry(UUID authorId, int minutesAgo) {
+        return new TimelineEntry(authorId, UUID.randomUUID(), NOW.minusSeconds(minutesAgo * 60L));
+    }
+
+    private static List<UUID> postIds(List<TimelineEntry> entries) {
+        return entries.stream().map(TimelineEntry::postId).toList();
+    }
+
+    @Test
+    void merge_InterleavesStreamsNewestFirst() {
+        TimelineEntry a1 = entry(null, 1);
+        TimelineEntry a3 = entry(null, 3);
+        TimelineEntry b2 = entry(celebrityId, 2);
+        TimelineEntry b4 = entry(celebrityId, 4);
+
+        List<TimelineEntry> merged = HybridFeedAssembler.merge(List.of(List.of(a1, a3), List.of(b2, b4)), 10, false);
+
+        assertThat(merged).containsExactly(a1, b2, a3, b4);
+    }
+
+    @Test
+    void merge_ReturnsOldestFirstFromEndOfStreams_WhenBackward() {
+        TimelineEntry a1 = entry(null, 1);
+        TimelineEntry a3 = entry(null, 3);
+        TimelineEntry b2 = entry(celebrityId, 2);
+        TimelineEntry b4 = entry(celebrityId, 4);
+
+        List<TimelineEntry> merged = HybridFeedAssembler.merge(List.of(List.of(a1, a3), List.of(b2, b4)), 3, true);
+
+        assertThat(merged).containsExactly(b4, a3, b2);
+    }
+
+    @Test
+    void merge_SkipsDuplicatePosts_WhenPostIsPushedAndPulled() {
+        TimelineEntry pulled = entry(celebrityId, 1);
+        TimelineEntry pushed = new TimelineEntry(null, pulled.postId(), pulled.createdAt());
+        TimelineEntry other = entry(null, 2);
+
+        List<TimelineEntry> merged = HybridFeedAssembler.merge(List.of(List.of(pushed, other), List.of(pulled)), 10, false);
+
+        assertThat(postIds(merged)).containsExactly(pulled.postId(), other.postId());
+    }
+
+    @Test
+    void merge_TiesOnCreatedAtBrokenByUnsignedPostId() {
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000001"); // negative as a signed long
+        TimelineEntry first = new TimelineEntry(null, high, NOW);
+        TimelineEntry second = new TimelineEntry(celebrityId, low, NOW);
+
+        List<TimelineEntry> merged = HybridFeedAssembler.merge(List.of(List.of(second), List.of(first)), 10, false);
+
+        assertThat(merged).containsExactly(first, second);
+    }
+
+    @Test
+    void assemble_ReturnsCursorPageOfMergedStreams_WhenCursorRequestSupplied() {
+        TimelineEntry a1 = entry(null, 1);
+        TimelineEntry a3 = entry(null, 3);
+        TimelineEntry b2 = entry(celebrityId, 2);
+        CursorRequest page = CursorRequest.first(2);
+
+        when(homeTimelineRepository.findEntries(viewerId, null, 3)).thenReturn(List.of(a1, a3));
+        when(homeTimelineRepository.findPulledEntries(viewerId, FOLLOWER_THRESHOLD, null, 3)).thenReturn(List.of(b2));
+        when(homeTimelineRepository.count(viewerId, CAPACITY, FOLLOWER_THRESHOLD)).thenReturn(3L);
+        when(postRepository.findPostDtosByIds(any(), eq(viewerId))).thenReturn(List.of());
+
+        Page<PostDTO> result = hybridFeedAssembler.assemble(viewerId, page).hydrate();
+
+        verify(postRepository).findPostDtosByIds(List.of(a1.postId(), b2.postId()), viewerId);
+        assertThat(result).isInstanceOf(CursorPage.class);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+
+        CursorPage<PostDTO> cursorPage = (CursorPage<PostDTO>) result;
+        assertThat(cursorPage.getPreviousCursor()).isNull();
+        assertThat(cursorPage.getNextCursor()).isEqualTo(PageCursor.next(b2.createdAt(), b2.postId()));
+    }
+
+    @Test
+    void assemble_SkipsOffsetAcrossMergedStreams_WhenOffsetRequestSupplied() {
+        TimelineEntry a1 = entry(null, 1);
+        TimelineEntry a3 = entry(null, 3);
+        TimelineEntry b2 = entry(celebrityId, 2);
+        TimelineEntry b4 = entry(celebrityId, 4);
+        OffsetLimitRequest page = OffsetLimitRequest.of(1, 2);
+
+        when(homeTimelineRepository.findEntries(eq(viewerId), isNull(), anyInt())).thenReturn(List.of(a1, a3));
+        when(homeTimelineRepository.findPulledEntries(eq(viewerId), anyLong(), isNull(), anyInt())).thenReturn(List.of(b2, b4));
+        when(homeTimelineRepository.count(viewerId, CAPACITY, FOLLOWER_THRESHOLD)).thenReturn(4L);
+        when(postRepository.findPostDtosByIds(any(), eq(viewerId))).thenReturn(List.of());
+
+        Page<PostDTO> result = hybridFeedAssembler.assemble(viewerId, page).hydrate();
+
+        verify(homeTimelineRepository).findEntries(viewerId, null, 4);
+        verify(postRepository).findPostDtosByIds(List.of(b2.postId(), a3.postId()), viewerId);
+        assertThat(result).isNotInstanceOf(CursorPage.class);
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void assemble_CapsStreamDepthAtHomeTimelineCapacity_WhenOffsetExceedsIt() {
+        FeedProperties feedProperties = new FeedProperties();
+        feedProperties.setHomeTimelineCapacity(5);
+        feedProperties.setCelebrityFollowerThreshold(FOLLOWER_THRESHOLD);
+        HybridFeedAssembler cappedAssembler = new HybridFeedAssembler(homeTimelineRepository, postRepository, feedProperties);
+        OffsetLimitRequest page = OffsetLimitRequest.of(4, 2, TotalMode.NONE);
+
+        when(homeTimelineRepository.findEntries(eq(viewerId), isNull(), anyInt())).thenReturn(List.of());
+        when(homeTimelineRepository.findPulledEntries(eq(viewerId), anyLong(), isNull(), anyInt())).thenReturn(List.of());
+        when(postRepository.findPostDtosByIds(any(), eq(viewerId))).thenReturn(List.of());
+
+        Page<PostDTO> result = cappedAssembler.assemble(viewerId, page).hydrate();
+
+        verify(homeTimelineRepository).findEntries(viewerId, null, 5);
+        verify(homeTimelineRepository).findPulledEntries(viewerId, FOLLOWER_THRESHOLD, null, 5);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void assemble_UsesEstimatedCount_WhenTotalEstimated() {
+        TimelineEntry a1 = entry(null, 1);
+        OffsetLimitRequest page = OffsetLimitRequest.of(0, 2, TotalMode.ESTIMATED);
+
+        when(homeTimelineRepository.findEntries(eq(viewerId), isNull(), anyInt())).thenReturn(List.of(a1));
+        when(homeTimelineRepository.findPulledEntries(eq(viewerId), anyLong(), isNull(), anyInt())).thenReturn(List.of());
+        when(homeTimelineRepository.estimateCount(viewerId, CAPACITY, FOLLOWER_THRESHOLD)).thenReturn(7L);
+        when(postRepository.findPostDtosByIds(any(), eq(viewerId))).thenReturn(List.of());
+
+        Page<PostDTO> result = hybridFeedAssembler.assemble(viewerId, page).hydrate();
+
+        verify(homeTimelineRepository, never()).count(any(), anyInt(), anyLong());
+        assertThat(result.getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    void assemble_SkipsCountAndReturnsUncountedPage_WhenTotalNotRequested() {
+        TimelineEntry a1 = entry(null, 1);
+        TimelineEntry a3 = entry(null, 3);
+        TimelineEntry b2 = entry(celebrityId, 2);
+        OffsetLimitRequest page = OffsetLimitRequest.of(0, 2, TotalMode.NONE);
+
+        when(homeTimelineRepository.findEntries(eq(viewerId), isNull(), anyInt())).thenReturn(List.of(a1, a3));
+        when(homeTimelineRepository.findPulledEntries(eq(viewerId), anyLong(), isNull(), anyInt())).thenReturn(List.of(b2));
+        when(postRepository.findPostDtosByIds(any(), eq(viewerId))).thenReturn(List.of());
+
+        Page<PostDTO> result = hybridFeedAssembler.assemble(viewerId, page).hydrate();
+
+        verify(homeTimelineRepository, never()).count(any(), anyInt(), anyLong());
+        verify(homeTimelineRepository, never()).estimateCount(any(), anyInt(), anyLong());
+        assertThat(result).isInstanceOf(UncountedPage.class);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void assemble_VersionsPageWithoutHydratingIt() {
+        // arrange
+        TimelineEntry a1 = entry(null, 1);
+        OffsetLimitRequest page = OffsetLimitRequest.of(0, 2, TotalMode.NONE);
+
+        when(homeTimelineRepository.findEntries(eq(viewerId), isNull(), anyInt())).thenReturn(List.of(a1));
+        when(homeTimelineRepository.findPulledEntries(eq(viewerId), anyLong(), isNull(), anyInt())).thenReturn(List.of());
+        when(postRepository.findPostVersions(List.of(a1.postId()))).thenReturn(Map.of(a1.postId(), "1"), Map.of(a1.postId(), "2"));
+
+        // act
+        PostSelection selection = hybridFeedAssembler.assemble(viewerId, page);
+        String version = selection.version();
+
+        // assert
+        assertThat(selection.version()).isNotEqualTo(version); // the post has changed since
+        verify(postRepository, never()).findPostDtosByIds(any(), any());
+    }
+
+}
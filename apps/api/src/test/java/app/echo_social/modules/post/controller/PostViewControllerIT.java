@@ -3,17 +3,24 @@ package app.echo_social.modules.post.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 
 import app.echo_social.exception.ErrorResponse;
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.modules.post.entity.Post;
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.entity.PostEntityType;
+import app.echo_social.modules.post.entity.PostLike;
 import app.echo_social.modules.post.exception.PostErrorCode;
+import app.echo_social.modules.post.repository.PostLikeRepository;
+import app.echo_social.modules.post.repository.PostProcessingRepository;
 import app.echo_social.modules.post.repository.PostRepository;
 import app.echo_social.shared.constant.ApiRoutes;
 import app.echo_social.shared.pagination.Paged;
@@ -30,6 +37,12 @@ class PostViewControllerIT extends AbstractIntegrationTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostProcessingRepository postProcessingRepository;
+
     @BeforeEach
     void cleanDb() {
         cleaner.cleanPosts();
@@ -103,6 +116,88 @@ class PostViewControllerIT extends AbstractIntegrationTest {
             .expectBody(ErrorResponse.class).isEqualTo(expected);
     }
 
+    @Test
+    void getPostById_Returns304NotModified_WhenIfNoneMatchMatchesETag() {
+        // api: GET /api/v1/post/{id} ==> 304 Not Modified
+        Post post = createPost(null, authUser.getId(), "Test post.");
+
+        String eTag = authenticatedClient.get()
+            .uri(BY_ID_PATH, post.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(PostDTO.class)
+            .getResponseHeaders()
+            .getETag();
+
+        assertThat(eTag).isNotNull();
+
+        authenticatedClient.get()
+            .uri(BY_ID_PATH, post.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .exchange()
+            .expectStatus().isNotModified()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+            .expectBody().isEmpty();
+    }
+
+    @Test
+    void getPostById_Returns200PostDto_WhenPostIsLikedSinceETag() {
+        // api: GET /api/v1/post/{id} ==> 200 OK : PostDTO
+        Post post = createPost(null, authUser.getId(), "Test post.");
+
+        String eTag = authenticatedClient.get()
+            .uri(BY_ID_PATH, post.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(PostDTO.class)
+            .getResponseHeaders()
+            .getETag();
+
+        postLikeRepository.save(new PostLike(post.getId(), mockUser.getId()));
+
+        PostDTO response = authenticatedClient.get()
+            .uri(BY_ID_PATH, post.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(PostDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(response).isNotNull();
+        assertThat(response.metrics().likes()).isEqualTo(1);
+    }
+
+    @Test
+    void getPostById_Returns200PostDto_WhenPostIsProcessedSinceETag() {
+        // api: GET /api/v1/post/{id} ==> 200 OK : PostDTO
+        Post post = createPost(null, authUser.getId(), "Test post #Java.");
+
+        String eTag = authenticatedClient.get()
+            .uri(BY_ID_PATH, post.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(PostDTO.class)
+            .getResponseHeaders()
+            .getETag();
+
+        postProcessingRepository.markAllProcessed(List.of(post.getId()));
+        postProcessingRepository.saveAllEntities(List.of(
+            new PostEntity(post.getId(), PostEntityType.HASHTAG, 10, 15, "Java")));
+
+        PostDTO response = authenticatedClient.get()
+            .uri(BY_ID_PATH, post.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(PostDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(response).isNotNull();
+        assertThat(response.entities().hashtags()).hasSize(1);
+    }
+
     @Test
     void getRepliesByPostId_Returns200PageDtoOfPostDto_WhenPostByIdExists() {
         // api: GET /api/v1/post/{id}/replies ==> 200 OK : PageDTO<PostDTO>
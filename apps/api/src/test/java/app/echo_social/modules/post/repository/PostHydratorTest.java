@@ -0,0 +1,221 @@
+package app.echo_social.modules.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.shared.relationship.ViewerOverlay;
+
+/**
+ * Unit test class for {@link PostHydrator}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostHydratorTest {
+
+    private static final String ENTITIES = "{\"hashtags\":[],\"mentions\":[],\"urls\":[]}";
+
+    @Mock
+    private NamedParameterJdbcTemplate template;
+
+    private PostHydrator postHydrator;
+
+    private final Map<UUID, UUID> authorsByPostId = new HashMap<>(); // the posts "in the database"
+    private final Set<UUID> likedPostIds = new HashSet<>(); // the posts liked by the viewer
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        postHydrator = new PostHydrator(template, 100, Duration.ofMinutes(1));
+
+        lenient().when(template.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(2);
+            List<Object> rows = new ArrayList<>();
+            for (UUID id : postIds(invocation.getArgument(1))) {
+                if (authorsByPostId.containsKey(id)) {
+                    rows.add(mapper.mapRow(contentRow(id, authorsByPostId.get(id)), rows.size()));
+                }
+            }
+            return rows;
+        });
+
+        lenient().when(template.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            MapSqlParameterSource params = invocation.getArgument(1);
+            return new ViewerOverlay((UUID) params.getValue("viewer_id"), Set.copyOf(likedPostIds), Set.of(), Set.of());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<UUID> postIds(SqlParameterSource params) {
+        return (List<UUID>) ((MapSqlParameterSource) params).getValue("post_ids");
+    }
+
+    private static ResultSet contentRow(UUID id, UUID authorId) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("id", UUID.class)).thenReturn(id);
+        when(rs.getObject("author_id", UUID.class)).thenReturn(authorId);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.from(Instant.now()));
+        when(rs.getString("post_entities")).thenReturn(ENTITIES);
+        return rs;
+    }
+
+    private UUID createPost(UUID authorId) {
+        UUID id = UUID.randomUUID();
+        authorsByPostId.put(id, authorId);
+        return id;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<UUID>> loadedPostIds() {
+        ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(template, atLeast(0)).query(anyString(), captor.capture(), any(RowMapper.class));
+        return captor.getAllValues().stream().map(PostHydratorTest::postIds).toList();
+    }
+
+    @Test
+    void hydrate_ReturnsPostsInRequestedOrder_OmittingMissingPosts() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+        UUID a = createPost(UUID.randomUUID());
+        UUID b = createPost(UUID.randomUUID());
+
+        // act
+        List<PostDTO> posts = postHydrator.hydrate(List.of(b, UUID.randomUUID(), a), viewerId);
+
+        // assert
+        assertThat(posts).extracting(PostDTO::id).containsExactly(b.toString(), a.toString());
+    }
+
+    @Test
+    void hydrate_LoadsOnlyMisses_WhenSomePostsAreCached() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+        UUID a = createPost(UUID.randomUUID());
+        UUID b = createPost(UUID.randomUUID());
+
+        // act
+        postHydrator.hydrate(List.of(a), viewerId);
+        List<PostDTO> posts = postHydrator.hydrate(List.of(a, b), viewerId);
+
+        // assert
+        assertThat(posts).extracting(PostDTO::id).containsExactly(a.toString(), b.toString());
+        assertThat(loadedPostIds()).containsExactly(List.of(a), List.of(b));
+    }
+
+    @Test
+    void hydrate_QueriesViewerOverlayOnEveryCall_WhenPostsAreCached() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+        UUID a = createPost(UUID.randomUUID());
+
+        // act
+        boolean likedBefore = postHydrator.hydrate(List.of(a), viewerId).getFirst().relationship().liked();
+        likedPostIds.add(a);
+        boolean likedAfter = postHydrator.hydrate(List.of(a), viewerId).getFirst().relationship().liked();
+
+        // assert
+        assertThat(likedBefore).isFalse();
+        assertThat(likedAfter).isTrue();
+        assertThat(loadedPostIds()).hasSize(1);
+        verify(template, times(2)).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    void hydrate_ReturnsNullAuthorRelationship_WhenPostAuthorIsViewer() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+        UUID own = createPost(viewerId);
+        UUID other = createPost(UUID.randomUUID());
+
+        // act
+        List<PostDTO> posts = postHydrator.hydrate(List.of(own, other), viewerId);
+
+        // assert
+        assertThat(posts.get(0).author().relationship()).isNull();
+        assertThat(posts.get(1).author().relationship()).isNotNull();
+    }
+
+    @Test
+    void hydrate_QueriesNothing_WhenNoPostIdsGiven() {
+        // act
+        List<PostDTO> posts = postHydrator.hydrate(List.of(), UUID.randomUUID());
+
+        // assert
+        assertThat(posts).isEmpty();
+        verifyNoInteractions(template);
+    }
+
+    @Test
+    void evict_ReloadsPost_WhenNextHydrated() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+        UUID a = createPost(UUID.randomUUID());
+        UUID b = createPost(UUID.randomUUID());
+        postHydrator.hydrate(List.of(a, b), viewerId);
+
+        // act
+        postHydrator.evict(a);
+        postHydrator.hydrate(List.of(a, b), viewerId);
+
+        // assert
+        assertThat(loadedPostIds()).containsExactly(List.of(a, b), List.of(a));
+    }
+
+    @Test
+    void evictAuthor_ReloadsPostsByAuthor_WhenNextHydrated() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        UUID a = createPost(authorId);
+        UUID b = createPost(UUID.randomUUID());
+        UUID c = createPost(authorId);
+        postHydrator.hydrate(List.of(a, b, c), viewerId);
+
+        // act
+        postHydrator.evictAuthor(authorId);
+        postHydrator.hydrate(List.of(a, b, c), viewerId);
+
+        // assert
+        assertThat(loadedPostIds()).containsExactly(List.of(a, b, c), List.of(a, c));
+    }
+
+    @Test
+    void hydrate_LoadsEveryCall_WhenCacheIsDisabled() {
+        // arrange
+        postHydrator = new PostHydrator(template, 0, Duration.ofMinutes(1));
+        UUID viewerId = UUID.randomUUID();
+        UUID a = createPost(UUID.randomUUID());
+
+        // act
+        postHydrator.hydrate(List.of(a), viewerId);
+        postHydrator.hydrate(List.of(a), viewerId);
+
+        // assert
+        assertThat(loadedPostIds()).containsExactly(List.of(a), List.of(a));
+    }
+
+}
@@ -1,31 +1,44 @@
 package app.echo_social.modules.post.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import app.echo_social.modules.post.dto.response.PostDTO;
 import app.echo_social.modules.post.entity.Post;
+import app.echo_social.modules.post.entity.PostEntity;
 import app.echo_social.modules.post.entity.PostLike;
 import app.echo_social.modules.profile.entity.Profile;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.modules.user.entity.User;
 import app.echo_social.modules.user.repository.UserRepository;
+import app.echo_social.shared.pagination.CursorPage;
+import app.echo_social.shared.pagination.CursorRequest;
+import app.echo_social.shared.pagination.OffsetLimitRequest;
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.pagination.TotalMode;
+import app.echo_social.shared.pagination.UncountedPage;
+import app.echo_social.shared.persistence.ConstraintViolations;
 import app.echo_social.testing.support.AbstractRepositoryTest;
 import app.echo_social.util.PostEntityExtractor;
 
-// TODO: test coverage for metrics/relationships
+// TODO: test coverage for relationships
 
 /**
  * Integration test class for {@link PostRepository}.
@@ -48,6 +61,15 @@ class PostRepositoryIT extends AbstractRepositoryTest {
     @Autowired
     private PostEntityRepository postEntityRepository;
 
+    @Autowired
+    private PostMentionRepository postMentionRepository;
+
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Profile self;
     private Profile randomUser;
 
@@ -68,6 +90,25 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         return postRepository.save(Post.create(parentId, authorId, text));
     }
 
+    /**
+     * Persist the entities of a persisted {@link Post}, resolve its mentions and
+     * index its hashtags, as done by the application on post creation.
+     */
+    private void persistEntities(Post post) {
+        List<PostEntity> entities = PostEntityExtractor.extract(post.getId(), post.getText());
+        postEntityRepository.saveAll(entities);
+
+        Set<String> mentions = PostEntityExtractor.mentionedUsernames(entities);
+        if (!mentions.isEmpty()) {
+            postMentionRepository.saveAllResolved(post.getId(), mentions);
+        }
+
+        Set<String> hashtags = PostEntityExtractor.hashtags(entities);
+        if (!hashtags.isEmpty()) {
+            postHashtagRepository.saveAllForPost(post.getId(), hashtags);
+        }
+    }
+
     /**
      * Assert that each subsequent post in the list was created before its previous,
      * i.e., the array of posts are ordered by newest first.
@@ -99,9 +140,9 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         // persist relevant likes/entities
         postLikeRepository.save(new PostLike(replyWithOpResponse.getId(), self.getId()));
         postLikeRepository.save(new PostLike(replyWithLike.getId(), self.getId()));
-        postEntityRepository.saveAll(PostEntityExtractor.extract(postWithEntities.getId(), postWithEntities.getText()));
-        postEntityRepository.saveAll(PostEntityExtractor.extract(replyWithOpResponse.getId(), replyWithOpResponse.getText()));
-        postEntityRepository.saveAll(PostEntityExtractor.extract(replyWithLike.getId(), replyWithLike.getText()));
+        persistEntities(postWithEntities);
+        persistEntities(replyWithOpResponse);
+        persistEntities(replyWithLike);
     } // @formatter:on
 
     @Test
@@ -194,6 +235,62 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         assertThat(post.entities().urls()).hasSize(1); // exactly 1 related urls
     }
 
+    @Test
+    void findPostDtoById_ReturnsReplyCountFromPostStats_WhenPostHasReplies() {
+        UUID postId = postWithReplies.getId();
+        UUID authUserId = self.getId();
+
+        Optional<PostDTO> result = postRepository.findPostDtoById(
+            postId,
+            authUserId);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().metrics().replies()).isEqualTo(3);
+        assertThat(result.get().metrics().likes()).isZero();
+    }
+
+    @Test
+    void findPostDtoById_ReturnsLikeCountFromPostStats_WhenPostIsLikedAndUnliked() {
+        Post post = createPost(null, self.getId(), "A post to like and unlike.");
+        UUID authUserId = self.getId();
+
+        postLikeRepository.save(new PostLike(post.getId(), self.getId()));
+        postLikeRepository.save(new PostLike(post.getId(), randomUser.getId()));
+        entityManager.flush(); // JDBC reads bypass the persistence context
+        int likesAfterLiking = postRepository.findPostDtoById(post.getId(), authUserId).orElseThrow().metrics().likes();
+
+        postLikeRepository.deleteByPostIdAndAuthorId(post.getId(), randomUser.getId());
+        entityManager.flush();
+        int likesAfterUnliking = postRepository.findPostDtoById(post.getId(), authUserId).orElseThrow().metrics().likes();
+
+        assertThat(likesAfterLiking).isEqualTo(2);
+        assertThat(likesAfterUnliking).isEqualTo(1);
+    }
+
+    @Test
+    void findPostDtosByIds_ReturnsExistingPostsInRequestedOrder() {
+        List<UUID> postIds = List.of(postWithEntities.getId(), UUID.randomUUID(), postWithReplies.getId());
+        UUID authUserId = self.getId();
+
+        List<PostDTO> posts = postRepository.findPostDtosByIds(postIds, authUserId);
+
+        assertThat(posts)
+            .extracting(PostDTO::id)
+            .containsExactly(postWithEntities.getId().toString(), postWithReplies.getId().toString());
+    }
+
+    @Test
+    void findPostDtosByIds_ReturnsLikedRelationshipOfViewer_WhenSomePostsAreLiked() {
+        List<UUID> postIds = List.of(replyWithLike.getId(), postWithReplies.getId(), replyWithOpResponse.getId());
+        UUID authUserId = self.getId();
+
+        List<PostDTO> posts = postRepository.findPostDtosByIds(postIds, authUserId);
+
+        assertThat(posts)
+            .extracting(post -> post.relationship().liked())
+            .containsExactly(true, false, true);
+    }
+
     @Test
     void findRepliesById_ReturnsPageOfPostDto_WhenPostByIdHasReplies() {
         UUID postId = postWithReplies.getId();
@@ -203,7 +300,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findRepliesById(
             postId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -219,7 +316,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findRepliesById(
             postId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.isEmpty()).isTrue();
@@ -227,93 +324,127 @@ class PostRepositoryIT extends AbstractRepositoryTest {
     }
 
     @Test
-    void findRepliesById_ReplyWithOpResponseIsRankedHighest() {
+    void findRepliesById_ReturnsEstimatedTotalFromPostStats_WhenTotalEstimated() {
         UUID postId = postWithReplies.getId();
         UUID authUserId = self.getId();
-        Pageable pageRequest = PageRequest.of(0, 10);
+        Pageable pageRequest = OffsetLimitRequest.of(0, 10, TotalMode.ESTIMATED);
 
         Page<PostDTO> page = postRepository.findRepliesById(
             postId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
-        assertThat(page).isNotNull();
-        assertThat(page.hasContent()).isTrue();
-        assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(1);
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
 
-        List<PostDTO> posts = page.getContent();
-        assertThat(posts.getFirst().text()).isEqualTo("A reply, where @self will reply back!");
+    @Test
+    void findRepliesById_ReturnsUncountedPageWithNext_WhenTotalNotRequestedAndMoreRepliesExist() {
+        UUID postId = postWithReplies.getId();
+        UUID authUserId = self.getId();
+        Pageable pageRequest = OffsetLimitRequest.of(0, 2, TotalMode.NONE);
+
+        Page<PostDTO> page = postRepository.findRepliesById(
+            postId,
+            authUserId,
+            pageRequest).hydrate();
+
+        assertThat(page).isInstanceOf(UncountedPage.class);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
     }
 
     @Test
-    void findRepliesById_ReplyWithEngagementIsRankedHigherThanReplyWithoutEngagement() {
+    void findRepliesById_ReturnsUncountedPageWithoutNext_WhenTotalNotRequestedAndNoMoreRepliesExist() {
         UUID postId = postWithReplies.getId();
         UUID authUserId = self.getId();
-        Pageable pageRequest = PageRequest.of(0, 10);
+        Pageable pageRequest = OffsetLimitRequest.of(2, 2, TotalMode.NONE);
 
         Page<PostDTO> page = postRepository.findRepliesById(
             postId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
-        assertThat(page).isNotNull();
-        assertThat(page.hasContent()).isTrue();
-        assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(1);
+        assertThat(page).isInstanceOf(UncountedPage.class);
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+    }
 
-        List<PostDTO> posts = page.getContent();
-        assertThat(posts.get(1).text()).isEqualTo("A reply that @self will like!");
-        assertThat(posts.get(2).text()).isEqualTo("A reply with no engagement.");
+    @Test
+    void findDiscoverPosts_ReturnsPlannerEstimatedTotal_WhenTotalEstimated() {
+        UUID authUserId = self.getId();
+        Pageable pageRequest = OffsetLimitRequest.of(0, 10, TotalMode.ESTIMATED);
+
+        Page<PostDTO> page = postRepository.findDiscoverPosts(
+            authUserId,
+            pageRequest).hydrate();
+
+        assertThat(page.hasContent()).isTrue();
+        assertThat(page.getTotalElements()).isNotNegative();
     }
 
     @Test
-    void findHomepagePosts_RankedByCreatedAtDescending() {
+    void findRepliesById_ReplyWithOpResponseIsRankedHighest() {
+        UUID postId = postWithReplies.getId();
         UUID authUserId = self.getId();
         Pageable pageRequest = PageRequest.of(0, 10);
 
-        Page<PostDTO> page = postRepository.findHomepagePosts(
+        Page<PostDTO> page = postRepository.findRepliesById(
+            postId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
         assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(1);
 
         List<PostDTO> posts = page.getContent();
-        assertPostsRankedByCreatedAtDescending(posts);
+        assertThat(posts.getFirst().text()).isEqualTo("A reply, where @self will reply back!");
     }
 
     @Test
-    void findHomepagePosts_ReturnsPostsBySelfOnly_WhenNotFollowingAnyUsers() {
+    void findRepliesById_ReplyWithEngagementIsRankedHigherThanReplyWithoutEngagement() {
+        UUID postId = postWithReplies.getId();
         UUID authUserId = self.getId();
         Pageable pageRequest = PageRequest.of(0, 10);
 
-        Page<PostDTO> page = postRepository.findHomepagePosts(
+        Page<PostDTO> page = postRepository.findRepliesById(
+            postId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
+        assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(1);
 
         List<PostDTO> posts = page.getContent();
-
-        // assert all posts belong to authUser
-        for (PostDTO post : posts) {
-            UUID authorId = UUID.fromString(post.author().id());
-            assertThat(authorId).isEqualTo(authUserId);
-        }
+        assertThat(posts.get(1).text()).isEqualTo("A reply that @self will like!");
+        assertThat(posts.get(2).text()).isEqualTo("A reply with no engagement.");
     }
 
     @Test
-    void findHomepagePosts_ReturnsEmmpty_WhenNoPostsAndNotFollowingAnyUsers() {
-        UUID authUserId = randomUser.getId(); // randomUser has no root-level posts, only replies
+    void findRepliesById_ReranksReplies_WhenLikesAndAuthorResponsesArrive() {
+        Post root = createPost(null, self.getId(), "A post to rank replies under.");
+        Post first = createPost(root.getId(), randomUser.getId(), "A reply that will be liked.");
+        Post second = createPost(root.getId(), randomUser.getId(), "A reply that @self will reply to.");
+        UUID authUserId = self.getId();
         Pageable pageRequest = PageRequest.of(0, 10);
 
-        Page<PostDTO> page = postRepository.findHomepagePosts(
-            authUserId,
-            pageRequest);
-
-        assertThat(page).isNotNull();
-        assertThat(page.isEmpty()).isTrue();
+        postLikeRepository.save(new PostLike(first.getId(), self.getId()));
+        postLikeRepository.save(new PostLike(first.getId(), randomUser.getId()));
+        entityManager.flush(); // JDBC reads bypass the persistence context
+        List<String> rankedAfterLikes = postRepository.findRepliesById(root.getId(), authUserId, pageRequest).hydrate()
+            .map(PostDTO::id)
+            .getContent();
+
+        createPost(second.getId(), self.getId(), "Replying back.");
+        entityManager.flush();
+        List<String> rankedAfterResponse = postRepository.findRepliesById(root.getId(), authUserId, pageRequest).hydrate()
+            .map(PostDTO::id)
+            .getContent();
+
+        assertThat(rankedAfterLikes).containsExactly(first.getId().toString(), second.getId().toString());
+        assertThat(rankedAfterResponse).containsExactly(second.getId().toString(), first.getId().toString());
     }
 
     @Test
@@ -323,7 +454,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
 
         Page<PostDTO> page = postRepository.findDiscoverPosts(
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -342,7 +473,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findPostsByProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -352,6 +483,23 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         assertPostsRankedByCreatedAtDescending(posts);
     }
 
+    @Test
+    void findPostsByProfileId_VersionChanges_OnlyWhenPageChanges() {
+        // arrange
+        Pageable pageRequest = PageRequest.of(0, 10);
+        String version = postRepository.findPostsByProfileId(self.getId(), self.getId(), pageRequest).version();
+
+        // act
+        String unchanged = postRepository.findPostsByProfileId(self.getId(), self.getId(), pageRequest).version();
+        createPost(null, self.getId(), "A newer root post.");
+        entityManager.flush(); // JDBC reads bypass the persistence context
+        String changed = postRepository.findPostsByProfileId(self.getId(), self.getId(), pageRequest).version();
+
+        // assert
+        assertThat(unchanged).isEqualTo(version);
+        assertThat(changed).isNotEqualTo(version);
+    }
+
     @Test
     void findPostsByProfileId_ContainsOnlyPostsAuthoredByProfileId() {
         UUID profileId = self.getId();
@@ -361,7 +509,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findPostsByProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -376,6 +524,20 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         }
     }
 
+    @Test
+    void streamPostsByProfileId_StreamsEveryRootPostByProfileId_NewestFirst() {
+        UUID profileId = self.getId();
+        UUID authUserId = self.getId();
+        List<PostDTO> posts = new ArrayList<>();
+
+        postRepository.streamPostsByProfileId(profileId, authUserId, posts::add);
+
+        assertThat(posts)
+            .extracting(PostDTO::id)
+            .containsExactlyInAnyOrder(postWithReplies.getId().toString(), postWithEntities.getId().toString());
+        assertPostsRankedByCreatedAtDescending(posts);
+    }
+
     @Test
     void findRepliesByProfileId_RankedByCreatedAtDescending() {
         UUID profileId = randomUser.getId();
@@ -385,7 +547,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findRepliesByProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -404,7 +566,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findRepliesByProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -428,7 +590,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findPostsLikedByProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -447,7 +609,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findPostsLikedByProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -472,7 +634,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findPostsMentioningProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -492,7 +654,7 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         Page<PostDTO> page = postRepository.findPostsMentioningProfileId(
             profileId,
             authUserId,
-            pageRequest);
+            pageRequest).hydrate();
 
         assertThat(page).isNotNull();
         assertThat(page.hasContent()).isTrue();
@@ -506,6 +668,99 @@ class PostRepositoryIT extends AbstractRepositoryTest {
         }
     }
 
+    @Test
+    void findPostsMentioningProfileId_FollowsUsername_WhenUsernameChanges() {
+        Profile renamed = createProfile("user_someUniqueId3", "old_name");
+        Post mentionsOld = createPost(null, randomUser.getId(), "Hello @OLD_NAME!");
+        Post mentionsNew = createPost(null, randomUser.getId(), "Hello @new_name!");
+        persistEntities(mentionsOld);
+        persistEntities(mentionsNew);
+        Pageable pageRequest = PageRequest.of(0, 10);
+
+        Page<PostDTO> before = postRepository.findPostsMentioningProfileId(renamed.getId(), self.getId(), pageRequest).hydrate();
+
+        renamed.setUsername("new_name");
+        profileRepository.save(renamed);
+        postMentionRepository.deleteAllForProfile(renamed.getId());
+        postMentionRepository.saveAllForProfile(renamed.getId(), renamed.getUsername());
+
+        Page<PostDTO> after = postRepository.findPostsMentioningProfileId(renamed.getId(), self.getId(), pageRequest).hydrate();
+
+        assertThat(before.getContent()).extracting(PostDTO::id).containsExactly(mentionsOld.getId().toString());
+        assertThat(after.getContent()).extracting(PostDTO::id).containsExactly(mentionsNew.getId().toString());
+    }
+
+    @Test
+    void findPostsByHashtag_ReturnsTaggedPostsNewestFirst_ByCursor() {
+        Post older = createPost(null, randomUser.getId(), "An #EchoTest post.");
+        Post newer = createPost(null, randomUser.getId(), "Another #echotest post, #ECHOTEST twice.");
+        createPost(null, randomUser.getId(), "An untagged echotest post.");
+        persistEntities(older);
+        persistEntities(newer);
+        entityManager.flush();
+
+        Page<PostDTO> first = postRepository.findPostsByHashtag("echotest", self.getId(), CursorRequest.first(1)).hydrate();
+
+        assertThat(first.getContent()).extracting(PostDTO::id).containsExactly(newer.getId().toString());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+
+        PageCursor next = ((CursorPage<PostDTO>) first).getNextCursor();
+        Page<PostDTO> second = postRepository.findPostsByHashtag("echotest", self.getId(), CursorRequest.of(next, 1)).hydrate();
+
+        assertThat(second.getContent()).extracting(PostDTO::id).containsExactly(older.getId().toString());
+
+        Page<PostDTO> anyCase = postRepository.findPostsByHashtag("EchoTest", self.getId(), CursorRequest.first(2)).hydrate();
+
+        assertThat(anyCase.getContent()).extracting(PostDTO::id)
+            .containsExactly(newer.getId().toString(), older.getId().toString());
+        assertThat(anyCase.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findPostsBySearchQuery_RanksStrongerMatchesFirst_ByCursor() {
+        Post strong = createPost(null, randomUser.getId(), "Zyzzogeton, zyzzogeton, zyzzogeton.");
+        Post weak = createPost(null, randomUser.getId(), "A much longer post that mentions the zyzzogeton only once, among many other words.");
+        createPost(null, randomUser.getId(), "A post about something else entirely.");
+        entityManager.flush();
+
+        Page<PostDTO> first = postRepository.findPostsBySearchQuery("Zyzzogeton", 1_000, self.getId(), CursorRequest.first(1)).hydrate();
+
+        assertThat(first.getContent()).extracting(PostDTO::id).containsExactly(strong.getId().toString());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+
+        PageCursor next = ((CursorPage<PostDTO>) first).getNextCursor();
+        Page<PostDTO> second = postRepository.findPostsBySearchQuery("Zyzzogeton", 1_000, self.getId(), CursorRequest.of(next, 1)).hydrate();
+
+        assertThat(second.getContent()).extracting(PostDTO::id).containsExactly(weak.getId().toString());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void insertIfAbsent_InsertsLikeOnce_AndDeleteIfPresentDeletesItOnce() {
+        Post post = createPost(null, randomUser.getId(), "A post to like twice.");
+        entityManager.flush();
+
+        boolean firstInsert = postLikeRepository.insertIfAbsent(post.getId(), self.getId());
+        boolean secondInsert = postLikeRepository.insertIfAbsent(post.getId(), self.getId());
+        boolean firstDelete = postLikeRepository.deleteIfPresent(post.getId(), self.getId());
+        boolean secondDelete = postLikeRepository.deleteIfPresent(post.getId(), self.getId());
+
+        assertThat(firstInsert).isTrue();
+        assertThat(secondInsert).isFalse();
+        assertThat(firstDelete).isTrue();
+        assertThat(secondDelete).isFalse();
+    }
+
+    @Test
+    void insertIfAbsent_ViolatesPostForeignKey_WhenPostDoesNotExist() {
+        var ex = catchThrowableOfType(
+            DataIntegrityViolationException.class,
+            () -> postLikeRepository.insertIfAbsent(UUID.randomUUID(), self.getId()));
+
+        assertThat(ex).isNotNull();
+        assertThat(ConstraintViolations.isViolationOf(ex, "fk_post_id")).isTrue();
+    }
+
     @Test
     void delete_CascadeDeletesRelatedPosts() {
         Post root = createPost(null, self.getId(), "root.");
@@ -0,0 +1,255 @@
+package app.echo_social.modules.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.modules.post.entity.PostLike;
+import app.echo_social.modules.post.event.PostLikedEvent;
+import app.echo_social.modules.post.event.PostUnlikedEvent;
+import app.echo_social.modules.post.repository.PostLikeRepository;
+
+/**
+ * Unit test class for {@link LikeBuffer}.
+ */
+@ExtendWith(MockitoExtension.class)
+class LikeBufferTest {
+
+    @Mock
+    private PostLikeRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LikeBuffer likeBuffer;
+
+    private final List<List<PostLike>> inserted = new ArrayList<>(); // the batches "written"
+    private final List<List<PostLike>> deleted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        likeBuffer = new LikeBuffer(repository, new TransactionTemplate(transactionManager), eventPublisher, 2, 100, 4);
+
+        lenient().when(repository.insertAllIgnoringExisting(anyCollection())).thenAnswer(invocation -> {
+            List<PostLike> likes = List.copyOf(invocation.<Collection<PostLike>>getArgument(0));
+            if (!likes.isEmpty()) {
+                inserted.add(likes);
+            }
+            return likes;
+        });
+        lenient().when(repository.deleteAllExisting(anyCollection())).thenAnswer(invocation -> {
+            List<PostLike> likes = List.copyOf(invocation.<Collection<PostLike>>getArgument(0));
+            if (!likes.isEmpty()) {
+                deleted.add(likes);
+            }
+            return likes;
+        });
+    }
+
+    @Test
+    void pending_ReturnsLastWrite_UntilFlushed() {
+        // arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+
+        // act
+        Boolean before = likeBuffer.pending(postId, authorId);
+        likeBuffer.like(postId, authorId);
+        Boolean afterLike = likeBuffer.pending(postId, authorId);
+        likeBuffer.unlike(postId, authorId);
+        Boolean afterUnlike = likeBuffer.pending(postId, authorId);
+        likeBuffer.flush();
+        Boolean afterFlush = likeBuffer.pending(postId, authorId);
+
+        // assert
+        assertThat(before).isNull();
+        assertThat(afterLike).isTrue();
+        assertThat(afterUnlike).isFalse();
+        assertThat(afterFlush).isNull();
+        assertThat(inserted).isEmpty();
+        assertThat(deleted).hasSize(1);
+        assertThat(deleted.getFirst()).hasSize(1);
+    }
+
+    @Test
+    void flush_WritesAtMostBatchSize_AndPublishesEventsForWrittenLikes() {
+        // arrange
+        UUID authorId = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        likeBuffer.like(a, authorId);
+        likeBuffer.like(b, authorId);
+        likeBuffer.unlike(c, authorId);
+
+        // act
+        likeBuffer.flush();
+        int remaining = likeBuffer.size();
+
+        // assert
+        assertThat(remaining).isEqualTo(1);
+        assertThat(inserted.stream().mapToInt(List::size).sum() + deleted.stream().mapToInt(List::size).sum())
+            .isEqualTo(2);
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void flush_WritesBatchesUntilFewerThanBatchSizeRemain() {
+        // arrange
+        UUID authorId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            likeBuffer.like(UUID.randomUUID(), authorId);
+        }
+
+        // act
+        likeBuffer.flush();
+
+        // assert
+        assertThat(likeBuffer.size()).isEqualTo(1);
+        assertThat(inserted).hasSize(2);
+    }
+
+    @Test
+    void flush_StopsAtFailedBatch() {
+        // arrange
+        UUID authorId = UUID.randomUUID();
+        when(repository.insertAllIgnoringExisting(anyCollection()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        for (int i = 0; i < 5; i++) {
+            likeBuffer.like(UUID.randomUUID(), authorId);
+        }
+
+        // act
+        likeBuffer.flush();
+
+        // assert
+        assertThat(likeBuffer.size()).isEqualTo(5);
+        verify(repository, times(1)).insertAllIgnoringExisting(anyCollection());
+    }
+
+    @Test
+    void like_ReturnsFalse_WhenBufferFull() {
+        // arrange
+        LikeBuffer full = new LikeBuffer(repository, new TransactionTemplate(transactionManager), eventPublisher, 2, 1, 1);
+        UUID authorId = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        // act
+        boolean first = full.like(a, authorId);
+        boolean second = full.like(b, authorId);
+        boolean replacing = full.unlike(a, authorId);
+
+        // assert
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(replacing).isTrue();
+        assertThat(full.pending(a, authorId)).isFalse();
+        assertThat(full.pending(b, authorId)).isNull();
+    }
+
+    @Test
+    void flush_PublishesNoEvent_WhenLikeAlreadyExists() {
+        // arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        when(repository.insertAllIgnoringExisting(anyCollection())).thenReturn(List.of());
+        likeBuffer.like(postId, authorId);
+
+        // act
+        likeBuffer.flush();
+
+        // assert
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(likeBuffer.pending(postId, authorId)).isNull();
+    }
+
+    @Test
+    void flush_KeepsWritesBuffered_WhenWriteFails() {
+        // arrange
+        UUID postId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        when(repository.insertAllIgnoringExisting(anyCollection()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        likeBuffer.like(postId, authorId);
+
+        // act
+        likeBuffer.flush();
+
+        // assert
+        assertThat(likeBuffer.size()).isEqualTo(1);
+        assertThat(likeBuffer.pending(postId, authorId)).isTrue();
+        verify(transactionManager).rollback(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void drain_WritesEveryBufferedWrite_BatchByBatch() {
+        // arrange
+        UUID authorId = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        likeBuffer.like(a, authorId);
+        likeBuffer.like(b, authorId);
+        likeBuffer.like(c, authorId);
+
+        // act
+        likeBuffer.drain();
+
+        // assert
+        assertThat(likeBuffer.size()).isZero();
+        assertThat(inserted).hasSize(2);
+        assertThat(inserted.stream().flatMap(List::stream).map(PostLike::getPostId)).containsExactlyInAnyOrder(a, b, c);
+        verify(eventPublisher).publishEvent(new PostLikedEvent(a, authorId));
+        verify(eventPublisher).publishEvent(new PostLikedEvent(b, authorId));
+        verify(eventPublisher).publishEvent(new PostLikedEvent(c, authorId));
+        verify(eventPublisher, never()).publishEvent(any(PostUnlikedEvent.class));
+    }
+
+    @Test
+    void flush_WritesLikesAndUnlikesInPostThenAuthorOrder() {
+        // arrange
+        LikeBuffer unbatched = new LikeBuffer(repository, new TransactionTemplate(transactionManager), eventPublisher, 10, 100, 4);
+        UUID low = new UUID(1L, 0L);
+        UUID high = new UUID(Long.MIN_VALUE, 0L); // last as unsigned bytes, as PostgreSQL orders it
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        unbatched.like(high, first);
+        unbatched.like(low, second);
+        unbatched.like(low, first);
+        unbatched.unlike(high, second);
+        unbatched.unlike(low, UUID.randomUUID());
+
+        // act
+        unbatched.flush();
+
+        // assert
+        assertThat(inserted.getFirst())
+            .extracting(PostLike::getPostId, PostLike::getAuthorId)
+            .containsExactly(tuple(low, first), tuple(low, second), tuple(high, first));
+        assertThat(deleted.getFirst())
+            .extracting(PostLike::getPostId)
+            .containsExactly(low, high);
+    }
+
+}
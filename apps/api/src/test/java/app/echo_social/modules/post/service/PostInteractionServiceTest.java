@@ -12,9 +12,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.post.entity.Post;
+import app.echo_social.modules.post.event.PostLikedEvent;
+import app.echo_social.modules.post.event.PostUnlikedEvent;
 import app.echo_social.modules.post.exception.PostErrorCode;
 import app.echo_social.modules.post.repository.PostLikeRepository;
 import app.echo_social.modules.post.repository.PostRepository;
@@ -38,6 +45,15 @@ class PostInteractionServiceTest {
     @Mock
     private PostLikeRepository likeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<LikeBuffer> likeBufferProvider;
+
+    @Mock
+    private LikeBuffer likeBuffer;
+
     private static UUID authenticatedUserId;
     private static Post post;
 
@@ -52,14 +68,15 @@ class PostInteractionServiceTest {
         // arrange
         UUID id = post.getId();
 
-        when(postRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(likeRepository.existsByPostIdAndAuthorId(id, authenticatedUserId)).thenReturn(false);
+        when(likeRepository.insertIfAbsent(id, authenticatedUserId)).thenReturn(true);
 
         // act & assert
         assertDoesNotThrow(() -> postInteractionService.like(id));
-        verify(postRepository).existsById(id);
-        verify(likeRepository).existsByPostIdAndAuthorId(id, authenticatedUserId);
+        verify(likeRepository).insertIfAbsent(id, authenticatedUserId);
+        verify(postRepository, never()).existsById(id);
+        verify(likeRepository, never()).existsByPostIdAndAuthorId(id, authenticatedUserId);
+        verify(eventPublisher).publishEvent(new PostLikedEvent(id, authenticatedUserId));
     }
 
     @Test
@@ -68,14 +85,16 @@ class PostInteractionServiceTest {
         PostErrorCode errorCode = PostErrorCode.ID_NOT_FOUND;
         UUID id = post.getId();
 
-        when(postRepository.existsById(id)).thenReturn(false);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeRepository.insertIfAbsent(id, authenticatedUserId)).thenThrow(new DataIntegrityViolationException(
+            "could not execute statement",
+            new PSQLException(new ServerErrorMessage("SERROR\0C23503\0nfk_post_id\0"))));
 
         // act & assert
         var ex = assertThrows(ApplicationException.class, () -> postInteractionService.like(id));
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(id));
 
-        verify(postRepository).existsById(id);
-        verify(likeRepository, never()).existsByPostIdAndAuthorId(id, authenticatedUserId);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -84,16 +103,30 @@ class PostInteractionServiceTest {
         PostErrorCode errorCode = PostErrorCode.ALREADY_LIKED;
         UUID id = post.getId();
 
-        when(postRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(likeRepository.existsByPostIdAndAuthorId(id, authenticatedUserId)).thenReturn(true);
+        when(likeRepository.insertIfAbsent(id, authenticatedUserId)).thenReturn(false);
 
         // act & assert
         var ex = assertThrows(ApplicationException.class, () -> postInteractionService.like(id));
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(id));
 
-        verify(postRepository).existsById(id);
-        verify(likeRepository).existsByPostIdAndAuthorId(id, authenticatedUserId);
+        verify(likeRepository).insertIfAbsent(id, authenticatedUserId);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void like_RethrowsDataIntegrityViolation_WhenUnrelatedToPost() {
+        // arrange
+        UUID id = post.getId();
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeRepository.insertIfAbsent(id, authenticatedUserId)).thenThrow(new DataIntegrityViolationException(
+            "could not execute statement",
+            new PSQLException(new ServerErrorMessage("SERROR\0C23503\0nfk_author_id\0"))));
+
+        // act & assert
+        assertThrows(DataIntegrityViolationException.class, () -> postInteractionService.like(id));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -102,9 +135,130 @@ class PostInteractionServiceTest {
         UUID id = post.getId();
 
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeRepository.deleteIfPresent(id, authenticatedUserId)).thenReturn(true);
+
+        // act & assert
+        assertDoesNotThrow(() -> postInteractionService.unlike(id));
+        verify(eventPublisher).publishEvent(new PostUnlikedEvent(id, authenticatedUserId));
+    }
+
+    @Test
+    void unlike_ReturnsVoid_WithoutEvent_WhenNotLiked() {
+        // arrange
+        UUID id = post.getId();
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeRepository.deleteIfPresent(id, authenticatedUserId)).thenReturn(false);
+
+        // act & assert
+        assertDoesNotThrow(() -> postInteractionService.unlike(id));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void like_BuffersLike_WhenLikeBufferEnabled() {
+        // arrange
+        UUID id = post.getId();
+
+        when(postRepository.existsById(id)).thenReturn(true);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeBufferProvider.getIfAvailable()).thenReturn(likeBuffer);
+        when(likeBuffer.pending(id, authenticatedUserId)).thenReturn(null);
+        when(likeRepository.existsByPostIdAndAuthorId(id, authenticatedUserId)).thenReturn(false);
+        when(likeBuffer.like(id, authenticatedUserId)).thenReturn(true);
+
+        // act & assert
+        assertDoesNotThrow(() -> postInteractionService.like(id));
+        verify(likeBuffer).like(id, authenticatedUserId);
+        verify(likeRepository, never()).insertIfAbsent(id, authenticatedUserId);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void like_ThrowsApplicationException_WhenLikePendingInLikeBuffer() {
+        // arrange
+        PostErrorCode errorCode = PostErrorCode.ALREADY_LIKED;
+        UUID id = post.getId();
+
+        when(postRepository.existsById(id)).thenReturn(true);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeBufferProvider.getIfAvailable()).thenReturn(likeBuffer);
+        when(likeBuffer.pending(id, authenticatedUserId)).thenReturn(true);
+
+        // act & assert
+        var ex = assertThrows(ApplicationException.class, () -> postInteractionService.like(id));
+        assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(id));
+
+        verify(likeRepository, never()).existsByPostIdAndAuthorId(id, authenticatedUserId);
+        verify(likeBuffer, never()).like(id, authenticatedUserId);
+    }
+
+    @Test
+    void like_BuffersLike_WhenUnlikePendingInLikeBuffer() {
+        // arrange
+        UUID id = post.getId();
+
+        when(postRepository.existsById(id)).thenReturn(true);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeBufferProvider.getIfAvailable()).thenReturn(likeBuffer);
+        when(likeBuffer.pending(id, authenticatedUserId)).thenReturn(false);
+        when(likeBuffer.like(id, authenticatedUserId)).thenReturn(true);
+
+        // act & assert
+        assertDoesNotThrow(() -> postInteractionService.like(id));
+        verify(likeRepository, never()).existsByPostIdAndAuthorId(id, authenticatedUserId);
+        verify(likeBuffer).like(id, authenticatedUserId);
+    }
+
+    @Test
+    void unlike_BuffersUnlike_WhenLikeBufferEnabled() {
+        // arrange
+        UUID id = post.getId();
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeBufferProvider.getIfAvailable()).thenReturn(likeBuffer);
+        when(likeBuffer.unlike(id, authenticatedUserId)).thenReturn(true);
+
+        // act & assert
+        assertDoesNotThrow(() -> postInteractionService.unlike(id));
+        verify(likeBuffer).unlike(id, authenticatedUserId);
+        verify(likeRepository, never()).deleteIfPresent(id, authenticatedUserId);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void like_InsertsLike_WhenLikeBufferFull() {
+        // arrange
+        UUID id = post.getId();
+
+        when(postRepository.existsById(id)).thenReturn(true);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeBufferProvider.getIfAvailable()).thenReturn(likeBuffer);
+        when(likeBuffer.pending(id, authenticatedUserId)).thenReturn(null);
+        when(likeRepository.existsByPostIdAndAuthorId(id, authenticatedUserId)).thenReturn(false);
+        when(likeBuffer.like(id, authenticatedUserId)).thenReturn(false);
+        when(likeRepository.insertIfAbsent(id, authenticatedUserId)).thenReturn(true);
+
+        // act & assert
+        assertDoesNotThrow(() -> postInteractionService.like(id));
+        verify(likeRepository).insertIfAbsent(id, authenticatedUserId);
+        verify(eventPublisher).publishEvent(new PostLikedEvent(id, authenticatedUserId));
+    }
+
+    @Test
+    void unlike_DeletesLike_WhenLikeBufferFull() {
+        // arrange
+        UUID id = post.getId();
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(likeBufferProvider.getIfAvailable()).thenReturn(likeBuffer);
+        when(likeBuffer.unlike(id, authenticatedUserId)).thenReturn(false);
+        when(likeRepository.deleteIfPresent(id, authenticatedUserId)).thenReturn(true);
 
         // act & assert
         assertDoesNotThrow(() -> postInteractionService.unlike(id));
+        verify(likeRepository).deleteIfPresent(id, authenticatedUserId);
+        verify(eventPublisher).publishEvent(new PostUnlikedEvent(id, authenticatedUserId));
     }
 
 }
@@ -3,29 +3,27 @@ package app.echo_social.modules.post.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import app.echo_social.exception.ApplicationException;
 import app.echo_social.modules.post.dto.request.CreatePostDTO;
 import app.echo_social.modules.post.entity.Post;
-import app.echo_social.modules.post.entity.PostEntity;
-import app.echo_social.modules.post.entity.PostEntityType;
+import app.echo_social.modules.post.event.PostCreatedEvent;
+import app.echo_social.modules.post.event.PostDeletedEvent;
+import app.echo_social.modules.post.event.PostTaggedEvent;
 import app.echo_social.modules.post.exception.PostErrorCode;
-import app.echo_social.modules.post.repository.PostEntityRepository;
 import app.echo_social.modules.post.repository.PostRepository;
 import app.echo_social.shared.service.SessionService;
 
@@ -45,10 +43,10 @@ class PostManagementServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private PostEntityRepository postEntityRepository;
+    private PostProcessor postProcessor;
 
-    @Captor
-    private ArgumentCaptor<List<PostEntity>> postEntityCaptor;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private static UUID authenticatedUserId;
 
@@ -58,44 +56,21 @@ class PostManagementServiceTest {
     }
 
     @Test
-    void create_SavesNoEntities_WhenPostTextContainsNoEntities() {
-        // arrange
-        var request = new CreatePostDTO(UUID.randomUUID(), "Test post.");
-        Post post = Post.forTest(UUID.randomUUID(), request.parentId(), authenticatedUserId, request.text());
-
-        when(postRepository.existsById(request.parentId())).thenReturn(true);
-        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.save(any(Post.class))).thenReturn(post);
-
-        // act & assert
-        assertDoesNotThrow(() -> postManagementService.create(request));
-        verify(postRepository).existsById(request.parentId());
-        verify(postEntityRepository).saveAll(List.of()); // empty list of entities
-    }
-
-    @Test
-    void create_SavesMultipleEntities_WhenPostTextContainsMultipleEntities() {
+    void create_SubmitsPostForProcessing_WhenPostSuccessfullyCreated() {
         // arrange
         var request = new CreatePostDTO(UUID.randomUUID(), "Test post with a @Valid_Mention and a #ValidHashtag!");
         Post post = Post.forTest(UUID.randomUUID(), request.parentId(), authenticatedUserId, request.text());
 
-        List<PostEntity> entities = List.of(
-            new PostEntity(post.getId(), PostEntityType.MENTION, 17, 31, "Valid_Mention"),
-            new PostEntity(post.getId(), PostEntityType.HASHTAG, 38, 51, "ValidHashtag"));
-
-        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
         when(postRepository.existsById(request.parentId())).thenReturn(true);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
         when(postRepository.save(any(Post.class))).thenReturn(post);
 
         // act & assert
         assertDoesNotThrow(() -> postManagementService.create(request));
         verify(postRepository).existsById(request.parentId());
-        verify(postEntityRepository).saveAll(postEntityCaptor.capture());
-
-        // validate captured postEntityRepository.saveAll argument
-        List<PostEntity> captured = postEntityCaptor.getValue();
-        assertEquals(2, captured.size());
-        assertEquals(entities, captured);
+        verify(postProcessor).submit(post.getId(), request.text());
+        verify(eventPublisher, never()).publishEvent(any(PostTaggedEvent.class)); // published once processed
+        verify(eventPublisher).publishEvent(new PostCreatedEvent(post.getId(), request.parentId(), authenticatedUserId));
     }
 
     @Test
@@ -113,7 +88,8 @@ class PostManagementServiceTest {
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(invalidParentId));
 
         verify(postRepository).existsById(invalidParentId);
-        verify(postEntityRepository, never()).saveAll(anyList());
+        verify(postProcessor, never()).submit(any(UUID.class), anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -128,7 +104,7 @@ class PostManagementServiceTest {
         // act & assert
         assertThrows(IllegalArgumentException.class, () -> postManagementService.create(request));
         verify(postRepository).existsById(request.parentId());
-        verify(postEntityRepository, never()).saveAll(anyList());
+        verify(postProcessor, never()).submit(any(UUID.class), anyString());
     }
 
     @Test
@@ -143,6 +119,7 @@ class PostManagementServiceTest {
         // act & assert
         assertDoesNotThrow(() -> postManagementService.delete(id));
         verify(postRepository).findById(id);
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(id, null, authenticatedUserId));
     }
 
     @Test
@@ -160,6 +137,7 @@ class PostManagementServiceTest {
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage());
 
         verify(postRepository).findById(id);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
 }
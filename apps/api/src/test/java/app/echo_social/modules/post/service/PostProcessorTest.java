@@ -0,0 +1,190 @@
+package app.echo_social.modules.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.echo_social.modules.post.entity.PostEntity;
+import app.echo_social.modules.post.entity.PostEntityType;
+import app.echo_social.modules.post.event.PostProcessedEvent;
+import app.echo_social.modules.post.event.PostTaggedEvent;
+import app.echo_social.modules.post.repository.PostProcessingRepository;
+import app.echo_social.modules.post.repository.UnprocessedPost;
+
+/**
+ * Unit test class for {@link PostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostProcessorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Duration SWEEP_DELAY = Duration.ofMinutes(1);
+
+    @Mock
+    private PostProcessingRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<PostEntity>> entityCaptor;
+
+    private PostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        postProcessor = createPostProcessor(10, 10);
+
+        lenient().when(repository.markAllProcessed(anyCollection()))
+            .thenAnswer(invocation -> List.copyOf(invocation.<Collection<UUID>>getArgument(0)));
+    }
+
+    private PostProcessor createPostProcessor(int capacity, int batchSize) {
+        return new PostProcessor(
+            repository,
+            new TransactionTemplate(transactionManager),
+            eventPublisher,
+            capacity,
+            batchSize,
+            SWEEP_DELAY,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void stop_RecordsEntitiesMentionsAndHashtagsOfQueuedPosts_InOneBatch() {
+        // arrange
+        UUID tagged = UUID.randomUUID();
+        UUID plain = UUID.randomUUID();
+        postProcessor.submit(tagged, "Test post with a @Valid_Mention and a #ValidHashtag!");
+        postProcessor.submit(plain, "Test post.");
+        when(repository.saveAllHashtags(Map.of(tagged, Set.of("ValidHashtag"))))
+            .thenReturn(Map.of(tagged, Set.of("validhashtag")));
+
+        // act
+        postProcessor.stop();
+
+        // assert
+        verify(repository).markAllProcessed(Set.of(tagged, plain));
+        verify(repository).saveAllEntities(entityCaptor.capture());
+        assertThat(entityCaptor.getValue()).containsExactly(
+            new PostEntity(tagged, PostEntityType.MENTION, 17, 31, "Valid_Mention"),
+            new PostEntity(tagged, PostEntityType.HASHTAG, 38, 51, "ValidHashtag"));
+
+        verify(repository).saveAllMentions(Map.of(tagged, Set.of("valid_mention"))); // resolved case-insensitively
+        verify(repository).saveAllHashtags(Map.of(tagged, Set.of("ValidHashtag"))); // lowercased by the database
+        verify(eventPublisher).publishEvent(new PostTaggedEvent(tagged, Set.of("validhashtag"))); // as recorded
+        verify(eventPublisher).publishEvent(new PostProcessedEvent(tagged));
+        verify(eventPublisher).publishEvent(new PostProcessedEvent(plain));
+        assertThat(postProcessor.processedCount()).isEqualTo(2);
+        assertThat(postProcessor.depth()).isZero();
+    }
+
+    @Test
+    void stop_ProcessesQueuedPosts_InBatchesOfAtMostBatchSize() {
+        // arrange
+        postProcessor = createPostProcessor(10, 2);
+        postProcessor.submit(UUID.randomUUID(), "First.");
+        postProcessor.submit(UUID.randomUUID(), "Second.");
+        postProcessor.submit(UUID.randomUUID(), "Third.");
+
+        // act
+        postProcessor.stop();
+
+        // assert
+        verify(repository, times(2)).markAllProcessed(anyCollection());
+        assertThat(postProcessor.processedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void stop_SkipsPosts_WhenAlreadyProcessed() {
+        // arrange
+        UUID id = UUID.randomUUID();
+        when(repository.markAllProcessed(anyCollection())).thenReturn(List.of());
+        postProcessor.submit(id, "Test post with a #ValidHashtag!");
+
+        // act
+        postProcessor.stop();
+
+        // assert
+        verify(repository).saveAllEntities(List.of());
+        verify(repository).saveAllHashtags(Map.of());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void submit_ProcessesPostOnSubmittingThread_WhenQueueIsFull() {
+        // arrange
+        postProcessor = createPostProcessor(1, 10);
+        UUID queued = UUID.randomUUID();
+        UUID overflow = UUID.randomUUID();
+
+        // act
+        postProcessor.submit(queued, "Queued.");
+        postProcessor.submit(overflow, "Overflow.");
+
+        // assert
+        verify(repository).markAllProcessed(Set.of(overflow));
+        verify(eventPublisher).publishEvent(new PostProcessedEvent(overflow));
+        assertThat(postProcessor.depth()).isEqualTo(1);
+    }
+
+    @Test
+    void stop_LeavesPostsToNextSweep_WhenBatchFails() {
+        // arrange
+        when(repository.markAllProcessed(anyCollection()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        postProcessor.submit(UUID.randomUUID(), "Test post.");
+
+        // act
+        postProcessor.stop();
+
+        // assert
+        verify(transactionManager).rollback(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(postProcessor.failedCount()).isEqualTo(1);
+        assertThat(postProcessor.processedCount()).isZero();
+    }
+
+    @Test
+    void sweep_QueuesUnprocessedPostsOlderThanSweepDelay() {
+        // arrange
+        UUID id = UUID.randomUUID();
+        when(repository.findUnprocessed(NOW.minus(SWEEP_DELAY), 10))
+            .thenReturn(List.of(new UnprocessedPost(id, "Left unprocessed.")));
+
+        // act
+        postProcessor.sweep();
+        int depth = postProcessor.depth();
+        postProcessor.stop();
+
+        // assert
+        assertThat(depth).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new PostProcessedEvent(id));
+    }
+
+}
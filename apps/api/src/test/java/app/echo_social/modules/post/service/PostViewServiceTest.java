@@ -28,6 +28,7 @@ import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
 import app.echo_social.modules.post.entity.Post;
 import app.echo_social.modules.post.exception.PostErrorCode;
 import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
 import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.shared.pagination.OffsetLimitRequest;
@@ -129,7 +130,7 @@ class PostViewServiceTest {
 
         when(postRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(postRepository.findRepliesById(post.getId(), authenticatedUserId, page)).thenReturn(repliesDto);
+        when(postRepository.findRepliesById(post.getId(), authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> repliesDto));
         when(httpServletRequest.getRequestURI()).thenReturn(uri);
 
         // act
@@ -22,8 +22,6 @@ import app.echo_social.modules.user.repository.UserRepository;
 import app.echo_social.shared.pagination.OffsetLimitRequest;
 import app.echo_social.testing.support.AbstractRepositoryTest;
 
-// TODO: test coverage for profile metrics
-
 /**
  * Integration test class for {@link ProfileRepository}.
  */
@@ -101,6 +99,20 @@ class ProfileRepositoryIT extends AbstractRepositoryTest {
         assertThat(result.get().relationship()).isNotNull();
     }
 
+    @Test
+    void findProfileDtoById_ReturnsMetricsFromProfileStats() {
+        Optional<ProfileDTO> sourceResult = profileRepository.findProfileDtoById(source.getId(), source.getId());
+        Optional<ProfileDTO> targetResult = profileRepository.findProfileDtoById(target.getId(), source.getId());
+
+        assertThat(sourceResult).isPresent();
+        assertThat(sourceResult.get().metrics().following()).isEqualTo(1);
+        assertThat(sourceResult.get().metrics().followers()).isZero();
+
+        assertThat(targetResult).isPresent();
+        assertThat(targetResult.get().metrics().followers()).isEqualTo(1);
+        assertThat(targetResult.get().metrics().following()).isZero();
+    }
+
     @Test
     void findProfileDtoByUsername_ReturnsProfileDto_WhenProfileByUsernameExists() {
         Optional<ProfileDTO> result = profileRepository.findProfileDtoByUsername(target.getUsername(), source.getId());
@@ -142,6 +154,7 @@ class ProfileRepositoryIT extends AbstractRepositoryTest {
 
         assertThat(followersPage).isNotNull();
         assertThat(followersPage.getContent()).isNotEmpty();
+        assertThat(followersPage.getTotalElements()).isEqualTo(1);
     }
 
     @Test
@@ -13,9 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import app.echo_social.exception.ApplicationException;
-import app.echo_social.modules.profile.entity.ProfileFollow;
+import app.echo_social.modules.profile.event.ProfileFollowedEvent;
+import app.echo_social.modules.profile.event.ProfileUnfollowedEvent;
 import app.echo_social.modules.profile.exception.ProfileErrorCode;
 import app.echo_social.modules.profile.repository.ProfileFollowRepository;
 import app.echo_social.modules.profile.repository.ProfileRepository;
@@ -39,6 +44,9 @@ class ProfileInteractionServiceTest {
     @Mock
     private ProfileFollowRepository profileFollowRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private static UUID authenticatedUserId;
 
     @BeforeAll
@@ -51,13 +59,13 @@ class ProfileInteractionServiceTest {
         // arrange
         UUID id = UUID.randomUUID();
 
-        when(profileRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(profileFollowRepository.existsByFollowerIdAndFollowedId(authenticatedUserId, id)).thenReturn(false);
+        when(profileFollowRepository.insertIfAbsent(authenticatedUserId, id)).thenReturn(true);
 
         // act & assert
         assertDoesNotThrow(() -> profileInteractionService.follow(id));
-        verify(profileFollowRepository).save(any(ProfileFollow.class));
+        verify(profileFollowRepository).insertIfAbsent(authenticatedUserId, id);
+        verify(eventPublisher).publishEvent(new ProfileFollowedEvent(authenticatedUserId, id));
     }
 
     @Test
@@ -66,13 +74,16 @@ class ProfileInteractionServiceTest {
         ProfileErrorCode errorCode = ProfileErrorCode.ID_NOT_FOUND;
         UUID id = UUID.randomUUID();
 
-        when(profileRepository.existsById(id)).thenReturn(false);
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(profileFollowRepository.insertIfAbsent(authenticatedUserId, id)).thenThrow(new DataIntegrityViolationException(
+            "could not execute statement",
+            new PSQLException(new ServerErrorMessage("SERROR\0C23503\0nfk_followed_id\0"))));
 
         // act & assert
         var ex = assertThrows(ApplicationException.class, () -> profileInteractionService.follow(id));
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(id));
 
-        verify(profileFollowRepository, never()).save(any(ProfileFollow.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -80,14 +91,14 @@ class ProfileInteractionServiceTest {
         // arrange
         ProfileErrorCode errorCode = ProfileErrorCode.SELF_ACTION;
 
-        when(profileRepository.existsById(authenticatedUserId)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
 
         // act & assert
         var ex = assertThrows(ApplicationException.class, () -> profileInteractionService.follow(authenticatedUserId));
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage());
 
-        verify(profileFollowRepository, never()).save(any(ProfileFollow.class));
+        verify(profileFollowRepository, never()).insertIfAbsent(any(UUID.class), any(UUID.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -96,15 +107,14 @@ class ProfileInteractionServiceTest {
         ProfileErrorCode errorCode = ProfileErrorCode.ALREADY_FOLLOWING;
         UUID id = UUID.randomUUID();
 
-        when(profileRepository.existsById(id)).thenReturn(true);
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
-        when(profileFollowRepository.existsByFollowerIdAndFollowedId(authenticatedUserId, id)).thenReturn(true);
+        when(profileFollowRepository.insertIfAbsent(authenticatedUserId, id)).thenReturn(false);
 
         // act & assert
         var ex = assertThrows(ApplicationException.class, () -> profileInteractionService.follow(id));
         assertThat(ex.getMessage()).isEqualTo(errorCode.formatMessage(id));
 
-        verify(profileFollowRepository, never()).save(any(ProfileFollow.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -113,9 +123,24 @@ class ProfileInteractionServiceTest {
         UUID id = UUID.randomUUID();
 
         when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(profileFollowRepository.deleteIfPresent(authenticatedUserId, id)).thenReturn(true);
+
+        // act & assert
+        assertDoesNotThrow(() -> profileInteractionService.unfollow(id));
+        verify(eventPublisher).publishEvent(new ProfileUnfollowedEvent(authenticatedUserId, id));
+    }
+
+    @Test
+    void unfollow_ReturnsVoid_WithoutEvent_WhenNotFollowing() {
+        // arrange
+        UUID id = UUID.randomUUID();
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(profileFollowRepository.deleteIfPresent(authenticatedUserId, id)).thenReturn(false);
 
         // act & assert
         assertDoesNotThrow(() -> profileInteractionService.unfollow(id));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
 }
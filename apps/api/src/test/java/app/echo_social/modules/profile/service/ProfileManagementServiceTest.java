@@ -12,9 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import app.echo_social.modules.profile.dto.request.UpdateProfileDTO;
 import app.echo_social.modules.profile.entity.Profile;
+import app.echo_social.modules.profile.event.ProfileUpdatedEvent;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.shared.service.SessionService;
 
@@ -33,6 +35,9 @@ class ProfileManagementServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private static UUID authenticatedUserId;
 
     @BeforeAll
@@ -62,6 +67,7 @@ class ProfileManagementServiceTest {
         assertThat(profile.getLocation()).isEqualTo(request.location());
         verify(profileRepository).findById(authenticatedUserId);
         verify(profileRepository).save(profile);
+        verify(eventPublisher).publishEvent(new ProfileUpdatedEvent(profile.getId()));
     }
 
 }
@@ -0,0 +1,225 @@
+package app.echo_social.modules.search.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+import app.echo_social.exception.ErrorResponse;
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.dto.response.PostEntitiesDTO;
+import app.echo_social.modules.post.dto.response.PostMetricsDTO;
+import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
+import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
+import app.echo_social.modules.search.dto.response.ProfileSuggestionDTO;
+import app.echo_social.modules.search.service.SearchService;
+import app.echo_social.modules.search.service.TypeaheadService;
+import app.echo_social.shared.constant.ApiRoutes;
+import app.echo_social.shared.pagination.CursorPage;
+import app.echo_social.shared.pagination.CursorRequest;
+import app.echo_social.shared.pagination.OffsetLimitRequest;
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.pagination.PageMapper;
+import app.echo_social.shared.pagination.Paged;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit test class for {@link SearchController}.
+ */
+@WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class SearchControllerTest {
+
+    private static final String POSTS_PATH = ApiRoutes.SEARCH.POSTS;
+    private static final String PROFILES_PATH = ApiRoutes.SEARCH.PROFILES;
+
+    @Autowired
+    private MockMvcTester mvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private TypeaheadService typeaheadService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static PostDTO post;
+
+    @BeforeAll
+    static void setup() {
+        post = new PostDTO(
+            UUID.randomUUID().toString(),
+            null,
+            UUID.randomUUID().toString(),
+            new SimplifiedProfileDTO(UUID.randomUUID().toString(), "username", "name", null, null, null),
+            "Example post about spring boot.",
+            Instant.now().toString(),
+            new PostMetricsDTO(0, 0),
+            new PostRelationshipDTO(false),
+            new PostEntitiesDTO(List.of(), List.of(), List.of()));
+    }
+
+    @Test
+    void searchPosts_Returns200PageDtoOfPostDto() throws Exception {
+        // api: GET /api/v1/search/posts?q= ==> 200 OK : PageDTO<PostDTO>
+        String q = "spring boot";
+        int offset = 0;
+        int limit = 20;
+
+        Pageable page = OffsetLimitRequest.of(offset, limit);
+        Page<PostDTO> posts = new PageImpl<>(List.of(post), page, 1);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, POSTS_PATH);
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(searchService.searchPosts(eq(q), any(Pageable.class))).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(POSTS_PATH)
+            .queryParam("q", q)
+            .queryParam("offset", String.valueOf(offset))
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(searchService).searchPosts(eq(q), any(Pageable.class));
+    }
+
+    @Test
+    void searchPosts_PassesCursorRequest_WhenCursorSupplied() throws Exception {
+        // api: GET /api/v1/search/posts?q=&cursor= ==> 200 OK : PageDTO<PostDTO>
+        String q = "spring boot";
+        int limit = 20;
+        PageCursor cursor = PageCursor.next(Instant.parse(post.createdAt()), UUID.fromString(post.id()));
+
+        Page<PostDTO> posts = new CursorPage<>(List.of(post), CursorRequest.of(cursor, limit), 1, null, null);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, POSTS_PATH);
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(searchService.searchPosts(eq(q), any(Pageable.class))).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(POSTS_PATH)
+            .queryParam("q", q)
+            .queryParam("cursor", cursor.encode())
+            .queryParam("limit", String.valueOf(limit))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(searchService).searchPosts(eq(q), argThat(p -> p instanceof CursorRequest c && cursor.equals(c.getCursor())));
+    }
+
+    @Test
+    void searchPosts_Returns400BadRequest_WhenBlankQuerySupplied() {
+        // api: GET /api/v1/search/posts?q= ==> 400 Bad Request : ErrorDTO
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Search query cannot be blank",
+            null);
+
+        var response = mvc.get()
+            .uri(POSTS_PATH)
+            .queryParam("q", " ")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(searchService, never()).searchPosts(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void searchPosts_Returns400BadRequest_WhenQueryTooLong() {
+        // api: GET /api/v1/search/posts?q= ==> 400 Bad Request : ErrorDTO
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Search query must not exceed 100 characters",
+            null);
+
+        var response = mvc.get()
+            .uri(POSTS_PATH)
+            .queryParam("q", "a".repeat(101))
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(searchService, never()).searchPosts(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void suggestProfiles_Returns200ListOfProfileSuggestionDto() throws Exception {
+        // api: GET /api/v1/search/profiles?q= ==> 200 OK : List<ProfileSuggestionDTO>
+        String q = "@ne";
+        List<ProfileSuggestionDTO> expected = List.of(
+            new ProfileSuggestionDTO(UUID.randomUUID().toString(), "nednella", "Ned", null, true),
+            new ProfileSuggestionDTO(UUID.randomUUID().toString(), "nelson", null, null, false));
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(typeaheadService.suggestProfiles(q, 5)).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(PROFILES_PATH)
+            .queryParam("q", q)
+            .queryParam("limit", "5")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(typeaheadService).suggestProfiles(q, 5);
+    }
+
+    @Test
+    void suggestProfiles_Returns400BadRequest_WhenInvalidLimitSupplied() {
+        // api: GET /api/v1/search/profiles?q= ==> 400 Bad Request : ErrorDTO
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Limit must be in the range 1 to 50",
+            null);
+
+        var response = mvc.get()
+            .uri(PROFILES_PATH)
+            .queryParam("q", "ne")
+            .queryParam("limit", "51")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(typeaheadService, never()).suggestProfiles(anyString(), anyInt());
+    }
+
+}
@@ -0,0 +1,131 @@
+package app.echo_social.modules.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import app.echo_social.modules.search.repository.IndexedProfile;
+
+/**
+ * Unit test class for {@link ProfilePrefixIndex}.
+ */
+class ProfilePrefixIndexTest {
+
+    private ProfilePrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProfilePrefixIndex(200);
+    }
+
+    private IndexedProfile put(String username, String name) {
+        IndexedProfile profile = new IndexedProfile(UUID.randomUUID(), username, name, null);
+        index.put(profile);
+        return profile;
+    }
+
+    @Test
+    void search_MatchesUsernameAndNameWordPrefixes_CaseInsensitively() {
+        // arrange
+        IndexedProfile byUsername = put("NedNella", null);
+        IndexedProfile byName = put("someone", "Jane Nedley");
+        put("other", "Not A Match");
+
+        // act & assert
+        assertThat(index.search("@ned", 10, Set.of())).containsExactly(byUsername, byName);
+    }
+
+    @Test
+    void search_RanksFollowedFirst_ThenExactThenShorterUsernames() {
+        // arrange
+        IndexedProfile longer = put("alexander", null);
+        IndexedProfile exact = put("alex", null);
+        IndexedProfile shorter = put("alexa", null);
+        IndexedProfile followed = put("alexandria", null);
+
+        // act & assert
+        assertThat(index.search("alex", 10, Set.of(followed.id())))
+            .containsExactly(followed, exact, shorter, longer);
+    }
+
+    @Test
+    void search_MatchesFollowedProfiles_BeyondScanLimit() {
+        // arrange
+        index = new ProfilePrefixIndex(2);
+        put("aa", null);
+        put("ab", null);
+        put("ac", null);
+        IndexedProfile followed = put("az", null);
+
+        // act & assert
+        assertThat(index.search("a", 10, Set.of(followed.id()))).first().isEqualTo(followed);
+        assertThat(index.search("a", 10, Set.of())).hasSize(2);
+    }
+
+    @Test
+    void search_ReturnsAtMostLimit() {
+        // arrange
+        for (int i = 0; i < 10; i++) {
+            put("user" + i, null);
+        }
+
+        // act & assert
+        assertThat(index.search("user", 3, Set.of())).hasSize(3);
+    }
+
+    @Test
+    void put_ReplacesPreviousTerms_WhenProfileChanges() {
+        // arrange
+        IndexedProfile before = put("oldname", "Old Name");
+        IndexedProfile after = new IndexedProfile(before.id(), "newname", "New Name", null);
+
+        // act
+        index.put(after);
+
+        // assert
+        assertThat(index.search("old", 10, Set.of())).isEmpty();
+        assertThat(index.search("new", 10, Set.of())).containsExactly(after);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putIfAbsent_KeepsIndexedVersion() {
+        // arrange
+        IndexedProfile current = put("current", null);
+
+        // act
+        index.putIfAbsent(new IndexedProfile(current.id(), "stale", null, null));
+
+        // assert
+        assertThat(index.search("stale", 10, Set.of())).isEmpty();
+        assertThat(index.search("current", 10, Set.of())).containsExactly(current);
+    }
+
+    @Test
+    void remove_RemovesAllTermsOfProfile() {
+        // arrange
+        IndexedProfile profile = put("removed", "Gone Person");
+
+        // act
+        index.remove(profile.id());
+
+        // assert
+        assertThat(index.search("removed", 10, Set.of())).isEmpty();
+        assertThat(index.search("gone", 10, Set.of())).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void search_ReturnsEmpty_WhenQueryIsBlank() {
+        // arrange
+        put("someone", null);
+
+        // act & assert
+        assertThat(index.search(" @ ", 10, Set.of())).isEmpty();
+    }
+
+}
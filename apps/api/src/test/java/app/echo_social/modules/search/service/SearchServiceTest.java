@@ -0,0 +1,107 @@
+package app.echo_social.modules.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import app.echo_social.config.properties.SearchProperties;
+import app.echo_social.modules.post.dto.response.PostDTO;
+import app.echo_social.modules.post.dto.response.PostEntitiesDTO;
+import app.echo_social.modules.post.dto.response.PostMetricsDTO;
+import app.echo_social.modules.post.dto.response.PostRelationshipDTO;
+import app.echo_social.modules.post.repository.PostRepository;
+import app.echo_social.modules.post.repository.PostSelection;
+import app.echo_social.modules.profile.dto.response.SimplifiedProfileDTO;
+import app.echo_social.shared.pagination.OffsetLimitRequest;
+import app.echo_social.shared.pagination.PageMapper;
+import app.echo_social.shared.pagination.Paged;
+import app.echo_social.shared.service.SessionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Unit test class for {@link SearchService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    private static UUID authenticatedUserId;
+    private static Pageable page;
+
+    @BeforeAll
+    static void setup() {
+        authenticatedUserId = UUID.randomUUID();
+        page = OffsetLimitRequest.of(0, 20);
+    }
+
+    private PostDTO createPostDto(UUID id, String text) {
+        return new PostDTO(
+            id.toString(),
+            null,
+            id.toString(),
+            new SimplifiedProfileDTO(
+                UUID.randomUUID().toString(),
+                "username",
+                "name",
+                null,
+                null,
+                null),
+            text,
+            null,
+            new PostMetricsDTO(0, 0),
+            new PostRelationshipDTO(false),
+            new PostEntitiesDTO(List.of(), List.of(), List.of()));
+    }
+
+    @Test
+    void searchPosts_ReturnPageDtoOfPostDto_WithQueryInPageLinks() {
+        // arrange
+        String uri = "/some/api/uri";
+        String queryString = "q=spring%20boot&offset=0&limit=1";
+        Page<PostDTO> posts = new PageImpl<>(List.of(createPostDto(UUID.randomUUID(), "Spring boot.")), OffsetLimitRequest.of(0, 1), 2);
+        Paged<PostDTO> expected = PageMapper.toDTO(posts, uri + "?" + queryString);
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authenticatedUserId);
+        when(postRepository.findPostsBySearchQuery("spring boot", 1_000, authenticatedUserId, page)).thenReturn(new PostSelection(() -> "version", () -> posts));
+        when(httpServletRequest.getRequestURI()).thenReturn(uri);
+        when(httpServletRequest.getQueryString()).thenReturn(queryString);
+
+        // act
+        Paged<PostDTO> actual = searchService.searchPosts("  spring boot ", page);
+
+        // assert
+        assertEquals(expected, actual);
+        assertEquals(uri + "?q=spring%20boot&offset=1&limit=1", actual.next().toString());
+        verify(postRepository).findPostsBySearchQuery("spring boot", 1_000, authenticatedUserId, page);
+    }
+
+}
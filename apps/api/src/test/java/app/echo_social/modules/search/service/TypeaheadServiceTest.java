@@ -0,0 +1,165 @@
+package app.echo_social.modules.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.echo_social.config.properties.SearchProperties;
+import app.echo_social.modules.search.dto.response.ProfileSuggestionDTO;
+import app.echo_social.modules.search.repository.IndexedProfile;
+import app.echo_social.modules.search.repository.ProfileDirectoryRepository;
+import app.echo_social.shared.service.SessionService;
+
+/**
+ * Unit test class for {@link TypeaheadService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TypeaheadServiceTest {
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private ProfileDirectoryRepository profileDirectoryRepository;
+
+    private ProfilePrefixIndex profilePrefixIndex;
+
+    private TypeaheadServiceImpl typeaheadService;
+
+    private final UUID authUserId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        profilePrefixIndex = new ProfilePrefixIndex(200);
+        typeaheadService = new TypeaheadServiceImpl(sessionService, profilePrefixIndex, profileDirectoryRepository, new SearchProperties());
+    }
+
+    @Test
+    void suggestProfiles_ReturnsFollowedProfilesFirst_LoadingFollowsOncePerViewer() {
+        // arrange
+        IndexedProfile stranger = new IndexedProfile(UUID.randomUUID(), "ned", null, null);
+        IndexedProfile friend = new IndexedProfile(UUID.randomUUID(), "nedella", "Ned Ella", "https://example.com/ned.png");
+        profilePrefixIndex.put(stranger);
+        profilePrefixIndex.put(friend);
+
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authUserId);
+        when(profileDirectoryRepository.findFollowingIds(authUserId)).thenReturn(Set.of(friend.id()));
+
+        // act
+        typeaheadService.suggestProfiles("n", 10);
+        List<ProfileSuggestionDTO> actual = typeaheadService.suggestProfiles("ne", 10);
+
+        // assert
+        assertThat(actual).containsExactly(
+            new ProfileSuggestionDTO(friend.id().toString(), "nedella", "Ned Ella", "https://example.com/ned.png", true),
+            new ProfileSuggestionDTO(stranger.id().toString(), "ned", null, null, false));
+        verify(profileDirectoryRepository, times(1)).findFollowingIds(authUserId);
+    }
+
+    @Test
+    void evictFollowing_ReloadsFollowsOnNextSuggestion() {
+        // arrange
+        when(sessionService.getAuthenticatedUserId()).thenReturn(authUserId);
+        when(profileDirectoryRepository.findFollowingIds(authUserId)).thenReturn(Set.of());
+        typeaheadService.suggestProfiles("ne", 10);
+
+        // act
+        typeaheadService.evictFollowing(authUserId);
+        typeaheadService.suggestProfiles("ne", 10);
+
+        // assert
+        verify(profileDirectoryRepository, times(2)).findFollowingIds(authUserId);
+    }
+
+    @Test
+    void index_IndexesCurrentProfile_OrRemovesMissingProfile() {
+        // arrange
+        UUID id = UUID.randomUUID();
+        profilePrefixIndex.put(new IndexedProfile(id, "before", null, null));
+        when(profileDirectoryRepository.findById(id))
+            .thenReturn(Optional.of(new IndexedProfile(id, "after", null, null)), Optional.empty());
+
+        // act & assert
+        typeaheadService.index(id);
+        assertThat(profilePrefixIndex.search("after", 10, Set.of())).hasSize(1);
+        assertThat(profilePrefixIndex.search("before", 10, Set.of())).isEmpty();
+
+        typeaheadService.index(id);
+        assertThat(profilePrefixIndex.size()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_IndexesEveryProfile() {
+        // arrange
+        doAnswer(invocation -> {
+            Consumer<IndexedProfile> consumer = invocation.getArgument(0);
+            consumer.accept(new IndexedProfile(UUID.randomUUID(), "first", null, null));
+            consumer.accept(new IndexedProfile(UUID.randomUUID(), "second", null, null));
+            return null;
+        }).when(profileDirectoryRepository).forEachProfile(any(Consumer.class));
+
+        // act
+        typeaheadService.rebuild();
+
+        // assert
+        assertThat(profilePrefixIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refresh_IndexesProfilesUpdatedSinceLatestUpdateLessLag() {
+        // arrange
+        Instant rebuiltUntil = Instant.parse("2026-01-01T00:00:00Z");
+        Instant refreshedUntil = rebuiltUntil.plusSeconds(30);
+        UUID id = UUID.randomUUID();
+        profilePrefixIndex.put(new IndexedProfile(id, "before", null, null));
+
+        when(profileDirectoryRepository.forEachProfile(any(Consumer.class))).thenReturn(rebuiltUntil);
+        when(profileDirectoryRepository.forEachProfileUpdatedSince(eq(rebuiltUntil.minus(Duration.ofMinutes(1))), any(Consumer.class)))
+            .thenAnswer(invocation -> {
+                Consumer<IndexedProfile> consumer = invocation.getArgument(1);
+                consumer.accept(new IndexedProfile(id, "after", null, null));
+                return refreshedUntil;
+            });
+        when(profileDirectoryRepository.forEachProfileUpdatedSince(eq(refreshedUntil.minus(Duration.ofMinutes(1))), any(Consumer.class)))
+            .thenReturn(null);
+        typeaheadService.rebuild();
+
+        // act
+        typeaheadService.refresh();
+        typeaheadService.refresh();
+
+        // assert
+        assertThat(profilePrefixIndex.search("after", 10, Set.of())).hasSize(1);
+        assertThat(profilePrefixIndex.search("before", 10, Set.of())).isEmpty();
+        verify(profileDirectoryRepository, times(2)).forEachProfileUpdatedSince(any(Instant.class), any(Consumer.class));
+    }
+
+    @Test
+    void refresh_DoesNothing_WhenNotYetRebuilt() {
+        typeaheadService.refresh();
+
+        verifyNoInteractions(profileDirectoryRepository);
+    }
+
+}
@@ -0,0 +1,82 @@
+package app.echo_social.modules.trending.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+import app.echo_social.exception.ErrorResponse;
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+import app.echo_social.modules.trending.service.TrendingService;
+import app.echo_social.shared.constant.ApiRoutes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit test class for {@link TrendingController}.
+ */
+@WebMvcTest(TrendingController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class TrendingControllerTest {
+
+    private static final String HASHTAGS_PATH = ApiRoutes.TRENDING.HASHTAGS;
+
+    @Autowired
+    private MockMvcTester mvc;
+
+    @MockitoBean
+    private TrendingService trendingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void getTrendingHashtags_Returns200ListOfTrendingHashtagDto() throws Exception {
+        // api: GET /api/v1/trending/hashtags ==> 200 OK : List<TrendingHashtagDTO>
+        List<TrendingHashtagDTO> expected = List.of(
+            new TrendingHashtagDTO("spring", 5),
+            new TrendingHashtagDTO("boot", 2));
+        String expectedJson = objectMapper.writeValueAsString(expected);
+
+        when(trendingService.getTrendingHashtags(10)).thenReturn(expected);
+
+        var response = mvc.get()
+            .uri(HASHTAGS_PATH)
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(200)
+            .bodyJson().isEqualTo(expectedJson);
+
+        verify(trendingService).getTrendingHashtags(10); // default limit
+    }
+
+    @Test
+    void getTrendingHashtags_Returns400BadRequest_WhenInvalidLimitSupplied() {
+        // api: GET /api/v1/trending/hashtags ==> 400 Bad Request : ErrorDTO
+        ErrorResponse expected = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Limit must be in the range 1 to 50",
+            null);
+
+        var response = mvc.get()
+            .uri(HASHTAGS_PATH)
+            .queryParam("limit", "51")
+            .exchange();
+
+        assertThat(response)
+            .hasStatus(400)
+            .bodyJson().convertTo(ErrorResponse.class).isEqualTo(expected);
+
+        verify(trendingService, never()).getTrendingHashtags(anyInt());
+    }
+
+}
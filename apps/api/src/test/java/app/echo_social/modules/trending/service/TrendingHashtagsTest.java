@@ -0,0 +1,184 @@
+package app.echo_social.modules.trending.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+
+/**
+ * Unit test class for {@link TrendingHashtags}.
+ */
+class TrendingHashtagsTest {
+
+    private static final Duration BUCKET_WIDTH = Duration.ofMinutes(5);
+    private static final int BUCKET_COUNT = 12; // 1 hour window
+
+    private MutableClock clock;
+    private TrendingHashtags trendingHashtags;
+
+    /**
+     * A {@link Clock} that only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+    }
+
+    @BeforeEach
+    void setup() {
+        clock = new MutableClock();
+        trendingHashtags = new TrendingHashtags(clock, BUCKET_WIDTH, BUCKET_COUNT, Duration.ofMinutes(30), 3);
+    }
+
+    private void record(String tag, int times) {
+        for (int i = 0; i < times; i++) {
+            trendingHashtags.record(Set.of(tag));
+        }
+    }
+
+    @Test
+    void top_ReturnsNothing_UntilRecomputed() {
+        // arrange
+        record("spring", 2);
+
+        // act & assert
+        assertThat(trendingHashtags.top(10)).isEmpty();
+
+        trendingHashtags.recompute();
+        assertThat(trendingHashtags.top(10)).containsExactly(new TrendingHashtagDTO("spring", 2));
+    }
+
+    @Test
+    void top_ReturnsHighestScoringHashtags_UpToCapacityAndLimit() {
+        // arrange
+        record("a", 4);
+        record("b", 3);
+        record("c", 2);
+        record("d", 1);
+
+        // act
+        trendingHashtags.recompute();
+
+        // assert
+        assertThat(trendingHashtags.top(10)).extracting(TrendingHashtagDTO::tag).containsExactly("a", "b", "c");
+        assertThat(trendingHashtags.top(2)).extracting(TrendingHashtagDTO::tag).containsExactly("a", "b");
+    }
+
+    @Test
+    void top_RanksRecentUsesAboveOlderUses_WhenCountsAreEqual() {
+        // arrange
+        record("earlier", 3);
+        clock.advance(Duration.ofMinutes(30));
+        record("later", 3);
+
+        // act
+        trendingHashtags.recompute();
+
+        // assert
+        assertThat(trendingHashtags.top(10)).containsExactly(
+            new TrendingHashtagDTO("later", 3),
+            new TrendingHashtagDTO("earlier", 3));
+    }
+
+    @Test
+    void top_DropsHashtags_OnceTheirUsesSlideOutOfTheWindow() {
+        // arrange
+        record("old", 5);
+        clock.advance(BUCKET_WIDTH.multipliedBy(BUCKET_COUNT - 1));
+        record("new", 1);
+
+        // act
+        trendingHashtags.recompute();
+        List<TrendingHashtagDTO> withinWindow = trendingHashtags.top(10);
+
+        clock.advance(BUCKET_WIDTH);
+        trendingHashtags.recompute();
+        List<TrendingHashtagDTO> afterSliding = trendingHashtags.top(10);
+
+        // assert
+        assertThat(withinWindow).extracting(TrendingHashtagDTO::tag).containsExactly("old", "new");
+        assertThat(afterSliding).containsExactly(new TrendingHashtagDTO("new", 1));
+    }
+
+    @Test
+    void record_ResetsReusedBucket_WhenWindowHasWrappedAround() {
+        // arrange
+        record("spring", 5);
+        clock.advance(BUCKET_WIDTH.multipliedBy(BUCKET_COUNT)); // same slot, next lap
+
+        // act
+        record("spring", 1);
+        trendingHashtags.recompute();
+
+        // assert
+        assertThat(trendingHashtags.top(10)).containsExactly(new TrendingHashtagDTO("spring", 1));
+    }
+
+    @Test
+    void record_IgnoresUses_OutsideOfTheWindow() {
+        // act
+        trendingHashtags.record(Set.of("ancient"), clock.instant().minus(Duration.ofHours(2)));
+        trendingHashtags.record(Set.of("recent"), clock.instant().minus(Duration.ofMinutes(20)));
+        trendingHashtags.recompute();
+
+        // assert
+        assertThat(trendingHashtags.top(10)).containsExactly(new TrendingHashtagDTO("recent", 1));
+    }
+
+    @Test
+    void record_CountsEveryUse_WhenRecordedConcurrently() throws Exception {
+        // arrange
+        int threads = 8;
+        int usesPerThread = 10_000;
+
+        // act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> record("busy", usesPerThread));
+            }
+        }
+        trendingHashtags.recompute();
+
+        // assert
+        assertThat(trendingHashtags.top(1)).containsExactly(new TrendingHashtagDTO("busy", (long) threads * usesPerThread));
+    }
+
+    @Test
+    void windowStart_ReturnsStartOfOldestBucket() {
+        // 12:00 is the start of the current bucket, so the window spans 11:05 to 12:05
+        assertThat(trendingHashtags.windowStart()).isEqualTo(Instant.parse("2025-01-01T11:05:00Z"));
+    }
+
+}
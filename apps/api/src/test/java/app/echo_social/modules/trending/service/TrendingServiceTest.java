@@ -0,0 +1,75 @@
+package app.echo_social.modules.trending.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.echo_social.modules.trending.dto.response.TrendingHashtagDTO;
+import app.echo_social.modules.trending.repository.HashtagUsageRepository;
+
+/**
+ * Unit test class for {@link TrendingService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @Mock
+    private TrendingHashtags trendingHashtags;
+
+    @Mock
+    private HashtagUsageRepository hashtagUsageRepository;
+
+    @InjectMocks
+    private TrendingServiceImpl trendingService;
+
+    @Test
+    void getTrendingHashtags_ReturnsTopHashtags() {
+        // arrange
+        List<TrendingHashtagDTO> expected = List.of(new TrendingHashtagDTO("spring", 3));
+        when(trendingHashtags.top(10)).thenReturn(expected);
+
+        // act
+        List<TrendingHashtagDTO> actual = trendingService.getTrendingHashtags(10);
+
+        // assert
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_RecordsRecentUsesThenRecomputes() {
+        // arrange
+        Instant windowStart = Instant.parse("2025-01-01T11:05:00Z");
+        Instant createdAt = windowStart.plusSeconds(60);
+
+        when(trendingHashtags.windowStart()).thenReturn(windowStart);
+        doAnswer(invocation -> {
+            BiConsumer<String, Instant> consumer = invocation.getArgument(1);
+            consumer.accept("spring", createdAt);
+            consumer.accept("boot", createdAt);
+            return null;
+        }).when(hashtagUsageRepository).forEachSince(eq(windowStart), any(BiConsumer.class));
+
+        // act
+        trendingService.rebuild();
+
+        // assert
+        var inOrder = inOrder(trendingHashtags);
+        inOrder.verify(trendingHashtags).record(Set.of("spring"), createdAt);
+        inOrder.verify(trendingHashtags).record(Set.of("boot"), createdAt);
+        inOrder.verify(trendingHashtags).recompute();
+    }
+
+}
@@ -12,8 +12,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import app.echo_social.modules.post.repository.PostMentionRepository;
 import app.echo_social.modules.profile.entity.Profile;
+import app.echo_social.modules.profile.event.ProfileCreatedEvent;
+import app.echo_social.modules.profile.event.ProfileDeletedEvent;
+import app.echo_social.modules.profile.event.ProfileUpdatedEvent;
 import app.echo_social.modules.profile.repository.ProfileRepository;
 import app.echo_social.modules.user.entity.User;
 import app.echo_social.modules.user.repository.UserRepository;
@@ -30,6 +35,12 @@ class UserServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private PostMentionRepository postMentionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -55,6 +66,8 @@ class UserServiceTest {
         verify(userRepository).findByExternalId(externalId);
         verify(userRepository).save(any(User.class)); // saves new user
         verify(profileRepository).save(any(Profile.class)); // saves new profile
+        verify(postMentionRepository).saveAllForProfile(id, username); // resolves existing mentions
+        verify(eventPublisher).publishEvent(new ProfileCreatedEvent(id));
     }
 
     @Test
@@ -79,7 +92,32 @@ class UserServiceTest {
         verify(userRepository, never()).save(any(User.class)); // never saves new user
         verify(profileRepository).findById(id);
         verify(profileRepository).save(expectedProfile); // updates profile
+        verify(eventPublisher).publishEvent(new ProfileUpdatedEvent(id));
+        verify(postMentionRepository, never()).deleteAllForProfile(any(UUID.class)); // username unchanged
+
+    }
+
+    @Test
+    void upsertFromExternalSource_RelinksMentions_WhenUsernameChanges() {
+        // arrange
+        UUID id = UUID.randomUUID();
+        String externalId = "user_someRandomStringThatIsUniqueApparently";
+        String username = "new_username";
+        String imageUrl = "imageUrl";
+        User expectedUser = User.forTest(id, externalId);
+        Profile expectedProfile = Profile.forTest(id, "old_username");
+
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.of(expectedUser));
+        when(profileRepository.findById(id)).thenReturn(Optional.of(expectedProfile));
+
+        // act
+        userService.upsertFromExternalSource(externalId, username, imageUrl);
 
+        // assert
+        var inOrder = inOrder(postMentionRepository);
+        inOrder.verify(postMentionRepository).deleteAllForProfile(id);
+        inOrder.verify(postMentionRepository).saveAllForProfile(id, username);
+        verify(profileRepository).save(expectedProfile);
     }
 
     @Test
@@ -120,7 +158,9 @@ class UserServiceTest {
     void deleteFromExternalSource_Returns1When1RecordAffected() {
         // arrange
         int expected = 1;
+        UUID id = UUID.randomUUID();
         String externalId = "user_someRandomStringThatIsUniqueApparently";
+        when(userRepository.findByExternalId(externalId)).thenReturn(Optional.of(User.forTest(id, externalId)));
         when(userRepository.deleteByExternalId(externalId)).thenReturn(expected);
 
         // act
@@ -129,6 +169,7 @@ class UserServiceTest {
         // assert
         assertEquals(expected, actual);
         verify(userRepository).deleteByExternalId(externalId);
+        verify(eventPublisher).publishEvent(new ProfileDeletedEvent(id));
     }
 
     @Test
@@ -144,6 +185,7 @@ class UserServiceTest {
         // assert
         assertEquals(expected, actual);
         verify(userRepository).deleteByExternalId(externalId);
+        verify(eventPublisher, never()).publishEvent(any(ProfileDeletedEvent.class));
     }
 
 }
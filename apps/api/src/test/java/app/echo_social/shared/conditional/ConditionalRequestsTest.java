@@ -0,0 +1,138 @@
+package app.echo_social.shared.conditional;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit test class for {@link ConditionalRequests}.
+ */
+class ConditionalRequestsTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Bind a request with the given method and {@code If-None-Match} header to the
+     * current thread, as the dispatcher would.
+     */
+    private void bindRequest(String method, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/post");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @Test
+    void eTag_ReturnsSameWeakTag_WhenPartsAreEqual() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+
+        // act
+        String first = ConditionalRequests.eTag(viewerId, 1L, "a");
+        String second = ConditionalRequests.eTag(viewerId, 1L, "a");
+
+        // assert
+        assertThat(first).isEqualTo(second).startsWith("W/\"").endsWith("\"");
+    }
+
+    @Test
+    void eTag_ReturnsDifferentTag_WhenAnyPartDiffers() {
+        // arrange
+        UUID viewerId = UUID.randomUUID();
+
+        // act
+        String tag = ConditionalRequests.eTag(viewerId, 1L, "a");
+
+        // assert
+        assertThat(ConditionalRequests.eTag(UUID.randomUUID(), 1L, "a")).isNotEqualTo(tag);
+        assertThat(ConditionalRequests.eTag(viewerId, 2L, "a")).isNotEqualTo(tag);
+        assertThat(ConditionalRequests.eTag(viewerId, 1L, "b")).isNotEqualTo(tag);
+    }
+
+    @Test
+    void checkNotModified_SetsETag_WhenIfNoneMatchIsAbsent() {
+        // arrange
+        String tag = ConditionalRequests.eTag("version");
+        bindRequest("GET", null);
+
+        // act
+        ConditionalRequests.checkNotModified(() -> tag);
+
+        // assert
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(tag);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void checkNotModified_SetsETag_WhenIfNoneMatchDoesNotMatch() {
+        // arrange
+        String tag = ConditionalRequests.eTag("version");
+        bindRequest("GET", ConditionalRequests.eTag("previous version"));
+
+        // act
+        ConditionalRequests.checkNotModified(() -> tag);
+
+        // assert
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(tag);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void checkNotModified_ThrowsNotModifiedException_WhenIfNoneMatchMatches() {
+        // arrange
+        String tag = ConditionalRequests.eTag("version");
+        bindRequest("GET", tag);
+
+        // act & assert
+        assertThatThrownBy(() -> ConditionalRequests.checkNotModified(() -> tag))
+            .isInstanceOf(NotModifiedException.class)
+            .extracting("eTag").isEqualTo(tag);
+    }
+
+    @Test
+    void checkNotModified_DoesNotComputeETag_WhenResourceDoesNotExist() {
+        // arrange
+        bindRequest("GET", "*");
+
+        // act
+        ConditionalRequests.checkNotModified(() -> null);
+
+        // assert
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void checkNotModified_DoesNotComputeETag_WhenRequestIsNotGet() {
+        // arrange
+        bindRequest("POST", null);
+
+        // act & assert
+        assertThatNoException().isThrownBy(() -> ConditionalRequests.checkNotModified(() -> {
+            throw new AssertionError("ETag computed for a POST");
+        }));
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void checkNotModified_DoesNotComputeETag_WhenOutsideOfRequest() {
+        // act & assert
+        assertThatNoException().isThrownBy(() -> ConditionalRequests.checkNotModified(() -> {
+            throw new AssertionError("ETag computed outside of a request");
+        }));
+    }
+
+}
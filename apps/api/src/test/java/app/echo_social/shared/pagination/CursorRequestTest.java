@@ -0,0 +1,84 @@
+package app.echo_social.shared.pagination;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for {@link CursorRequest} and {@link PageCursor}.
+ */
+class CursorRequestTest {
+
+    @Test
+    void contructor_ShouldCreateWhenValidCursorAndLimitSupplied() {
+        PageCursor cursor = PageCursor.next(Instant.now(), UUID.randomUUID());
+        int limit = 10;
+        var page = new CursorRequest(cursor, limit);
+
+        assertThat(page.getCursor()).isEqualTo(cursor);
+        assertThat(page.getPageSize()).isEqualTo(limit);
+        assertThat(page.getOffset()).isZero();
+    }
+
+    @Test
+    void contructor_ShouldThrowWhenLimitLessThanOne() {
+        PageCursor cursor = PageCursor.next(Instant.now(), UUID.randomUUID());
+        int limit = 0;
+
+        assertThrows(IllegalArgumentException.class, () -> new CursorRequest(cursor, limit));
+    }
+
+    @Test
+    void first_ShouldHaveNoCursorAndNoPrevious() {
+        var page = CursorRequest.first(10);
+
+        assertThat(page.getCursor()).isNull();
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.isBackward()).isFalse();
+    }
+
+    @Test
+    void isBackward_ShouldReflectCursorDirection() {
+        var page = CursorRequest.of(PageCursor.previous(Instant.now(), UUID.randomUUID()), 10);
+
+        assertThat(page.isBackward()).isTrue();
+        assertThat(page.hasPrevious()).isTrue();
+    }
+
+    @Test
+    void next_ShouldThrowUnsupportedOperationException() {
+        var page = CursorRequest.first(10);
+
+        assertThrows(UnsupportedOperationException.class, page::next);
+    }
+
+    @Test
+    void cursor_ShouldRoundTripThroughEncoding() {
+        PageCursor cursor = PageCursor.previous(Instant.parse("2025-01-01T12:34:56.123456Z"), UUID.randomUUID());
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursor_ShouldTruncateTimestampToMicroseconds() {
+        Instant createdAt = Instant.parse("2025-01-01T12:34:56.123456789Z");
+
+        PageCursor cursor = PageCursor.next(createdAt, UUID.randomUUID());
+
+        assertThat(cursor.createdAt()).isEqualTo(Instant.parse("2025-01-01T12:34:56.123456Z"));
+    }
+
+    @Test
+    void decode_ShouldThrowWhenTokenMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(""));
+    }
+
+}
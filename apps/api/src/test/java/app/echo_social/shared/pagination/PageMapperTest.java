@@ -2,8 +2,10 @@ package app.echo_social.shared.pagination;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -332,4 +334,184 @@ class PageMapperTest {
 
     }
 
+    @Nested
+    class CursorURI {
+
+        private final PageCursor previousCursor = PageCursor.previous(Instant.parse("2025-01-02T00:00:00Z"), UUID.randomUUID());
+        private final PageCursor nextCursor = PageCursor.next(Instant.parse("2025-01-01T00:00:00Z"), UUID.randomUUID());
+
+        @Test
+        void cursorLinksExist_WhenAdjacentPagesAvailable() {
+            // arrange
+            int limit = 20;
+            List<String> items = constructListFrom(0, limit, 100);
+            CursorRequest request = CursorRequest.of(nextCursor, limit);
+            Page<String> page = new CursorPage<>(items, request, 100, previousCursor, nextCursor);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.offset()).isZero();
+            assertThat(dto.limit()).isEqualTo(limit);
+            assertThat(dto.previous()).hasToString(BASE_URI + "?cursor=" + previousCursor.encode() + "&limit=20");
+            assertThat(dto.next()).hasToString(BASE_URI + "?cursor=" + nextCursor.encode() + "&limit=20");
+        }
+
+        @Test
+        void cursorLinksAreNull_WhenNoAdjacentPagesAvailable() {
+            // arrange
+            int limit = 20;
+            List<String> items = constructListFrom(0, limit, 5);
+            Page<String> page = new CursorPage<>(items, CursorRequest.first(limit), 5, null, null);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.previous()).isNull();
+            assertThat(dto.next()).isNull();
+        }
+
+        @Test
+        void cursorLinks_ReplaceExistingPaginationQueryParams() {
+            // arrange
+            int limit = 20;
+            List<String> items = constructListFrom(0, limit, 100);
+            Page<String> page = new CursorPage<>(items, CursorRequest.first(limit), 100, null, nextCursor);
+
+            // act
+            String baseUriWithSomeExistingPaginationQueries = BASE_URI + "?offset=200&cursor=&limit=5&filter=active";
+            Paged<String> dto = PageMapper.toDTO(page, baseUriWithSomeExistingPaginationQueries);
+
+            // assert
+            assertThat(dto.next()).asString()
+                .doesNotContain("offset=")
+                .doesNotContain("limit=5")
+                .contains("filter=active")
+                .contains("cursor=" + nextCursor.encode());
+        }
+
+        @Test
+        void cursorLinks_PreserveEncodedQueryParams() {
+            // arrange
+            int limit = 20;
+            List<String> items = constructListFrom(0, limit, 100);
+            Page<String> page = new CursorPage<>(items, CursorRequest.first(limit), 100, null, nextCursor);
+
+            // act
+            String baseUriWithEncodedQuery = BASE_URI + "?q=spring%20%22boot%22%26more&cursor=";
+            Paged<String> dto = PageMapper.toDTO(page, baseUriWithEncodedQuery);
+
+            // assert
+            assertThat(dto.next()).asString()
+                .contains("q=spring%20%22boot%22%26more")
+                .contains("cursor=" + nextCursor.encode());
+        }
+
+    }
+
+    @Nested
+    class Total {
+
+        @Test
+        void total_IsReported_WhenEstimated() {
+            // arrange
+            List<String> items = constructListFrom(0, 20, 100);
+            Page<String> page = new PageImpl<>(items, OffsetLimitRequest.of(0, 20, TotalMode.ESTIMATED), 120);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.total()).isEqualTo(120);
+        }
+
+        @Test
+        void total_IsNull_WhenUncounted() {
+            // arrange
+            List<String> items = constructListFrom(0, 20, 100);
+            Page<String> page = new UncountedPage<>(items, OffsetLimitRequest.of(0, 20, TotalMode.NONE), true);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.total()).isNull();
+            assertThat(dto.next()).hasToString(BASE_URI + "?total=none&offset=20&limit=20");
+        }
+
+        @Test
+        void links_KeepEstimatedTotal_WhenBaseUriHasNoQuery() {
+            // arrange
+            List<String> items = constructListFrom(20, 20, 100);
+            Page<String> page = new PageImpl<>(items, OffsetLimitRequest.of(20, 20, TotalMode.ESTIMATED), 100);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.previous()).hasToString(BASE_URI + "?total=estimated&offset=0&limit=20");
+            assertThat(dto.next()).hasToString(BASE_URI + "?total=estimated&offset=40&limit=20");
+        }
+
+        @Test
+        void next_ReplacesTotalOfBaseUri_WithRequestedMode() {
+            // arrange
+            List<String> items = constructListFrom(0, 20, 100);
+            Page<String> page = new UncountedPage<>(items, OffsetLimitRequest.of(0, 20, TotalMode.NONE), true);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI + "?total=NONE&filter=active");
+
+            // assert
+            assertThat(dto.next()).asString()
+                .contains("total=none")
+                .doesNotContain("total=NONE")
+                .contains("filter=active");
+        }
+
+        @Test
+        void cursorNext_KeepsTotalNone() {
+            // arrange
+            PageCursor nextCursor = PageCursor.next(Instant.parse("2025-01-01T00:00:00Z"), UUID.randomUUID());
+            List<String> items = constructListFrom(0, 20, 100);
+            Page<String> page = new CursorPage<>(items, CursorRequest.of(null, 20, TotalMode.NONE), items.size(), null, nextCursor);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.next()).hasToString(BASE_URI + "?total=none&cursor=" + nextCursor.encode() + "&limit=20");
+        }
+
+        @Test
+        void next_IsNull_WhenUncountedPageHasNoMoreData() {
+            // arrange
+            List<String> items = constructListFrom(0, 20, 5);
+            Page<String> page = new UncountedPage<>(items, OffsetLimitRequest.of(0, 20, TotalMode.NONE), false);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.total()).isNull();
+            assertThat(dto.next()).isNull();
+        }
+
+        @Test
+        void cursorTotal_IsNull_WhenNotRequested() {
+            // arrange
+            List<String> items = constructListFrom(0, 20, 5);
+            Page<String> page = new CursorPage<>(items, CursorRequest.of(null, 20, TotalMode.NONE), items.size(), null, null);
+
+            // act
+            Paged<String> dto = PageMapper.toDTO(page, BASE_URI);
+
+            // assert
+            assertThat(dto.total()).isNull();
+        }
+
+    }
+
 }
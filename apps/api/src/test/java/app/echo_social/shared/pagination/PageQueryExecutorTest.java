@@ -0,0 +1,151 @@
+package app.echo_social.shared.pagination;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Unit test class for {@link PageQueryExecutor}.
+ */
+class PageQueryExecutorTest {
+
+    private static final List<String> CONTENT = List.of("a", "b");
+
+    @Nested
+    class Sequential {
+
+        private final PageQueryExecutor executor = PageQueryExecutor.sequential();
+
+        @Test
+        void execute_ReturnsContentAndCount() {
+            PageQueryExecutor.Result<String> result = executor.execute(() -> CONTENT, () -> 10L, () -> 12L);
+
+            assertThat(result.content()).isEqualTo(CONTENT);
+            assertThat(result.total()).isEqualTo(10L);
+        }
+
+        @Test
+        void execute_ReturnsNullTotal_WhenNoCountQuerySupplied() {
+            PageQueryExecutor.Result<String> result = executor.execute(() -> CONTENT, null, () -> 12L);
+
+            assertThat(result.content()).isEqualTo(CONTENT);
+            assertThat(result.total()).isNull();
+        }
+
+    }
+
+    @Nested
+    class Concurrent {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final JdbcOperations jdbc = mock(JdbcOperations.class);
+        private final PageQueryExecutor executor = PageQueryExecutor.concurrent(
+            Executors.newVirtualThreadPerTaskExecutor(),
+            Duration.ofMillis(100),
+            TransactionOperations.withoutTransaction(),
+            jdbc);
+
+        private void awaitRelease() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @AfterEach
+        void teardown() {
+            release.countDown();
+            executor.close();
+        }
+
+        @Test
+        void execute_ReturnsContentAndCount_WhenCountCompletesInTime() {
+            PageQueryExecutor.Result<String> result = executor.execute(() -> CONTENT, () -> 10L, () -> 12L);
+
+            assertThat(result.content()).isEqualTo(CONTENT);
+            assertThat(result.total()).isEqualTo(10L);
+        }
+
+        @Test
+        void execute_RunsCountOnSeparateThread() {
+            Thread caller = Thread.currentThread();
+
+            PageQueryExecutor.Result<String> result = executor.execute(
+                () -> CONTENT,
+                () -> Thread.currentThread() != caller && Thread.currentThread().isVirtual() ? 1L : 0L,
+                () -> 12L);
+
+            assertThat(result.total()).isEqualTo(1L);
+        }
+
+        @Test
+        void execute_FallsBackToEstimate_WhenCountTimesOut() {
+            PageQueryExecutor.Result<String> result = executor.execute(
+                () -> CONTENT,
+                () -> {
+                    awaitRelease();
+                    return 10L;
+                },
+                () -> 12L);
+
+            assertThat(result.content()).isEqualTo(CONTENT);
+            assertThat(result.total()).isEqualTo(12L);
+        }
+
+        @Test
+        void execute_SetsStatementTimeout_BeforeCount() {
+            executor.execute(() -> CONTENT, () -> 10L, () -> 12L);
+
+            verify(jdbc).execute(startsWith("SET LOCAL statement_timeout = "));
+        }
+
+        @Test
+        void execute_FallsBackToEstimate_WhenCountIsCancelledByStatementTimeout() {
+            SQLException canceled = new SQLException("canceling statement due to statement timeout", "57014");
+
+            PageQueryExecutor.Result<String> result = executor.execute(
+                () -> CONTENT,
+                () -> {
+                    throw new QueryTimeoutException("count", canceled);
+                },
+                () -> 12L);
+
+            assertThat(result.total()).isEqualTo(12L);
+        }
+
+        @Test
+        void execute_PropagatesCountFailure() {
+            IllegalStateException failure = new IllegalStateException("count failed");
+
+            assertThatThrownBy(() -> executor.execute(() -> CONTENT, () -> {
+                throw failure;
+            }, () -> 12L)).isSameAs(failure);
+        }
+
+    }
+
+    @Test
+    void concurrent_ThrowsIllegalArgumentException_WhenTimeoutIsNegative() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> PageQueryExecutor.concurrent(
+                Executors.newVirtualThreadPerTaskExecutor(),
+                Duration.ofMillis(-1),
+                TransactionOperations.withoutTransaction(),
+                mock(JdbcOperations.class)));
+    }
+
+}
@@ -0,0 +1,105 @@
+package app.echo_social.shared.streaming;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit test class for {@link JsonArrayStreamingBody}.
+ */
+class JsonArrayStreamingBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * An {@link OutputStream} counting the flushes it receives.
+     */
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+    }
+
+    @Test
+    void writeTo_WritesItemsAsJsonArray_InSourceOrder() throws IOException {
+        // arrange
+        List<Map<String, Object>> items = List.of(Map.of("id", 1), Map.of("id", 2), Map.of("id", 3));
+        ItemSource<Map<String, Object>> source = items::forEach;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // act
+        new JsonArrayStreamingBody<>(objectMapper, source).writeTo(out);
+
+        // assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"id\":1},{\"id\":2},{\"id\":3}]");
+    }
+
+    @Test
+    void writeTo_WritesEmptyArray_WhenSourceIsEmpty() throws IOException {
+        // arrange
+        ItemSource<Object> source = sink -> {};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // act
+        new JsonArrayStreamingBody<>(objectMapper, source).writeTo(out);
+
+        // assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    void writeTo_FlushesEveryFlushIntervalItems() throws IOException {
+        // arrange
+        ItemSource<Integer> source = sink -> {
+            for (int i = 0; i < 10; i++) {
+                sink.accept(i);
+            }
+        };
+        FlushCountingOutputStream out = new FlushCountingOutputStream();
+
+        // act
+        new JsonArrayStreamingBody<>(objectMapper, source, 4).writeTo(out);
+
+        // assert
+        assertThat(out.flushes).isBetween(2, 3); // after items 4 and 8, then possibly on close
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[0,1,2,3,4,5,6,7,8,9]");
+    }
+
+    @Test
+    void writeTo_LeavesArrayUnterminated_WhenSourceFails() {
+        // arrange
+        ItemSource<Integer> source = sink -> {
+            sink.accept(1);
+            throw new IllegalStateException("Connection lost");
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // act & assert
+        assertThatThrownBy(() -> new JsonArrayStreamingBody<>(objectMapper, source).writeTo(out))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[1");
+    }
+
+    @Test
+    void constructor_ThrowsIllegalArgumentException_WhenFlushIntervalIsNotPositive() {
+        // act & assert
+        assertThatThrownBy(() -> new JsonArrayStreamingBody<>(objectMapper, sink -> {}, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Flush interval must be greater than 0");
+    }
+
+}
@@ -0,0 +1,82 @@
+package app.echo_social.shared.validation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import app.echo_social.shared.pagination.PageCursor;
+import app.echo_social.shared.validation.annotations.Cursor;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Unit test class for {@link Cursor} annotation.
+ */
+class CursorValidationTest {
+
+    private static Validator validator;
+
+    // Dummy class for validation
+    static class TestCursor {
+
+        @Cursor
+        private String cursor;
+
+        public TestCursor(String cursor) {
+            this.cursor = cursor;
+        }
+
+    }
+
+    @BeforeAll
+    static void setup() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    /**
+     * Test ensures that the {@link Cursor} annotation does not return a constraint
+     * violation for absent, empty or well-formed cursors.
+     */
+    @Test
+    void validCursorsShouldPass() {
+        List<String> cursors = Arrays.asList(
+            null,
+            "",
+            PageCursor.next(Instant.now(), UUID.randomUUID()).encode(),
+            PageCursor.previous(Instant.now(), UUID.randomUUID()).encode());
+
+        for (String cursor : cursors) {
+            TestCursor test = new TestCursor(cursor);
+            Set<ConstraintViolation<TestCursor>> violations = validator.validate(test);
+
+            assertTrue(violations.isEmpty(), "Valid cursor failed validation: " + cursor);
+        }
+    }
+
+    /**
+     * Test ensures that the {@link Cursor} annotation returns a constraint
+     * violation for malformed cursors.
+     */
+    @Test
+    void invalidCursorsShouldFail() {
+        List<String> cursors = List.of(" ", "abc", "%%%", "bn4xMjM0fm5vdC1hLXV1aWQ");
+
+        for (String cursor : cursors) {
+            TestCursor test = new TestCursor(cursor);
+            Set<ConstraintViolation<TestCursor>> violations = validator.validate(test);
+
+            assertFalse(violations.isEmpty(), "Invalid cursor passed validation: " + cursor);
+        }
+    }
+
+}
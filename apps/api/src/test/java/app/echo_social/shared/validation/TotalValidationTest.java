@@ -0,0 +1,75 @@
+package app.echo_social.shared.validation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import app.echo_social.shared.validation.annotations.Total;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Unit test class for {@link Total} annotation.
+ */
+class TotalValidationTest {
+
+    private static Validator validator;
+
+    // Dummy class for validation
+    static class TestTotal {
+
+        @Total
+        private String total;
+
+        public TestTotal(String total) {
+            this.total = total;
+        }
+
+    }
+
+    @BeforeAll
+    static void setup() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    /**
+     * Test ensures that the {@link Total} annotation does not return a constraint
+     * violation for absent, empty or known total modes, regardless of case.
+     */
+    @Test
+    void validTotalsShouldPass() {
+        List<String> totals = Arrays.asList(null, "", "exact", "estimated", "none", "NONE");
+
+        for (String total : totals) {
+            TestTotal test = new TestTotal(total);
+            Set<ConstraintViolation<TestTotal>> violations = validator.validate(test);
+
+            assertTrue(violations.isEmpty(), "Valid total failed validation: " + total);
+        }
+    }
+
+    /**
+     * Test ensures that the {@link Total} annotation returns a constraint
+     * violation for unknown total modes.
+     */
+    @Test
+    void invalidTotalsShouldFail() {
+        List<String> totals = List.of(" ", "abc", "approximate", "true");
+
+        for (String total : totals) {
+            TestTotal test = new TestTotal(total);
+            Set<ConstraintViolation<TestTotal>> violations = validator.validate(test);
+
+            assertFalse(violations.isEmpty(), "Invalid total passed validation: " + total);
+        }
+    }
+
+}
@@ -12,7 +12,7 @@ public class DatabaseCleaner {
 
     private static final List<String> PROFILE_INTERACTION_TABLES = List.of("profile_follows");
 
-    private static final List<String> ALL_POST_TABLES = List.of("posts", "post_likes", "post_entities");
+    private static final List<String> ALL_POST_TABLES = List.of("posts", "post_likes", "post_entities", "home_timeline");
     private static final List<String> POST_INTERACTION_TABLES = List.of("post_likes");
 
     @Autowired
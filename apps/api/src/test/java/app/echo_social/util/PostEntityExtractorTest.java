@@ -2,8 +2,12 @@ package app.echo_social.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -94,6 +98,22 @@ class PostEntityExtractorTest {
         assertTrue(entities.containsAll(expectedUrls));
     }
 
+    @Test
+    void extract_ReturnsEntities_WhenTextContainsFullWidthMentionAndHashtag() {
+        // arrange
+        String text = "Hi \uFF20john_doe and \uFF03Java";
+
+        var expected = List.of(
+            new PostEntity(mockPostId, PostEntityType.MENTION, 3, 12, "john_doe"),
+            new PostEntity(mockPostId, PostEntityType.HASHTAG, 17, 22, "Java"));
+
+        // act
+        List<PostEntity> entities = PostEntityExtractor.extract(mockPostId, text);
+
+        // assert
+        assertEquals(expected, entities);
+    }
+
     @Test
     void extract_ReturnsEntities_WhenTextContainsValidHashtagAtStart() {
         // arrange
@@ -347,4 +367,79 @@ class PostEntityExtractorTest {
         assertTrue(entities.containsAll(expectedMentions));
     }
 
+    @Test
+    void mentionedUsernames_ReturnsDistinctLowercasedMentions_WhenTextContainsMentions() {
+        // arrange
+        String text = "@Self and @SELF mention #self, but not self@example.com, nor @other";
+
+        // act
+        Set<String> usernames = PostEntityExtractor.mentionedUsernames(PostEntityExtractor.extract(mockPostId, text));
+
+        // assert
+        assertEquals(Set.of("self", "other"), usernames);
+    }
+
+
+    @Test
+    void hashtags_ReturnsDistinctHashtagsAsWritten_WhenTextContainsHashtags() {
+        // arrange
+        String text = "#Spring and #SPRING with #boot, mentioning @spring";
+
+        // act
+        Set<String> hashtags = PostEntityExtractor.hashtags(PostEntityExtractor.extract(mockPostId, text));
+
+        // assert
+        assertEquals(Set.of("Spring", "SPRING", "boot"), hashtags); // lowercased by the database
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "SpringBoot", "#SpringBoot" })
+    void normalizeHashtag_StripsLeadingHash(String tag) {
+        assertEquals("SpringBoot", PostEntityExtractor.normalizeHashtag(tag));
+    }
+
+    @Test
+    void extractAll_ReturnsEntitiesOfEachPost_InIterationOrder() {
+        // arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        Map<UUID, String> textsByPostId = new LinkedHashMap<>();
+        textsByPostId.put(first, "Plain text");
+        textsByPostId.put(second, "Cool #Java");
+        textsByPostId.put(third, "Hi @john_doe");
+
+        // act
+        Map<UUID, List<PostEntity>> entitiesByPostId = PostEntityExtractor.extractAll(textsByPostId);
+
+        // assert
+        assertEquals(List.of(first, second, third), List.copyOf(entitiesByPostId.keySet()));
+        assertEquals(List.of(), entitiesByPostId.get(first));
+        assertEquals(List.of(new PostEntity(second, PostEntityType.HASHTAG, 5, 10, "Java")), entitiesByPostId.get(second));
+        assertEquals(List.of(new PostEntity(third, PostEntityType.MENTION, 3, 12, "john_doe")), entitiesByPostId.get(third));
+    }
+
+    @Test
+    void extractAll_ReturnsSameEntities_WhenExtractedOnPool() {
+        // arrange
+        Map<UUID, String> textsByPostId = new LinkedHashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            textsByPostId.put(UUID.randomUUID(), i % 3 == 0 ? "Post " + i : "Post #" + i + " for @user" + i);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // act
+            Map<UUID, List<PostEntity>> parallel = PostEntityExtractor.extractAll(textsByPostId, pool);
+
+            // assert
+            Map<UUID, List<PostEntity>> sequential = PostEntityExtractor.extractAll(textsByPostId);
+            assertEquals(List.copyOf(sequential.keySet()), List.copyOf(parallel.keySet()));
+            assertEquals(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
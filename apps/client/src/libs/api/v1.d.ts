@@ -349,7 +349,7 @@ export interface components {
             /** Format: int32 */
             limit: number;
             /** Format: int32 */
-            total: number;
+            total?: number | null;
             items: components["schemas"]["SimplifiedProfile"][];
         };
         /** @description A lightweight representation of a profile, used within contextual objects like posts or lists of followers/following. */
@@ -408,7 +408,7 @@ export interface components {
             /** Format: int32 */
             limit: number;
             /** Format: int32 */
-            total: number;
+            total?: number | null;
             items: components["schemas"]["Post"][];
         };
     };
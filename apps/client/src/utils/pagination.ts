@@ -5,7 +5,8 @@ export const PAGE_SIZE = 20
 type Page<T> = {
     offset: number
     limit: number
-    total: number
+    total?: number | null
+    next?: string
     items: T[]
 }
 
@@ -18,6 +19,7 @@ export const pagedInfiniteQueryOptions = <T>(queryKey: QueryKey, fetchPage: (off
         initialPageParam: 0,
         getNextPageParam: (last) => {
             const next = last.offset + last.limit
+            if (last.total == null) return last.next ? next : undefined
             return next < last.total ? next : undefined
         }
     })